@@ -0,0 +1,136 @@
+package com.programpractice.approval_processing_service.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.programpractice.approval.messaging.ConfirmedMessagePublisher;
+import com.programpractice.approval_processing_service.dto.BatchApprovalRequest;
+import com.programpractice.approval_processing_service.dto.ProcessApprovalRequest;
+import com.programpractice.approval_processing_service.model.ApprovalRequestFixtures;
+import com.programpractice.approval_processing_service.repository.InMemoryApprovalRepository;
+import com.programpractice.approval_processing_service.service.ApprovalProcessingService;
+import com.programpractice.approval_processing_service.service.ApprovalResponsePublisher;
+
+/**
+ * 일괄 결정 API 벤치마크: 10,000건을 단건 API로 처리 vs 1,000건씩 일괄 API로 처리
+ *
+ * 브로커 대신 발행 후 confirmLatencyMicros 뒤 confirm을 채우는 스케줄러를 사용하며,
+ * 모든 결과 메시지가 confirm될 때까지를 측정 구간으로 본다.
+ * 컨트롤러 메서드를 직접 호출하므로 HTTP/JSON 비용은 포함되지 않는다.
+ * 건별 INFO 로그는 src/jmh/resources/logback.xml 설정으로 출력되지 않는다.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, batchSize = 1)
+@Measurement(iterations = 5, batchSize = 1)
+@State(Scope.Benchmark)
+public class ApprovalBatchDecisionBenchmark {
+
+    private static final int ITEM_COUNT = 10_000;
+    private static final Long APPROVER_ID = 1L;
+    private static final ProcessApprovalRequest APPROVE = new ProcessApprovalRequest("approved", "ok");
+
+    @Param({"1000"})
+    private long confirmLatencyMicros;
+
+    private ScheduledExecutorService broker;
+    private ConfirmedMessagePublisher confirmedPublisher;
+    private ApprovalController controller;
+
+    @Setup(Level.Trial)
+    public void startBroker() {
+        broker = Executors.newScheduledThreadPool(2);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopBroker() {
+        broker.shutdownNow();
+    }
+
+    // 이터레이션마다 새 저장소에 PENDING 요청을 다시 적재
+    @Setup(Level.Iteration)
+    public void setUp() {
+        InMemoryApprovalRepository repository = new InMemoryApprovalRepository();
+        for (int requestId = 1; requestId <= ITEM_COUNT; requestId++) {
+            repository.save(ApprovalRequestFixtures.newRequest(requestId, APPROVER_ID));
+        }
+
+        confirmedPublisher = new ConfirmedMessagePublisher(new DelayedConfirmRabbitTemplate());
+        ReflectionTestUtils.setField(confirmedPublisher, "windowSize", 256);
+        ReflectionTestUtils.setField(confirmedPublisher, "acquireTimeoutMs", 5_000L);
+        ReflectionTestUtils.setField(confirmedPublisher, "confirmTimeoutMs", 10_000L);
+        ReflectionTestUtils.setField(confirmedPublisher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(confirmedPublisher, "retryBackoffMs", 10L);
+        confirmedPublisher.start();
+
+        ApprovalProcessingService processingService = new ApprovalProcessingService(
+                repository, null, Optional.empty(), Optional.empty());
+        controller = new ApprovalController(
+                processingService, new ApprovalResponsePublisher(confirmedPublisher), Optional.empty());
+        ReflectionTestUtils.setField(controller, "publishTimeoutMs", 10_000L);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEM_COUNT)
+    public void single() throws InterruptedException {
+        for (int requestId = 1; requestId <= ITEM_COUNT; requestId++) {
+            controller.processApproval(APPROVER_ID, requestId, APPROVE, null);
+        }
+        awaitConfirms();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEM_COUNT)
+    public void batch() throws InterruptedException {
+        for (int from = 1; from <= ITEM_COUNT; from += BatchApprovalRequest.MAX_ITEMS) {
+            List<BatchApprovalRequest.Item> items = new ArrayList<>(BatchApprovalRequest.MAX_ITEMS);
+            for (int requestId = from; requestId < from + BatchApprovalRequest.MAX_ITEMS; requestId++) {
+                items.add(new BatchApprovalRequest.Item(requestId, "approved", "ok"));
+            }
+            controller.processApprovalBatch(APPROVER_ID, new BatchApprovalRequest(items), null);
+        }
+        awaitConfirms();
+    }
+
+    private void awaitConfirms() throws InterruptedException {
+        while (confirmedPublisher.outstandingCount() > 0) {
+            Thread.sleep(0, 100_000);
+        }
+    }
+
+    // 발행 후 confirmLatencyMicros 뒤 ack, 채널 체크아웃(invoke)은 콜백을 그대로 실행
+    private class DelayedConfirmRabbitTemplate extends RabbitTemplate {
+
+        @Override
+        public void convertAndSend(String exchange, String routingKey, Object message, CorrelationData correlationData) {
+            broker.schedule(() -> correlationData.getFuture().complete(new CorrelationData.Confirm(true, null)),
+                    confirmLatencyMicros, TimeUnit.MICROSECONDS);
+        }
+
+        @Override
+        public <T> T invoke(OperationsCallback<T> action) {
+            return action.doInRabbit(this);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.programpractice.approval_processing_service.listener;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.programpractice.approval.messaging.ApprovalMessageConverter;
+import com.programpractice.approval.messaging.ApprovalRequestMessage;
+import com.programpractice.approval_processing_service.idempotency.ApprovalMessageIdempotencyGuard;
+import com.programpractice.approval_processing_service.repository.InMemoryApprovalRepository;
+import com.programpractice.approval_processing_service.service.ApprovalProcessingService;
+import com.programpractice.approval_processing_service.service.EmployeeValidationService;
+import com.rabbitmq.client.Channel;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 배치 리스너 처리량: 배치 크기 1 / 32 / 256
+ *
+ * 브로커 대신 미리 만든 MESSAGE_COUNT건을 batch-size개씩 리스너에 전달한다 (ack/nack은 버림).
+ * Employee Service 일괄 조회는 호출당 employeeCallMicros 지연으로 대신한다.
+ * 중복 메시지(같은 requestId 2회)와 존재하지 않는 요청자가 섞여 있다.
+ * 호출마다 빈 저장소와 새 멱등성 판정기로 시작한다.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, batchSize = 1)
+@Measurement(iterations = 5, batchSize = 1)
+@State(Scope.Benchmark)
+public class ApprovalRequestBatchListenerBenchmark {
+
+    private static final int MESSAGE_COUNT = 2048;
+    private static final long MISSING_REQUESTER_ID = 999_999L;
+
+    @Param({"1", "32", "256"})
+    private int batchSize;
+
+    @Param({"1000"})
+    private long employeeCallMicros;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<List<Message>> batches = new ArrayList<>();
+    private Channel channel;
+    private ApprovalRequestBatchListener listener;
+
+    @Setup(Level.Trial)
+    public void prepareMessages() throws Exception {
+        List<Message> messages = new ArrayList<>();
+        long deliveryTag = 0;
+        for (int requestId = 1; requestId <= MESSAGE_COUNT; requestId++) {
+            boolean invalidRequester = requestId % 100 == 0;
+            messages.add(toMessage(newMessage(requestId, invalidRequester), ++deliveryTag));
+            if (requestId % 10 == 0 && !invalidRequester) {
+                messages.add(toMessage(newMessage(requestId, false), ++deliveryTag));  // 중복 수신
+            }
+        }
+        for (int from = 0; from < messages.size(); from += batchSize) {
+            batches.add(messages.subList(from, Math.min(from + batchSize, messages.size())));
+        }
+
+        // ack/nack/reject는 기록하지 않음
+        channel = (Channel) Proxy.newProxyInstance(Channel.class.getClassLoader(), new Class<?>[] {Channel.class},
+                (proxy, method, args) -> null);
+    }
+
+    @Setup(Level.Invocation)
+    public void newListener() {
+        InMemoryApprovalRepository repository = new InMemoryApprovalRepository();
+        ApprovalProcessingService processingService = new ApprovalProcessingService(
+                repository, new DelayedEmployeeValidationService(), Optional.empty(), Optional.empty());
+        ApprovalMessageIdempotencyGuard idempotencyGuard = new ApprovalMessageIdempotencyGuard(
+                repository, Optional.empty(), Optional.empty(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(idempotencyGuard, "windowSize", 1 << 16);
+        ReflectionTestUtils.setField(idempotencyGuard, "nextStepCapacity", 10_000);
+        ReflectionTestUtils.setField(idempotencyGuard, "nextStepFalsePositiveProbability", 0.001);
+        idempotencyGuard.start();
+        listener = new ApprovalRequestBatchListener(processingService,
+                new ApprovalMessageConverter(ApprovalMessageConverter.WireFormat.JSON, 0), idempotencyGuard);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGE_COUNT)
+    public void handleBatches() throws Exception {
+        for (List<Message> batch : batches) {
+            listener.handleApprovalRequests(batch, channel);
+        }
+    }
+
+    private ApprovalRequestMessage newMessage(int requestId, boolean invalidRequester) {
+        return ApprovalRequestMessage.builder()
+                .id("mongo-" + requestId)
+                .requestId(requestId)
+                .requesterId(invalidRequester ? MISSING_REQUESTER_ID : 1000L + requestId % 50)
+                .title("title-" + requestId)
+                .content("content")
+                .requestedAt(LocalDateTime.now())
+                .steps(List.of(
+                        ApprovalRequestMessage.ApprovalStepDto.builder().step(1).approverId(1L).build(),
+                        ApprovalRequestMessage.ApprovalStepDto.builder().step(2).approverId(2L).build()))
+                .build();
+    }
+
+    private Message toMessage(ApprovalRequestMessage payload, long deliveryTag) throws Exception {
+        MessageProperties properties = new MessageProperties();
+        properties.setDeliveryTag(deliveryTag);
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        return new Message(objectMapper.writeValueAsBytes(payload), properties);
+    }
+
+    // 일괄 조회 호출마다 employeeCallMicros 지연 후 MISSING_REQUESTER_ID만 없는 직원으로 응답
+    private class DelayedEmployeeValidationService extends EmployeeValidationService {
+
+        DelayedEmployeeValidationService() {
+            super(null);
+        }
+
+        @Override
+        public List<Long> findMissingEmployees(Collection<Long> employeeIds) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(employeeCallMicros));
+            return employeeIds.contains(MISSING_REQUESTER_ID) ? List.of(MISSING_REQUESTER_ID) : List.of();
+        }
+    }
+}
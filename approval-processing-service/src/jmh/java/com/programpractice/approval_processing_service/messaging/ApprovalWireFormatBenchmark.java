@@ -0,0 +1,130 @@
+package com.programpractice.approval_processing_service.messaging;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import com.programpractice.approval.messaging.ApprovalMessageConverter;
+import com.programpractice.approval.messaging.ApprovalRequestMessage;
+import com.programpractice.approval.messaging.ApprovalResponseMessage;
+
+/**
+ * AMQP 메시지 형식별 직렬화/역직렬화 비용
+ * - format: JSON (기존 Jackson2JsonMessageConverter 경로) / PROTOBUF
+ * - contentLength: 승인 요청 본문(content) 길이, 4096이면 압축 기준(2048바이트)을 넘는다
+ * - compression: 압축 기준 적용 여부
+ * 메시지 크기(바이트)는 setUp 로그와 ApprovalMessageConverterTest에서 확인한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class ApprovalWireFormatBenchmark {
+
+    private static final int COMPRESSION_THRESHOLD_BYTES = 2048;
+
+    @Param({"JSON", "PROTOBUF"})
+    private ApprovalMessageConverter.WireFormat format;
+
+    @Param({"64", "4096"})
+    private int contentLength;
+
+    @Param({"false", "true"})
+    private boolean compression;
+
+    private ApprovalMessageConverter converter;
+    private ApprovalRequestMessage requestMessage;
+    private ApprovalResponseMessage responseMessage;
+    private Message encodedRequest;
+    private Message encodedResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        converter = new ApprovalMessageConverter(format, compression ? COMPRESSION_THRESHOLD_BYTES : 0);
+
+        LocalDateTime requestedAt = LocalDateTime.of(2025, 1, 1, 9, 0, 0, 123_000_000);
+        List<ApprovalRequestMessage.ApprovalStepDto> steps = new ArrayList<>();
+        for (int step = 1; step <= 3; step++) {
+            steps.add(ApprovalRequestMessage.ApprovalStepDto.builder()
+                    .step(step)
+                    .approverId(1_000L + step)
+                    .status("pending")
+                    .build());
+        }
+        requestMessage = ApprovalRequestMessage.builder()
+                .id("6750f0c2a1b2c3d4e5f60718")
+                .requestId(123_456)
+                .requesterId(42L)
+                .requesterName("홍길동")
+                .title("출장비 정산 요청")
+                .content(content(contentLength))
+                .steps(steps)
+                .requestedAt(requestedAt)
+                .build();
+        responseMessage = ApprovalResponseMessage.builder()
+                .id("6750f0c2a1b2c3d4e5f60718")
+                .requestId(123_456)
+                .step(2)
+                .approverId(1_002L)
+                .status("approved")
+                .finalStatus("pending")
+                .comment("확인했습니다.")
+                .updatedAt(requestedAt.plusHours(1))
+                .processedAt(requestedAt.plusHours(1))
+                .success(true)
+                .build();
+
+        encodedRequest = converter.toMessage(requestMessage, new MessageProperties());
+        encodedResponse = converter.toMessage(responseMessage, new MessageProperties());
+        System.out.printf("%n[bytes] format=%s content=%d compression=%s request=%d response=%d%n",
+                format, contentLength, compression, encodedRequest.getBody().length,
+                encodedResponse.getBody().length);
+    }
+
+    @Benchmark
+    public Message serializeRequest() {
+        return converter.toMessage(requestMessage, new MessageProperties());
+    }
+
+    @Benchmark
+    public ApprovalRequestMessage deserializeRequest() {
+        return converter.read(encodedRequest, ApprovalRequestMessage.class);
+    }
+
+    @Benchmark
+    public Message serializeResponse() {
+        return converter.toMessage(responseMessage, new MessageProperties());
+    }
+
+    @Benchmark
+    public ApprovalResponseMessage deserializeResponse() {
+        return converter.read(encodedResponse, ApprovalResponseMessage.class);
+    }
+
+    // 한글/영문이 섞인 본문 (실제 결재 내용처럼 반복 구간이 있어 압축이 잘 되는 편)
+    private static String content(int length) {
+        String sentence = "2025년 1월 부산 출장 교통비 및 숙박비 정산 요청드립니다. Receipt attached. ";
+        StringBuilder builder = new StringBuilder(length);
+        int i = 0;
+        while (builder.length() < length) {
+            builder.append(sentence).append(i++).append(' ');
+        }
+        return builder.substring(0, length);
+    }
+}
@@ -0,0 +1,156 @@
+package com.programpractice.approval_processing_service.persistence;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.FileSystemUtils;
+
+import com.programpractice.approval_processing_service.model.ApprovalRequest;
+import com.programpractice.approval_processing_service.model.ApprovalRequestFixtures;
+import com.programpractice.approval_processing_service.repository.InMemoryApprovalRepository;
+
+/**
+ * WAL 기록 처리량과 재기동 복구 시간
+ *
+ * append: 영속화가 연결된 저장소에 3단계 요청을 저장 (WAL 기록 포함).
+ *         1초마다 스냅샷을 떠서 오래된 세그먼트가 디스크에 쌓이지 않게 한다.
+ * recover: count건을 기록한 디렉터리를 매번 복사해 새 저장소로 기동 (복구 + 기동 직후 스냅샷).
+ *          source=snapshot은 스냅샷 + 짧은 WAL 꼬리, source=wal은 WAL 전체 재생.
+ */
+public class ApprovalPersistenceBenchmark {
+
+    private static final int SAVE_WINDOW = 4_096;
+    private static final int TAIL = 1_000;
+
+    @State(Scope.Benchmark)
+    public static class Append {
+
+        private Path directory;
+        private InMemoryApprovalRepository repository;
+        private ApprovalPersistenceManager manager;
+        private ApprovalRequest[] requests;
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("approval-wal-append");
+            repository = new InMemoryApprovalRepository();
+            manager = newManager(repository, directory, 1L);
+            manager.start();
+
+            requests = new ApprovalRequest[SAVE_WINDOW];
+            for (int i = 0; i < SAVE_WINDOW; i++) {
+                requests[i] = ApprovalRequestFixtures.newRequest(i + 1, 100L, 200L, 300L);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws Exception {
+            manager.stop();
+            FileSystemUtils.deleteRecursively(directory);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Recovery {
+
+        @Param({"100000", "1000000"})
+        private int count;
+
+        @Param({"snapshot", "wal"})
+        private String source;
+
+        private Path sourceDirectory;
+        private ApprovalPersistenceManager sourceManager;
+        private Path directory;
+        private ApprovalPersistenceManager manager;
+
+        @Setup(Level.Trial)
+        public void prepareSource() throws IOException {
+            sourceDirectory = Files.createTempDirectory("approval-wal-source");
+            InMemoryApprovalRepository repository = new InMemoryApprovalRepository();
+            sourceManager = newManager(repository, sourceDirectory, 3600L);
+            sourceManager.start();
+            for (int requestId = 1; requestId <= count; requestId++) {
+                repository.save(ApprovalRequestFixtures.newRequest(requestId, 100L, 200L, 300L));
+            }
+            if ("snapshot".equals(source)) {
+                sourceManager.takeSnapshot();
+            }
+
+            // 마지막 스냅샷 이후 변경 (WAL 꼬리)
+            for (int requestId = 1; requestId <= TAIL; requestId++) {
+                ApprovalRequest advanced = repository.findByRequestId(requestId).orElseThrow().copy();
+                advanced.getCurrentStep().approve("ok");
+                advanced.moveToNextStep();
+                repository.compareAndSave(advanced, advanced.getVersion());
+            }
+        }
+
+        // 비정상 종료 상태의 디렉터리를 그대로 복사 (원본 관리자는 닫지 않음)
+        @Setup(Level.Invocation)
+        public void copySource() throws IOException {
+            directory = Files.createTempDirectory("approval-wal-recover");
+            FileSystemUtils.copyRecursively(sourceDirectory, directory);
+        }
+
+        @TearDown(Level.Invocation)
+        public void deleteCopy() throws Exception {
+            manager.stop();
+            FileSystemUtils.deleteRecursively(directory);
+        }
+
+        @TearDown(Level.Trial)
+        public void deleteSource() throws Exception {
+            sourceManager.stop();
+            FileSystemUtils.deleteRecursively(sourceDirectory);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 2, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public void append(Append state) {
+        ApprovalRequest request = state.requests[state.next++ & (SAVE_WINDOW - 1)];
+        state.repository.save(request);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public long recover(Recovery state) throws IOException {
+        InMemoryApprovalRepository recovered = new InMemoryApprovalRepository();
+        state.manager = newManager(recovered, state.directory, 3600L);
+        state.manager.start();
+        return recovered.count();
+    }
+
+    private static ApprovalPersistenceManager newManager(InMemoryApprovalRepository repository, Path directory,
+                                                         long snapshotIntervalSeconds) {
+        ApprovalPersistenceManager manager = new ApprovalPersistenceManager(repository);
+        ReflectionTestUtils.setField(manager, "directory", directory.toString());
+        ReflectionTestUtils.setField(manager, "segmentSizeMb", 64);
+        ReflectionTestUtils.setField(manager, "flushIntervalMs", 1000L);
+        ReflectionTestUtils.setField(manager, "snapshotIntervalSeconds", snapshotIntervalSeconds);
+        return manager;
+    }
+}
@@ -0,0 +1,99 @@
+package com.programpractice.approval_processing_service.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.programpractice.approval_processing_service.model.ApprovalRequest;
+import com.programpractice.approval_processing_service.model.ApprovalRequestFixtures;
+
+/**
+ * 저장소 핫패스 벤치마크 (save / findByRequestId / findPendingApprovalsByApproverId)
+ *
+ * 저장소에 size건(3단계, 1단계 승인자 APPROVERS명에 고르게 분산)을 적재한 상태에서 측정한다.
+ * save는 앞쪽 SAVE_WINDOW건을 1단계 대기 / 2단계 대기 상태로 번갈아 저장해
+ * 승인자 인덱스 이동까지 포함한 단계 전이 비용을 잰다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class ApprovalRepositoryBenchmark {
+
+    private static final int APPROVERS = 1_000;
+    private static final int STEPS = 3;
+    private static final int PAGE_SIZE = 50;
+    private static final int SAVE_WINDOW = 4_096;
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"map", "compact"})
+    private String type;
+
+    private ApprovalRepository repository;
+
+    // save용: [0] 1단계 대기, [1] 1단계 승인 후 2단계 대기
+    private ApprovalRequest[][] saveVariants;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        repository = "compact".equals(type) ? new CompactApprovalRepository() : new InMemoryApprovalRepository();
+        for (int requestId = 1; requestId <= size; requestId++) {
+            repository.save(newRequest(requestId));
+        }
+
+        int window = Math.min(SAVE_WINDOW, size);
+        saveVariants = new ApprovalRequest[window][];
+        for (int i = 0; i < window; i++) {
+            ApprovalRequest pending = newRequest(i + 1);
+            ApprovalRequest advanced = pending.copy();
+            advanced.getCurrentStep().approve("ok");
+            advanced.moveToNextStep();
+            saveVariants[i] = new ApprovalRequest[] {pending, advanced};
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class SaveCursor {
+        long next;
+    }
+
+    @Benchmark
+    public ApprovalRequest save(SaveCursor cursor) {
+        long n = cursor.next++;
+        ApprovalRequest[] variants = saveVariants[(int) (n % saveVariants.length)];
+        return repository.save(variants[(int) ((n / saveVariants.length) & 1)]);
+    }
+
+    @Benchmark
+    public Optional<ApprovalRequest> findByRequestId() {
+        return repository.findByRequestId(ThreadLocalRandom.current().nextInt(1, size + 1));
+    }
+
+    @Benchmark
+    public List<ApprovalRequest> findPendingApprovalsByApproverId() {
+        long approverId = 1 + ThreadLocalRandom.current().nextInt(APPROVERS);
+        return repository.findPendingApprovalsByApproverId(approverId, null, PAGE_SIZE);
+    }
+
+    private static ApprovalRequest newRequest(int requestId) {
+        return ApprovalRequestFixtures.withSteps(
+                ApprovalRequestFixtures.builder(requestId).requesterId((long) (requestId % 10_000)).build(),
+                ApprovalRequestFixtures.approvers(STEPS, step -> (long) (step - 1) * APPROVERS + 1 + requestId % APPROVERS));
+    }
+}
@@ -0,0 +1,85 @@
+package com.programpractice.approval_processing_service.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.programpractice.approval_processing_service.dto.ApprovalInboxResponse;
+import com.programpractice.approval_processing_service.model.ApprovalRequest;
+import com.programpractice.approval_processing_service.model.ApprovalRequestFixtures;
+import com.programpractice.approval_processing_service.repository.ApprovalRepository;
+import com.programpractice.approval_processing_service.repository.CompactApprovalRepository;
+import com.programpractice.approval_processing_service.repository.InMemoryApprovalRepository;
+
+/**
+ * 승인 대기함 커서 페이지 조회 지연 (getApprovalInbox)
+ *
+ * 승인자 한 명의 대기함에 backlog건을 적재하고, 대기함 앞쪽 CURSORS개 위치의 커서를 번갈아 조회한다.
+ * 대기 건수(backlog)가 50배가 되어도 페이지 조회 지연은 거의 같아야 한다.
+ * 페이지 항목 수와 응답 크기는 ApprovalInboxPaginationTest에서 확인한다.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class ApprovalInboxBenchmark {
+
+    private static final Long APPROVER_ID = 1L;
+    private static final Long NEXT_APPROVER_ID = 2L;
+    private static final int PAGE_SIZE = 50;
+    private static final int CURSORS = 100;
+
+    @Param({"1000", "50000"})
+    private int backlog;
+
+    @Param({"map", "compact"})
+    private String type;
+
+    private ApprovalProcessingService service;
+    private final List<String> cursors = new ArrayList<>();
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ApprovalRepository repository =
+                "compact".equals(type) ? new CompactApprovalRepository() : new InMemoryApprovalRepository();
+        for (int requestId = 1; requestId <= backlog; requestId++) {
+            repository.save(newRequest(requestId));
+        }
+        service = new ApprovalProcessingService(repository, null, Optional.empty(), Optional.empty());
+
+        String cursor = null;
+        for (int i = 0; i < CURSORS; i++) {
+            cursors.add(cursor);
+            cursor = service.getApprovalInbox(APPROVER_ID, cursor, PAGE_SIZE).getNextCursor();
+        }
+    }
+
+    @Benchmark
+    public ApprovalInboxResponse getApprovalInbox() {
+        String cursor = cursors.get(next);
+        next = (next + 1) % CURSORS;
+        return service.getApprovalInbox(APPROVER_ID, cursor, PAGE_SIZE);
+    }
+
+    private ApprovalRequest newRequest(int requestId) {
+        return ApprovalRequestFixtures.withSteps(ApprovalRequestFixtures.builder(requestId)
+                .title("title")
+                .content("x".repeat(2_000))
+                .build(), APPROVER_ID, NEXT_APPROVER_ID);
+    }
+}
@@ -0,0 +1,140 @@
+package com.programpractice.approval_processing_service.service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.programpractice.approval.messaging.ConfirmedMessagePublisher;
+import com.programpractice.approval_processing_service.dto.ApprovalDetailResponse;
+import com.programpractice.approval_processing_service.model.ApprovalRequest;
+import com.programpractice.approval_processing_service.model.ApprovalStep;
+import com.programpractice.approval_processing_service.repository.InMemoryApprovalRepository;
+
+/**
+ * 응답 변환/직렬화 벤치마크 (공개 API 경유)
+ * - getApprovalDetail: 상세 조회 REST 응답 변환 (+ Jackson 직렬화), 저장소 조회 1회 포함
+ * - publishApprovalResult: 결과 메시지 생성 (+ RabbitTemplate과 같은 Jackson2JsonMessageConverter 직렬화)
+ *   브로커 대신 즉시 ack하는 RabbitTemplate을 사용하므로 confirm 대기 창/상관 ID 관리 비용이 포함된다.
+ * 측정 대상 요청은 1단계 승인 후 2단계 대기 상태다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class ApprovalMappingBenchmark {
+
+    private static final Integer REQUEST_ID = 123_456;
+    private static final Long APPROVER_ID = 1_001L;
+
+    @Param({"3", "10"})
+    private int steps;
+
+    private ApprovalProcessingService service;
+    private ObjectMapper objectMapper;
+    private CapturingRabbitTemplate objectTemplate;
+    private CapturingRabbitTemplate amqpTemplate;
+    private ApprovalResponsePublisher objectPublisher;
+    private ApprovalResponsePublisher amqpPublisher;
+    private ApprovalRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 9, 0);
+        request = ApprovalRequest.builder()
+                .id("6750f0c2a1b2c3d4e5f60718")
+                .requestId(REQUEST_ID)
+                .requesterId(42L)
+                .title("출장비 정산 요청")
+                .content("2025년 1월 부산 출장 교통비 및 숙박비 정산 요청드립니다.")
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+        for (int step = 1; step <= steps; step++) {
+            request.addStep(ApprovalStep.builder().step(step).approverId(1_000L + step).build());
+        }
+        request.getCurrentStep().approve("확인했습니다.");
+        request.moveToNextStep();
+
+        InMemoryApprovalRepository repository = new InMemoryApprovalRepository();
+        repository.save(request);
+        service = new ApprovalProcessingService(repository, null, Optional.empty(), Optional.empty());
+
+        objectTemplate = new CapturingRabbitTemplate(false);
+        amqpTemplate = new CapturingRabbitTemplate(true);
+        objectPublisher = new ApprovalResponsePublisher(newConfirmedPublisher(objectTemplate));
+        amqpPublisher = new ApprovalResponsePublisher(newConfirmedPublisher(amqpTemplate));
+    }
+
+    @Benchmark
+    public ApprovalDetailResponse getApprovalDetail() {
+        return service.getApprovalDetail(APPROVER_ID, REQUEST_ID);
+    }
+
+    @Benchmark
+    public byte[] getApprovalDetailJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(service.getApprovalDetail(APPROVER_ID, REQUEST_ID));
+    }
+
+    @Benchmark
+    public Object publishApprovalResult() {
+        objectPublisher.publishApprovalResult(request).join();
+        return objectTemplate.lastSent;
+    }
+
+    @Benchmark
+    public Object publishApprovalResultAmqp() {
+        amqpPublisher.publishApprovalResult(request).join();
+        return amqpTemplate.lastSent;
+    }
+
+    private static ConfirmedMessagePublisher newConfirmedPublisher(RabbitTemplate rabbitTemplate) {
+        ConfirmedMessagePublisher publisher = new ConfirmedMessagePublisher(rabbitTemplate);
+        ReflectionTestUtils.setField(publisher, "windowSize", 256);
+        ReflectionTestUtils.setField(publisher, "acquireTimeoutMs", 5_000L);
+        ReflectionTestUtils.setField(publisher, "confirmTimeoutMs", 10_000L);
+        ReflectionTestUtils.setField(publisher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(publisher, "retryBackoffMs", 10L);
+        publisher.start();
+        return publisher;
+    }
+
+    // 발행 즉시 ack, 발행된 메시지(또는 AMQP Message로 변환한 결과)를 보관
+    private static class CapturingRabbitTemplate extends RabbitTemplate {
+
+        private final boolean convert;
+        private volatile Object lastSent;
+
+        CapturingRabbitTemplate(boolean convert) {
+            this.convert = convert;
+            setMessageConverter(new Jackson2JsonMessageConverter());
+        }
+
+        @Override
+        public void convertAndSend(String exchange, String routingKey, Object message, CorrelationData correlationData) {
+            lastSent = convert ? getMessageConverter().toMessage(message, new MessageProperties()) : message;
+            correlationData.getFuture().complete(new CorrelationData.Confirm(true, null));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.programpractice.approval_processing_service.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.programpractice.approval_processing_service.dto.ProcessApprovalRequest;
+import com.programpractice.approval_processing_service.model.ApprovalRequest;
+import com.programpractice.approval_processing_service.model.ApprovalRequestFixtures;
+import com.programpractice.approval_processing_service.repository.ApprovalRepository;
+import com.programpractice.approval_processing_service.repository.InMemoryApprovalRepository;
+
+/**
+ * 승인 처리(processApproval) 동시 실행 벤치마크
+ *
+ * 스레드마다 서로 다른 요청 DECISIONS_PER_THREAD건의 1단계를 승인한다 (조회 -> 복사 -> CAS 저장 -> 인덱스 이동).
+ * approvers=1이면 모든 스레드가 같은 승인자 대기함을 갱신하는 최악의 경합,
+ * approvers=64면 대기함이 분산된 일반적인 경우다.
+ * 이터레이션마다 새 저장소에 요청을 다시 적재하므로 측정 구간에는 결정 처리만 포함된다.
+ * 스레드 수는 JMH -t 옵션 또는 build.gradle의 jmh { threads = N }으로 바꿀 수 있다.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, batchSize = 1)
+@Measurement(iterations = 10, batchSize = 1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ApprovalProcessingBenchmark {
+
+    private static final int DECISIONS_PER_THREAD = 20_000;
+    private static final int STEPS = 3;
+    private static final ProcessApprovalRequest APPROVE = new ProcessApprovalRequest("approved", "ok");
+
+    @Param({"1", "64"})
+    private int approvers;
+
+    private ApprovalProcessingService service;
+    private final AtomicInteger nextSlot = new AtomicInteger();
+
+    @Setup(Level.Iteration)
+    public void setUp(BenchmarkParams params) {
+        ApprovalRepository repository = new InMemoryApprovalRepository();
+        service = new ApprovalProcessingService(repository, null, Optional.empty(), Optional.empty());
+
+        int total = params.getThreads() * DECISIONS_PER_THREAD;
+        List<ApprovalRequest> requests = new ArrayList<>(total);
+        for (int requestId = 1; requestId <= total; requestId++) {
+            requests.add(newRequest(requestId));
+        }
+        repository.insertAll(requests);
+    }
+
+    // 스레드별 요청 구간 [first, first + DECISIONS_PER_THREAD)
+    @State(Scope.Thread)
+    public static class Slot {
+        int first;
+
+        @Setup(Level.Trial)
+        public void assign(ApprovalProcessingBenchmark benchmark) {
+            first = benchmark.nextSlot.getAndIncrement() * DECISIONS_PER_THREAD + 1;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DECISIONS_PER_THREAD)
+    public void processApproval(Slot slot, Blackhole blackhole) {
+        for (int i = 0; i < DECISIONS_PER_THREAD; i++) {
+            int requestId = slot.first + i;
+            blackhole.consume(service.processApproval(firstApproverOf(requestId), requestId, APPROVE));
+        }
+    }
+
+    private long firstApproverOf(int requestId) {
+        return 1 + requestId % approvers;
+    }
+
+    private ApprovalRequest newRequest(int requestId) {
+        return ApprovalRequestFixtures.withSteps(
+                ApprovalRequestFixtures.builder(requestId).requesterId((long) requestId % 1_000).build(),
+                ApprovalRequestFixtures.approvers(STEPS,
+                        step -> step == 1 ? firstApproverOf(requestId) : 1_000L * step + requestId % 64));
+    }
+}
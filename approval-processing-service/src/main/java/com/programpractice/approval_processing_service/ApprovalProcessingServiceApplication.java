@@ -3,7 +3,12 @@ package com.programpractice.approval_processing_service;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
-@SpringBootApplication
+// 공유 소스(../shared/java)의 confirm 발행기, 직원 조회 gRPC 클라이언트도 스캔
+@SpringBootApplication(scanBasePackages = {
+		"com.programpractice.approval_processing_service",
+		"com.programpractice.approval.messaging",
+		"com.programpractice.employee.directory"
+})
 public class ApprovalProcessingServiceApplication {
 
 	public static void main(String[] args) {
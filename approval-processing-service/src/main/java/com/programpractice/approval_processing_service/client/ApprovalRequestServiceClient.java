@@ -0,0 +1,68 @@
+package com.programpractice.approval_processing_service.client;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.programpractice.approval_processing_service.dto.InProgressApprovalPage;
+import com.programpractice.approval_processing_service.dto.InProgressApprovalRange;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Approval Request Service 내부 API 클라이언트 (재적재용)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApprovalRequestServiceClient {
+    
+    private final RestTemplate restTemplate;
+    
+    @Value("${approval-request.service.url:http://localhost:8082}")
+    private String approvalRequestServiceUrl;
+    
+    /**
+     * 진행 중 결재 요청의 requestId 구간 조회
+     */
+    public InProgressApprovalRange getInProgressRange() {
+        String url = approvalRequestServiceUrl + "/internal/approvals/in-progress/range";
+        
+        InProgressApprovalRange range = restTemplate.getForObject(url, InProgressApprovalRange.class);
+        if (range == null) {
+            throw new IllegalStateException("빈 응답: " + url);
+        }
+        return range;
+    }
+    
+    /**
+     * 진행 중 결재 요청 페이지 조회 ((after, upTo] 구간, requestId 오름차순)
+     * 
+     * @param shards 비어 있지 않으면 해당 샤드 건만 조회 (shardCount 필요)
+     */
+    public InProgressApprovalPage getInProgressPage(int after, int upTo, int size,
+                                                    Integer shardCount, Collection<Integer> shards) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(approvalRequestServiceUrl)
+                .path("/internal/approvals/in-progress")
+                .queryParam("after", after)
+                .queryParam("upTo", upTo)
+                .queryParam("size", size);
+        if (shards != null && !shards.isEmpty()) {
+            builder.queryParamIfPresent("shardCount", Optional.ofNullable(shardCount))
+                    .queryParam("shards", shards.toArray());
+        }
+        String url = builder.toUriString();
+        
+        log.debug("진행 중 결재 요청 페이지 조회: url={}", url);
+        InProgressApprovalPage page = restTemplate.getForObject(url, InProgressApprovalPage.class);
+        if (page == null || page.getItems() == null) {
+            throw new IllegalStateException("빈 응답: " + url);
+        }
+        return page;
+    }
+}
@@ -1,5 +1,10 @@
 package com.programpractice.approval_processing_service.client;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -7,11 +12,16 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import com.programpractice.approval_processing_service.dto.EmployeeExistsRequest;
+import com.programpractice.approval_processing_service.dto.EmployeeExistsResponse;
+import com.programpractice.employee.directory.EmployeeDirectoryGrpcClient;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Employee Service REST API 클라이언트
+ * Employee Service 클라이언트
+ * employee.client.transport=grpc 이면 gRPC EmployeeDirectory, 아니면 REST API 사용
  */
 @Component
 @RequiredArgsConstructor
@@ -19,6 +29,7 @@ import lombok.extern.slf4j.Slf4j;
 public class EmployeeServiceClient {
     
     private final RestTemplate restTemplate;
+    private final Optional<EmployeeDirectoryGrpcClient> grpcClient;
     
     @Value("${employee.service.url:http://localhost:8081}")
     private String employeeServiceUrl;
@@ -30,6 +41,10 @@ public class EmployeeServiceClient {
      * @return 존재 여부
      */
     public boolean existsEmployee(Long employeeId) {
+        if (grpcClient.isPresent()) {
+            return existsEmployeeByGrpc(employeeId);
+        }
+        
         String url = employeeServiceUrl + "/employees/" + employeeId;
         
         try {
@@ -72,6 +87,10 @@ public class EmployeeServiceClient {
      * @return 존재 여부
      */
     public boolean existsEmployeeByExistsApi(Long employeeId) {
+        if (grpcClient.isPresent()) {
+            return existsEmployeeByGrpc(employeeId);
+        }
+        
         String url = employeeServiceUrl + "/employees/" + employeeId + "/exists";
         
         try {
@@ -87,4 +106,53 @@ public class EmployeeServiceClient {
             throw new RuntimeException("Employee Service 연결 실패: " + e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * 직원 일괄 존재 여부 확인 (POST /employees/exists, 1회 호출)
+     * 
+     * @param employeeIds 직원 ID 목록
+     * @return 존재하지 않는 직원 ID 목록 (모두 존재하면 빈 목록)
+     */
+    public List<Long> findMissingEmployees(Collection<Long> employeeIds) {
+        if (grpcClient.isPresent()) {
+            try {
+                log.debug("Employee Service gRPC 일괄 조회: count={}", employeeIds.size());
+                return grpcClient.get().findMissing(employeeIds.stream().distinct().toList());
+            } catch (Exception e) {
+                log.error("Employee Service gRPC 일괄 호출 실패: employeeIds={}", employeeIds, e);
+                throw new RuntimeException("Employee Service 연결 실패: " + e.getMessage(), e);
+            }
+        }
+        
+        String url = employeeServiceUrl + "/employees/exists";
+        
+        try {
+            log.debug("Employee Service 일괄 호출: url={}, count={}", url, employeeIds.size());
+            
+            EmployeeExistsResponse response = restTemplate.postForObject(
+                    url, new EmployeeExistsRequest(new ArrayList<>(employeeIds)), EmployeeExistsResponse.class);
+            if (response == null || response.getMissingIds() == null) {
+                throw new IllegalStateException("빈 응답");
+            }
+            
+            log.debug("직원 일괄 확인 완료: count={}, missing={}", employeeIds.size(), response.getMissingIds());
+            return response.getMissingIds();
+            
+        } catch (Exception e) {
+            log.error("Employee Service 일괄 호출 실패: employeeIds={}", employeeIds, e);
+            throw new RuntimeException("Employee Service 연결 실패: " + e.getMessage(), e);
+        }
+    }
+    
+    // gRPC Exists (영구 채널, 요청마다 연결을 새로 열지 않음)
+    private boolean existsEmployeeByGrpc(Long employeeId) {
+        try {
+            boolean exists = grpcClient.get().exists(employeeId);
+            log.debug("직원 존재 확인 완료 (gRPC): employeeId={}, exists={}", employeeId, exists);
+            return exists;
+        } catch (Exception e) {
+            log.error("Employee Service gRPC 호출 실패: employeeId={}", employeeId, e);
+            throw new RuntimeException("Employee Service 연결 실패: " + e.getMessage(), e);
+        }
+    }
+}
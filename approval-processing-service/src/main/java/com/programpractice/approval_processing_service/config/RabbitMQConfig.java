@@ -1,17 +1,32 @@
 package com.programpractice.approval_processing_service.config;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.programpractice.approval.messaging.ApprovalMessageConverter;
+import com.programpractice.approval.messaging.ApprovalShards;
+import com.programpractice.approval_processing_service.sharding.ShardAssignment;
+
 @Configuration
 public class RabbitMQConfig {
     
@@ -26,6 +41,12 @@ public class RabbitMQConfig {
     public static final String APPROVAL_REQUEST_ROUTING_KEY = "approval.request";
     public static final String APPROVAL_RESPONSE_ROUTING_KEY = "approval.response";
     
+    // 배치 리스너 컨테이너 팩토리 (approval.listener.batch.enabled=true)
+    public static final String BATCH_LISTENER_CONTAINER_FACTORY = "batchListenerContainerFactory";
+    
+    // 승인 요청 리스너가 수신할 큐 이름 목록 빈 (@RabbitListener에서 "#{@approvalRequestQueueNames}"로 참조)
+    public static final String APPROVAL_REQUEST_QUEUE_NAMES = "approvalRequestQueueNames";
+    
     // Exchange 생성
     @Bean
     public TopicExchange approvalExchange() {
@@ -62,17 +83,70 @@ public class RabbitMQConfig {
                 .with(APPROVAL_RESPONSE_ROUTING_KEY);
     }
     
-    // JSON 메시지 변환기
+    // 승인 요청 수신 큐: 기본은 공용 큐, 샤드 모드면 이 레플리카가 소유한 샤드 큐들
+    @Bean(name = APPROVAL_REQUEST_QUEUE_NAMES)
+    public String[] approvalRequestQueueNames(Optional<ShardAssignment> shardAssignment) {
+        return shardAssignment
+                .map(ShardAssignment::ownedQueueNames)
+                .orElse(new String[] {APPROVAL_REQUEST_QUEUE});
+    }
+    
+    // 샤드 모드: 샤드별 큐와 direct exchange 바인딩 (approval-request-service와 같은 인자로 선언)
+    // 샤드 큐는 single-active-consumer로 선언해 같은 샤드의 메시지를 한 소비자가 순서대로 처리한다.
+    // 소유자가 아직 뜨지 않은 샤드의 메시지도 큐에 남도록 모든 샤드 큐를 선언한다.
     @Bean
-    public MessageConverter jsonMessageConverter() {
-        return new Jackson2JsonMessageConverter();
+    @ConditionalOnProperty(name = "approval.sharding.enabled", havingValue = "true")
+    public Declarables shardedRequestQueues(@Value("${approval.sharding.shard-count:16}") int shardCount) {
+        DirectExchange exchange = new DirectExchange(ApprovalShards.SHARDED_EXCHANGE, true, false);
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.add(exchange);
+        for (int shard = 0; shard < shardCount; shard++) {
+            Queue queue = QueueBuilder.durable(ApprovalShards.queueName(shard))
+                    .singleActiveConsumer()
+                    .build();
+            declarables.add(queue);
+            declarables.add(BindingBuilder.bind(queue).to(exchange).with(ApprovalShards.routingKey(shard)));
+        }
+        return new Declarables(declarables);
+    }
+    
+    // 메시지 변환기: 발행은 messaging.wire-format(json/protobuf), 수신은 content-type으로 두 형식 모두 처리
+    // 건별 리스너 컨테이너(Boot 자동 설정)와 배치 리스너가 같은 변환기를 사용한다.
+    @Bean
+    public ApprovalMessageConverter messageConverter(
+            @Value("${messaging.wire-format:json}") String wireFormat,
+            @Value("${messaging.compression-threshold-bytes:0}") int compressionThresholdBytes) {
+        return new ApprovalMessageConverter(ApprovalMessageConverter.WireFormat.from(wireFormat), compressionThresholdBytes);
     }
     
     // RabbitTemplate 설정
     @Bean
-    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter messageConverter) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
-        template.setMessageConverter(jsonMessageConverter());
+        template.setMessageConverter(messageConverter);
+        // 라우팅 실패 시 return 받기 (ConfirmedMessagePublisher가 재발행 판단)
+        template.setMandatory(true);
         return template;
     }
+    
+    // 배치 리스너 컨테이너 설정
+    // batch-size개가 모이거나 receive-timeout-ms 동안 새 메시지가 없으면 한 번에 전달, 수동 ack
+    @Bean(name = BATCH_LISTENER_CONTAINER_FACTORY)
+    @ConditionalOnProperty(name = "approval.listener.batch.enabled", havingValue = "true")
+    public SimpleRabbitListenerContainerFactory batchListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            @Value("${approval.listener.batch.size:32}") int batchSize,
+            @Value("${approval.listener.batch.receive-timeout-ms:100}") long receiveTimeoutMs,
+            @Value("${approval.listener.batch.concurrency:3}") int concurrency) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(receiveTimeoutMs);
+        factory.setPrefetchCount(batchSize);
+        factory.setConcurrentConsumers(concurrency);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        return factory;
+    }
 }
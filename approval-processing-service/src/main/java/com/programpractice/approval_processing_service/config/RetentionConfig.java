@@ -0,0 +1,25 @@
+package com.programpractice.approval_processing_service.config;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.programpractice.approval_processing_service.persistence.ApprovalArchive;
+
+/**
+ * 최종 처리 건 보관 파일 설정 (approval.retention.archive.enabled=true 일 때만 생성)
+ */
+@Configuration
+public class RetentionConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "approval.retention.archive.enabled", havingValue = "true")
+    public ApprovalArchive approvalArchive(
+            @Value("${approval.retention.archive.path:./data/approval-archive.bin}") String path) throws IOException {
+        return new ApprovalArchive(Paths.get(path));
+    }
+}
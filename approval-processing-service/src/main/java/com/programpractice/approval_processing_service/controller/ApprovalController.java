@@ -1,20 +1,39 @@
 // approval-processing-service/src/main/java/com/programpractice/approval_processing_service/controller/ApprovalController.java
 package com.programpractice.approval_processing_service.controller;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.programpractice.approval_processing_service.dto.ApprovalDetailResponse;
+import com.programpractice.approval_processing_service.dto.ApprovalInboxResponse;
+import com.programpractice.approval_processing_service.dto.ApprovalSummaryResponse;
+import com.programpractice.approval_processing_service.dto.BatchApprovalRequest;
+import com.programpractice.approval_processing_service.dto.BatchApprovalResponse;
 import com.programpractice.approval_processing_service.dto.ProcessApprovalRequest;
+import com.programpractice.approval_processing_service.exception.ApprovalConflictException;
+import com.programpractice.approval_processing_service.exception.ShardUnavailableException;
 import com.programpractice.approval_processing_service.model.ApprovalRequest;
 import com.programpractice.approval_processing_service.model.ApprovalStep;
 import com.programpractice.approval_processing_service.service.ApprovalProcessingService;
 import com.programpractice.approval_processing_service.service.ApprovalResponsePublisher;
+import com.programpractice.approval_processing_service.sharding.ShardRouter;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +41,12 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * 승인 처리 REST API Controller
+ * 
+ * 샤드 모드(approval.sharding.enabled=true)에서는 requestId 단위 요청을 담당 레플리카로 전달하고,
+ * 대기함 조회는 모든 레플리카 결과를 병합한다. 이미 전달된 요청은 로컬에서만 처리한다.
+ * 
+ * 결정 반영 후 결과 메시지는 broker confirm까지 최대 publish-timeout-ms 기다린다.
+ * confirm되지 않으면 결정은 반영됐어도 "received"를 주지 않고 오류(단건 503, 일괄은 항목별 error)로 알린다.
  */
 @RestController
 @RequestMapping("/process")
@@ -31,23 +56,209 @@ public class ApprovalController {
     
     private final ApprovalProcessingService processingService;
     private final ApprovalResponsePublisher responsePublisher;
+    private final Optional<ShardRouter> shardRouter;
+    
+    // 결과 메시지 confirm 대기 상한 (ConfirmedMessagePublisher의 재시도 전체보다 길게)
+    @Value("${approval.response.publish-timeout-ms:40000}")
+    private long publishTimeoutMs;
     
     /**
-     * GET /process/{approverId}
-     * 결재자 대기 목록 조회
+     * GET /process/{approverId}?cursor=&size=
+     * 결재자 대기 목록 조회 (커서 페이지, 요약 정보)
      */
     @GetMapping("/{approverId}")
-    public ResponseEntity<java.util.List<ApprovalDetailResponse>> getApprovalList(
-            @PathVariable Long approverId) {
+    public ResponseEntity<ApprovalInboxResponse> getApprovalList(
+            @PathVariable Long approverId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestHeader(value = ShardRouter.FORWARDED_HEADER, required = false) String forwarded) {
+        
+        log.info("=== GET /process/{} 호출: cursor={}, size={} ===", approverId, cursor, size);
+        
+        try {
+            Optional<ShardRouter> router = routerFor(forwarded);
+            ApprovalInboxResponse inbox = router.isPresent()
+                    ? router.get().gatherInbox(approverId, cursor, size,
+                            () -> processingService.getApprovalInbox(approverId, cursor, size))
+                    : processingService.getApprovalInbox(approverId, cursor, size);
+            
+            log.info("승인 대기 목록 조회 완료: approverId={}, count={}, pending={}", 
+                    approverId, inbox.getItems().size(), inbox.getPendingCount());
+            
+            return ResponseEntity.ok(inbox);
+        } catch (IllegalArgumentException e) {
+            log.warn("승인 대기 목록 조회 실패 (잘못된 요청): {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (ShardUnavailableException e) {
+            log.error("승인 대기 목록 조회 실패 (레플리카 응답 없음): {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+    
+    /**
+     * GET /process/requester/{requesterId}
+     * 요청자의 진행 중 요청 목록 (요약 정보, (createdAt, requestId) 순)
+     */
+    @GetMapping("/requester/{requesterId}")
+    public ResponseEntity<List<ApprovalSummaryResponse>> getRequesterApprovals(
+            @PathVariable Long requesterId,
+            @RequestHeader(value = ShardRouter.FORWARDED_HEADER, required = false) String forwarded) {
+        
+        log.info("=== GET /process/requester/{} 호출 ===", requesterId);
+        
+        try {
+            Optional<ShardRouter> router = routerFor(forwarded);
+            List<ApprovalSummaryResponse> items = router.isPresent()
+                    ? router.get().gatherRequesterApprovals(requesterId,
+                            () -> processingService.getRequesterApprovals(requesterId))
+                    : processingService.getRequesterApprovals(requesterId);
+            return ResponseEntity.ok(items);
+        } catch (ShardUnavailableException e) {
+            log.error("요청자 진행 중 요청 조회 실패 (레플리카 응답 없음): {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+    
+    /**
+     * GET /process/{approverId}/{requestId}
+     * 승인 요청 상세 조회 (본문 + 전체 단계)
+     */
+    @GetMapping("/{approverId}/{requestId}")
+    public ResponseEntity<ApprovalDetailResponse> getApprovalDetail(
+            @PathVariable Long approverId,
+            @PathVariable Integer requestId,
+            @RequestHeader(value = ShardRouter.FORWARDED_HEADER, required = false) String forwarded) {
+        
+        log.info("=== GET /process/{}/{} 호출 ===", approverId, requestId);
+        
+        Optional<ShardRouter> router = remoteRouterFor(forwarded, requestId);
+        if (router.isPresent()) {
+            return router.get().forward(requestId, HttpMethod.GET,
+                    "/process/" + approverId + "/" + requestId, null, ApprovalDetailResponse.class);
+        }
+        
+        try {
+            return ResponseEntity.ok(processingService.getApprovalDetail(approverId, requestId));
+        } catch (IllegalArgumentException e) {
+            log.warn("승인 요청 상세 조회 실패: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    /**
+     * GET /process/archive/{requestId}
+     * 보존 기간이 지나 메모리에서 제거된 최종 처리 건 조회
+     */
+    @GetMapping("/archive/{requestId}")
+    public ResponseEntity<ApprovalDetailResponse> getArchivedApproval(
+            @PathVariable Integer requestId,
+            @RequestHeader(value = ShardRouter.FORWARDED_HEADER, required = false) String forwarded) {
+        
+        log.info("=== GET /process/archive/{} 호출 ===", requestId);
+        
+        Optional<ShardRouter> router = remoteRouterFor(forwarded, requestId);
+        if (router.isPresent()) {
+            return router.get().forward(requestId, HttpMethod.GET,
+                    "/process/archive/" + requestId, null, ApprovalDetailResponse.class);
+        }
+        
+        try {
+            return ResponseEntity.ok(processingService.getArchivedApproval(requestId));
+        } catch (IllegalArgumentException e) {
+            log.warn("보관된 승인 요청 조회 실패: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    /**
+     * POST /process/{approverId}/batch
+     * 일괄 승인 또는 반려 처리 (항목별 결과, 부분 실패 허용)
+     * 반영된 항목의 결과 메시지는 한 채널에서 연속으로 발행한 뒤 confirm을 한꺼번에 기다리고,
+     * confirm되지 않은 항목은 error로 바꾼다.
+     */
+    @PostMapping("/{approverId}/batch")
+    public ResponseEntity<BatchApprovalResponse> processApprovalBatch(
+            @PathVariable Long approverId,
+            @Valid @RequestBody BatchApprovalRequest request,
+            @RequestHeader(value = ShardRouter.FORWARDED_HEADER, required = false) String forwarded) {
         
-        log.info("=== GET /process/{} 호출 ===", approverId);
+        log.info("=== POST /process/{}/batch 호출: count={} ===", approverId, request.getItems().size());
         
-        java.util.List<ApprovalDetailResponse> approvals = 
-                processingService.getApprovalsByApproverId(approverId);
+        Optional<ShardRouter> router = routerFor(forwarded);
+        List<BatchApprovalResponse.ItemResult> results = router.isPresent()
+                ? router.get().routeBatch(approverId, request.getItems(), items -> applyBatch(approverId, items))
+                : applyBatch(approverId, request.getItems());
         
-        log.info("승인 대기 목록 조회 완료: approverId={}, count={}", approverId, approvals.size());
+        BatchApprovalResponse response = BatchApprovalResponse.builder()
+                .total(results.size())
+                .received(countByStatus(results, "received"))
+                .conflicts(countByStatus(results, "conflict"))
+                .errors(countByStatus(results, "error"))
+                .results(results)
+                .build();
         
-        return ResponseEntity.ok(approvals);
+        log.info("=== API 응답 반환: total={}, received={}, conflicts={}, errors={} ===", 
+                response.getTotal(), response.getReceived(), response.getConflicts(), response.getErrors());
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    // 로컬 항목 처리 후 반영된 건의 결과 메시지 일괄 발행 (received 항목과 applied는 같은 순서)
+    private List<BatchApprovalResponse.ItemResult> applyBatch(Long approverId, List<BatchApprovalRequest.Item> items) {
+        ApprovalProcessingService.BatchOutcome outcome = processingService.processApprovalBatch(approverId, items);
+        if (outcome.applied().isEmpty()) {
+            return outcome.results();
+        }
+        
+        List<CompletableFuture<Void>> published = responsePublisher.publishApprovalResults(outcome.applied());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(publishTimeoutMs);
+        int index = 0;
+        for (BatchApprovalResponse.ItemResult result : outcome.results()) {
+            if (!"received".equals(result.getStatus())) {
+                continue;
+            }
+            String failure = awaitConfirm(published.get(index++), deadline);
+            if (failure != null) {
+                result.setStatus("error");
+                result.setMessage(failure);
+            }
+        }
+        return outcome.results();
+    }
+    
+    /**
+     * 결과 메시지 confirm 대기
+     * 
+     * @return confirm되면 null, 아니면 클라이언트에 돌려줄 오류 메시지
+     */
+    private String awaitConfirm(CompletableFuture<Void> published, long deadlineNanos) {
+        try {
+            published.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return null;
+        } catch (ExecutionException e) {
+            log.error("❌ 결과 메시지 발행 실패: {}", e.getCause().getMessage());
+            return "결과 메시지 발행에 실패했습니다 (처리는 반영됨): " + e.getCause().getMessage();
+        } catch (TimeoutException e) {
+            log.error("❌ 결과 메시지 confirm 대기 시간 초과: {}ms", publishTimeoutMs);
+            return "결과 메시지 발행 확인 시간이 초과되었습니다 (처리는 반영됨)";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "결과 메시지 발행 확인 중 중단되었습니다 (처리는 반영됨)";
+        }
+    }
+    
+    // 샤드 모드이고 아직 전달되지 않은 요청이면 라우터 반환
+    private Optional<ShardRouter> routerFor(String forwarded) {
+        return forwarded == null ? shardRouter : Optional.empty();
+    }
+    
+    // 다른 레플리카가 담당하는 requestId면 라우터 반환
+    private Optional<ShardRouter> remoteRouterFor(String forwarded, Integer requestId) {
+        return routerFor(forwarded).filter(router -> !router.isLocal(requestId));
+    }
+    
+    private static int countByStatus(List<BatchApprovalResponse.ItemResult> results, String status) {
+        return (int) results.stream().filter(result -> status.equals(result.getStatus())).count();
     }
     
     /**
@@ -58,11 +269,18 @@ public class ApprovalController {
     public ResponseEntity<ApprovalResponseDto> processApproval(
             @PathVariable Long approverId,
             @PathVariable Integer requestId,
-            @Valid @RequestBody ProcessApprovalRequest request) {
+            @Valid @RequestBody ProcessApprovalRequest request,
+            @RequestHeader(value = ShardRouter.FORWARDED_HEADER, required = false) String forwarded) {
         
         log.info("=== POST /process/{}/{} 호출 ===", approverId, requestId);
         log.info("요청 내용: status={}, comment={}", request.getStatus(), request.getComment());
         
+        Optional<ShardRouter> router = remoteRouterFor(forwarded, requestId);
+        if (router.isPresent()) {
+            return router.get().forward(requestId, HttpMethod.POST,
+                    "/process/" + approverId + "/" + requestId, request, ApprovalResponseDto.class);
+        }
+        
         try {
             // 1. 승인 처리 (전체 ApprovalRequest 반환)
             ApprovalRequest result = processingService.processApproval(approverId, requestId, request);
@@ -86,10 +304,18 @@ public class ApprovalController {
                         result.getFinalStatus());
             }
             
-            // 3. RabbitMQ로 결과 발행
+            // 3. RabbitMQ로 결과 발행 후 confirm 대기 (확인되지 않으면 received를 주지 않음)
             log.info("RabbitMQ 메시지 발행 시작...");
-            responsePublisher.publishApprovalResult(result);
-            log.info("RabbitMQ 메시지 발행 완료");
+            String failure = awaitConfirm(responsePublisher.publishApprovalResult(result),
+                    System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(publishTimeoutMs));
+            if (failure != null) {
+                ApprovalResponseDto errorResponse = ApprovalResponseDto.builder()
+                        .status("error")
+                        .message(failure)
+                        .build();
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+            }
+            log.info("RabbitMQ 메시지 발행 확인");
             
             // 4. 클라이언트에 "received" 응답 반환
             ApprovalResponseDto response = ApprovalResponseDto.builder()
@@ -100,6 +326,16 @@ public class ApprovalController {
             
             return ResponseEntity.ok(response);
             
+        } catch (ApprovalConflictException e) {
+            log.warn("⚠️ 승인 처리 충돌: {}", e.getMessage());
+            
+            ApprovalResponseDto conflictResponse = ApprovalResponseDto.builder()
+                    .status("conflict")
+                    .message(e.getMessage())
+                    .build();
+            
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(conflictResponse);
+            
         } catch (IllegalArgumentException e) {
             log.error("❌ 승인 처리 실패 (잘못된 요청): {}", e.getMessage());
             
@@ -132,6 +368,6 @@ public class ApprovalController {
 @lombok.AllArgsConstructor
 @lombok.Builder
 class ApprovalResponseDto {
-    private String status;   // "received", "error"
+    private String status;   // "received", "conflict", "error"
     private String message;  // 에러 메시지 (옵션)
 }
\ No newline at end of file
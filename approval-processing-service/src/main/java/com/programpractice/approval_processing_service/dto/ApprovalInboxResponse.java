@@ -0,0 +1,24 @@
+package com.programpractice.approval_processing_service.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * REST API: 승인 대기함 페이지 응답
+ * nextCursor를 다음 요청의 cursor 파라미터로 넘기면 이어서 조회한다 (마지막 페이지면 null).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApprovalInboxResponse {
+    private List<ApprovalSummaryResponse> items;
+    private String nextCursor;
+    private Long pendingCount;            // 전체 대기 건수
+}
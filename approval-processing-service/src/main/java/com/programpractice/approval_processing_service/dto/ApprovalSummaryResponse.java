@@ -0,0 +1,28 @@
+package com.programpractice.approval_processing_service.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * REST API: 승인 대기함 요약 항목 (본문/단계 목록 제외, 상세는 GET /process/{approverId}/{requestId})
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApprovalSummaryResponse {
+    private String id;                     // MongoDB의 _id (String)
+    private Integer requestId;            // 요청 ID
+    private Long requesterId;
+    private String title;
+    private Integer currentStep;          // 현재 처리 대기 단계 번호
+    private Integer totalSteps;           // 전체 단계 수
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,45 @@
+package com.programpractice.approval_processing_service.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * REST API: 일괄 승인/반려 처리 요청 (Request Body)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchApprovalRequest {
+
+    public static final int MAX_ITEMS = 1000;
+
+    @NotEmpty
+    @Size(max = MAX_ITEMS)
+    @Valid
+    private List<Item> items;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+        @NotNull
+        private Integer requestId;
+        @NotBlank
+        private String status;       // "approved" or "rejected"
+        private String comment;      // 코멘트
+    }
+}
@@ -0,0 +1,38 @@
+package com.programpractice.approval_processing_service.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * REST API: 일괄 승인/반려 처리 응답
+ * 항목별 결과는 요청 순서와 같으며, 일부 항목이 실패해도 나머지는 반영된다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchApprovalResponse {
+    private int total;
+    private int received;
+    private int conflicts;
+    private int errors;
+    private List<ItemResult> results;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ItemResult {
+        private Integer requestId;
+        private String status;       // "received", "conflict", "error" (단건 API와 동일)
+        private String finalStatus;  // 처리 후 최종 상태 (received일 때만)
+        private String message;      // 에러 메시지 (옵션)
+    }
+}
@@ -0,0 +1,17 @@
+package com.programpractice.approval_processing_service.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Employee Service 일괄 존재 여부 확인 요청 (POST /employees/exists)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeExistsRequest {
+    private List<Long> ids;
+}
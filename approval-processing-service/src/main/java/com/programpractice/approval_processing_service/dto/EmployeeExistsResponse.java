@@ -0,0 +1,17 @@
+package com.programpractice.approval_processing_service.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Employee Service 일괄 존재 여부 확인 응답 (존재하지 않는 ID 목록)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeExistsResponse {
+    private List<Long> missingIds;
+}
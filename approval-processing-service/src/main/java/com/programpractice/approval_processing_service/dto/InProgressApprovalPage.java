@@ -0,0 +1,42 @@
+package com.programpractice.approval_processing_service.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 진행 중 결재 요청 페이지 (Approval Request Service 내부 API 응답, requestId 오름차순)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InProgressApprovalPage {
+    
+    private List<Item> items;
+    private Integer nextAfterRequestId;  // 다음 페이지 조회 시작점 (샤드 필터로 빠진 건 포함)
+    private boolean last;
+    
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+        private String id;                  // MongoDB ObjectId
+        private Integer requestId;
+        private Long requesterId;
+        private String title;
+        private String content;
+        private Integer currentStepOrder;
+        private List<ApprovalStepDto> steps;  // status: pending, approved, rejected
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+    }
+}
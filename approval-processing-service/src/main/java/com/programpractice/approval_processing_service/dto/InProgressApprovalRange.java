@@ -0,0 +1,22 @@
+package com.programpractice.approval_processing_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 진행 중 결재 요청의 requestId 구간 (Approval Request Service 내부 API 응답)
+ * 진행 중인 건이 없으면 minRequestId/maxRequestId는 null
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InProgressApprovalRange {
+    private Integer minRequestId;
+    private Integer maxRequestId;
+    private long count;
+}
@@ -0,0 +1,8 @@
+package com.programpractice.approval_processing_service.exception;
+
+// 동일 승인 요청에 대한 결정이 충돌한 경우 (중복 클릭, 동시 처리 등) 발생하는 예외
+public class ApprovalConflictException extends RuntimeException {
+    public ApprovalConflictException(String message) {
+        super(message);
+    }
+}
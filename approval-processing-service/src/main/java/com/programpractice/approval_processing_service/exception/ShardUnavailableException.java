@@ -0,0 +1,8 @@
+package com.programpractice.approval_processing_service.exception;
+
+// 샤드 모드에서 담당 레플리카 호출에 실패한 경우 발생하는 예외
+public class ShardUnavailableException extends RuntimeException {
+    public ShardUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,288 @@
+package com.programpractice.approval_processing_service.grpc;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.programpractice.approval.inbox.v1.ApprovalInboxGrpc;
+import com.programpractice.approval.inbox.v1.InboxEvent;
+import com.programpractice.approval.inbox.v1.InboxItem;
+import com.programpractice.approval.inbox.v1.InboxItemRemoved;
+import com.programpractice.approval.inbox.v1.InboxSnapshot;
+import com.programpractice.approval.inbox.v1.WatchInboxRequest;
+import com.programpractice.approval_processing_service.dto.ApprovalInboxResponse;
+import com.programpractice.approval_processing_service.dto.ApprovalSummaryResponse;
+import com.programpractice.approval_processing_service.service.ApprovalInboxFeed;
+import com.programpractice.approval_processing_service.service.ApprovalProcessingService;
+import com.programpractice.approval_processing_service.sharding.ShardRouter;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결재자 대기함 구독 gRPC 서비스 (proto/approval/inbox/v1)
+ *
+ * 구독하면 현재 대기 건을 스냅샷 페이지로 보내고, 이후 ApprovalInboxFeed의 추가/제거 이벤트를 이어서 보낸다.
+ * 흐름 제어: 전송은 스트림이 ready일 때만 하고, 보내지 못한 이벤트는 세션별 버퍼에 쌓는다.
+ * 버퍼가 max-buffered-events를 넘으면(느린 클라이언트) 쌓인 이벤트를 버리고 스냅샷을 처음부터 다시 보낸다.
+ * 스냅샷 페이지도 ready일 때 한 페이지씩 조회하므로, 대기 건이 많아도 서버 메모리에 한꺼번에 올리지 않는다.
+ * 전송(스냅샷 조회 포함)은 전용 drain 스레드에서만 하고, 변경 스레드는 버퍼에 넣고 drain을 예약만 한다.
+ *
+ * 샤드 모드(ShardRouter 있음)에서는 피드가 이 레플리카 담당 요청만 알리므로 구독을 받지 않는다 (FAILED_PRECONDITION).
+ * 이때는 레플리카 결과를 합쳐 주는 REST 대기함(GET /process/{approverId})을 쓴다.
+ */
+@Service
+@ConditionalOnProperty(name = "approval.inbox.watch.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ApprovalInboxGrpcService extends ApprovalInboxGrpc.ApprovalInboxImplBase {
+
+    // 스냅샷 페이지 크기 (REST 대기함 페이지 상한과 같음)
+    static final int SNAPSHOT_PAGE_SIZE = ApprovalProcessingService.MAX_INBOX_PAGE_SIZE;
+
+    private final ApprovalProcessingService processingService;
+    private final ApprovalInboxFeed inboxFeed;
+    private final MeterRegistry meterRegistry;
+    private final Optional<ShardRouter> shardRouter;
+
+    @Value("${approval.inbox.watch.max-buffered-events:1000}")
+    private int maxBufferedEvents;
+
+    @Value("${approval.inbox.watch.drain-threads:2}")
+    private int drainThreads;
+
+    private ExecutorService drainExecutor;
+    private Counter resyncCounter;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        drainExecutor = Executors.newFixedThreadPool(drainThreads, runnable -> {
+            Thread thread = new Thread(runnable, "inbox-watch-drain-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        resyncCounter = Counter.builder("approval.inbox.watch.resyncs")
+                .description("버퍼 초과로 스냅샷을 다시 보낸 횟수")
+                .register(meterRegistry);
+        Gauge.builder("approval.inbox.watch.sessions", inboxFeed, ApprovalInboxFeed::subscriberCount)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        drainExecutor.shutdownNow();
+    }
+
+    @Override
+    public void watchInbox(WatchInboxRequest request, StreamObserver<InboxEvent> responseObserver) {
+        long approverId = request.getApproverId();
+        if (approverId <= 0) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("승인자 ID는 1 이상이어야 합니다: " + approverId)
+                    .asRuntimeException());
+            return;
+        }
+        if (shardRouter.isPresent()) {
+            responseObserver.onError(Status.FAILED_PRECONDITION
+                    .withDescription("샤드 모드에서는 대기함 구독을 지원하지 않습니다 (GET /process/{approverId} 사용)")
+                    .asRuntimeException());
+            return;
+        }
+
+        ServerCallStreamObserver<InboxEvent> call = (ServerCallStreamObserver<InboxEvent>) responseObserver;
+        WatchSession session = new WatchSession(approverId, call);
+        call.setOnCancelHandler(session::close);
+        call.setOnReadyHandler(session::scheduleDrain);
+
+        // 구독 등록 후 스냅샷을 읽으므로 그 사이 변경은 스냅샷 뒤 이벤트로 전달된다
+        inboxFeed.subscribe(approverId, session);
+        log.info("대기함 구독: approverId={}", approverId);
+        session.scheduleDrain();
+    }
+
+    static InboxItem toItem(ApprovalSummaryResponse summary) {
+        InboxItem.Builder item = InboxItem.newBuilder()
+                .setRequestId(summary.getRequestId())
+                .setCreatedAtMillis(toEpochMillis(summary.getCreatedAt()))
+                .setUpdatedAtMillis(toEpochMillis(summary.getUpdatedAt()));
+        if (summary.getId() != null) {
+            item.setId(summary.getId());
+        }
+        if (summary.getRequesterId() != null) {
+            item.setRequesterId(summary.getRequesterId());
+        }
+        if (summary.getTitle() != null) {
+            item.setTitle(summary.getTitle());
+        }
+        if (summary.getCurrentStep() != null) {
+            item.setCurrentStep(summary.getCurrentStep());
+        }
+        if (summary.getTotalSteps() != null) {
+            item.setTotalSteps(summary.getTotalSteps());
+        }
+        return item.build();
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+    }
+
+    /**
+     * 구독 세션 하나
+     * 이벤트 적재(변경 스레드)는 버퍼 잠금만 잠깐 잡고 drain을 예약한다.
+     * 전송은 drain 스레드에서 세션 잠금으로 직렬화하므로, 스냅샷 조회가 변경 스레드를 붙잡지 않는다.
+     */
+    private final class WatchSession implements ApprovalInboxFeed.Subscriber {
+
+        private final long approverId;
+        private final ServerCallStreamObserver<InboxEvent> call;
+        private final Deque<InboxEvent> buffer = new ArrayDeque<>();
+        private final AtomicBoolean drainScheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        // 버퍼 초과로 스냅샷을 다시 보내야 함 (buffer 잠금으로 보호)
+        private boolean resyncRequested;
+
+        // 스냅샷 진행 상태 (세션 잠금으로 보호)
+        private boolean snapshotInProgress = true;
+        private boolean snapshotFirstPage = true;
+        private String snapshotCursor;
+
+        private WatchSession(long approverId, ServerCallStreamObserver<InboxEvent> call) {
+            this.approverId = approverId;
+            this.call = call;
+        }
+
+        @Override
+        public void onAdded(ApprovalSummaryResponse item) {
+            enqueue(InboxEvent.newBuilder().setAdded(toItem(item)).build());
+        }
+
+        @Override
+        public void onRemoved(int requestId) {
+            enqueue(InboxEvent.newBuilder()
+                    .setRemoved(InboxItemRemoved.newBuilder().setRequestId(requestId))
+                    .build());
+        }
+
+        private void enqueue(InboxEvent event) {
+            if (closed.get()) {
+                return;
+            }
+            synchronized (buffer) {
+                if (buffer.size() >= maxBufferedEvents) {
+                    log.warn("대기함 구독 버퍼 초과, 스냅샷 재전송: approverId={}, buffered={}", approverId, buffer.size());
+                    buffer.clear();
+                    resyncRequested = true;
+                    resyncCounter.increment();
+                } else {
+                    buffer.add(event);
+                }
+            }
+            scheduleDrain();
+        }
+
+        /**
+         * drain 예약 (이미 예약돼 있으면 무시)
+         * 실행 직전에 예약 표시를 풀므로, drain 도중 들어온 이벤트는 다음 예약으로 이어서 보낸다.
+         */
+        void scheduleDrain() {
+            if (closed.get() || !drainScheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                drainExecutor.execute(() -> {
+                    drainScheduled.set(false);
+                    drain();
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+                drainScheduled.set(false);
+            }
+        }
+
+        private synchronized void drain() {
+            if (closed.get()) {
+                return;
+            }
+            try {
+                while (call.isReady()) {
+                    InboxEvent event;
+                    synchronized (buffer) {
+                        if (resyncRequested) {
+                            resyncRequested = false;
+                            snapshotInProgress = true;
+                            snapshotFirstPage = true;
+                            snapshotCursor = null;
+                        }
+                        event = snapshotInProgress ? null : buffer.poll();
+                    }
+                    if (snapshotInProgress) {
+                        call.onNext(nextSnapshotPage());
+                        continue;
+                    }
+                    if (event == null) {
+                        return;
+                    }
+                    call.onNext(event);
+                }
+            } catch (RuntimeException e) {
+                log.warn("대기함 구독 전송 실패: approverId={}, reason={}", approverId, e.getMessage());
+                close();
+                try {
+                    call.onError(Status.INTERNAL.withDescription("대기함 전송 실패").withCause(e).asRuntimeException());
+                } catch (RuntimeException ignored) {
+                    // 이미 취소/종료된 스트림
+                }
+            }
+        }
+
+        private InboxEvent nextSnapshotPage() {
+            ApprovalInboxResponse page =
+                    processingService.getApprovalInbox(approverId, snapshotCursor, SNAPSHOT_PAGE_SIZE);
+            InboxSnapshot.Builder snapshot = InboxSnapshot.newBuilder()
+                    .setReset(snapshotFirstPage)
+                    .setComplete(page.getNextCursor() == null);
+            if (snapshotFirstPage) {
+                snapshot.setPendingCount(page.getPendingCount());
+            }
+            page.getItems().forEach(item -> snapshot.addItems(toItem(item)));
+
+            snapshotFirstPage = false;
+            snapshotCursor = page.getNextCursor();
+            snapshotInProgress = snapshotCursor != null;
+            return InboxEvent.newBuilder().setSnapshot(snapshot).build();
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            synchronized (buffer) {
+                buffer.clear();
+            }
+            inboxFeed.unsubscribe(approverId, this);
+            log.info("대기함 구독 종료: approverId={}", approverId);
+        }
+    }
+}
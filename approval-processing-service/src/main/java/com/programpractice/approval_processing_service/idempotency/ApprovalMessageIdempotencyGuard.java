@@ -0,0 +1,159 @@
+package com.programpractice.approval_processing_service.idempotency;
+
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.programpractice.approval.messaging.ApprovalRequestMessage;
+import com.programpractice.approval_processing_service.persistence.ApprovalArchive;
+import com.programpractice.approval_processing_service.persistence.ApprovalPersistenceManager;
+import com.programpractice.approval_processing_service.repository.ApprovalRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 승인 요청 메시지 멱등성 판정 (키: requestId + 메시지의 첫 단계 번호)
+ *
+ * - step 1 (신규 승인 요청): requestId 슬라이딩 윈도우 비트맵으로 정확히 판정한다.
+ *   오탐이 나면 실제 요청이 유실되므로 확률적 구조를 쓰지 않는다.
+ * - step 2 이상 (publishNextStep의 다음 단계 알림): Bloom 필터로 판정한다.
+ *   처리 서비스는 승인 시 이미 다음 단계로 이동했으므로 이 메시지는 저장하지 않으며,
+ *   오탐은 중복 알림 로그 하나를 건너뛰는 것뿐이다.
+ * - 윈도우(최근 window-size개 requestId) 아래의 값은 비트맵으로 판단할 수 없으므로 EXPIRED를 돌려준다.
+ *   EXPIRED는 거절이 아니다: 리스너는 step 1이면 저장소(existsByRequestId)로 다시 확인해 없으면 처리한다.
+ *   (레플리카별 블록 할당으로 requestId 발급 순서가 섞여 윈도우 밖의 신규 요청이 올 수 있다)
+ *
+ * 저장소에서 요청이 제거(보존 정책)되어도 판정에는 영향이 없으며,
+ * 기동 시 복구된 저장소/보관 파일의 requestId로 윈도우를 다시 채운다.
+ * 모든 판정은 O(1)이고 메모리는 설정값으로 고정된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApprovalMessageIdempotencyGuard {
+
+    public enum Decision {
+        ACCEPTED,    // 처음 보는 메시지
+        DUPLICATE,   // 이미 처리한 메시지 (재전달)
+        EXPIRED      // 윈도우 밖이라 판정 불가 (호출 측이 저장소로 확인)
+    }
+
+    private final ApprovalRepository approvalRequestRepository;
+    // 영속화 복구가 끝난 뒤 초기화되도록 의존성만 선언
+    private final Optional<ApprovalPersistenceManager> persistenceManager;
+    private final Optional<ApprovalArchive> approvalArchive;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${approval.idempotency.window-size:1048576}")
+    private int windowSize;
+
+    @Value("${approval.idempotency.next-step-capacity:1000000}")
+    private int nextStepCapacity;
+
+    @Value("${approval.idempotency.next-step-fpp:0.001}")
+    private double nextStepFalsePositiveProbability;
+
+    private SlidingRequestBitmap initialRequests;
+    private RotatingBloomFilter nextSteps;
+
+    private Counter acceptedCounter;
+    private Counter duplicateCounter;
+    private Counter expiredCounter;
+
+    @PostConstruct
+    public void start() {
+        initialRequests = new SlidingRequestBitmap(windowSize);
+        nextSteps = new RotatingBloomFilter(nextStepCapacity, nextStepFalsePositiveProbability);
+
+        // 이미 저장(복구)된 요청은 step 1을 처리한 것으로 간주
+        approvalRequestRepository.findAll().forEach(request -> markInitial(request.getRequestId()));
+        approvalArchive.ifPresent(archive -> archive.forEachRequestId(this::markInitial));
+
+        acceptedCounter = Counter.builder("approval.idempotency.messages").tag("result", "accepted").register(meterRegistry);
+        duplicateCounter = Counter.builder("approval.idempotency.messages").tag("result", "duplicate").register(meterRegistry);
+        expiredCounter = Counter.builder("approval.idempotency.messages").tag("result", "expired").register(meterRegistry);
+        Gauge.builder("approval.idempotency.memory.bytes", this, ApprovalMessageIdempotencyGuard::memoryBytes)
+                .register(meterRegistry);
+        Gauge.builder("approval.idempotency.false-positive-rate", this,
+                        ApprovalMessageIdempotencyGuard::expectedFalsePositiveRate)
+                .description("다음 단계 알림 판정의 예상 오탐률 (신규 요청 판정은 오탐 없음)")
+                .register(meterRegistry);
+
+        log.info("메시지 멱등성 판정 초기화: highWatermark={}, windowSize={}, memory={}bytes",
+                initialRequests.highWatermark(), windowSize, memoryBytes());
+    }
+
+    /**
+     * 판정 후 처음 보는 메시지면 처리한 것으로 기록
+     */
+    public synchronized Decision tryAccept(Integer requestId, int step) {
+        Decision decision;
+        if (initialRequests.isBelowWindow(requestId)) {
+            decision = Decision.EXPIRED;
+        } else if (step <= 1) {
+            decision = initialRequests.contains(requestId) && requestId <= initialRequests.highWatermark()
+                    ? Decision.DUPLICATE
+                    : Decision.ACCEPTED;
+            if (decision == Decision.ACCEPTED) {
+                initialRequests.add(requestId);
+            }
+        } else {
+            long key = ((long) requestId << 32) | step;
+            decision = nextSteps.mightContain(key) ? Decision.DUPLICATE : Decision.ACCEPTED;
+            if (decision == Decision.ACCEPTED) {
+                nextSteps.add(key);
+            }
+        }
+
+        switch (decision) {
+            case ACCEPTED -> acceptedCounter.increment();
+            case DUPLICATE -> duplicateCounter.increment();
+            case EXPIRED -> expiredCounter.increment();
+        }
+        return decision;
+    }
+
+    /**
+     * 메시지의 단계 번호 (신규 요청은 전체 단계 중 첫 번째 = 1, 다음 단계 알림은 해당 단계 하나)
+     */
+    public static int stepOf(ApprovalRequestMessage message) {
+        if (message.getSteps() == null || message.getSteps().isEmpty()
+                || message.getSteps().get(0).getStep() == null) {
+            return 1;
+        }
+        return message.getSteps().get(0).getStep();
+    }
+
+    /**
+     * 처리 실패 시 기록 취소 (재전달 시 다시 처리되도록, step 1만 해당)
+     */
+    public synchronized void release(Integer requestId, int step) {
+        if (step <= 1) {
+            initialRequests.remove(requestId);
+        }
+    }
+
+    public synchronized long highWatermark() {
+        return initialRequests.highWatermark();
+    }
+
+    public synchronized double expectedFalsePositiveRate() {
+        return nextSteps.expectedFalsePositiveRate();
+    }
+
+    public long memoryBytes() {
+        return initialRequests.memoryBytes() + nextSteps.memoryBytes();
+    }
+
+    private synchronized void markInitial(int requestId) {
+        if (!initialRequests.isBelowWindow(requestId)) {
+            initialRequests.add(requestId);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.programpractice.approval_processing_service.idempotency;
+
+import java.util.Arrays;
+
+/**
+ * 2세대 교대 Bloom 필터 (메모리 고정, 오탐 가능 / 미탐 없음)
+ *
+ * 현재 세대에 capacity개가 기록되면 이전 세대를 비워 새 현재 세대로 삼는다.
+ * 따라서 최근 capacity ~ 2*capacity개의 키를 기억하며, 메모리는 2 * m 비트로 고정된다.
+ * m, k는 목표 오탐률(fpp)로부터 계산한다: m = -n ln(p) / (ln 2)^2, k = (m / n) ln 2
+ * 동기화는 호출 측에서 책임진다.
+ */
+final class RotatingBloomFilter {
+
+    private final int capacity;
+    private final int bitCount;
+    private final int hashCount;
+
+    private long[] current;
+    private long[] previous;
+    private int currentInsertions;
+    private int previousInsertions;
+
+    RotatingBloomFilter(int capacity, double falsePositiveProbability) {
+        this.capacity = capacity;
+        double bits = -capacity * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2));
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - Long.SIZE, Math.ceil(bits / Long.SIZE) * Long.SIZE);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+        this.current = new long[bitCount / Long.SIZE];
+        this.previous = new long[bitCount / Long.SIZE];
+    }
+
+    boolean mightContain(long key) {
+        return contains(current, key) || contains(previous, key);
+    }
+
+    void add(long key) {
+        if (currentInsertions >= capacity) {
+            rotate();
+        }
+        long hash = mix(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            current[bit >>> 6] |= 1L << bit;
+        }
+        currentInsertions++;
+    }
+
+    /**
+     * 현재 적재량 기준 예상 오탐률: 1 - (1 - p_current)(1 - p_previous)
+     */
+    double expectedFalsePositiveRate() {
+        double pCurrent = generationFalsePositiveRate(currentInsertions);
+        double pPrevious = generationFalsePositiveRate(previousInsertions);
+        return 1 - (1 - pCurrent) * (1 - pPrevious);
+    }
+
+    long memoryBytes() {
+        return 2L * current.length * Long.BYTES;
+    }
+
+    private boolean contains(long[] bits, long key) {
+        long hash = mix(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rotate() {
+        long[] recycled = previous;
+        Arrays.fill(recycled, 0L);
+        previous = current;
+        previousInsertions = currentInsertions;
+        current = recycled;
+        currentInsertions = 0;
+    }
+
+    private double generationFalsePositiveRate(int insertions) {
+        return Math.pow(1 - Math.exp(-(double) hashCount * insertions / bitCount), hashCount);
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long key) {
+        long z = key + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
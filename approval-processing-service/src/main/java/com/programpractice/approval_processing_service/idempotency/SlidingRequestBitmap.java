@@ -0,0 +1,82 @@
+package com.programpractice.approval_processing_service.idempotency;
+
+import java.util.Arrays;
+
+/**
+ * requestId 슬라이딩 윈도우 비트맵 (정확, 오탐 없음)
+ *
+ * 최근 windowSize개 requestId(= 지금까지 본 최대값 기준)에 대해 1비트씩 기록한다.
+ * requestId는 SequenceGeneratorService가 발급하는 단조 증가 값이므로,
+ * 최대값이 전진할 때 새로 들어오는 구간의 비트만 지우면 윈도우를 재사용할 수 있다.
+ * 동기화는 호출 측에서 책임진다.
+ */
+final class SlidingRequestBitmap {
+
+    private final long[] words;
+    private final int mask;
+    private long highWatermark;   // 지금까지 본 최대 requestId (없으면 0)
+
+    SlidingRequestBitmap(int windowSize) {
+        if (Integer.bitCount(windowSize) != 1 || windowSize < Long.SIZE) {
+            throw new IllegalArgumentException("windowSize는 64 이상의 2의 거듭제곱이어야 합니다: " + windowSize);
+        }
+        this.words = new long[windowSize / Long.SIZE];
+        this.mask = windowSize - 1;
+    }
+
+    long highWatermark() {
+        return highWatermark;
+    }
+
+    // 윈도우 아래로 밀려난 requestId (판단 불가 → 호출 측이 저장소로 확인)
+    boolean isBelowWindow(long requestId) {
+        return requestId <= highWatermark - windowSize();
+    }
+
+    boolean contains(long requestId) {
+        int slot = (int) (requestId & mask);
+        return (words[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    /**
+     * 기록 (윈도우 아래 값은 호출 전에 걸러야 한다)
+     */
+    void add(long requestId) {
+        advanceTo(requestId);
+        int slot = (int) (requestId & mask);
+        words[slot >>> 6] |= 1L << slot;
+    }
+
+    void remove(long requestId) {
+        if (isBelowWindow(requestId) || requestId > highWatermark) {
+            return;
+        }
+        int slot = (int) (requestId & mask);
+        words[slot >>> 6] &= ~(1L << slot);
+    }
+
+    int windowSize() {
+        return mask + 1;
+    }
+
+    long memoryBytes() {
+        return (long) words.length * Long.BYTES;
+    }
+
+    // 최대값 전진: (highWatermark, requestId] 구간 슬롯은 이전 윈도우의 값이므로 비움
+    private void advanceTo(long requestId) {
+        if (requestId <= highWatermark) {
+            return;
+        }
+        long distance = requestId - highWatermark;
+        if (distance >= windowSize()) {
+            Arrays.fill(words, 0L);
+        } else {
+            for (long id = highWatermark + 1; id <= requestId; id++) {
+                int slot = (int) (id & mask);
+                words[slot >>> 6] &= ~(1L << slot);
+            }
+        }
+        highWatermark = requestId;
+    }
+}
@@ -0,0 +1,165 @@
+package com.programpractice.approval_processing_service.listener;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.programpractice.approval.messaging.ApprovalMessageConverter;
+import com.programpractice.approval.messaging.ApprovalRequestMessage;
+import com.programpractice.approval_processing_service.config.RabbitMQConfig;
+import com.programpractice.approval_processing_service.idempotency.ApprovalMessageIdempotencyGuard;
+import com.programpractice.approval_processing_service.service.ApprovalProcessingService;
+import com.rabbitmq.client.Channel;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 승인 요청 메시지 배치 수신 리스너 (approval.listener.batch.enabled=true)
+ *
+ * 배치 단위로 멱등성 판정 → 요청자 일괄 검증 → 일괄 저장 후 한 번에 ack 한다.
+ * 이미 처리한 메시지와 다음 단계 알림(step 2 이상)은 저장 없이 ack 한다.
+ * 실패는 두 가지로 나눈다.
+ * - 배치 전체 실패(Employee Service 장애 등): retry.* 설정대로 지수 백오프하며 다시 처리하고,
+ *   그래도 실패하면 전부 재전달(requeue)한다. 메시지 자체의 문제가 아니므로 재전달 여부와 관계없이 폐기하지 않는다.
+ * - 건별 실패(존재하지 않는 요청자 등): 최초 수신이면 재전달하고, 재전달된 메시지가 다시 실패하면 폐기한다.
+ * 역직렬화할 수 없는 메시지는 바로 폐기한다.
+ */
+@Component
+@ConditionalOnProperty(name = "approval.listener.batch.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ApprovalRequestBatchListener {
+
+    private final ApprovalProcessingService processingService;
+    private final ApprovalMessageConverter messageConverter;
+    private final ApprovalMessageIdempotencyGuard idempotencyGuard;
+
+    @Value("${approval.listener.batch.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${approval.listener.batch.retry.initial-interval-ms:1000}")
+    private long initialIntervalMs;
+
+    @Value("${approval.listener.batch.retry.multiplier:2.0}")
+    private double multiplier;
+
+    @Value("${approval.listener.batch.retry.max-interval-ms:10000}")
+    private long maxIntervalMs;
+
+    private record Delivery(Message message, ApprovalRequestMessage payload) {
+
+        long deliveryTag() {
+            return message.getMessageProperties().getDeliveryTag();
+        }
+    }
+
+    @RabbitListener(queues = "#{@" + RabbitMQConfig.APPROVAL_REQUEST_QUEUE_NAMES + "}",
+            containerFactory = RabbitMQConfig.BATCH_LISTENER_CONTAINER_FACTORY)
+    public void handleApprovalRequests(List<Message> messages, Channel channel) throws IOException {
+        log.info("=== RabbitMQ 배치 수신: count={} ===", messages.size());
+
+        // 1. 역직렬화 (JSON/Protobuf, gzip 여부는 메시지 속성으로 판단, 실패 시 폐기)
+        List<Delivery> deliveries = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            long deliveryTag = message.getMessageProperties().getDeliveryTag();
+            try {
+                ApprovalRequestMessage payload = messageConverter.read(message, ApprovalRequestMessage.class);
+                if (payload.getRequestId() == null) {
+                    throw new MessageConversionException("requestId 누락");
+                }
+                deliveries.add(new Delivery(message, payload));
+            } catch (MessageConversionException e) {
+                log.error("❌ 메시지 역직렬화 실패 - 폐기: deliveryTag={}, reason={}", deliveryTag, e.getMessage());
+                channel.basicReject(deliveryTag, false);
+            }
+        }
+        if (deliveries.isEmpty()) {
+            return;
+        }
+
+        // 2. 멱등성 판정 (신규 step 1 메시지만 처리 대상)
+        //    윈도우 밖(EXPIRED)도 처리 대상에 넣고, 저장소에 이미 있는지는 processApprovalRequestBatch가 확인한다
+        List<ApprovalRequestMessage> accepted = new ArrayList<>(deliveries.size());
+        for (Delivery delivery : deliveries) {
+            ApprovalRequestMessage payload = delivery.payload();
+            int step = ApprovalMessageIdempotencyGuard.stepOf(payload);
+            ApprovalMessageIdempotencyGuard.Decision decision = idempotencyGuard.tryAccept(payload.getRequestId(), step);
+            if (decision != ApprovalMessageIdempotencyGuard.Decision.DUPLICATE && step <= 1) {
+                accepted.add(payload);
+            } else {
+                log.debug("저장 대상 아님: requestId={}, step={}, decision={}", payload.getRequestId(), step, decision);
+            }
+        }
+
+        // 3. 일괄 처리 (배치 전체 실패는 백오프 후 재시도, 끝내 실패하면 전부 재전달 대상)
+        Set<Integer> failed = Set.of();
+        Set<Integer> unavailable = Set.of();
+        if (!accepted.isEmpty()) {
+            try {
+                failed = processWithBackoff(accepted);
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                log.error("❌ 배치 처리 실패 ({}회 시도) - 전체 재전달: count={}", maxAttempts, accepted.size(), e);
+                unavailable = accepted.stream()
+                        .map(ApprovalRequestMessage::getRequestId)
+                        .collect(Collectors.toSet());
+            }
+        }
+        // 실패 건은 재전달 시 다시 처리되도록 판정 기록 취소
+        failed.forEach(requestId -> idempotencyGuard.release(requestId, 1));
+        unavailable.forEach(requestId -> idempotencyGuard.release(requestId, 1));
+
+        // 4. 실패 건 nack 후 나머지를 한 번에 ack (multiple=true, 이미 nack한 태그는 제외됨)
+        long lastSucceededTag = -1;
+        for (Delivery delivery : deliveries) {
+            boolean initialStep = ApprovalMessageIdempotencyGuard.stepOf(delivery.payload()) <= 1;
+            Integer requestId = delivery.payload().getRequestId();
+            if (initialStep && unavailable.contains(requestId)) {
+                channel.basicNack(delivery.deliveryTag(), false, true);
+            } else if (initialStep && failed.contains(requestId)) {
+                boolean requeue = !delivery.message().getMessageProperties().isRedelivered();
+                log.warn("⚠️ 메시지 처리 실패: requestId={}, requeue={}", requestId, requeue);
+                channel.basicNack(delivery.deliveryTag(), false, requeue);
+            } else {
+                lastSucceededTag = Math.max(lastSucceededTag, delivery.deliveryTag());
+            }
+        }
+        if (lastSucceededTag >= 0) {
+            channel.basicAck(lastSucceededTag, true);
+        }
+    }
+
+    /**
+     * 배치 처리, 예외(배치 전체 실패) 시 지수 백오프 후 max-attempts까지 재시도
+     * 이미 저장된 요청은 processApprovalRequestBatch가 건너뛰므로 다시 처리해도 안전하다.
+     *
+     * @return 건별 실패한 requestId
+     */
+    private Set<Integer> processWithBackoff(List<ApprovalRequestMessage> accepted) throws InterruptedException {
+        long intervalMs = initialIntervalMs;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return processingService.processApprovalRequestBatch(accepted);
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.warn("⚠️ 배치 처리 실패 - {}ms 후 재시도 ({}/{}): {}", intervalMs, attempt, maxAttempts, e.getMessage());
+                Thread.sleep(intervalMs);
+                intervalMs = Math.min((long) (intervalMs * multiplier), maxIntervalMs);
+            }
+        }
+    }
+}
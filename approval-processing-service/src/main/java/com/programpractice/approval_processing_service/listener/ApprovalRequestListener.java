@@ -1,44 +1,68 @@
 package com.programpractice.approval_processing_service.listener;
 
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import com.programpractice.approval.messaging.ApprovalRequestMessage;
 import com.programpractice.approval_processing_service.config.RabbitMQConfig;
-import com.programpractice.approval_processing_service.dto.ApprovalRequestMessage;
+import com.programpractice.approval_processing_service.idempotency.ApprovalMessageIdempotencyGuard;
 import com.programpractice.approval_processing_service.service.ApprovalProcessingService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * 승인 요청 메시지 수신 리스너
+ * 승인 요청 메시지 수신 리스너 (건별 처리, 기본)
+ * approval.listener.batch.enabled=true 이면 ApprovalRequestBatchListener가 대신 수신한다.
  */
 @Component
+@ConditionalOnProperty(name = "approval.listener.batch.enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class ApprovalRequestListener {
     
     private final ApprovalProcessingService processingService;
+    private final ApprovalMessageIdempotencyGuard idempotencyGuard;
     
     /**
      * 승인 요청 메시지 수신 및 처리
-     * 이미 존재하는 요청은 무시 (덮어쓰기 방지)
+     * (requestId, step) 기준으로 이미 처리한 메시지는 무시 (덮어쓰기 방지)
+     * 판정 윈도우 밖(EXPIRED)이면 저장소에 있는지로 판단
+     * step 2 이상은 다음 단계 알림이므로 저장하지 않음
      */
-    @RabbitListener(queues = RabbitMQConfig.APPROVAL_REQUEST_QUEUE)
+    @RabbitListener(queues = "#{@" + RabbitMQConfig.APPROVAL_REQUEST_QUEUE_NAMES + "}")
     public void handleApprovalRequest(ApprovalRequestMessage message) {
         log.info("=== RabbitMQ 메시지 수신 ===");
         log.info("requestId={}, requesterId={}", message.getRequestId(), message.getRequesterId());
         
-        // 이미 존재하는지 확인
+        int step = ApprovalMessageIdempotencyGuard.stepOf(message);
+        ApprovalMessageIdempotencyGuard.Decision decision = idempotencyGuard.tryAccept(message.getRequestId(), step);
+        if (decision == ApprovalMessageIdempotencyGuard.Decision.DUPLICATE) {
+            log.info("⚠️ 이미 처리한 메시지 - 무시: requestId={}, step={}, decision={}", 
+                    message.getRequestId(), step, decision);
+            return;
+        }
+        
+        if (step > 1) {
+            log.info("다음 단계 알림 수신 (저장하지 않음): requestId={}, step={}", message.getRequestId(), step);
+            return;
+        }
+        
+        // 판정 윈도우 밖(EXPIRED)이거나 이전 버전에서 저장된 요청 등 판정 기록이 없는 경우 대비
         if (processingService.existsByRequestId(message.getRequestId())) {
             log.info("⚠️ 이미 존재하는 요청 - 무시: requestId={}", message.getRequestId());
-            log.info("(이 메시지는 다음 단계 진행을 위한 알림이므로 저장하지 않음)");
             return;
         }
         
-        // 1. 신규 요청만 In-Memory DB에 저장
+        // 1. 신규 요청만 In-Memory DB에 저장 (실패 시 재전달되도록 판정 기록 취소)
         log.info("✅ 신규 요청 - In-Memory DB에 저장 시작");
-        processingService.processApprovalRequest(message);
+        try {
+            processingService.processApprovalRequest(message);
+        } catch (RuntimeException e) {
+            idempotencyGuard.release(message.getRequestId(), step);
+            throw e;
+        }
         
         // 2. 사용자(Approver)의 REST API 호출을 대기
         log.info("요청 저장 완료. 사용자(Approver)의 REST API 호출을 대기합니다.");
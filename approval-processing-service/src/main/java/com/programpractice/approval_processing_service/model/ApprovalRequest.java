@@ -36,6 +36,9 @@ public class ApprovalRequest {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    @Builder.Default
+    private Long version = 0L;  // 낙관적 동시성 제어용 버전 (저장소에서 CAS 성공 시 증가)
+
     // 승인 단계 추가
     public void addStep(ApprovalStep step) {
         steps.add(step);
@@ -71,5 +74,38 @@ public class ApprovalRequest {
     public boolean isLastStep() {
         return this.currentStepOrder >= steps.size();
     }
+
+    // 해당 승인자가 이미 처리한 단계가 있는지 확인 (중복 결정 판별용)
+    public boolean hasDecidedBy(Long approverId) {
+        return steps.stream()
+                .anyMatch(step -> step.getApproverId().equals(approverId)
+                        && step.getStatus() != ApprovalStatus.PENDING);
+    }
+
+    /**
+     * 스냅샷 복사본 생성
+     * 저장소에 보관된 인스턴스는 직접 수정하지 않고, 복사본을 수정한 뒤
+     * compareAndSave로 교체한다.
+     */
+    public ApprovalRequest copy() {
+        List<ApprovalStep> copiedSteps = new ArrayList<>(steps.size());
+        for (ApprovalStep step : steps) {
+            copiedSteps.add(step.copy());
+        }
+
+        return ApprovalRequest.builder()
+                .id(id)
+                .requestId(requestId)
+                .requesterId(requesterId)
+                .title(title)
+                .content(content)
+                .steps(copiedSteps)
+                .currentStepOrder(currentStepOrder)
+                .finalStatus(finalStatus)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .version(version)
+                .build();
+    }
     
 }
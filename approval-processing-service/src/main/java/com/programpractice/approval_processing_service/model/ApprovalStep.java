@@ -38,4 +38,9 @@ public class ApprovalStep {
         this.comment = comment;
         this.processedAt = LocalDateTime.now();        
     }
+
+    // 스냅샷 복사
+    public ApprovalStep copy() {
+        return new ApprovalStep(id, step, approverId, status, comment, processedAt);
+    }
 }
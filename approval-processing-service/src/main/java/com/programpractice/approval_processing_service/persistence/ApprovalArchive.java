@@ -0,0 +1,159 @@
+package com.programpractice.approval_processing_service.persistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+
+import com.programpractice.approval_processing_service.model.ApprovalRequest;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보존 기간이 지나 메모리에서 제거된 최종 처리 건의 추가 전용(append-only) 보관 파일
+ *
+ * 레코드: [length(4)][payload(ApprovalRecordCodec)]
+ * 메모리에는 requestId → 파일 오프셋 인덱스만 유지하고, 조회 시 해당 위치만 읽는다.
+ * 기동 시 파일을 한 번 훑어 인덱스를 재구성하며, 중간에 잘린 마지막 레코드는 잘라낸다.
+ */
+@Slf4j
+public class ApprovalArchive implements Closeable {
+
+    private static final int LENGTH_BYTES = Integer.BYTES;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final Map<Integer, Long> offsets = new ConcurrentHashMap<>();
+    private long writePosition;
+
+    public ApprovalArchive(Path file) throws IOException {
+        this.file = file;
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        rebuildIndex();
+        log.info("승인 보관 파일 열기: file={}, archived={}", file.toAbsolutePath(), offsets.size());
+    }
+
+    /**
+     * 일괄 추가 (한 번의 쓰기 + fsync)
+     */
+    public synchronized void append(List<ApprovalRequest> requests) throws IOException {
+        if (requests.isEmpty()) {
+            return;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        List<long[]> positions = new ArrayList<>(requests.size());
+
+        for (ApprovalRequest request : requests) {
+            ByteArrayOutputStream record = new ByteArrayOutputStream();
+            ApprovalRecordCodec.writeRequest(new DataOutputStream(record), request);
+            positions.add(new long[] {request.getRequestId(), writePosition + out.size()});
+            out.writeInt(record.size());
+            record.writeTo(out);
+        }
+        out.flush();
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        long position = writePosition;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        channel.force(false);
+        writePosition = position;
+
+        for (long[] entry : positions) {
+            offsets.put((int) entry[0], entry[1]);
+        }
+    }
+
+    /**
+     * requestId로 보관된 요청 조회
+     */
+    public Optional<ApprovalRequest> find(Integer requestId) {
+        Long offset = offsets.get(requestId);
+        if (offset == null) {
+            return Optional.empty();
+        }
+        try {
+            ByteBuffer length = readFully(offset, LENGTH_BYTES);
+            ByteBuffer payload = readFully(offset + LENGTH_BYTES, length.getInt());
+            return Optional.of(ApprovalRecordCodec.readRequest(
+                    new DataInputStream(new ByteArrayInputStream(payload.array()))));
+        } catch (IOException e) {
+            log.error("보관 레코드 읽기 실패: requestId={}, offset={}", requestId, offset, e);
+            return Optional.empty();
+        }
+    }
+
+    // 보관된 모든 requestId 순회 (순서 없음)
+    public void forEachRequestId(IntConsumer action) {
+        offsets.keySet().forEach(action::accept);
+    }
+
+    public boolean contains(Integer requestId) {
+        return offsets.containsKey(requestId);
+    }
+
+    // 보관된 요청 수
+    public long size() {
+        return offsets.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.force(true);
+        channel.close();
+    }
+
+    private void rebuildIndex() throws IOException {
+        long fileSize = channel.size();
+        long position = 0;
+
+        while (position + LENGTH_BYTES <= fileSize) {
+            int length = readFully(position, LENGTH_BYTES).getInt();
+            if (length <= Integer.BYTES || position + LENGTH_BYTES + length > fileSize) {
+                break;
+            }
+            // 레코드의 첫 필드가 requestId
+            int requestId = readFully(position + LENGTH_BYTES, Integer.BYTES).getInt();
+            offsets.put(requestId, position);
+            position += LENGTH_BYTES + length;
+        }
+
+        if (position < fileSize) {
+            log.warn("보관 파일 끝의 불완전한 레코드 제거: file={}, validBytes={}, fileSize={}",
+                    file, position, fileSize);
+            channel.truncate(position);
+        }
+        writePosition = position;
+    }
+
+    private ByteBuffer readFully(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("보관 파일이 예상보다 짧습니다: position=" + position);
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
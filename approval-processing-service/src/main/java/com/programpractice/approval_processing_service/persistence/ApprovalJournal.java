@@ -0,0 +1,31 @@
+package com.programpractice.approval_processing_service.persistence;
+
+import com.programpractice.approval_processing_service.model.ApprovalRequest;
+
+/**
+ * 저장소 변경 기록 (Write-Ahead Log) 인터페이스
+ * ApprovalRepository 구현체가 상태를 바꾸기 직전에 호출하며, 기록에 실패하면 변경도 반영되지 않는다.
+ */
+public interface ApprovalJournal {
+
+    // 영속화 비활성 시 사용하는 기본 구현
+    ApprovalJournal NONE = new ApprovalJournal() {
+        @Override
+        public void appendSave(ApprovalRequest request) {
+        }
+
+        @Override
+        public void appendDelete(Integer requestId) {
+        }
+
+        @Override
+        public void appendClear() {
+        }
+    };
+
+    void appendSave(ApprovalRequest request);
+
+    void appendDelete(Integer requestId);
+
+    void appendClear();
+}
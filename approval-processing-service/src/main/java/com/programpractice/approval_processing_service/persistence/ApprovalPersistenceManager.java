@@ -0,0 +1,164 @@
+package com.programpractice.approval_processing_service.persistence;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.programpractice.approval_processing_service.repository.ApprovalRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-Memory 저장소 영속화 관리 (approval.persistence.enabled=true 일 때만 활성)
+ *
+ * 시작: 최신 유효 스냅샷 적재 → 이후 WAL 세그먼트 재생 → WAL 연결
+ *       (빈 초기화 단계에서 수행되므로 RabbitMQ 리스너가 시작되기 전에 복구가 끝난다)
+ * 실행 중: 주기적 flush, 주기적 스냅샷 후 불필요한 세그먼트/스냅샷 정리
+ * 종료: 스케줄러 정지 → 최종 스냅샷 → WAL 동기화 및 종료
+ *
+ * 스냅샷 손상에 대비해 직전 스냅샷 하나와 그 이후 세그먼트를 함께 보관한다.
+ */
+@Component
+@ConditionalOnProperty(name = "approval.persistence.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ApprovalPersistenceManager {
+
+    private final ApprovalRepository approvalRequestRepository;
+
+    @Value("${approval.persistence.directory:./data/approval-wal}")
+    private String directory;
+
+    @Value("${approval.persistence.segment-size-mb:64}")
+    private int segmentSizeMb;
+
+    @Value("${approval.persistence.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${approval.persistence.snapshot-interval-seconds:300}")
+    private long snapshotIntervalSeconds;
+
+    private Path walDirectory;
+    private SegmentedWriteAheadLog writeAheadLog;
+    private ApprovalSnapshotStore snapshotStore;
+    private ScheduledExecutorService scheduler;
+
+    // 직전 스냅샷의 재생 시작 세그먼트 (이 번호 이전은 삭제 가능)
+    private long retainFrom;
+
+    @PostConstruct
+    public void start() throws IOException {
+        walDirectory = Paths.get(directory);
+        snapshotStore = new ApprovalSnapshotStore(walDirectory);
+
+        long startedAt = System.nanoTime();
+        long nextSegment = recover();
+        log.info("승인 요청 복구 완료: count={}, elapsed={}ms",
+                approvalRequestRepository.count(), (System.nanoTime() - startedAt) / 1_000_000);
+
+        writeAheadLog = new SegmentedWriteAheadLog(walDirectory, segmentSizeMb * 1024 * 1024, nextSegment);
+        approvalRequestRepository.attachJournal(writeAheadLog);
+
+        // 복구 결과를 바로 스냅샷으로 남겨 다음 기동 시 재생 구간을 줄임
+        takeSnapshot();
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "approval-persistence");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushQuietly,
+                flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::snapshotQuietly,
+                snapshotIntervalSeconds, snapshotIntervalSeconds, TimeUnit.SECONDS);
+
+        log.info("WAL 영속화 활성화: directory={}, segmentSize={}MB, snapshotInterval={}s",
+                walDirectory.toAbsolutePath(), segmentSizeMb, snapshotIntervalSeconds);
+    }
+
+    @PreDestroy
+    public void stop() throws IOException, InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(30, TimeUnit.SECONDS);
+
+        takeSnapshot();
+        approvalRequestRepository.attachJournal(ApprovalJournal.NONE);
+        writeAheadLog.close();
+        log.info("WAL 영속화 종료: count={}", approvalRequestRepository.count());
+    }
+
+    /**
+     * 스냅샷 생성
+     * WAL 세그먼트를 먼저 교체한 뒤 저장소를 복사하므로, 교체 이전 세그먼트(replayFrom)부터
+     * 재생하면 스냅샷 작성 중 반영된 변경까지 모두 복구된다 (재생은 멱등).
+     */
+    public synchronized void takeSnapshot() throws IOException {
+        long replayFrom = writeAheadLog.currentSegment();
+        writeAheadLog.rollSegment();
+
+        snapshotStore.write(replayFrom, approvalRequestRepository.findAll());
+
+        snapshotStore.deleteSnapshotsBefore(retainFrom);
+        SegmentedWriteAheadLog.deleteSegmentsBefore(walDirectory, retainFrom);
+        retainFrom = replayFrom;
+    }
+
+    /**
+     * 최신 유효 스냅샷 + WAL 꼬리 재생
+     *
+     * @return 새로 기록을 시작할 세그먼트 번호
+     */
+    private long recover() throws IOException {
+        long replayFrom = 0;
+
+        for (Long snapshot : snapshotStore.listSnapshots()) {
+            try {
+                replayFrom = snapshotStore.load(snapshot, approvalRequestRepository);
+                break;
+            } catch (IOException e) {
+                log.warn("스냅샷 적재 실패 - 이전 스냅샷으로 재시도: snapshot={}", snapshot, e);
+                approvalRequestRepository.deleteAll();
+            }
+        }
+        retainFrom = replayFrom;
+
+        List<Long> segments = SegmentedWriteAheadLog.listSegments(walDirectory);
+        long replayed = 0;
+        for (Long segment : segments) {
+            if (segment >= replayFrom) {
+                replayed += SegmentedWriteAheadLog.replay(
+                        SegmentedWriteAheadLog.segmentPath(walDirectory, segment), approvalRequestRepository);
+            }
+        }
+        log.info("WAL 재생 완료: replayFrom={}, segments={}, records={}", replayFrom, segments.size(), replayed);
+
+        return segments.isEmpty() ? Math.max(replayFrom, 1) : segments.get(segments.size() - 1) + 1;
+    }
+
+    private void flushQuietly() {
+        try {
+            writeAheadLog.flush();
+        } catch (Exception e) {
+            log.error("WAL flush 실패", e);
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            takeSnapshot();
+        } catch (Exception e) {
+            log.error("스냅샷 생성 실패", e);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.programpractice.approval_processing_service.persistence;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.programpractice.approval_processing_service.model.ApprovalRequest;
+import com.programpractice.approval_processing_service.model.ApprovalStatus;
+import com.programpractice.approval_processing_service.model.ApprovalStep;
+
+/**
+ * ApprovalRequest 바이너리 직렬화 (WAL 레코드 및 스냅샷 공용)
+ * 필드 순서가 곧 포맷이므로 변경 시 스냅샷 FORMAT_VERSION을 올려야 한다.
+ */
+public final class ApprovalRecordCodec {
+
+    private static final ApprovalStatus[] STATUSES = ApprovalStatus.values();
+    private static final int NULL_LENGTH = -1;
+
+    private ApprovalRecordCodec() {
+    }
+
+    public static void writeRequest(DataOutput out, ApprovalRequest request) throws IOException {
+        out.writeInt(request.getRequestId());
+        out.writeLong(request.getVersion() != null ? request.getVersion() : 0L);
+        writeString(out, request.getId());
+        writeNullableLong(out, request.getRequesterId());
+        writeString(out, request.getTitle());
+        writeString(out, request.getContent());
+        out.writeInt(request.getCurrentStepOrder());
+        out.writeByte(request.getFinalStatus().ordinal());
+        writeDateTime(out, request.getCreatedAt());
+        writeDateTime(out, request.getUpdatedAt());
+
+        List<ApprovalStep> steps = request.getSteps();
+        out.writeInt(steps.size());
+        for (ApprovalStep step : steps) {
+            writeNullableLong(out, step.getId());
+            out.writeInt(step.getStep());
+            writeNullableLong(out, step.getApproverId());
+            out.writeByte(step.getStatus().ordinal());
+            writeString(out, step.getComment());
+            writeDateTime(out, step.getProcessedAt());
+        }
+    }
+
+    public static ApprovalRequest readRequest(DataInput in) throws IOException {
+        Integer requestId = in.readInt();
+        long version = in.readLong();
+        String id = readString(in);
+        Long requesterId = readNullableLong(in);
+        String title = readString(in);
+        String content = readString(in);
+        int currentStepOrder = in.readInt();
+        ApprovalStatus finalStatus = STATUSES[in.readByte()];
+        LocalDateTime createdAt = readDateTime(in);
+        LocalDateTime updatedAt = readDateTime(in);
+
+        int stepCount = in.readInt();
+        List<ApprovalStep> steps = new ArrayList<>(stepCount);
+        for (int i = 0; i < stepCount; i++) {
+            steps.add(ApprovalStep.builder()
+                    .id(readNullableLong(in))
+                    .step(in.readInt())
+                    .approverId(readNullableLong(in))
+                    .status(STATUSES[in.readByte()])
+                    .comment(readString(in))
+                    .processedAt(readDateTime(in))
+                    .build());
+        }
+
+        return ApprovalRequest.builder()
+                .id(id)
+                .requestId(requestId)
+                .requesterId(requesterId)
+                .title(title)
+                .content(content)
+                .steps(steps)
+                .currentStepOrder(currentStepOrder)
+                .finalStatus(finalStatus)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .version(version)
+                .build();
+    }
+
+    // 문자열: 길이(int, null은 -1) + UTF-8 바이트 (writeUTF의 64KB 제한 회피)
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeNullableLong(DataOutput out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readNullableLong(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    // LocalDateTime: 존재 여부 + epoch 초 + 나노초 (UTC 기준, 타임존 변환 없이 그대로 복원)
+    private static void writeDateTime(DataOutput out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static LocalDateTime readDateTime(DataInput in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        long epochSecond = in.readLong();
+        int nano = in.readInt();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,139 @@
+package com.programpractice.approval_processing_service.persistence;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import com.programpractice.approval_processing_service.model.ApprovalRequest;
+import com.programpractice.approval_processing_service.repository.ApprovalRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 바이너리 스냅샷 저장소
+ *
+ * 파일명(snapshot-{seq}.bin)의 seq는 복구 시 재생을 시작할 WAL 세그먼트 번호이다.
+ * 형식: [magic][format][replayFrom][count] + 레코드들 + [crc32]
+ * 임시 파일에 기록 후 fsync, 원자적 rename으로 교체하므로 쓰다 만 스냅샷은 보이지 않는다.
+ */
+@Slf4j
+public class ApprovalSnapshotStore {
+
+    private static final int MAGIC = 0x41505253; // "APRS"
+    private static final int FORMAT_VERSION = 1;
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+
+    private final Path directory;
+
+    public ApprovalSnapshotStore(Path directory) throws IOException {
+        this.directory = directory;
+        Files.createDirectories(directory);
+    }
+
+    /**
+     * 스냅샷 기록
+     *
+     * @param replayFrom 이 스냅샷 이후 재생이 필요한 첫 WAL 세그먼트 번호
+     */
+    public Path write(long replayFrom, Collection<ApprovalRequest> requests) throws IOException {
+        Path target = snapshotPath(replayFrom);
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            CheckedOutputStream checked = new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), IO_BUFFER_SIZE), new CRC32());
+            DataOutputStream out = new DataOutputStream(checked);
+
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(replayFrom);
+            out.writeInt(requests.size());
+            for (ApprovalRequest request : requests) {
+                ApprovalRecordCodec.writeRequest(out, request);
+            }
+            out.writeLong(checked.getChecksum().getValue());
+            out.flush();
+            channel.force(true);
+        }
+
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        log.info("스냅샷 저장 완료: file={}, count={}", target.getFileName(), requests.size());
+        return target;
+    }
+
+    /**
+     * 스냅샷을 저장소로 적재
+     *
+     * @return 재생을 시작할 WAL 세그먼트 번호
+     * @throws IOException 형식 또는 CRC가 맞지 않는 경우
+     */
+    public long load(long replayFrom, ApprovalRepository repository) throws IOException {
+        Path source = snapshotPath(replayFrom);
+
+        try (CheckedInputStream checked = new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(source), IO_BUFFER_SIZE), new CRC32())) {
+            DataInputStream in = new DataInputStream(checked);
+
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("지원하지 않는 스냅샷 형식: " + source);
+            }
+            long storedReplayFrom = in.readLong();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                repository.restore(ApprovalRecordCodec.readRequest(in));
+            }
+
+            long expectedCrc = checked.getChecksum().getValue();
+            if (in.readLong() != expectedCrc) {
+                throw new IOException("스냅샷 CRC 불일치: " + source);
+            }
+            log.info("스냅샷 적재 완료: file={}, count={}", source.getFileName(), count);
+            return storedReplayFrom;
+        }
+    }
+
+    // 스냅샷 번호 목록 (내림차순 - 최신 우선)
+    public List<Long> listSnapshots() throws IOException {
+        List<Long> snapshots = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX))
+                    .forEach(name -> snapshots.add(Long.parseLong(
+                            name.substring(SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length()))));
+        }
+        snapshots.sort(Collections.reverseOrder());
+        return snapshots;
+    }
+
+    // keepFrom 미만 스냅샷 삭제
+    public void deleteSnapshotsBefore(long keepFrom) throws IOException {
+        for (Long seq : listSnapshots()) {
+            if (seq < keepFrom) {
+                Files.deleteIfExists(snapshotPath(seq));
+            }
+        }
+    }
+
+    private Path snapshotPath(long replayFrom) {
+        return directory.resolve(String.format("%s%019d%s", SNAPSHOT_PREFIX, replayFrom, SNAPSHOT_SUFFIX));
+    }
+}
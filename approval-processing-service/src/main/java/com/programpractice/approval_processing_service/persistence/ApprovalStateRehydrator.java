@@ -0,0 +1,320 @@
+package com.programpractice.approval_processing_service.persistence;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+import com.programpractice.approval_processing_service.client.ApprovalRequestServiceClient;
+import com.programpractice.approval_processing_service.dto.ApprovalStepDto;
+import com.programpractice.approval_processing_service.dto.InProgressApprovalPage;
+import com.programpractice.approval_processing_service.dto.InProgressApprovalRange;
+import com.programpractice.approval_processing_service.model.ApprovalRequest;
+import com.programpractice.approval_processing_service.model.ApprovalStatus;
+import com.programpractice.approval_processing_service.model.ApprovalStep;
+import com.programpractice.approval_processing_service.repository.ApprovalRepository;
+import com.programpractice.approval_processing_service.sharding.ShardAssignment;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 진행 중 결재 요청 재적재 (approval.rehydration.enabled=true 일 때만 활성)
+ *
+ * 재시작 후 Approval Request Service(MongoDB)의 in_progress 건을 읽어 저장소에 일괄 적재한다.
+ * - requestId 구간을 parallelism개로 나눠 구간별로 페이지 단위 병렬 조회
+ * - 이미 저장소에 있는 건(WAL 복구 등)은 건너뜀 (로컬 상태가 더 최신일 수 있으므로)
+ * - 샤드 모드면 이 레플리카가 소유한 샤드의 건만 적재
+ *
+ * 웹 서버 기동 이후, RabbitMQ 리스너 컨테이너 시작 이전 단계에서 적재가 끝날 때까지 블로킹하므로
+ * 적재 중에는 메시지를 소비하지 않고 readiness도 ACCEPTING_TRAFFIC으로 바뀌지 않는다.
+ * 진행 상황은 로그와 health 상세(approvalStateRehydrator)로 확인한다.
+ */
+@Component
+@ConditionalOnProperty(name = "approval.rehydration.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ApprovalStateRehydrator implements SmartLifecycle, HealthIndicator {
+
+    // 웹 서버(DEFAULT_PHASE - 2048) 이후, 리스너 컨테이너(DEFAULT_PHASE) 이전
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 512;
+
+    public enum State { PENDING, LOADING, COMPLETED, FAILED }
+
+    private final ApprovalRequestServiceClient approvalRequestServiceClient;
+    private final ApprovalRepository approvalRequestRepository;
+    private final Optional<ShardAssignment> shardAssignment;
+
+    @Value("${approval.rehydration.parallelism:4}")
+    private int parallelism;
+
+    @Value("${approval.rehydration.page-size:500}")
+    private int pageSize;
+
+    @Value("${approval.rehydration.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${approval.rehydration.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    @Value("${approval.rehydration.progress-interval-ms:5000}")
+    private long progressIntervalMs;
+
+    // false면 적재 실패 시에도 부분 적재 상태로 기동을 계속한다
+    @Value("${approval.rehydration.fail-on-error:true}")
+    private boolean failOnError;
+
+    private volatile boolean running;
+    private volatile State state = State.PENDING;
+    private volatile String failure;
+    private volatile long expected;
+    private volatile long span;
+
+    private final AtomicLong loaded = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong invalid = new AtomicLong();
+    private final AtomicLong covered = new AtomicLong();
+
+    @Override
+    public void start() {
+        running = true;
+        long startedAt = System.nanoTime();
+        try {
+            rehydrate();
+            state = State.COMPLETED;
+            log.info("진행 중 결재 요청 재적재 완료: loaded={}, skipped={}, invalid={}, elapsed={}ms",
+                    loaded.get(), skipped.get(), invalid.get(), (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (RuntimeException e) {
+            state = State.FAILED;
+            failure = e.getMessage();
+            if (failOnError) {
+                throw new IllegalStateException("진행 중 결재 요청 재적재 실패", e);
+            }
+            log.warn("진행 중 결재 요청 재적재 실패 - 부분 적재 상태로 계속: loaded={}", loaded.get(), e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = state == State.COMPLETED || state == State.FAILED
+                ? Health.up()
+                : Health.outOfService();
+        builder.withDetail("state", state)
+                .withDetail("loaded", loaded.get())
+                .withDetail("skipped", skipped.get())
+                .withDetail("invalid", invalid.get())
+                .withDetail("expected", expected)
+                .withDetail("progress", String.format(Locale.ROOT, "%.1f%%", progressPercent()));
+        if (failure != null) {
+            builder.withDetail("error", failure);
+        }
+        return builder.build();
+    }
+
+    public State state() {
+        return state;
+    }
+
+    private void rehydrate() {
+        state = State.LOADING;
+        InProgressApprovalRange range = withRetry("구간 조회", approvalRequestServiceClient::getInProgressRange);
+        if (range.getMinRequestId() == null || range.getMaxRequestId() == null) {
+            log.info("재적재할 진행 중 결재 요청 없음");
+            return;
+        }
+
+        // (from, to] 구간을 병렬 구간으로 분할
+        int from = range.getMinRequestId() - 1;
+        int to = range.getMaxRequestId();
+        expected = range.getCount();
+        span = (long) to - from;
+        int partitions = (int) Math.max(1, Math.min(parallelism, span));
+        log.info("진행 중 결재 요청 재적재 시작: requestId=({}, {}], count={}, parallelism={}, shards={}",
+                from, to, expected, partitions,
+                shardAssignment.map(ShardAssignment::ownedShards).map(Object::toString).orElse("all"));
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(partitions, runnable -> {
+            Thread thread = new Thread(runnable, "approval-rehydration-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>(partitions);
+            for (int i = 0; i < partitions; i++) {
+                int after = (int) (from + span * i / partitions);
+                int upTo = (int) (from + span * (i + 1) / partitions);
+                futures.add(CompletableFuture.runAsync(() -> loadPartition(after, upTo), executor));
+            }
+            awaitWithProgress(CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * (after, upTo] 구간을 페이지 단위로 적재
+     */
+    private void loadPartition(int after, int upTo) {
+        List<Integer> shards = shardAssignment.map(ShardAssignment::ownedShards).orElse(null);
+        Integer shardCount = shardAssignment.map(ShardAssignment::shardCount).orElse(null);
+
+        int cursor = after;
+        while (true) {
+            int pageAfter = cursor;
+            InProgressApprovalPage page = withRetry("페이지 조회(after=" + pageAfter + ")",
+                    () -> approvalRequestServiceClient.getInProgressPage(pageAfter, upTo, pageSize, shardCount, shards));
+
+            List<ApprovalRequest> requests = new ArrayList<>(page.getItems().size());
+            for (InProgressApprovalPage.Item item : page.getItems()) {
+                try {
+                    requests.add(toApprovalRequest(item));
+                } catch (IllegalArgumentException e) {
+                    invalid.incrementAndGet();
+                    log.warn("재적재 제외: requestId={}, reason={}", item.getRequestId(), e.getMessage());
+                }
+            }
+            int inserted = approvalRequestRepository.insertAll(requests).size();
+            loaded.addAndGet(inserted);
+            skipped.addAndGet(requests.size() - inserted);
+
+            Integer next = page.getNextAfterRequestId();
+            if (page.isLast() || next == null || next <= cursor || next >= upTo) {
+                covered.addAndGet(upTo - cursor);
+                return;
+            }
+            covered.addAndGet(next - cursor);
+            cursor = next;
+        }
+    }
+
+    /**
+     * 조회 결과 -> 승인 요청 (MongoDB의 단계 진행 상태 그대로)
+     *
+     * @throws IllegalArgumentException 단계 정보가 비었거나 현재 단계가 대기 상태가 아닌 경우
+     */
+    static ApprovalRequest toApprovalRequest(InProgressApprovalPage.Item item) {
+        if (item.getSteps() == null || item.getSteps().isEmpty()) {
+            throw new IllegalArgumentException("승인 단계 정보가 비어있습니다.");
+        }
+
+        List<ApprovalStep> steps = new ArrayList<>(item.getSteps().size());
+        item.getSteps().stream()
+                .sorted(Comparator.comparing(ApprovalStepDto::getStep))
+                .forEach(step -> steps.add(ApprovalStep.builder()
+                        .step(step.getStep())
+                        .approverId(step.getApproverId())
+                        .status(statusOf(step.getStatus()))
+                        .comment(step.getComment())
+                        .processedAt(step.getProcessedAt())
+                        .build()));
+
+        ApprovalRequest request = ApprovalRequest.builder()
+                .id(item.getId())
+                .requestId(item.getRequestId())
+                .requesterId(item.getRequesterId())
+                .title(item.getTitle())
+                .content(item.getContent())
+                .steps(steps)
+                .currentStepOrder(item.getCurrentStepOrder() != null ? item.getCurrentStepOrder() : 1)
+                .createdAt(item.getCreatedAt() != null ? item.getCreatedAt() : LocalDateTime.now())
+                .updatedAt(item.getUpdatedAt())
+                .build();
+
+        ApprovalStep current = request.getCurrentStep();
+        if (current == null || current.getStatus() != ApprovalStatus.PENDING) {
+            throw new IllegalArgumentException("현재 단계가 대기 상태가 아닙니다: currentStep=" + request.getCurrentStepOrder());
+        }
+        return request;
+    }
+
+    private static ApprovalStatus statusOf(String status) {
+        if (status == null) {
+            return ApprovalStatus.PENDING;
+        }
+        return ApprovalStatus.valueOf(status.toUpperCase(Locale.ROOT));
+    }
+
+    private <T> T withRetry(String action, Supplier<T> call) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (RestClientException | IllegalStateException e) {
+                if (attempt >= maxAttempts) {
+                    throw new IllegalStateException(
+                            "Approval Request Service " + action + " 실패 (" + attempt + "회 시도)", e);
+                }
+                log.warn("Approval Request Service {} 실패 - 재시도 {}/{}: {}", action, attempt, maxAttempts, e.getMessage());
+                sleep(retryBackoffMs * attempt);
+            }
+        }
+    }
+
+    private void awaitWithProgress(CompletableFuture<Void> all) {
+        while (true) {
+            try {
+                all.get(progressIntervalMs, TimeUnit.MILLISECONDS);
+                return;
+            } catch (TimeoutException e) {
+                log.info("재적재 진행 중: {}%, loaded={}/{}, skipped={}",
+                        String.format(Locale.ROOT, "%.1f", progressPercent()), loaded.get(), expected, skipped.get());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                throw cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("재적재 대기 중 인터럽트", e);
+            }
+        }
+    }
+
+    private double progressPercent() {
+        if (state == State.COMPLETED) {
+            return 100.0;
+        }
+        return span > 0 ? covered.get() * 100.0 / span : 0.0;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재적재 재시도 대기 중 인터럽트", e);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.programpractice.approval_processing_service.persistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import com.programpractice.approval_processing_service.model.ApprovalRequest;
+import com.programpractice.approval_processing_service.repository.ApprovalRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메모리 매핑 기반 세그먼트 WAL
+ *
+ * 세그먼트 파일(wal-{seq}.log)을 고정 크기로 매핑하고 레코드를 순차 기록한다.
+ * 레코드 형식: [length(int)][crc32(int)][type(byte) + payload]
+ * 매핑된 파일은 0으로 채워져 있으므로 length 0을 만나면 세그먼트 끝으로 본다.
+ *
+ * 기록은 페이지 캐시에 즉시 반영되어 프로세스 비정상 종료에도 유지되며,
+ * 디스크 동기화(force)는 세그먼트 교체, 주기적 flush, 종료 시점에 수행한다.
+ */
+@Slf4j
+public class SegmentedWriteAheadLog implements ApprovalJournal, Closeable {
+
+    static final byte TYPE_SAVE = 1;
+    static final byte TYPE_DELETE = 2;
+    static final byte TYPE_CLEAR = 3;
+
+    private static final int HEADER_BYTES = 8; // length + crc
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentSize;
+
+    // 레코드 직렬화용 버퍼 (append는 synchronized이므로 재사용)
+    private final RecordBuffer recordBuffer = new RecordBuffer();
+    private final DataOutputStream recordOut = new DataOutputStream(recordBuffer);
+    private final CRC32 crc = new CRC32();
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private long segmentSeq;
+    private long appendedRecords;
+
+    public SegmentedWriteAheadLog(Path directory, int segmentSize, long firstSegmentSeq) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+        openSegment(firstSegmentSeq);
+    }
+
+    @Override
+    public synchronized void appendSave(ApprovalRequest request) {
+        try {
+            recordBuffer.reset();
+            recordOut.writeByte(TYPE_SAVE);
+            ApprovalRecordCodec.writeRequest(recordOut, request);
+            writeRecord();
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 기록 실패: requestId=" + request.getRequestId(), e);
+        }
+    }
+
+    @Override
+    public synchronized void appendDelete(Integer requestId) {
+        try {
+            recordBuffer.reset();
+            recordOut.writeByte(TYPE_DELETE);
+            recordOut.writeInt(requestId);
+            writeRecord();
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 기록 실패: requestId=" + requestId, e);
+        }
+    }
+
+    @Override
+    public synchronized void appendClear() {
+        try {
+            recordBuffer.reset();
+            recordOut.writeByte(TYPE_CLEAR);
+            writeRecord();
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 기록 실패: clear", e);
+        }
+    }
+
+    private void writeRecord() throws IOException {
+        int length = recordBuffer.size();
+        if (HEADER_BYTES + length > segmentSize) {
+            throw new IOException("레코드가 세그먼트 크기보다 큽니다: " + length + " bytes");
+        }
+        if (buffer.remaining() < HEADER_BYTES + length) {
+            rollSegment();
+        }
+
+        crc.reset();
+        crc.update(recordBuffer.array(), 0, length);
+
+        buffer.putInt(length);
+        buffer.putInt((int) crc.getValue());
+        buffer.put(recordBuffer.array(), 0, length);
+        appendedRecords++;
+    }
+
+    /**
+     * 현재 세그먼트를 디스크에 동기화하고 다음 세그먼트로 교체
+     *
+     * @return 새 세그먼트 번호
+     */
+    public synchronized long rollSegment() throws IOException {
+        closeSegment();
+        openSegment(segmentSeq + 1);
+        return segmentSeq;
+    }
+
+    public synchronized long currentSegment() {
+        return segmentSeq;
+    }
+
+    public synchronized long appendedRecords() {
+        return appendedRecords;
+    }
+
+    // 페이지 캐시 내용을 디스크에 동기화
+    public synchronized void flush() {
+        if (buffer != null) {
+            buffer.force();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        closeSegment();
+        log.info("WAL 종료: 마지막 세그먼트={}, 누적 기록 수={}", segmentSeq, appendedRecords);
+    }
+
+    private void openSegment(long seq) throws IOException {
+        Path path = segmentPath(directory, seq);
+        channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        segmentSeq = seq;
+        log.debug("WAL 세그먼트 생성: {}", path);
+    }
+
+    private void closeSegment() throws IOException {
+        if (buffer != null) {
+            buffer.force();
+            buffer = null;
+        }
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    // ===== 복구 / 정리 =====
+
+    static Path segmentPath(Path directory, long seq) {
+        return directory.resolve(String.format("%s%019d%s", SEGMENT_PREFIX, seq, SEGMENT_SUFFIX));
+    }
+
+    // 디렉토리 내 세그먼트 번호 목록 (오름차순)
+    static List<Long> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+        List<Long> segments = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .forEach(name -> segments.add(Long.parseLong(
+                            name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()))));
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    // fromSeq 미만 세그먼트 삭제 (스냅샷에 반영 완료된 구간)
+    static void deleteSegmentsBefore(Path directory, long fromSeq) throws IOException {
+        for (Long seq : listSegments(directory)) {
+            if (seq < fromSeq) {
+                Files.deleteIfExists(segmentPath(directory, seq));
+            }
+        }
+    }
+
+    /**
+     * 세그먼트 하나를 저장소에 재적용
+     * CRC가 맞지 않는 레코드(비정상 종료 시 기록 중이던 꼬리)를 만나면 그 세그먼트의 재생을 멈춘다.
+     *
+     * @return 적용한 레코드 수
+     */
+    static long replay(Path segment, ApprovalRepository repository) throws IOException {
+        long applied = 0;
+        CRC32 checksum = new CRC32();
+
+        try (FileChannel readChannel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer in = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, readChannel.size());
+
+            while (in.remaining() >= HEADER_BYTES) {
+                int length = in.getInt();
+                if (length <= 0) {
+                    break; // 세그먼트 끝
+                }
+                int expectedCrc = in.getInt();
+                if (length > in.remaining()) {
+                    log.warn("WAL 레코드 잘림 감지 - 재생 중단: segment={}, applied={}", segment, applied);
+                    break;
+                }
+
+                byte[] record = new byte[length];
+                in.get(record);
+                checksum.reset();
+                checksum.update(record, 0, length);
+                if ((int) checksum.getValue() != expectedCrc) {
+                    log.warn("WAL CRC 불일치 - 재생 중단: segment={}, applied={}", segment, applied);
+                    break;
+                }
+
+                apply(record, repository);
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    private static void apply(byte[] record, ApprovalRepository repository) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+        byte type = in.readByte();
+
+        switch (type) {
+            case TYPE_SAVE -> repository.restore(ApprovalRecordCodec.readRequest(in));
+            case TYPE_DELETE -> repository.findByRequestId(in.readInt()).ifPresent(repository::delete);
+            case TYPE_CLEAR -> repository.deleteAll();
+            default -> throw new IOException("알 수 없는 WAL 레코드 타입: " + type);
+        }
+    }
+
+    // 내부 배열에 직접 접근하기 위한 ByteArrayOutputStream (복사 없이 CRC 계산/기록)
+    private static final class RecordBuffer extends ByteArrayOutputStream {
+        RecordBuffer() {
+            super(1024);
+        }
+
+        byte[] array() {
+            return buf;
+        }
+    }
+}
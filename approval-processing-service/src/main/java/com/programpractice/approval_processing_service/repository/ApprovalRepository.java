@@ -0,0 +1,104 @@
+package com.programpractice.approval_processing_service.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.programpractice.approval_processing_service.model.ApprovalRequest;
+import com.programpractice.approval_processing_service.model.ApprovalStatus;
+import com.programpractice.approval_processing_service.persistence.ApprovalJournal;
+
+/**
+ * 승인 요청 저장소
+ * approval.repository.type 설정으로 구현을 선택한다.
+ * - map (기본): InMemoryApprovalRepository - 객체를 그대로 보관
+ * - compact: CompactApprovalRepository - 원시 타입 배열로 압축 보관, 조회 시 객체로 복원
+ */
+public interface ApprovalRepository {
+
+    // 변경 기록 연결 (WAL 영속화)
+    void attachJournal(ApprovalJournal journal);
+
+    ApprovalRequest save(ApprovalRequest request);
+
+    // 복구 전용 저장 (변경 기록/건별 로그 생략)
+    void restore(ApprovalRequest request);
+
+    // 버전 비교 후 저장 (성공 시 version + 1)
+    boolean compareAndSave(ApprovalRequest updated, long expectedVersion);
+
+    /**
+     * 일괄 신규 저장 (이미 존재하는 requestId는 건너뜀)
+     *
+     * @return 실제로 저장된 요청 목록
+     */
+    List<ApprovalRequest> insertAll(List<ApprovalRequest> requests);
+
+    Optional<ApprovalRequest> findByRequestId(Integer requestId);
+
+    // 요청자의 가장 최근 요청 (requestId 최대)
+    default Optional<ApprovalRequest> findById(Long requesterId) {
+        List<ApprovalRequest> requests = findByRequesterId(requesterId);
+        return requests.isEmpty() ? Optional.empty() : Optional.of(requests.get(requests.size() - 1));
+    }
+
+    // 요청자의 보관 중인 요청 전체 (requestId 순, 최종 처리 건 포함) - 요청자 인덱스로 O(k)
+    List<ApprovalRequest> findByRequesterId(Long requesterId);
+
+    // 현재 단계 승인자가 approverId인 대기 건 전체 조회 ((createdAt, requestId) 순)
+    default List<ApprovalRequest> findPendingApprovalsByApproverId(Long approverId) {
+        return findPendingApprovalsByApproverId(approverId, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 현재 단계 승인자가 approverId인 대기 건을 (createdAt, requestId) 순으로
+     * after 이후(미포함) 최대 limit개 조회 (after가 null이면 처음부터)
+     */
+    List<ApprovalRequest> findPendingApprovalsByApproverId(Long approverId, InboxCursor after, int limit);
+
+    // 현재 단계 승인자가 approverId인 대기 건수
+    long countPendingApprovalsByApproverId(Long approverId);
+
+    List<ApprovalRequest> findAll();
+
+    boolean existsByRequestId(Integer requestId);
+
+    void delete(ApprovalRequest request);
+
+    void deleteAll();
+
+    long count();
+
+    // 최종 처리 건 추적기 (보존 정책용)
+    FinalizedTracker finalizedTracker();
+
+    /**
+     * 보존 정책에 따라 제거할 최종 처리 건을 처리 순서대로 최대 batchSize개 꺼낸다.
+     * - finalizedBefore 이전에 최종 처리된 건 (TTL 초과)
+     * - 또는 최종 처리 건수가 maxFinalized를 넘는 만큼 오래된 순
+     * 꺼낸 건은 추적 큐에서 빠지므로 호출 측에서 반드시 delete 해야 한다.
+     */
+    default List<ApprovalRequest> pollFinalizedCandidates(LocalDateTime finalizedBefore,
+                                                         long maxFinalized, int batchSize) {
+        FinalizedTracker tracker = finalizedTracker();
+        long excess = tracker.count() - maxFinalized;
+        List<ApprovalRequest> candidates = new ArrayList<>();
+
+        while (candidates.size() < batchSize) {
+            FinalizedTracker.Entry head = tracker.peek();
+            if (head == null) {
+                break;
+            }
+            boolean overCapacity = candidates.size() < excess;
+            if (!overCapacity && !head.finalizedAt().isBefore(finalizedBefore)) {
+                break;
+            }
+            tracker.poll();
+            findByRequestId(head.requestId())
+                    .filter(request -> request.getFinalStatus() != ApprovalStatus.PENDING)
+                    .ifPresent(candidates::add);
+        }
+        return candidates;
+    }
+}
@@ -0,0 +1,99 @@
+package com.programpractice.approval_processing_service.repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 승인자별 대기함 인덱스: approverId -> (createdAt, requestId) 순으로 정렬된 항목 집합
+ *
+ * 항목은 저장소가 보관하는 요청 객체(T) 자체를 넣어 별도 키 객체를 만들지 않는다.
+ * 커서 이후 limit개 조회는 대기 건수 k와 무관하게 O(log k + limit)이며,
+ * 건수는 집합 크기 대신 별도 카운터로 유지한다 (ConcurrentSkipListSet.size()는 O(k)).
+ * 같은 approverId에 대한 추가/제거는 ConcurrentHashMap.compute 안에서 직렬화된다.
+ */
+final class ApproverInboxIndex<T> {
+
+    private final Map<Long, Inbox<T>> inboxes = new ConcurrentHashMap<>();
+    private final Comparator<T> order;
+    private final Function<InboxCursor, T> probeFactory;
+
+    /**
+     * @param keyOf        항목의 정렬 키
+     * @param probeFactory 커서 위치 탐색용 임시 항목 생성 (정렬 키만 맞으면 됨)
+     */
+    ApproverInboxIndex(Function<T, InboxCursor> keyOf, Function<InboxCursor, T> probeFactory) {
+        this.order = Comparator.comparing(keyOf);
+        this.probeFactory = probeFactory;
+    }
+
+    void add(long approverId, T entry) {
+        inboxes.compute(approverId, (key, inbox) -> {
+            Inbox<T> target = inbox != null ? inbox : new Inbox<>(order);
+            if (target.entries.add(entry)) {
+                target.size++;
+            }
+            return target;
+        });
+    }
+
+    // 정렬 키가 같은 항목을 제거하며, 빈 대기함은 키째 제거한다
+    void remove(long approverId, T entry) {
+        inboxes.computeIfPresent(approverId, (key, inbox) -> {
+            if (inbox.entries.remove(entry)) {
+                inbox.size--;
+            }
+            return inbox.size == 0 ? null : inbox;
+        });
+    }
+
+    /**
+     * after 이후(미포함) 항목 중 filter를 통과한 것을 정렬 순서대로 최대 limit개 반환
+     * filter는 인덱스 갱신과 조회가 겹친 경우 오래된 항목을 걸러내는 데 사용한다.
+     */
+    <R> List<R> page(long approverId, InboxCursor after, int limit, Function<T, R> resolver, Predicate<R> filter) {
+        Inbox<T> inbox = inboxes.get(approverId);
+        if (inbox == null || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        NavigableSet<T> view = after != null
+                ? inbox.entries.tailSet(probeFactory.apply(after), false)
+                : inbox.entries;
+        List<R> result = new ArrayList<>(Math.min(limit, 256));
+        for (T entry : view) {
+            R resolved = resolver.apply(entry);
+            if (resolved != null && filter.test(resolved)) {
+                result.add(resolved);
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    int count(long approverId) {
+        Inbox<T> inbox = inboxes.get(approverId);
+        return inbox != null ? inbox.size : 0;
+    }
+
+    void clear() {
+        inboxes.clear();
+    }
+
+    private static final class Inbox<T> {
+        private final ConcurrentSkipListSet<T> entries;
+        private volatile int size;
+
+        private Inbox(Comparator<T> order) {
+            this.entries = new ConcurrentSkipListSet<>(order);
+        }
+    }
+}
@@ -0,0 +1,456 @@
+package com.programpractice.approval_processing_service.repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import com.programpractice.approval_processing_service.model.ApprovalRequest;
+import com.programpractice.approval_processing_service.model.ApprovalStatus;
+import com.programpractice.approval_processing_service.model.ApprovalStep;
+import com.programpractice.approval_processing_service.persistence.ApprovalJournal;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 원시 타입 압축 저장소 (approval.repository.type=compact)
+ *
+ * 요청 1건을 PackedRequest 객체 하나로 보관한다.
+ * - requestId 키: 박싱 없는 IntObjectHashMap (요청 ID 해시로 나눈 스트라이프별 잠금)
+ * - 단계 정보: long[] 하나에 (approverId, processedAt epoch-millis, step 번호 + 상태) 3칸씩 압축
+ * - 시각: epoch-millis (UTC 기준 변환, 밀리초 미만은 버림)
+ * - 승인자 인덱스: approverId -> (createdAt, requestId) 순으로 정렬된 PackedRequest 집합
+ * 서비스 계층에는 조회 시마다 새 ApprovalRequest를 복원해 전달하므로,
+ * 반환된 객체를 수정해도 저장소에는 영향이 없다 (반영은 save/compareAndSave로만).
+ */
+@Repository
+@ConditionalOnProperty(name = "approval.repository.type", havingValue = "compact")
+@Slf4j
+public class CompactApprovalRepository implements ApprovalRepository {
+
+    private static final int STRIPE_COUNT = 64;
+    private static final long NULL_LONG = Long.MIN_VALUE;
+    private static final int STEP_WIDTH = 3;
+    private static final ApprovalStatus[] STATUSES = ApprovalStatus.values();
+
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+
+    // approverId -> 현재 단계 승인자가 해당 approverId인 요청 (별도 키 객체 없이 PackedRequest를 그대로 정렬 보관)
+    private final ApproverInboxIndex<PackedRequest> approverIndex =
+            new ApproverInboxIndex<>(PackedRequest::inboxKey, PackedRequest::probe);
+    // requesterId -> requestId 집합 (키 수는 직원 수에 비례)
+    private final RequesterIndex requesterIndex = new RequesterIndex();
+
+    // 최종 처리 건 추적 (보존 정책 스위퍼용)
+    private final FinalizedTracker finalizedTracker = new FinalizedTracker();
+
+    private volatile ApprovalJournal journal = ApprovalJournal.NONE;
+
+    public CompactApprovalRepository() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    @Override
+    public void attachJournal(ApprovalJournal journal) {
+        this.journal = journal != null ? journal : ApprovalJournal.NONE;
+    }
+
+    @Override
+    public ApprovalRequest save(ApprovalRequest request) {
+        store(request, true);
+        log.debug("승인 요청 저장: id={}, requestId={}", request.getId(), request.getRequestId());
+        return request;
+    }
+
+    @Override
+    public void restore(ApprovalRequest request) {
+        store(request, false);
+    }
+
+    private void store(ApprovalRequest request, boolean journaled) {
+        int requestId = request.getRequestId();
+        PackedRequest packed = PackedRequest.pack(request);
+        Stripe stripe = stripeOf(requestId);
+
+        synchronized (stripe) {
+            if (journaled) {
+                journal.appendSave(request);
+            }
+            PackedRequest previous = stripe.records.put(requestId, packed);
+            reindexApprover(requestId, previous, packed);
+            reindexRequester(requestId, previous, packed);
+            trackFinalization(requestId, previous, packed);
+        }
+    }
+
+    /**
+     * 일괄 신규 저장 (배치 리스너)
+     * 같은 스트라이프에 속한 요청끼리 묶어 스트라이프당 한 번만 잠근다.
+     */
+    @Override
+    public List<ApprovalRequest> insertAll(List<ApprovalRequest> requests) {
+        Map<Stripe, List<ApprovalRequest>> byStripe = new IdentityHashMap<>();
+        for (ApprovalRequest request : requests) {
+            byStripe.computeIfAbsent(stripeOf(request.getRequestId()), key -> new ArrayList<>()).add(request);
+        }
+
+        List<ApprovalRequest> inserted = new ArrayList<>(requests.size());
+        for (Map.Entry<Stripe, List<ApprovalRequest>> entry : byStripe.entrySet()) {
+            Stripe stripe = entry.getKey();
+            synchronized (stripe) {
+                for (ApprovalRequest request : entry.getValue()) {
+                    int requestId = request.getRequestId();
+                    if (stripe.records.get(requestId) != null) {
+                        continue;
+                    }
+                    PackedRequest packed = PackedRequest.pack(request);
+                    journal.appendSave(request);
+                    stripe.records.put(requestId, packed);
+                    reindexApprover(requestId, null, packed);
+                    reindexRequester(requestId, null, packed);
+                    trackFinalization(requestId, null, packed);
+                    inserted.add(request);
+                }
+            }
+        }
+
+        log.debug("승인 요청 일괄 저장: 요청={}, 저장={}", requests.size(), inserted.size());
+        return inserted;
+    }
+
+    @Override
+    public boolean compareAndSave(ApprovalRequest updated, long expectedVersion) {
+        int requestId = updated.getRequestId();
+        Stripe stripe = stripeOf(requestId);
+        PackedRequest packed;
+
+        synchronized (stripe) {
+            PackedRequest current = stripe.records.get(requestId);
+            if (current == null || current.version != expectedVersion) {
+                return false;
+            }
+            updated.setVersion(expectedVersion + 1);
+            packed = PackedRequest.pack(updated);
+            journal.appendSave(updated);
+            stripe.records.put(requestId, packed);
+            reindexApprover(requestId, current, packed);
+            reindexRequester(requestId, current, packed);
+            trackFinalization(requestId, current, packed);
+        }
+        log.debug("승인 요청 갱신: requestId={}, version={}", requestId, packed.version);
+        return true;
+    }
+
+    @Override
+    public Optional<ApprovalRequest> findByRequestId(Integer requestId) {
+        PackedRequest packed = get(requestId);
+        return packed != null ? Optional.of(packed.unpack()) : Optional.empty();
+    }
+
+    @Override
+    public List<ApprovalRequest> findByRequesterId(Long requesterId) {
+        int[] requestIds = requesterIndex.requestIds(requesterId);
+        List<ApprovalRequest> result = new ArrayList<>(requestIds.length);
+        for (int requestId : requestIds) {
+            PackedRequest packed = get(requestId);
+            // 인덱스 조회 직후 삭제/요청자 변경된 건 제외
+            if (packed != null && packed.requesterId == requesterId) {
+                result.add(packed.unpack());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<ApprovalRequest> findPendingApprovalsByApproverId(Long approverId, InboxCursor after, int limit) {
+        // 인덱스 항목은 갱신 직전 값일 수 있으므로 스트라이프에서 최신 값을 다시 읽어 확인
+        List<PackedRequest> page = approverIndex.page(approverId, after, limit,
+                entry -> get(entry.requestId),
+                packed -> packed.currentApproverId() == approverId);
+
+        List<ApprovalRequest> result = new ArrayList<>(page.size());
+        for (PackedRequest packed : page) {
+            result.add(packed.unpack());
+        }
+        return result;
+    }
+
+    @Override
+    public long countPendingApprovalsByApproverId(Long approverId) {
+        return approverIndex.count(approverId);
+    }
+
+    @Override
+    public List<ApprovalRequest> findAll() {
+        List<PackedRequest> packedRequests = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.records.forEachValue(packedRequests::add);
+            }
+        }
+
+        List<ApprovalRequest> result = new ArrayList<>(packedRequests.size());
+        for (PackedRequest packed : packedRequests) {
+            result.add(packed.unpack());
+        }
+        return result;
+    }
+
+    @Override
+    public boolean existsByRequestId(Integer requestId) {
+        return get(requestId) != null;
+    }
+
+    @Override
+    public void delete(ApprovalRequest request) {
+        int requestId = request.getRequestId();
+        Stripe stripe = stripeOf(requestId);
+
+        synchronized (stripe) {
+            if (stripe.records.get(requestId) == null) {
+                return;
+            }
+            journal.appendDelete(requestId);
+            PackedRequest removed = stripe.records.remove(requestId);
+            reindexApprover(requestId, removed, null);
+            reindexRequester(requestId, removed, null);
+            trackFinalization(requestId, removed, null);
+        }
+        log.debug("승인 요청 삭제: id={}, requestId={}", request.getId(), requestId);
+    }
+
+    @Override
+    public void deleteAll() {
+        journal.appendClear();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.records.clear();
+            }
+        }
+        approverIndex.clear();
+        requesterIndex.clear();
+        finalizedTracker.clear();
+        log.info("모든 승인 요청 삭제");
+    }
+
+    @Override
+    public long count() {
+        long count = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                count += stripe.records.size();
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public FinalizedTracker finalizedTracker() {
+        return finalizedTracker;
+    }
+
+    private void trackFinalization(int requestId, PackedRequest previous, PackedRequest next) {
+        finalizedTracker.transition(requestId,
+                previous != null && previous.isFinalized(),
+                next != null && next.isFinalized(),
+                next != null ? toDateTime(next.updatedAt) : null);
+    }
+
+    private PackedRequest get(int requestId) {
+        Stripe stripe = stripeOf(requestId);
+        synchronized (stripe) {
+            return stripe.records.get(requestId);
+        }
+    }
+
+    private Stripe stripeOf(int requestId) {
+        return stripes[IntObjectHashMap.mix(requestId) & (STRIPE_COUNT - 1)];
+    }
+
+    // 스트라이프 잠금 안에서 호출 (잠금 순서: 스트라이프 -> 승인자 대기함)
+    private void reindexApprover(int requestId, PackedRequest previous, PackedRequest next) {
+        long oldApproverId = previous != null ? previous.currentApproverId() : NULL_LONG;
+        long newApproverId = next != null ? next.currentApproverId() : NULL_LONG;
+        boolean sameKey = previous == null || next == null || previous.createdAt == next.createdAt;
+        if (oldApproverId == newApproverId && sameKey) {
+            return;
+        }
+
+        if (oldApproverId != NULL_LONG) {
+            approverIndex.remove(oldApproverId, previous);
+        }
+        if (newApproverId != NULL_LONG) {
+            approverIndex.add(newApproverId, next);
+        }
+    }
+
+    // 스트라이프 잠금 안에서 호출 (잠금 순서: 스트라이프 -> 요청자 항목)
+    private void reindexRequester(int requestId, PackedRequest previous, PackedRequest next) {
+        Long previousRequesterId = previous != null ? toBoxed(previous.requesterId) : null;
+        if (next == null) {
+            requesterIndex.remove(previousRequesterId, requestId);
+        } else {
+            requesterIndex.move(previousRequesterId, toBoxed(next.requesterId), requestId);
+        }
+    }
+
+    private static final class Stripe {
+        private final IntObjectHashMap<PackedRequest> records = new IntObjectHashMap<>();
+    }
+
+    /**
+     * 압축된 승인 요청 (불변)
+     * steps: 단계마다 [approverId, processedAt(epoch-millis), (step 번호 << 8) | 상태] 3칸
+     */
+    private static final class PackedRequest {
+        private final int requestId;
+        private final long requesterId;
+        private final long version;
+        private final int currentStepOrder;
+        private final byte finalStatus;
+        private final long createdAt;
+        private final long updatedAt;
+        private final String id;
+        private final String title;
+        private final String content;
+        private final long[] steps;
+        private final String[] comments; // 코멘트가 하나도 없으면 null
+
+        // 승인자 대기함 탐색용 임시 객체 (정렬 키만 채움)
+        private PackedRequest(int requestId, long createdAt) {
+            this.requestId = requestId;
+            this.requesterId = NULL_LONG;
+            this.version = 0L;
+            this.currentStepOrder = 0;
+            this.finalStatus = 0;
+            this.createdAt = createdAt;
+            this.updatedAt = NULL_LONG;
+            this.id = null;
+            this.title = null;
+            this.content = null;
+            this.steps = new long[0];
+            this.comments = null;
+        }
+
+        static PackedRequest probe(InboxCursor cursor) {
+            return new PackedRequest(cursor.requestId(), cursor.createdAt());
+        }
+
+        InboxCursor inboxKey() {
+            return new InboxCursor(createdAt, requestId);
+        }
+
+        private PackedRequest(ApprovalRequest request, long[] steps, String[] comments) {
+            this.requestId = request.getRequestId();
+            this.requesterId = toLong(request.getRequesterId());
+            this.version = request.getVersion() != null ? request.getVersion() : 0L;
+            this.currentStepOrder = request.getCurrentStepOrder();
+            this.finalStatus = (byte) request.getFinalStatus().ordinal();
+            this.createdAt = toMillis(request.getCreatedAt());
+            this.updatedAt = toMillis(request.getUpdatedAt());
+            this.id = request.getId();
+            this.title = request.getTitle();
+            this.content = request.getContent();
+            this.steps = steps;
+            this.comments = comments;
+        }
+
+        static PackedRequest pack(ApprovalRequest request) {
+            List<ApprovalStep> stepList = request.getSteps();
+            long[] steps = new long[stepList.size() * STEP_WIDTH];
+            String[] comments = null;
+
+            for (int i = 0; i < stepList.size(); i++) {
+                ApprovalStep step = stepList.get(i);
+                int base = i * STEP_WIDTH;
+                steps[base] = toLong(step.getApproverId());
+                steps[base + 1] = toMillis(step.getProcessedAt());
+                steps[base + 2] = ((long) step.getStep() << 8) | step.getStatus().ordinal();
+
+                if (step.getComment() != null) {
+                    if (comments == null) {
+                        comments = new String[stepList.size()];
+                    }
+                    comments[i] = step.getComment();
+                }
+            }
+            return new PackedRequest(request, steps, comments);
+        }
+
+        ApprovalRequest unpack() {
+            int stepCount = steps.length / STEP_WIDTH;
+            List<ApprovalStep> stepList = new ArrayList<>(stepCount);
+            for (int i = 0; i < stepCount; i++) {
+                int base = i * STEP_WIDTH;
+                stepList.add(ApprovalStep.builder()
+                        .step((int) (steps[base + 2] >>> 8))
+                        .approverId(toBoxed(steps[base]))
+                        .status(STATUSES[(int) (steps[base + 2] & 0xFF)])
+                        .comment(comments != null ? comments[i] : null)
+                        .processedAt(toDateTime(steps[base + 1]))
+                        .build());
+            }
+
+            return ApprovalRequest.builder()
+                    .id(id)
+                    .requestId(requestId)
+                    .requesterId(toBoxed(requesterId))
+                    .title(title)
+                    .content(content)
+                    .steps(stepList)
+                    .currentStepOrder(currentStepOrder)
+                    .finalStatus(STATUSES[finalStatus])
+                    .createdAt(toDateTime(createdAt))
+                    .updatedAt(toDateTime(updatedAt))
+                    .version(version)
+                    .build();
+        }
+
+        boolean isFinalized() {
+            return STATUSES[finalStatus] != ApprovalStatus.PENDING;
+        }
+
+        // 현재 처리 대기 단계의 승인자 (없으면 NULL_LONG) - ApprovalRequest.getCurrentStep과 같은 규칙
+        long currentApproverId() {
+            if (STATUSES[finalStatus] != ApprovalStatus.PENDING) {
+                return NULL_LONG;
+            }
+            int index = currentStepOrder - 1;
+            if (index < 0 || index >= steps.length / STEP_WIDTH) {
+                return NULL_LONG;
+            }
+            int base = index * STEP_WIDTH;
+            if (STATUSES[(int) (steps[base + 2] & 0xFF)] != ApprovalStatus.PENDING) {
+                return NULL_LONG;
+            }
+            return steps[base];
+        }
+    }
+
+    private static long toLong(Long value) {
+        return value != null ? value : NULL_LONG;
+    }
+
+    private static Long toBoxed(long value) {
+        return value != NULL_LONG ? value : null;
+    }
+
+    private static long toMillis(LocalDateTime value) {
+        return value != null ? value.toInstant(ZoneOffset.UTC).toEpochMilli() : NULL_LONG;
+    }
+
+    private static LocalDateTime toDateTime(long millis) {
+        return millis != NULL_LONG
+                ? LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000),
+                        (int) Math.floorMod(millis, 1000) * 1_000_000, ZoneOffset.UTC)
+                : null;
+    }
+}
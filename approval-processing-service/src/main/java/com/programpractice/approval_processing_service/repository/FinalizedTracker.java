@@ -0,0 +1,60 @@
+package com.programpractice.approval_processing_service.repository;
+
+import java.time.LocalDateTime;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 최종 처리(APPROVED/REJECTED)된 요청 추적
+ * 저장소가 상태 전이 시점에 호출하며, 보존 정책 스위퍼가 처리 순서대로 꺼내 간다.
+ * 큐에는 이미 삭제된 항목이 남아 있을 수 있으므로 꺼낸 뒤 저장소에서 다시 확인해야 한다.
+ */
+public final class FinalizedTracker {
+
+    public record Entry(int requestId, LocalDateTime finalizedAt) {
+    }
+
+    private final Queue<Entry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicLong finalizedCount = new AtomicLong();
+
+    /**
+     * 저장/삭제 시 상태 전이 반영 (같은 requestId에 대해서는 저장소 잠금 안에서 호출)
+     */
+    public void transition(int requestId, boolean wasFinalized, boolean isFinalized, LocalDateTime finalizedAt) {
+        if (wasFinalized == isFinalized) {
+            return;
+        }
+        if (isFinalized) {
+            finalizedCount.incrementAndGet();
+            queue.add(new Entry(requestId, finalizedAt != null ? finalizedAt : LocalDateTime.now()));
+        } else {
+            finalizedCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * 꺼냈지만 제거하지 못한 항목을 다시 추적 (건수는 그대로)
+     */
+    public void requeue(int requestId, LocalDateTime finalizedAt) {
+        queue.add(new Entry(requestId, finalizedAt != null ? finalizedAt : LocalDateTime.now()));
+    }
+
+    // 저장소에 남아 있는 최종 처리 건수
+    public long count() {
+        return finalizedCount.get();
+    }
+
+    public Entry peek() {
+        return queue.peek();
+    }
+
+    public Entry poll() {
+        return queue.poll();
+    }
+
+    public void clear() {
+        queue.clear();
+        finalizedCount.set(0);
+    }
+}
@@ -5,86 +5,288 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
 import lombok.extern.slf4j.Slf4j;
 
 import com.programpractice.approval_processing_service.model.ApprovalRequest;
 import com.programpractice.approval_processing_service.model.ApprovalStatus;
+import com.programpractice.approval_processing_service.model.ApprovalStep;
+import com.programpractice.approval_processing_service.persistence.ApprovalJournal;
 
-// Map 기반 In-Memory 방식 승인 요청 저장소
+// Map 기반 In-Memory 방식 승인 요청 저장소 (approval.repository.type=map, 기본값)
 @Repository
+@ConditionalOnProperty(name = "approval.repository.type", havingValue = "map", matchIfMissing = true)
 @Slf4j
-public class InMemoryApprovalRepository {
+public class InMemoryApprovalRepository implements ApprovalRepository {
     
     // Thread-Safe한 Map 사용
     private final Map<Integer, ApprovalRequest> requestIdMap = new ConcurrentHashMap<>();
-    private final Map<Long, ApprovalRequest> idMap = new ConcurrentHashMap<>(); // requesterId 매핑용
+    // 요청자 인덱스: requesterId -> requestId 집합
+    private final RequesterIndex requesterIndex = new RequesterIndex();
 
+    // 현재 승인자 인덱스: approverId -> 현재 단계 승인자가 해당 approverId인 요청 ((createdAt, requestId) 순)
+    private final ApproverInboxIndex<ApprovalRequest> approverIndex = new ApproverInboxIndex<>(
+            InboxCursor::of,
+            cursor -> ApprovalRequest.builder()
+                    .requestId(cursor.requestId())
+                    .createdAt(InboxCursor.toDateTime(cursor.createdAt()))
+                    .build());
+    // 역방향 매핑: requestId -> 인덱스에 등록된 현재 승인자 (재색인 시 이전 항목 제거용)
+    private final Map<Integer, Long> currentApproverMap = new ConcurrentHashMap<>();
+
+    // 최종 처리 건 추적 (보존 정책 스위퍼용)
+    private final FinalizedTracker finalizedTracker = new FinalizedTracker();
+
+    // 변경 기록 (WAL 영속화 활성 시 ApprovalPersistenceManager가 연결)
+    private volatile ApprovalJournal journal = ApprovalJournal.NONE;
+
+    /**
+     * 변경 기록 연결
+     * 모든 저장/삭제는 맵에 반영되기 직전에 기록되며, 기록 실패 시 변경은 반영되지 않는다.
+     */
+    @Override
+    public void attachJournal(ApprovalJournal journal) {
+        this.journal = journal != null ? journal : ApprovalJournal.NONE;
+    }
+
+    /**
+     * 저장 (신규 저장 및 moveToNextStep / updateFinalStatus 이후 재저장 모두 포함)
+     * 저장 시점의 현재 단계 기준으로 승인자 인덱스를 갱신
+     */
+    @Override
     public ApprovalRequest save(ApprovalRequest request) {
 
-        requestIdMap.put(request.getRequestId(), request);
-        idMap.put(request.getRequesterId(), request);
+        // 같은 requestId에 대한 저장/재색인은 compute 내부에서 직렬화
+        requestIdMap.compute(request.getRequestId(), (key, current) -> {
+            journal.appendSave(request);
+            reindexApprover(current, request);
+            reindexRequester(current, request);
+            trackFinalization(key, current, request);
+            return request;
+        });
     
         log.debug("승인 요청 저장: id={}, requestId={}", request.getId(), request.getRequestId());
         return request;
     }
 
+    /**
+     * 복구 전용 저장 (스냅샷 적재 / WAL 재생)
+     * 변경 기록과 건별 로그를 생략한다.
+     */
+    @Override
+    public void restore(ApprovalRequest request) {
+        requestIdMap.compute(request.getRequestId(), (key, current) -> {
+            reindexApprover(current, request);
+            reindexRequester(current, request);
+            trackFinalization(key, current, request);
+            return request;
+        });
+    }
+
+    /**
+     * 일괄 신규 저장 (배치 리스너)
+     * 이미 존재하는 requestId는 덮어쓰지 않고 건너뛴다.
+     */
+    @Override
+    public List<ApprovalRequest> insertAll(List<ApprovalRequest> requests) {
+        List<ApprovalRequest> inserted = new ArrayList<>(requests.size());
+
+        for (ApprovalRequest request : requests) {
+            boolean[] added = {false};
+            requestIdMap.compute(request.getRequestId(), (key, current) -> {
+                if (current != null) {
+                    return current;
+                }
+                journal.appendSave(request);
+                reindexApprover(null, request);
+                reindexRequester(null, request);
+                trackFinalization(key, null, request);
+                added[0] = true;
+                return request;
+            });
+            if (added[0]) {
+                inserted.add(request);
+            }
+        }
+
+        log.debug("승인 요청 일괄 저장: 요청={}, 저장={}", requests.size(), inserted.size());
+        return inserted;
+    }
+
+    /**
+     * 버전 비교 후 저장 (Compare-And-Swap)
+     * 저장소의 현재 버전이 expectedVersion과 같을 때만 updated로 교체하고 버전을 1 증가시킨다.
+     * 다른 요청과는 잠금을 공유하지 않으므로 서로 다른 requestId의 처리는 블로킹되지 않는다.
+     *
+     * @return 교체 성공 여부 (false면 그 사이에 다른 결정이 먼저 반영된 것)
+     */
+    @Override
+    public boolean compareAndSave(ApprovalRequest updated, long expectedVersion) {
+        boolean[] swapped = {false};
+
+        requestIdMap.computeIfPresent(updated.getRequestId(), (key, current) -> {
+            if (current.getVersion() != expectedVersion) {
+                return current;
+            }
+            updated.setVersion(expectedVersion + 1);
+            journal.appendSave(updated);
+            reindexApprover(current, updated);
+            reindexRequester(current, updated);
+            trackFinalization(key, current, updated);
+            swapped[0] = true;
+            return updated;
+        });
+
+        if (swapped[0]) {
+            log.debug("승인 요청 갱신: requestId={}, version={}", updated.getRequestId(), updated.getVersion());
+        }
+        return swapped[0];
+    }
+
     // requestId로 조회
+    @Override
     public Optional<ApprovalRequest> findByRequestId(Integer requestId) {
         ApprovalRequest request = requestIdMap.get(requestId);
         return Optional.ofNullable(request);
     }
     
-    // ID로 조회
-    public Optional<ApprovalRequest> findById(Long requesterId) {
-        ApprovalRequest request = idMap.get(requesterId);
-        return Optional.ofNullable(request);
+    // requesterId로 조회 (요청자 인덱스, O(k))
+    @Override
+    public List<ApprovalRequest> findByRequesterId(Long requesterId) {
+        int[] requestIds = requesterIndex.requestIds(requesterId);
+        List<ApprovalRequest> result = new ArrayList<>(requestIds.length);
+        for (int requestId : requestIds) {
+            ApprovalRequest request = requestIdMap.get(requestId);
+            // 인덱스 조회 직후 삭제/요청자 변경된 건 제외
+            if (request != null && requesterId.equals(request.getRequesterId())) {
+                result.add(request);
+            }
+        }
+        return result;
     }
     
-    // approverId로 대기 중인 승인 건 조회
-    public List<ApprovalRequest> findPendingApprovalsByApproverId(Long approverId) {
-        return requestIdMap.values().stream()
-                .filter(request -> request.getSteps().stream()
-                        .anyMatch(step -> 
-                                step.getApproverId().equals(approverId) && 
-                                step.getStatus() == ApprovalStatus.PENDING))
-                .collect(Collectors.toList());
+    /**
+     * approverId로 대기 중인 승인 건 조회 (커서 페이지)
+     * 전체 스캔 대신 정렬된 승인자 인덱스를 사용하므로 대기 건수와 무관하게 O(log k + limit)
+     * 현재 단계의 승인자가 approverId인 건만 반환
+     */
+    @Override
+    public List<ApprovalRequest> findPendingApprovalsByApproverId(Long approverId, InboxCursor after, int limit) {
+        // 인덱스 갱신과 조회가 겹치는 경우를 대비해 최신 객체로 현재 단계를 한 번 더 확인
+        return approverIndex.page(approverId, after, limit,
+                entry -> requestIdMap.get(entry.getRequestId()),
+                request -> approverId.equals(currentApproverOf(request)));
+    }
+
+    @Override
+    public long countPendingApprovalsByApproverId(Long approverId) {
+        return approverIndex.count(approverId);
     }
     
     // 전체 조회
     
+    @Override
     public List<ApprovalRequest> findAll() {
         return new ArrayList<>(requestIdMap.values());
     }
     
     // 존재 여부 확인
     
+    @Override
     public boolean existsByRequestId(Integer requestId) {
         return requestIdMap.containsKey(requestId);
     }
     
     // 삭제
     
+    @Override
     public void delete(ApprovalRequest request) {
-        requestIdMap.remove(request.getRequestId());
-        idMap.remove(request.getRequesterId());
+        requestIdMap.computeIfPresent(request.getRequestId(), (key, current) -> {
+            journal.appendDelete(key);
+            unindexApprover(current);
+            requesterIndex.remove(current.getRequesterId(), key);
+            trackFinalization(key, current, null);
+            return null;
+        });
         log.debug("승인 요청 삭제: id={}, requestId={}", request.getId(), request.getRequestId());
     }
     
     // 전체 삭제 (테스트용)
     
+    @Override
     public void deleteAll() {
+        journal.appendClear();
         requestIdMap.clear();
-        idMap.clear();
+        requesterIndex.clear();
+        approverIndex.clear();
+        currentApproverMap.clear();
+        finalizedTracker.clear();
         log.info("모든 승인 요청 삭제");
     }
     
     // 개수 조회
     
+    @Override
     public long count() {
         return requestIdMap.size();
-    }    
+    }
+
+    @Override
+    public FinalizedTracker finalizedTracker() {
+        return finalizedTracker;
+    }
+
+    private void trackFinalization(Integer requestId, ApprovalRequest previous, ApprovalRequest next) {
+        finalizedTracker.transition(requestId,
+                previous != null && previous.getFinalStatus() != ApprovalStatus.PENDING,
+                next != null && next.getFinalStatus() != ApprovalStatus.PENDING,
+                next != null ? next.getUpdatedAt() : null);
+    }
+
+    /**
+     * 현재 단계 승인자 기준으로 인덱스 갱신
+     * - 다음 단계로 이동한 경우: 이전 승인자에서 제거 후 새 승인자에 등록
+     * - 최종 승인/반려된 경우: 인덱스에서 제거
+     */
+    private void reindexApprover(ApprovalRequest previous, ApprovalRequest request) {
+        Integer requestId = request.getRequestId();
+        Long newApproverId = currentApproverOf(request);
+
+        Long oldApproverId = newApproverId != null
+                ? currentApproverMap.put(requestId, newApproverId)
+                : currentApproverMap.remove(requestId);
+
+        boolean sameKey = previous == null || InboxCursor.of(previous).equals(InboxCursor.of(request));
+        if (oldApproverId != null && (!oldApproverId.equals(newApproverId) || !sameKey)) {
+            approverIndex.remove(oldApproverId, previous != null ? previous : request);
+        }
+        if (newApproverId != null) {
+            approverIndex.add(newApproverId, request);
+        }
+    }
+
+    // requestId 단위 compute 안에서 호출
+    private void reindexRequester(ApprovalRequest previous, ApprovalRequest request) {
+        requesterIndex.move(previous != null ? previous.getRequesterId() : null,
+                request.getRequesterId(), request.getRequestId());
+    }
+
+    private void unindexApprover(ApprovalRequest current) {
+        Long approverId = currentApproverMap.remove(current.getRequestId());
+        if (approverId != null) {
+            approverIndex.remove(approverId, current);
+        }
+    }
+
+    // 현재 처리 대기 중인 단계의 승인자 (최종 처리된 건은 null)
+    private Long currentApproverOf(ApprovalRequest request) {
+        ApprovalStep currentStep = request.getCurrentStep();
+        if (currentStep == null || currentStep.getStatus() != ApprovalStatus.PENDING) {
+            return null;
+        }
+        return currentStep.getApproverId();
+    }
 }
@@ -0,0 +1,68 @@
+package com.programpractice.approval_processing_service.repository;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import com.programpractice.approval_processing_service.model.ApprovalRequest;
+
+/**
+ * 승인 대기함 정렬 키 / 페이지 커서
+ * (createdAt epoch-millis, requestId) 순으로 정렬하며, createdAt이 없으면 가장 앞에 둔다.
+ * 외부에는 12바이트를 URL-safe Base64로 인코딩한 문자열로 노출한다.
+ */
+public record InboxCursor(long createdAt, int requestId) implements Comparable<InboxCursor> {
+
+    private static final long NO_TIME = Long.MIN_VALUE;
+    private static final int ENCODED_BYTES = Long.BYTES + Integer.BYTES;
+
+    public static InboxCursor of(ApprovalRequest request) {
+        return of(request.getCreatedAt(), request.getRequestId());
+    }
+
+    public static InboxCursor of(LocalDateTime createdAt, int requestId) {
+        return new InboxCursor(toMillis(createdAt), requestId);
+    }
+
+    // CompactApprovalRepository와 같은 변환 규칙 (UTC 기준, 밀리초 미만 버림)
+    static long toMillis(LocalDateTime value) {
+        return value != null ? value.toInstant(ZoneOffset.UTC).toEpochMilli() : NO_TIME;
+    }
+
+    static LocalDateTime toDateTime(long millis) {
+        return millis != NO_TIME
+                ? LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000),
+                        (int) Math.floorMod(millis, 1000) * 1_000_000, ZoneOffset.UTC)
+                : null;
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES);
+        buffer.putLong(createdAt).putInt(requestId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static InboxCursor decode(String encoded) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(encoded);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + encoded);
+        }
+        if (bytes.length != ENCODED_BYTES) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + encoded);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new InboxCursor(buffer.getLong(), buffer.getInt());
+    }
+
+    @Override
+    public int compareTo(InboxCursor other) {
+        int byTime = Long.compare(createdAt, other.createdAt);
+        return byTime != 0 ? byTime : Integer.compare(requestId, other.requestId);
+    }
+}
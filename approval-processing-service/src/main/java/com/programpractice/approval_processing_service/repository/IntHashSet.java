@@ -0,0 +1,124 @@
+package com.programpractice.approval_processing_service.repository;
+
+/**
+ * int 전용 Open Addressing 해시셋 (Set&lt;Integer&gt; 대체)
+ * IntObjectHashMap과 같은 탐사/삭제 방식을 사용하며, 동기화는 호출 측 책임이다.
+ */
+final class IntHashSet {
+
+    private static final int MIN_CAPACITY = 8;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private int[] keys;
+    private boolean[] used;
+    private int size;
+    private int resizeThreshold;
+
+    IntHashSet() {
+        allocate(MIN_CAPACITY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(int key) {
+        int mask = keys.length - 1;
+        for (int i = IntObjectHashMap.mix(key) & mask; used[i]; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean add(int key) {
+        if (size >= resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        int mask = keys.length - 1;
+        int i = IntObjectHashMap.mix(key) & mask;
+        while (used[i]) {
+            if (keys[i] == key) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        used[i] = true;
+        size++;
+        return true;
+    }
+
+    boolean remove(int key) {
+        int mask = keys.length - 1;
+        int i = IntObjectHashMap.mix(key) & mask;
+        while (used[i]) {
+            if (keys[i] == key) {
+                shiftBack(i, mask);
+                size--;
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    // 현재 원소를 배열로 복사 (잠금 밖에서 순회하기 위함)
+    int[] toArray() {
+        int[] result = new int[size];
+        int n = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) {
+                result[n++] = keys[i];
+            }
+        }
+        return result;
+    }
+
+    private void shiftBack(int gap, int mask) {
+        int j = gap;
+        while (true) {
+            j = (j + 1) & mask;
+            if (!used[j]) {
+                break;
+            }
+            int home = IntObjectHashMap.mix(keys[j]) & mask;
+            boolean movable = gap <= j
+                    ? (home <= gap || home > j)
+                    : (home <= gap && home > j);
+            if (movable) {
+                keys[gap] = keys[j];
+                gap = j;
+            }
+        }
+        used[gap] = false;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        boolean[] oldUsed = used;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int k = 0; k < oldKeys.length; k++) {
+            if (oldUsed[k]) {
+                int i = IntObjectHashMap.mix(oldKeys[k]) & mask;
+                while (used[i]) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[k];
+                used[i] = true;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        used = new boolean[capacity];
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+}
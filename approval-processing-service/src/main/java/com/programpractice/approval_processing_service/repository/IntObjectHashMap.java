@@ -0,0 +1,143 @@
+package com.programpractice.approval_processing_service.repository;
+
+import java.util.function.Consumer;
+
+/**
+ * int 키 전용 Open Addressing 해시맵 (박싱 없는 Integer 키 대체)
+ * 선형 탐사 + 삭제 시 backward-shift 방식으로 tombstone을 남기지 않는다.
+ * 동기화하지 않으므로 호출 측에서 잠금을 보장해야 한다.
+ */
+final class IntObjectHashMap<V> {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private int[] keys;
+    private Object[] values; // null = 빈 칸
+    private int size;
+    private int resizeThreshold;
+
+    IntObjectHashMap() {
+        allocate(MIN_CAPACITY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(int key) {
+        int mask = keys.length - 1;
+        for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+            Object value = values[i];
+            if (value == null) {
+                return null;
+            }
+            if (keys[i] == key) {
+                return (V) value;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    V put(int key, V value) {
+        if (size >= resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        int mask = keys.length - 1;
+        for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+            Object existing = values[i];
+            if (existing == null) {
+                keys[i] = key;
+                values[i] = value;
+                size++;
+                return null;
+            }
+            if (keys[i] == key) {
+                values[i] = value;
+                return (V) existing;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    V remove(int key) {
+        int mask = keys.length - 1;
+        int i = mix(key) & mask;
+        while (true) {
+            Object value = values[i];
+            if (value == null) {
+                return null;
+            }
+            if (keys[i] == key) {
+                shiftBack(i, mask);
+                size--;
+                return (V) value;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    void clear() {
+        allocate(MIN_CAPACITY);
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    void forEachValue(Consumer<V> action) {
+        for (Object value : values) {
+            if (value != null) {
+                action.accept((V) value);
+            }
+        }
+    }
+
+    // 삭제된 칸 뒤의 클러스터를 앞으로 당겨 탐사 체인을 유지
+    private void shiftBack(int gap, int mask) {
+        int j = gap;
+        while (true) {
+            j = (j + 1) & mask;
+            if (values[j] == null) {
+                break;
+            }
+            int home = mix(keys[j]) & mask;
+            boolean movable = gap <= j
+                    ? (home <= gap || home > j)
+                    : (home <= gap && home > j);
+            if (movable) {
+                keys[gap] = keys[j];
+                values[gap] = values[j];
+                gap = j;
+            }
+        }
+        values[gap] = null;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int k = 0; k < oldValues.length; k++) {
+            if (oldValues[k] != null) {
+                int i = mix(oldKeys[k]) & mask;
+                while (values[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[k];
+                values[i] = oldValues[k];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,74 @@
+package com.programpractice.approval_processing_service.repository;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청자 인덱스: requesterId -> 해당 요청자의 requestId 집합 (IntHashSet)
+ *
+ * 같은 요청자의 요청이 여러 건이어도 덮어쓰지 않고 모두 보관하며,
+ * 마지막 요청이 빠지면 요청자 항목도 제거한다.
+ * 집합 변경과 조회는 ConcurrentHashMap의 키 단위 compute 안에서만 수행하므로
+ * 서로 다른 요청자끼리는 블로킹되지 않는다.
+ * 저장소는 requestId 단위 잠금 안에서 호출해 같은 요청의 추가/이동/제거 순서를 보장한다.
+ */
+final class RequesterIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Map<Long, IntHashSet> requesters = new ConcurrentHashMap<>();
+
+    void add(Long requesterId, int requestId) {
+        if (requesterId == null) {
+            return;
+        }
+        requesters.compute(requesterId, (key, requestIds) -> {
+            IntHashSet set = requestIds != null ? requestIds : new IntHashSet();
+            set.add(requestId);
+            return set;
+        });
+    }
+
+    void remove(Long requesterId, int requestId) {
+        if (requesterId == null) {
+            return;
+        }
+        requesters.computeIfPresent(requesterId, (key, requestIds) -> {
+            requestIds.remove(requestId);
+            return requestIds.isEmpty() ? null : requestIds;
+        });
+    }
+
+    // 저장 시 요청자가 바뀐 경우 이전 요청자에서 제거 (신규 저장이면 previous는 null)
+    void move(Long previousRequesterId, Long requesterId, int requestId) {
+        if (previousRequesterId != null && !previousRequesterId.equals(requesterId)) {
+            remove(previousRequesterId, requestId);
+        }
+        add(requesterId, requestId);
+    }
+
+    /**
+     * 요청자의 requestId 목록 (오름차순 복사본)
+     */
+    int[] requestIds(Long requesterId) {
+        if (requesterId == null) {
+            return EMPTY;
+        }
+        int[][] snapshot = {EMPTY};
+        requesters.computeIfPresent(requesterId, (key, requestIds) -> {
+            snapshot[0] = requestIds.toArray();
+            return requestIds;
+        });
+        Arrays.sort(snapshot[0]);
+        return snapshot[0];
+    }
+
+    int requesterCount() {
+        return requesters.size();
+    }
+
+    void clear() {
+        requesters.clear();
+    }
+}
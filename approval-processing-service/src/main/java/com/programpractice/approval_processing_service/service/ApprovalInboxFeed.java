@@ -0,0 +1,66 @@
+package com.programpractice.approval_processing_service.service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.programpractice.approval_processing_service.dto.ApprovalSummaryResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결재자 대기함 변경 알림 (approval.inbox.watch.enabled=true, 기본)
+ *
+ * ApprovalProcessingService가 저장에 성공한 뒤 대기함에 들어온 건(added)과 빠진 건(removed)을 알리고,
+ * 구독자(gRPC WatchInbox 세션)는 approverId별로 등록된다. 구독자가 없는 승인자는 맵 조회 한 번으로 끝난다.
+ * 구독자 콜백은 변경한 스레드에서 바로 호출되므로 블로킹하지 않아야 한다 (버퍼에 넣고 반환).
+ * 샤드 모드에서는 이 레플리카가 담당하는 요청의 변경만 알린다 (그래서 WatchInbox는 샤드 모드에서 구독을 받지 않음).
+ */
+@Component
+@ConditionalOnProperty(name = "approval.inbox.watch.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ApprovalInboxFeed {
+
+    public interface Subscriber {
+
+        void onAdded(ApprovalSummaryResponse item);
+
+        void onRemoved(int requestId);
+    }
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    public void subscribe(long approverId, Subscriber subscriber) {
+        subscribers.computeIfAbsent(approverId, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        log.debug("대기함 구독 시작: approverId={}", approverId);
+    }
+
+    public void unsubscribe(long approverId, Subscriber subscriber) {
+        subscribers.computeIfPresent(approverId, (key, current) -> {
+            current.remove(subscriber);
+            return current.isEmpty() ? null : current;
+        });
+        log.debug("대기함 구독 종료: approverId={}", approverId);
+    }
+
+    public void added(long approverId, ApprovalSummaryResponse item) {
+        Set<Subscriber> targets = subscribers.get(approverId);
+        if (targets != null) {
+            targets.forEach(subscriber -> subscriber.onAdded(item));
+        }
+    }
+
+    public void removed(long approverId, int requestId) {
+        Set<Subscriber> targets = subscribers.get(approverId);
+        if (targets != null) {
+            targets.forEach(subscriber -> subscriber.onRemoved(requestId));
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+}
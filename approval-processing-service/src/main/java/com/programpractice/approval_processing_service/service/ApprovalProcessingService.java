@@ -1,32 +1,52 @@
 // approval-processing-service/src/main/java/com/programpractice/approval_processing_service/service/ApprovalProcessingService.java
 package com.programpractice.approval_processing_service.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import com.programpractice.approval.messaging.ApprovalRequestMessage;
 import com.programpractice.approval_processing_service.dto.ApprovalDetailResponse;
-import com.programpractice.approval_processing_service.dto.ApprovalRequestMessage;
+import com.programpractice.approval_processing_service.dto.ApprovalInboxResponse;
 import com.programpractice.approval_processing_service.dto.ApprovalStepDto;
+import com.programpractice.approval_processing_service.dto.ApprovalSummaryResponse;
+import com.programpractice.approval_processing_service.dto.BatchApprovalRequest;
+import com.programpractice.approval_processing_service.dto.BatchApprovalResponse;
 import com.programpractice.approval_processing_service.dto.ProcessApprovalRequest;
+import com.programpractice.approval_processing_service.exception.ApprovalConflictException;
 import com.programpractice.approval_processing_service.model.ApprovalRequest;
 import com.programpractice.approval_processing_service.model.ApprovalStatus;
 import com.programpractice.approval_processing_service.model.ApprovalStep;
-import com.programpractice.approval_processing_service.repository.InMemoryApprovalRepository;
+import com.programpractice.approval_processing_service.persistence.ApprovalArchive;
+import com.programpractice.approval_processing_service.repository.ApprovalRepository;
+import com.programpractice.approval_processing_service.repository.InboxCursor;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @RequiredArgsConstructor
-@Transactional
 @Slf4j
 public class ApprovalProcessingService {
     
-    private final InMemoryApprovalRepository approvalRequestRepository;
+    // 대기함 페이지 크기 상한
+    public static final int MAX_INBOX_PAGE_SIZE = 200;
+    
+    private final ApprovalRepository approvalRequestRepository;
     private final EmployeeValidationService employeeValidationService;
+    private final Optional<ApprovalArchive> approvalArchive;
+    private final Optional<ApprovalInboxFeed> inboxFeed;
     
     /**
      * 추가: requestId로 존재 여부 확인
@@ -47,21 +67,12 @@ public class ApprovalProcessingService {
             // 1. 요청자 검증
             employeeValidationService.validateEmployee(message.getRequesterId());
             
-            // 2. 승인 요청 생성
-            ApprovalRequest approvalRequest = ApprovalRequest.builder()
-                    .id(message.getId())
-                    .requestId(message.getRequestId())
-                    .requesterId(message.getRequesterId())
-                    .title(message.getTitle())
-                    .content(message.getContent())
-                    .currentStepOrder(1)  // 초기값: 1단계부터 시작
-                    .build();
-            
-            // 3. 승인 단계 생성
-            createApprovalSteps(approvalRequest, message.getSteps());
+            // 2~3. 승인 요청 + 승인 단계 생성
+            ApprovalRequest approvalRequest = toApprovalRequest(message);
             
             // 4. 저장
             ApprovalRequest saved = approvalRequestRepository.save(approvalRequest);
+            publishInboxTransition(null, saved);
             
             log.info("승인 요청 저장 완료: id={}, requestId={}, 총 단계 수={}, 현재 단계={}", 
                     saved.getId(), saved.getRequestId(), saved.getSteps().size(), saved.getCurrentStepOrder());
@@ -81,6 +92,84 @@ public class ApprovalProcessingService {
         }
     }
     
+    /**
+     * 승인 요청 일괄 초기 처리 (배치 리스너)
+     * 
+     * 1. 배치 내 중복 requestId 및 이미 저장된 요청 제외
+     * 2. 요청자 일괄 검증 (캐시 미스만 모아 Employee Service 최대 1회 호출)
+     * 3. 저장소에 일괄 저장
+     * 
+     * Employee Service 호출 자체가 실패하면 예외를 그대로 던진다 (배치 전체 재전달).
+     * 
+     * @return 처리에 실패한 requestId 목록 (건별 재전달 대상)
+     */
+    public Set<Integer> processApprovalRequestBatch(List<ApprovalRequestMessage> messages) {
+        // 1. 중복 제거
+        Map<Integer, ApprovalRequestMessage> fresh = new LinkedHashMap<>();
+        for (ApprovalRequestMessage message : messages) {
+            Integer requestId = message.getRequestId();
+            if (!fresh.containsKey(requestId) && !approvalRequestRepository.existsByRequestId(requestId)) {
+                fresh.put(requestId, message);
+            }
+        }
+        if (fresh.isEmpty()) {
+            log.info("승인 요청 일괄 처리: 수신={}, 신규 없음", messages.size());
+            return Set.of();
+        }
+        
+        // 2. 요청자 일괄 검증
+        Set<Long> requesterIds = fresh.values().stream()
+                .map(ApprovalRequestMessage::getRequesterId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<Long> missingRequesterIds = new HashSet<>(
+                employeeValidationService.findMissingEmployees(requesterIds));
+        
+        Set<Integer> failed = new HashSet<>();
+        List<ApprovalRequest> approvalRequests = new ArrayList<>(fresh.size());
+        for (ApprovalRequestMessage message : fresh.values()) {
+            Long requesterId = message.getRequesterId();
+            if (requesterId == null || missingRequesterIds.contains(requesterId)) {
+                log.error("❌ 존재하지 않는 요청자: requestId={}, requesterId={}", 
+                        message.getRequestId(), requesterId);
+                failed.add(message.getRequestId());
+                continue;
+            }
+            try {
+                approvalRequests.add(toApprovalRequest(message));
+            } catch (IllegalArgumentException e) {
+                log.error("❌ 승인 요청 생성 실패: requestId={}, reason={}", message.getRequestId(), e.getMessage());
+                failed.add(message.getRequestId());
+            }
+        }
+        
+        // 3. 일괄 저장
+        List<ApprovalRequest> inserted = approvalRequestRepository.insertAll(approvalRequests);
+        inserted.forEach(request -> publishInboxTransition(null, request));
+        
+        log.info("승인 요청 일괄 처리 완료: 수신={}, 신규={}, 저장={}, 실패={}", 
+                messages.size(), fresh.size(), inserted.size(), failed.size());
+        return failed;
+    }
+    
+    /**
+     * 메시지 -> 승인 요청 (1단계부터 시작)
+     */
+    private ApprovalRequest toApprovalRequest(ApprovalRequestMessage message) {
+        ApprovalRequest approvalRequest = ApprovalRequest.builder()
+                .id(message.getId())
+                .requestId(message.getRequestId())
+                .requesterId(message.getRequesterId())
+                .title(message.getTitle())
+                .content(message.getContent())
+                .currentStepOrder(1)  // 초기값: 1단계부터 시작
+                .createdAt(message.getRequestedAt() != null ? message.getRequestedAt() : LocalDateTime.now())
+                .build();
+        
+        createApprovalSteps(approvalRequest, message.getSteps());
+        return approvalRequest;
+    }
+    
     /**
      * 승인 단계 생성
      */
@@ -115,6 +204,11 @@ public class ApprovalProcessingService {
      *    - 마지막이면: finalStatus를 APPROVED/REJECTED로 변경
      *    - 아니면: currentStepOrder를 다음 단계로 이동 (moveToNextStep)
      * 5. 저장 및 반환
+     *
+     * 동시성 제어:
+     * 저장소의 인스턴스를 직접 수정하지 않고 스냅샷 복사본을 수정한 뒤,
+     * 조회 시점의 version으로 compareAndSave 한다. 그 사이 다른 결정이 먼저 반영되었거나
+     * 이미 처리된 요청/단계에 대한 결정이면 ApprovalConflictException(409)을 던진다.
      */
     public ApprovalRequest processApproval(Long approverId, Integer requestId, 
                                           ProcessApprovalRequest request) {
@@ -122,12 +216,14 @@ public class ApprovalProcessingService {
         log.info("approverId={}, requestId={}, 요청 상태={}", 
                 approverId, requestId, request.getStatus());
         
-        // 1. 승인 요청 조회
-        ApprovalRequest approvalRequest = approvalRequestRepository.findByRequestId(requestId)
+        // 1. 승인 요청 조회 (스냅샷 복사본을 수정)
+        ApprovalRequest snapshot = approvalRequestRepository.findByRequestId(requestId)
                 .orElseThrow(() -> {
                     log.error("승인 요청을 찾을 수 없음: requestId={}", requestId);
                     return new IllegalArgumentException("승인 요청을 찾을 수 없습니다: " + requestId);
                 });
+        long expectedVersion = snapshot.getVersion();
+        ApprovalRequest approvalRequest = snapshot.copy();
         
         log.info("승인 요청 조회 완료: 현재 단계={}/{}, finalStatus={}", 
                 approvalRequest.getCurrentStepOrder(), 
@@ -137,9 +233,9 @@ public class ApprovalProcessingService {
         // 2. 현재 단계 가져오기 (O(1) 접근 - currentStepOrder 사용)
         ApprovalStep currentStep = approvalRequest.getCurrentStep();
         if (currentStep == null) {
-            log.error("처리할 승인 단계가 없음: requestId={}, currentStepOrder={}", 
-                    requestId, approvalRequest.getCurrentStepOrder());
-            throw new IllegalStateException("처리할 승인 단계가 없습니다");
+            log.warn("처리할 승인 단계가 없음 (이미 최종 처리됨): requestId={}, finalStatus={}", 
+                    requestId, approvalRequest.getFinalStatus());
+            throw new ApprovalConflictException("이미 최종 처리된 승인 요청입니다: " + requestId);
         }
         
         log.info("현재 처리 대상 단계: step={}, approverId={}, status={}", 
@@ -147,6 +243,12 @@ public class ApprovalProcessingService {
         
         // 3. 승인자 확인
         if (!currentStep.getApproverId().equals(approverId)) {
+            // 이미 자신의 단계를 처리한 승인자의 재요청 (더블 클릭 등)
+            if (approvalRequest.hasDecidedBy(approverId)) {
+                log.warn("이미 처리한 단계에 대한 중복 요청: approverId={}, requestId={}", 
+                        approverId, requestId);
+                throw new ApprovalConflictException("이미 처리한 승인 단계입니다: " + requestId);
+            }
             log.error("승인 권한 없음: 요청한 approverId={}, 실제 approverId={}", 
                     approverId, currentStep.getApproverId());
             throw new IllegalArgumentException(
@@ -196,8 +298,12 @@ public class ApprovalProcessingService {
             throw new IllegalArgumentException("잘못된 상태값입니다: " + request.getStatus());
         }
         
-        // 6. 저장
-        approvalRequestRepository.save(approvalRequest);
+        // 6. 저장 (버전이 바뀌었으면 다른 결정이 먼저 반영된 것이므로 충돌)
+        if (!approvalRequestRepository.compareAndSave(approvalRequest, expectedVersion)) {
+            log.warn("동시 처리 충돌: requestId={}, expectedVersion={}", requestId, expectedVersion);
+            throw new ApprovalConflictException("다른 처리와 충돌했습니다. 다시 조회 후 시도해 주세요: " + requestId);
+        }
+        publishInboxTransition(snapshot, approvalRequest);
         
         log.info("=== 승인 처리 완료 ===");
         log.info("최종 상태: finalStatus={}, currentStepOrder={}/{}", 
@@ -210,21 +316,179 @@ public class ApprovalProcessingService {
     }
     
     /**
-     * 승인 요청 상세 조회
+     * 일괄 승인 처리 결과
+     * 
+     * @param results 요청 순서대로의 항목별 결과
+     * @param applied 반영된 승인 요청 (결과 메시지 발행 대상)
+     */
+    public record BatchOutcome(List<BatchApprovalResponse.ItemResult> results, List<ApprovalRequest> applied) {
+    }
+    
+    /**
+     * 일괄 승인 처리 (REST API: POST /process/{approverId}/batch)
+     * 
+     * 항목마다 processApproval과 같은 규칙으로 처리하며, 실패한 항목은 결과에만 남기고 다음 항목을 계속 처리한다.
+     * 같은 requestId가 배치 안에 두 번 이상 있으면 첫 항목만 처리한다.
+     */
+    public BatchOutcome processApprovalBatch(Long approverId, List<BatchApprovalRequest.Item> items) {
+        log.info("=== 일괄 승인 처리 시작: approverId={}, count={} ===", approverId, items.size());
+        
+        List<BatchApprovalResponse.ItemResult> results = new ArrayList<>(items.size());
+        List<ApprovalRequest> applied = new ArrayList<>(items.size());
+        Set<Integer> seen = new HashSet<>();
+        
+        for (BatchApprovalRequest.Item item : items) {
+            Integer requestId = item.getRequestId();
+            BatchApprovalResponse.ItemResult.ItemResultBuilder result = BatchApprovalResponse.ItemResult.builder()
+                    .requestId(requestId);
+            
+            if (!seen.add(requestId)) {
+                results.add(result.status("error").message("배치 내 중복 항목입니다: " + requestId).build());
+                continue;
+            }
+            
+            try {
+                ApprovalRequest processed = processApproval(approverId, requestId,
+                        new ProcessApprovalRequest(item.getStatus(), item.getComment()));
+                applied.add(processed);
+                results.add(result.status("received")
+                        .finalStatus(processed.getFinalStatus().name().toLowerCase())
+                        .build());
+            } catch (ApprovalConflictException e) {
+                results.add(result.status("conflict").message(e.getMessage()).build());
+            } catch (IllegalArgumentException e) {
+                results.add(result.status("error").message(e.getMessage()).build());
+            } catch (Exception e) {
+                log.error("일괄 승인 처리 중 예상치 못한 오류: requestId={}", requestId, e);
+                results.add(result.status("error").message("승인 처리 중 오류가 발생했습니다: " + e.getMessage()).build());
+            }
+        }
+        
+        log.info("=== 일괄 승인 처리 완료: approverId={}, 요청={}, 반영={} ===", 
+                approverId, items.size(), applied.size());
+        return new BatchOutcome(results, applied);
+    }
+    
+    /**
+     * 결재자 대기함 조회 (커서 페이지, 요약 정보만)
+     * (createdAt, requestId) 순으로 정렬되며, 대기 건수와 무관하게 페이지 크기만큼만 조회/변환한다.
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기 (1 ~ MAX_INBOX_PAGE_SIZE)
      */
-    @Transactional(readOnly = true)
-    public List<ApprovalDetailResponse> getApprovalsByApproverId(Long approverId) {
-        log.info("승인자별 승인 목록 조회: approverId={}", approverId);
+    public ApprovalInboxResponse getApprovalInbox(Long approverId, String cursor, int size) {
+        if (size < 1 || size > MAX_INBOX_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                    String.format("페이지 크기는 1 ~ %d 사이여야 합니다: %d", MAX_INBOX_PAGE_SIZE, size));
+        }
+        InboxCursor after = cursor != null && !cursor.isBlank() ? InboxCursor.decode(cursor) : null;
         
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
         List<ApprovalRequest> approvals = approvalRequestRepository
-                .findPendingApprovalsByApproverId(approverId);
+                .findPendingApprovalsByApproverId(approverId, after, size + 1);
+        boolean hasNext = approvals.size() > size;
+        if (hasNext) {
+            approvals = approvals.subList(0, size);
+        }
         
-        log.info("승인 대기 목록 조회 완료: approverId={}, 대기 건수={}", 
-                approverId, approvals.size());
+        List<ApprovalSummaryResponse> items = approvals.stream()
+                .map(this::toSummaryResponse)
+                .collect(Collectors.toList());
+        String nextCursor = hasNext ? InboxCursor.of(approvals.get(approvals.size() - 1)).encode() : null;
         
-        return approvals.stream()
-                .map(this::toDetailResponse)
+        log.info("승인 대기함 조회: approverId={}, 반환={}, hasNext={}", approverId, items.size(), hasNext);
+        
+        return ApprovalInboxResponse.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .pendingCount(approvalRequestRepository.countPendingApprovalsByApproverId(approverId))
+                .build();
+    }
+    
+    /**
+     * 요청자의 진행 중 요청 조회 (요약 정보, (createdAt, requestId) 순)
+     * 요청자 인덱스를 사용하므로 해당 요청자가 보관 중인 건수에만 비례한다 (전체 스캔 없음).
+     */
+    public List<ApprovalSummaryResponse> getRequesterApprovals(Long requesterId) {
+        List<ApprovalSummaryResponse> items = approvalRequestRepository.findByRequesterId(requesterId).stream()
+                .filter(request -> request.getFinalStatus() == ApprovalStatus.PENDING)
+                .sorted(Comparator.comparing(InboxCursor::of))
+                .map(this::toSummaryResponse)
                 .collect(Collectors.toList());
+        
+        log.info("요청자 진행 중 요청 조회: requesterId={}, count={}", requesterId, items.size());
+        return items;
+    }
+    
+    /**
+     * 승인 요청 상세 조회 (본문 + 전체 단계)
+     * 해당 요청의 결재선에 포함된 승인자만 조회할 수 있다.
+     */
+    public ApprovalDetailResponse getApprovalDetail(Long approverId, Integer requestId) {
+        ApprovalRequest approval = approvalRequestRepository.findByRequestId(requestId)
+                .filter(request -> request.getSteps().stream()
+                        .anyMatch(step -> approverId.equals(step.getApproverId())))
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "승인 요청을 찾을 수 없습니다: approverId=" + approverId + ", requestId=" + requestId));
+        
+        return toDetailResponse(approval);
+    }
+    
+    /**
+     * 보존 정책으로 제거된 최종 처리 건 조회 (보관 파일 활성 시)
+     */
+    public ApprovalDetailResponse getArchivedApproval(Integer requestId) {
+        log.info("보관된 승인 요청 조회: requestId={}", requestId);
+        
+        ApprovalArchive archive = approvalArchive.orElseThrow(() ->
+                new IllegalArgumentException("보관 파일이 비활성화되어 있습니다."));
+        
+        return archive.find(requestId)
+                .map(this::toDetailResponse)
+                .orElseThrow(() -> new IllegalArgumentException("보관된 승인 요청이 없습니다: " + requestId));
+    }
+    
+    /**
+     * 저장에 성공한 변경을 대기함 구독자에게 알림
+     * 현재 승인자가 바뀌었으면 이전 승인자 대기함에서 제거, 대기 중이면 현재 승인자 대기함에 추가
+     */
+    private void publishInboxTransition(ApprovalRequest previous, ApprovalRequest current) {
+        if (inboxFeed.isEmpty()) {
+            return;
+        }
+        Long previousApproverId = previous != null ? pendingApproverOf(previous) : null;
+        Long currentApproverId = pendingApproverOf(current);
+        if (previousApproverId != null && !previousApproverId.equals(currentApproverId)) {
+            inboxFeed.get().removed(previousApproverId, current.getRequestId());
+        }
+        if (currentApproverId != null) {
+            inboxFeed.get().added(currentApproverId, toSummaryResponse(current));
+        }
+    }
+    
+    // 현재 처리 대기 중인 단계의 승인자 (최종 처리된 건은 null)
+    private static Long pendingApproverOf(ApprovalRequest request) {
+        ApprovalStep currentStep = request.getCurrentStep();
+        if (currentStep == null || currentStep.getStatus() != ApprovalStatus.PENDING) {
+            return null;
+        }
+        return currentStep.getApproverId();
+    }
+    
+    /**
+     * Entity -> 요약 DTO 변환 (본문/단계 목록 제외)
+     */
+    private ApprovalSummaryResponse toSummaryResponse(ApprovalRequest entity) {
+        return ApprovalSummaryResponse.builder()
+                .id(entity.getId())
+                .requestId(entity.getRequestId())
+                .requesterId(entity.getRequesterId())
+                .title(entity.getTitle())
+                .currentStep(entity.getCurrentStepOrder())
+                .totalSteps(entity.getSteps().size())
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
+                .build();
     }
     
     /**
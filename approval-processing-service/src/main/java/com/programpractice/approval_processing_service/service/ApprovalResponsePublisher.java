@@ -1,12 +1,15 @@
 package com.programpractice.approval_processing_service.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
+import com.programpractice.approval.messaging.ApprovalResponseMessage;
+import com.programpractice.approval.messaging.ConfirmedMessagePublisher;
 import com.programpractice.approval_processing_service.config.RabbitMQConfig;
-import com.programpractice.approval_processing_service.dto.ApprovalResponseMessage;
 import com.programpractice.approval_processing_service.model.ApprovalRequest;
 import com.programpractice.approval_processing_service.model.ApprovalStatus;
 
@@ -18,46 +21,80 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ApprovalResponsePublisher {
     
-    private final RabbitTemplate rabbitTemplate;
+    private final ConfirmedMessagePublisher confirmedPublisher;
     
     /**
-     * 승인 처리 결과 발행
+     * 승인 처리 결과 발행 (비동기, broker confirm 시 완료)
      * * 변경 사항:
      * - 중간 단계이든 최종 단계이든 무조건 Response Queue로 결과를 보냅니다.
      * - Request Service가 이 메시지를 받아 MongoDB를 업데이트하고, 
      * 다음 단계가 있다면 Request Service가 다시 Request Queue로 메시지를 쏘게 됩니다.
+     * - confirm은 기다리지 않으며, nack/return 시 ConfirmedMessagePublisher가 재발행합니다.
      */
-    public void publishApprovalResult(ApprovalRequest approvalRequest) {
-        try {
-            log.info("=== 메시지 발행 시작 ===");
-            log.info("requestId={}, finalStatus={}, currentStep={}/{}", 
-                    approvalRequest.getRequestId(),
-                    approvalRequest.getFinalStatus(),
-                    approvalRequest.getCurrentStepOrder(),
-                    approvalRequest.getSteps().size());
+    public CompletableFuture<Void> publishApprovalResult(ApprovalRequest approvalRequest) {
+        log.info("=== 메시지 발행 시작 ===");
+        log.info("requestId={}, finalStatus={}, currentStep={}/{}", 
+                approvalRequest.getRequestId(),
+                approvalRequest.getFinalStatus(),
+                approvalRequest.getCurrentStepOrder(),
+                approvalRequest.getSteps().size());
 
-            // 1. 응답 메시지 생성
-            ApprovalResponseMessage message = createResponseMessage(approvalRequest);
-            
-            // 2. Response Queue로 발행 (Request Service가 수신)
-            log.info("발행 대상: Exchange={}, RoutingKey={}", 
-                    RabbitMQConfig.APPROVAL_EXCHANGE,
-                    RabbitMQConfig.APPROVAL_RESPONSE_ROUTING_KEY);
-            
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConfig.APPROVAL_EXCHANGE,
-                    RabbitMQConfig.APPROVAL_RESPONSE_ROUTING_KEY,
-                    message
-            );
-            
-            log.info("✅ ResponseMessage 발행 완료: status={}, step={}", 
-                    message.getStatus(), message.getStep());
-            
-        } catch (Exception e) {
-            log.error("=== 메시지 발행 실패 ===", e);
-            log.error("requestId={}", approvalRequest.getRequestId());
-            throw new RuntimeException("메시지 발행 실패", e);
+        // 1. 응답 메시지 생성
+        ApprovalResponseMessage message = createResponseMessage(approvalRequest);
+        
+        // 2. Response Queue로 발행 (Request Service가 수신)
+        log.info("발행 대상: Exchange={}, RoutingKey={}", 
+                RabbitMQConfig.APPROVAL_EXCHANGE,
+                RabbitMQConfig.APPROVAL_RESPONSE_ROUTING_KEY);
+        
+        return confirmedPublisher.publish(
+                RabbitMQConfig.APPROVAL_EXCHANGE,
+                RabbitMQConfig.APPROVAL_RESPONSE_ROUTING_KEY,
+                message
+        ).whenComplete((ignored, e) -> {
+            if (e == null) {
+                log.info("✅ ResponseMessage 발행 확인: status={}, step={}", 
+                        message.getStatus(), message.getStep());
+            } else {
+                log.error("=== 메시지 발행 실패: requestId={} ===", approvalRequest.getRequestId(), e);
+            }
+        });
+    }
+
+    /**
+     * 승인 처리 결과 일괄 발행 (일괄 결정 API)
+     * 메시지는 건별로 발행되지만 하나의 채널에서 연속으로 보내고 confirm을 한꺼번에 기다리지 않는다.
+     * 
+     * @return 입력 순서대로의 메시지별 결과 (confirm되면 완료, 실패하면 MessagePublishException)
+     */
+    public List<CompletableFuture<Void>> publishApprovalResults(List<ApprovalRequest> approvalRequests) {
+        List<ApprovalResponseMessage> messages = new ArrayList<>(approvalRequests.size());
+        for (ApprovalRequest approvalRequest : approvalRequests) {
+            messages.add(createResponseMessage(approvalRequest));
         }
+        
+        log.info("=== 일괄 메시지 발행 시작: count={} ===", messages.size());
+        
+        List<CompletableFuture<Void>> results = confirmedPublisher.publishAll(
+                RabbitMQConfig.APPROVAL_EXCHANGE,
+                RabbitMQConfig.APPROVAL_RESPONSE_ROUTING_KEY,
+                messages);
+        
+        for (int i = 0; i < results.size(); i++) {
+            ApprovalResponseMessage message = messages.get(i);
+            results.get(i).whenComplete((ignored, e) -> {
+                if (e != null) {
+                    log.error("=== 메시지 발행 실패: requestId={}, step={} ===", 
+                            message.getRequestId(), message.getStep(), e);
+                }
+            });
+        }
+        
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, e) -> log.info("✅ 일괄 메시지 발행 확인: count={}, failed={}", 
+                        messages.size(), 
+                        results.stream().filter(CompletableFuture::isCompletedExceptionally).count()));
+        return results;
     }
 
     /**
@@ -0,0 +1,149 @@
+package com.programpractice.approval_processing_service.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.programpractice.approval_processing_service.model.ApprovalRequest;
+import com.programpractice.approval_processing_service.persistence.ApprovalArchive;
+import com.programpractice.approval_processing_service.repository.ApprovalRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최종 처리(APPROVED/REJECTED) 건 보존 정책
+ *
+ * 최종 처리 후 ttl이 지났거나, 최종 처리 건수가 max-finalized-entries를 넘으면
+ * 오래된 순으로 저장소에서 제거한다. 한 번에 batch-size개씩만 처리하고 배치 사이에
+ * 양보하므로 승인 처리 스레드를 오래 막지 않는다.
+ * 보관 파일이 활성화되어 있으면 제거 전에 먼저 기록해 두어 이후에도 조회할 수 있다.
+ */
+@Component
+@ConditionalOnProperty(name = "approval.retention.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ApprovalRetentionSweeper {
+
+    private final ApprovalRepository approvalRequestRepository;
+    private final Optional<ApprovalArchive> approvalArchive;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${approval.retention.ttl:1h}")
+    private Duration ttl;
+
+    @Value("${approval.retention.max-finalized-entries:100000}")
+    private long maxFinalizedEntries;
+
+    @Value("${approval.retention.batch-size:500}")
+    private int batchSize;
+
+    @Value("${approval.retention.max-batches-per-sweep:100}")
+    private int maxBatchesPerSweep;
+
+    @Value("${approval.retention.sweep-interval-ms:10000}")
+    private long sweepIntervalMs;
+
+    private Counter evictedCounter;
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    public void start() {
+        Gauge.builder("approval.repository.live", approvalRequestRepository, ApprovalRepository::count)
+                .description("저장소에 있는 승인 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("approval.repository.finalized", approvalRequestRepository,
+                        repository -> repository.finalizedTracker().count())
+                .description("저장소에 남아 있는 최종 처리 건 수")
+                .register(meterRegistry);
+        evictedCounter = Counter.builder("approval.retention.evicted")
+                .description("보존 정책으로 제거된 승인 요청 수")
+                .register(meterRegistry);
+        approvalArchive.ifPresent(archive ->
+                Gauge.builder("approval.retention.archived", archive, ApprovalArchive::size)
+                        .description("보관 파일에 기록된 승인 요청 수")
+                        .register(meterRegistry));
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "approval-retention");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::sweepQuietly,
+                sweepIntervalMs, sweepIntervalMs, TimeUnit.MILLISECONDS);
+
+        log.info("보존 정책 활성화: ttl={}, maxFinalizedEntries={}, batchSize={}, archive={}",
+                ttl, maxFinalizedEntries, batchSize, approvalArchive.isPresent());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 보존 정책 1회 실행
+     *
+     * @return 제거한 건수
+     */
+    public long sweep() throws Exception {
+        LocalDateTime finalizedBefore = LocalDateTime.now().minus(ttl);
+        long evicted = 0;
+
+        for (int batch = 0; batch < maxBatchesPerSweep; batch++) {
+            List<ApprovalRequest> candidates = approvalRequestRepository
+                    .pollFinalizedCandidates(finalizedBefore, maxFinalizedEntries, batchSize);
+            if (candidates.isEmpty()) {
+                break;
+            }
+
+            // 보관 파일 기록이 실패하면 제거하지 않고 추적 큐에 되돌려 다음 실행에서 재시도
+            if (approvalArchive.isPresent()) {
+                try {
+                    approvalArchive.get().append(candidates);
+                } catch (IOException e) {
+                    candidates.forEach(request -> approvalRequestRepository.finalizedTracker()
+                            .requeue(request.getRequestId(), request.getUpdatedAt()));
+                    throw e;
+                }
+            }
+            for (ApprovalRequest request : candidates) {
+                approvalRequestRepository.delete(request);
+            }
+
+            evicted += candidates.size();
+            evictedCounter.increment(candidates.size());
+            Thread.yield();
+        }
+
+        if (evicted > 0) {
+            log.info("보존 정책 실행: 제거={}, 남은 최종 처리 건={}, 전체={}",
+                    evicted, approvalRequestRepository.finalizedTracker().count(),
+                    approvalRequestRepository.count());
+        }
+        return evicted;
+    }
+
+    private void sweepQuietly() {
+        try {
+            sweep();
+        } catch (Exception e) {
+            log.error("보존 정책 실행 실패", e);
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package com.programpractice.approval_processing_service.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.programpractice.approval_processing_service.client.EmployeeServiceClient;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 직원 존재 여부 캐시
+ *
+ * - 존재(positive-ttl) / 미존재(negative-ttl) 결과를 따로 만료시킨다. 호출 실패는 캐시하지 않는다.
+ * - 같은 직원 ID에 대한 동시 조회는 단건/일괄 구분 없이 하나의 Employee Service 호출을 공유한다.
+ *   일괄 조회도 loader 스레드에서 수행하고 단건 조회와 같은 stale-timeout-ms로 기다린다.
+ * - serve-stale 활성 시 만료된 결과가 stale-max-age 이내이면, 재조회가 실패하거나
+ *   stale-timeout-ms 안에 끝나지 않을 때 이전 결과를 반환한다 (재조회는 계속 진행되어 캐시를 갱신).
+ * - 최대 max-size개까지만 보관하며, 넘으면 max-size의 90%까지 한 번에 정리한다.
+ *   (정리할 때만 전체를 훑으므로 조회당 정리 비용은 평균 O(1), 정리는 한 스레드만 수행)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeExistenceCache {
+
+    // 정리 후 남길 비율 (max-size 대비)
+    private static final double EVICTION_LOW_WATERMARK = 0.9;
+
+    private final EmployeeServiceClient employeeServiceClient;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${employee.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${employee.cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${employee.cache.positive-ttl-seconds:600}")
+    private long positiveTtlSeconds;
+
+    @Value("${employee.cache.negative-ttl-seconds:30}")
+    private long negativeTtlSeconds;
+
+    @Value("${employee.cache.serve-stale:true}")
+    private boolean serveStale;
+
+    @Value("${employee.cache.stale-max-age-seconds:3600}")
+    private long staleMaxAgeSeconds;
+
+    @Value("${employee.cache.stale-timeout-ms:300}")
+    private long staleTimeoutMs;
+
+    @Value("${employee.cache.loader-threads:16}")
+    private int loaderThreads;
+
+    private final Map<Long, CachedExistence> entries = new ConcurrentHashMap<>();
+    private final Map<Long, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private ExecutorService loader;
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter staleCounter;
+    private Counter evictionCounter;
+    private Timer loadSuccessTimer;
+    private Timer loadFailureTimer;
+
+    private record CachedExistence(boolean exists, long loadedAt, long expiresAt) {
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        loader = Executors.newFixedThreadPool(loaderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "employee-cache-loader-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        hitCounter = Counter.builder("employee.cache.requests").tag("result", "hit").register(meterRegistry);
+        missCounter = Counter.builder("employee.cache.requests").tag("result", "miss").register(meterRegistry);
+        staleCounter = Counter.builder("employee.cache.stale")
+                .description("Employee Service 장애/지연으로 만료된 결과를 반환한 횟수")
+                .register(meterRegistry);
+        evictionCounter = Counter.builder("employee.cache.evictions").register(meterRegistry);
+        loadSuccessTimer = Timer.builder("employee.cache.load").tag("outcome", "success").register(meterRegistry);
+        loadFailureTimer = Timer.builder("employee.cache.load").tag("outcome", "failure").register(meterRegistry);
+        Gauge.builder("employee.cache.size", entries, Map::size).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        loader.shutdownNow();
+    }
+
+    /**
+     * 직원 존재 여부 (캐시 우선)
+     *
+     * @throws RuntimeException Employee Service 호출 실패 시 (반환할 이전 결과도 없는 경우)
+     */
+    public boolean exists(Long employeeId) {
+        if (!enabled) {
+            return employeeServiceClient.existsEmployeeByExistsApi(employeeId);
+        }
+
+        long now = System.nanoTime();
+        CachedExistence cached = entries.get(employeeId);
+        if (cached != null && now - cached.expiresAt() < 0) {
+            hitCounter.increment();
+            return cached.exists();
+        }
+        missCounter.increment();
+
+        CompletableFuture<Boolean> load = loadCoalesced(employeeId);
+        return await(employeeId, load, cached, now, now + TimeUnit.MILLISECONDS.toNanos(staleTimeoutMs));
+    }
+
+    /**
+     * 여러 직원의 존재 여부 (캐시에 없고 진행 중인 조회도 없는 ID만 모아 Employee Service 1회 호출)
+     *
+     * @return 존재하지 않는 직원 ID 목록 (요청 순서, 중복 제거)
+     * @throws RuntimeException Employee Service 호출 실패 시 (이전 결과로 대신할 수 없는 ID가 있는 경우)
+     */
+    public List<Long> findMissing(Collection<Long> employeeIds) {
+        if (!enabled) {
+            return employeeServiceClient.findMissingEmployees(employeeIds);
+        }
+
+        long now = System.nanoTime();
+        Map<Long, Boolean> existence = new LinkedHashMap<>();
+        Map<Long, CachedExistence> toLoad = new LinkedHashMap<>();
+        for (Long employeeId : employeeIds) {
+            if (existence.containsKey(employeeId)) {
+                continue;
+            }
+            CachedExistence cached = entries.get(employeeId);
+            if (cached != null && now - cached.expiresAt() < 0) {
+                hitCounter.increment();
+                existence.put(employeeId, cached.exists());
+            } else {
+                missCounter.increment();
+                existence.put(employeeId, null);
+                toLoad.put(employeeId, cached);
+            }
+        }
+
+        if (!toLoad.isEmpty()) {
+            Map<Long, CompletableFuture<Boolean>> loads = loadAllCoalesced(toLoad.keySet());
+            long staleDeadline = now + TimeUnit.MILLISECONDS.toNanos(staleTimeoutMs);
+            toLoad.forEach((employeeId, cached) -> existence.put(employeeId,
+                    await(employeeId, loads.get(employeeId), cached, now, staleDeadline)));
+        }
+
+        List<Long> missing = new ArrayList<>();
+        existence.forEach((employeeId, exists) -> {
+            if (!exists) {
+                missing.add(employeeId);
+            }
+        });
+        return missing;
+    }
+
+    /**
+     * 특정 직원 캐시 무효화
+     */
+    public void invalidate(Long employeeId) {
+        entries.remove(employeeId);
+    }
+
+    /**
+     * 진행 중인 조회가 있으면 그 결과를 공유하고, 없으면 새로 조회
+     */
+    private CompletableFuture<Boolean> loadCoalesced(Long employeeId) {
+        CompletableFuture<Boolean> created = new CompletableFuture<>();
+        CompletableFuture<Boolean> existing = inFlight.putIfAbsent(employeeId, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        loader.execute(() -> {
+            long startedAt = System.nanoTime();
+            try {
+                boolean exists = employeeServiceClient.existsEmployeeByExistsApi(employeeId);
+                long loadedAt = System.nanoTime();
+                loadSuccessTimer.record(loadedAt - startedAt, TimeUnit.NANOSECONDS);
+
+                store(employeeId, exists, loadedAt);
+                evictIfNeeded(loadedAt);
+
+                inFlight.remove(employeeId, created);
+                created.complete(exists);
+            } catch (Throwable e) {
+                loadFailureTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                inFlight.remove(employeeId, created);
+                created.completeExceptionally(e);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * 일괄 조회: 진행 중인 조회(단건/일괄)가 있는 ID는 그 결과를 공유하고, 나머지만 모아 1회 호출
+     */
+    private Map<Long, CompletableFuture<Boolean>> loadAllCoalesced(Collection<Long> employeeIds) {
+        Map<Long, CompletableFuture<Boolean>> loads = new HashMap<>();
+        Map<Long, CompletableFuture<Boolean>> created = new LinkedHashMap<>();
+        for (Long employeeId : employeeIds) {
+            CompletableFuture<Boolean> future = new CompletableFuture<>();
+            CompletableFuture<Boolean> existing = inFlight.putIfAbsent(employeeId, future);
+            if (existing != null) {
+                loads.put(employeeId, existing);
+            } else {
+                loads.put(employeeId, future);
+                created.put(employeeId, future);
+            }
+        }
+        if (created.isEmpty()) {
+            return loads;
+        }
+
+        loader.execute(() -> {
+            long startedAt = System.nanoTime();
+            try {
+                Set<Long> loadedMissing = new HashSet<>(
+                        employeeServiceClient.findMissingEmployees(new ArrayList<>(created.keySet())));
+                long loadedAt = System.nanoTime();
+                loadSuccessTimer.record(loadedAt - startedAt, TimeUnit.NANOSECONDS);
+
+                created.keySet().forEach(employeeId ->
+                        store(employeeId, !loadedMissing.contains(employeeId), loadedAt));
+                evictIfNeeded(loadedAt);
+
+                created.forEach((employeeId, future) -> {
+                    inFlight.remove(employeeId, future);
+                    future.complete(!loadedMissing.contains(employeeId));
+                });
+            } catch (Throwable e) {
+                loadFailureTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                created.forEach((employeeId, future) -> {
+                    inFlight.remove(employeeId, future);
+                    future.completeExceptionally(e);
+                });
+            }
+        });
+        return loads;
+    }
+
+    /**
+     * 조회 결과 대기
+     * 이전 결과(cached)가 stale-max-age 이내이면 staleDeadline까지만 기다리고, 지연/실패 시 이전 결과를 반환한다.
+     *
+     * @throws RuntimeException 조회 실패 시 (반환할 이전 결과도 없는 경우)
+     */
+    private boolean await(Long employeeId, CompletableFuture<Boolean> load, CachedExistence cached,
+                          long now, long staleDeadline) {
+        boolean staleUsable = serveStale && cached != null
+                && now - cached.loadedAt() < TimeUnit.SECONDS.toNanos(staleMaxAgeSeconds);
+
+        try {
+            return staleUsable
+                    ? load.get(Math.max(0, staleDeadline - System.nanoTime()), TimeUnit.NANOSECONDS)
+                    : load.get();
+        } catch (TimeoutException | ExecutionException e) {
+            if (staleUsable) {
+                staleCounter.increment();
+                log.warn("Employee Service 응답 지연/실패 - 이전 결과 사용: employeeId={}, exists={}, cause={}",
+                        employeeId, cached.exists(), e.toString());
+                return cached.exists();
+            }
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Employee Service 연결 실패: " + cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("직원 정보 확인 중 인터럽트", e);
+        }
+    }
+
+    private void store(Long employeeId, boolean exists, long loadedAt) {
+        long ttlSeconds = exists ? positiveTtlSeconds : negativeTtlSeconds;
+        entries.put(employeeId, new CachedExistence(exists, loadedAt,
+                loadedAt + TimeUnit.SECONDS.toNanos(ttlSeconds)));
+    }
+
+    /**
+     * 최대 크기 초과 시 정리: 만료 + 재사용 불가한 항목 먼저, 그래도 하한(low watermark)을 넘으면 임의 항목
+     * 하한까지 한 번에 줄여 두므로 다음 정리까지 max-size의 10%만큼은 훑지 않고 적재한다.
+     * 다른 스레드가 정리 중이면 건너뛴다 (잠깐 max-size를 넘을 수 있음).
+     */
+    private void evictIfNeeded(long now) {
+        if (entries.size() <= maxSize || !evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int lowWatermark = Math.min(maxSize - 1, (int) (maxSize * EVICTION_LOW_WATERMARK));
+            long staleMaxAgeNanos = TimeUnit.SECONDS.toNanos(staleMaxAgeSeconds);
+            int evicted = 0;
+
+            Iterator<Map.Entry<Long, CachedExistence>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                CachedExistence cached = iterator.next().getValue();
+                boolean expired = now - cached.expiresAt() >= 0;
+                if (expired && (!serveStale || now - cached.loadedAt() >= staleMaxAgeNanos)) {
+                    iterator.remove();
+                    evicted++;
+                }
+            }
+
+            iterator = entries.entrySet().iterator();
+            while (entries.size() > lowWatermark && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evicted++;
+            }
+            evictionCounter.increment(evicted);
+        } finally {
+            evicting.set(false);
+        }
+    }
+}
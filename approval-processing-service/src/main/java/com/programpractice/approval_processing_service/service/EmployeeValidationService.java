@@ -1,22 +1,24 @@
 package com.programpractice.approval_processing_service.service;
 
-import org.springframework.stereotype.Service;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 
-import com.programpractice.approval_processing_service.client.EmployeeServiceClient;
+import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 직원 검증 서비스
- * Employee Service를 호출하여 직원 존재 여부 확인
+ * Employee Service를 호출하여 직원 존재 여부 확인 (EmployeeExistenceCache 경유)
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmployeeValidationService {
     
-    private final EmployeeServiceClient employeeServiceClient;
+    private final EmployeeExistenceCache employeeExistenceCache;
     
     /**
      * 직원 존재 여부 검증
@@ -33,8 +35,8 @@ public class EmployeeValidationService {
         }
         
         try {
-            // Employee Service 호출
-            boolean exists = employeeServiceClient.existsEmployee(employeeId);
+            // 캐시 조회 (미스 시 Employee Service 호출)
+            boolean exists = employeeExistenceCache.exists(employeeId);
             
             if (!exists) {
                 log.error("❌ 직원이 존재하지 않음: employeeId={}", employeeId);
@@ -58,7 +60,21 @@ public class EmployeeValidationService {
     }
     
     /**
-     * 여러 직원의 존재 여부 일괄 검증
+     * 존재하지 않는 직원 ID 조회 (배치 처리용, 예외 대신 목록 반환)
+     * 
+     * @param employeeIds 직원 ID 목록
+     * @return 존재하지 않는 직원 ID 목록
+     * @throws RuntimeException Employee Service 호출 실패 시
+     */
+    public List<Long> findMissingEmployees(Collection<Long> employeeIds) {
+        if (employeeIds.isEmpty()) {
+            return List.of();
+        }
+        return employeeExistenceCache.findMissing(employeeIds);
+    }
+    
+    /**
+     * 여러 직원의 존재 여부 일괄 검증 (캐시 미스만 모아 Employee Service 1회 호출)
      * 
      * @param employeeIds 직원 ID 목록
      * @throws IllegalArgumentException 존재하지 않는 직원이 있는 경우
@@ -67,9 +83,19 @@ public class EmployeeValidationService {
         log.info("=== 직원 일괄 검증 시작: count={} ===", employeeIds.length);
         
         for (Long employeeId : employeeIds) {
-            validateEmployee(employeeId);
+            if (employeeId == null) {
+                log.error("❌ 직원 ID가 null입니다");
+                throw new IllegalArgumentException("직원 ID는 필수입니다");
+            }
+        }
+        
+        List<Long> missingIds = employeeExistenceCache.findMissing(Arrays.asList(employeeIds));
+        if (!missingIds.isEmpty()) {
+            log.error("❌ 존재하지 않는 직원: employeeIds={}", missingIds);
+            throw new IllegalArgumentException(
+                    "존재하지 않는 직원입니다: employeeIds=" + missingIds);
         }
         
         log.info("✅ 직원 일괄 검증 완료: count={}", employeeIds.length);
     }
-}
\ No newline at end of file
+}
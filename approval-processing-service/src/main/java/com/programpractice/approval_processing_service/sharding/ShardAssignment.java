@@ -0,0 +1,121 @@
+package com.programpractice.approval_processing_service.sharding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.programpractice.approval.messaging.ApprovalShards;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 샤드 배치 (approval.sharding.enabled=true)
+ *
+ * shard-count개의 샤드를 replica-count개의 레플리카가 연속 구간으로 나눠 소유한다.
+ * (레플리카 i는 [i * shard-count / replica-count, (i + 1) * shard-count / replica-count) 구간)
+ * replica-index를 지정하지 않으면 StatefulSet 파드 이름(HOSTNAME)의 끝 번호를 사용한다.
+ * 레플리카 수를 바꾸면 소유 구간이 바뀌므로, 기존 대기 건은 새 소유자에서 복구해야 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "approval.sharding.enabled", havingValue = "true")
+@Slf4j
+public class ShardAssignment {
+
+    private static final Pattern ORDINAL = Pattern.compile("-(\\d+)$");
+
+    @Value("${approval.sharding.shard-count:16}")
+    private int shardCount;
+
+    @Value("${approval.sharding.replica-count:1}")
+    private int replicaCount;
+
+    @Value("${approval.sharding.replica-index:-1}")
+    private int replicaIndex;
+
+    @Value("${HOSTNAME:}")
+    private String hostname;
+
+    // 레플리카 주소 ({index}를 레플리카 번호로 치환)
+    @Value("${approval.sharding.peer-url-template:http://approval-processing-service-{index}.approval-processing-service-headless:8083}")
+    private String peerUrlTemplate;
+
+    @PostConstruct
+    public void init() {
+        if (replicaCount < 1 || replicaCount > shardCount) {
+            throw new IllegalStateException(String.format(
+                    "레플리카 수는 1 ~ 샤드 수(%d) 사이여야 합니다: %d", shardCount, replicaCount));
+        }
+        if (replicaIndex < 0) {
+            replicaIndex = ordinalOf(hostname);
+        }
+        if (replicaIndex < 0 || replicaIndex >= replicaCount) {
+            throw new IllegalStateException(String.format(
+                    "레플리카 번호가 범위를 벗어났습니다: index=%d, replicaCount=%d, hostname=%s",
+                    replicaIndex, replicaCount, hostname));
+        }
+        log.info("샤드 배치: replica={}/{}, shards={} (전체 {})",
+                replicaIndex, replicaCount, ownedShards(), shardCount);
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public int replicaCount() {
+        return replicaCount;
+    }
+
+    public int replicaIndex() {
+        return replicaIndex;
+    }
+
+    public int shardOf(int requestId) {
+        return ApprovalShards.shardOf(requestId, shardCount);
+    }
+
+    public int ownerOfShard(int shard) {
+        return (int) ((long) shard * replicaCount / shardCount);
+    }
+
+    public int ownerOf(int requestId) {
+        return ownerOfShard(shardOf(requestId));
+    }
+
+    public boolean isLocal(int requestId) {
+        return ownerOf(requestId) == replicaIndex;
+    }
+
+    public List<Integer> ownedShards() {
+        List<Integer> shards = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            if (ownerOfShard(shard) == replicaIndex) {
+                shards.add(shard);
+            }
+        }
+        return shards;
+    }
+
+    public String[] ownedQueueNames() {
+        return ownedShards().stream()
+                .map(ApprovalShards::queueName)
+                .toArray(String[]::new);
+    }
+
+    public String peerUrl(int replica) {
+        return peerUrlTemplate.replace("{index}", String.valueOf(replica));
+    }
+
+    private static int ordinalOf(String hostname) {
+        if (hostname == null) {
+            return -1;
+        }
+        Matcher matcher = ORDINAL.matcher(hostname);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+}
@@ -0,0 +1,288 @@
+package com.programpractice.approval_processing_service.sharding;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.programpractice.approval_processing_service.dto.ApprovalInboxResponse;
+import com.programpractice.approval_processing_service.dto.ApprovalSummaryResponse;
+import com.programpractice.approval_processing_service.dto.BatchApprovalRequest;
+import com.programpractice.approval_processing_service.dto.BatchApprovalResponse;
+import com.programpractice.approval_processing_service.exception.ShardUnavailableException;
+import com.programpractice.approval_processing_service.repository.InboxCursor;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 샤드 모드 REST 라우터 (approval.sharding.enabled=true)
+ *
+ * - requestId 단위 API: 담당 레플리카가 아니면 요청을 그대로 전달하고 응답(상태 코드 포함)을 돌려준다.
+ * - 결재자 대기함: 모든 레플리카에서 같은 커서로 한 페이지씩 받아 (createdAt, requestId) 순으로 병합한다.
+ * - 요청자 진행 중 요청: 모든 레플리카 결과를 (createdAt, requestId) 순으로 병합한다.
+ * - 일괄 결정: 항목을 담당 레플리카별로 나눠 동시에 처리하고 요청 순서대로 결과를 합친다.
+ * 전달된 요청에는 FORWARDED_HEADER를 붙이며, 받은 쪽은 다시 전달하지 않고 로컬에서 처리한다.
+ */
+@Component
+@ConditionalOnProperty(name = "approval.sharding.enabled", havingValue = "true")
+@Slf4j
+public class ShardRouter {
+
+    public static final String FORWARDED_HEADER = "X-Approval-Shard-Forwarded";
+
+    private final ShardAssignment assignment;
+    private final RestTemplate restTemplate;
+    private final ExecutorService executor;
+
+    public ShardRouter(ShardAssignment assignment, RestTemplate restTemplate) {
+        this.assignment = assignment;
+        this.restTemplate = restTemplate;
+        this.executor = Executors.newFixedThreadPool(Math.max(2, assignment.replicaCount()), runnable -> {
+            Thread thread = new Thread(runnable, "shard-router");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public boolean isLocal(Integer requestId) {
+        return assignment.isLocal(requestId);
+    }
+
+    /**
+     * 담당 레플리카로 요청 전달
+     * 상대가 오류 상태 코드를 반환하면 같은 상태 코드로, 연결 실패면 503으로 돌려준다.
+     */
+    public <T> ResponseEntity<T> forward(Integer requestId, HttpMethod method, String path,
+                                         Object body, Class<T> responseType) {
+        int owner = assignment.ownerOf(requestId);
+        String url = assignment.peerUrl(owner) + path;
+        log.debug("샤드 전달: requestId={}, owner={}, {} {}", requestId, owner, method, url);
+
+        try {
+            return restTemplate.exchange(url, method, new HttpEntity<>(body, forwardedHeaders()), responseType);
+        } catch (HttpStatusCodeException e) {
+            T errorBody = null;
+            try {
+                errorBody = e.getResponseBodyAs(responseType);
+            } catch (RuntimeException ignored) {
+                // 본문 없는 오류 응답 (404 등)
+            }
+            return ResponseEntity.status(e.getStatusCode()).body(errorBody);
+        } catch (RestClientException e) {
+            log.error("담당 레플리카 호출 실패: requestId={}, owner={}, url={}", requestId, owner, url, e);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    /**
+     * 모든 레플리카의 대기함 페이지 병합
+     *
+     * @param local 이 레플리카의 페이지 조회
+     * @throws ShardUnavailableException 응답하지 않는 레플리카가 있는 경우 (병합 결과가 불완전해지므로)
+     */
+    public ApprovalInboxResponse gatherInbox(Long approverId, String cursor, int size,
+                                             Supplier<ApprovalInboxResponse> local) {
+        List<CompletableFuture<ApprovalInboxResponse>> pages = new ArrayList<>(assignment.replicaCount());
+        for (int replica = 0; replica < assignment.replicaCount(); replica++) {
+            if (replica == assignment.replicaIndex()) {
+                pages.add(CompletableFuture.completedFuture(local.get()));
+            } else {
+                int peer = replica;
+                pages.add(CompletableFuture.supplyAsync(() -> fetchInbox(peer, approverId, cursor, size), executor));
+            }
+        }
+
+        List<ApprovalSummaryResponse> merged = new ArrayList<>();
+        boolean peerHasMore = false;
+        long pendingCount = 0;
+        for (CompletableFuture<ApprovalInboxResponse> future : pages) {
+            ApprovalInboxResponse page = join(future);
+            merged.addAll(page.getItems());
+            peerHasMore |= page.getNextCursor() != null;
+            pendingCount += page.getPendingCount() != null ? page.getPendingCount() : 0;
+        }
+
+        merged.sort(Comparator.comparing(item -> InboxCursor.of(item.getCreatedAt(), item.getRequestId())));
+        boolean hasNext = peerHasMore || merged.size() > size;
+        List<ApprovalSummaryResponse> items = merged.size() > size ? new ArrayList<>(merged.subList(0, size)) : merged;
+        String nextCursor = null;
+        if (hasNext && !items.isEmpty()) {
+            ApprovalSummaryResponse last = items.get(items.size() - 1);
+            nextCursor = InboxCursor.of(last.getCreatedAt(), last.getRequestId()).encode();
+        }
+
+        return ApprovalInboxResponse.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .pendingCount(pendingCount)
+                .build();
+    }
+
+    /**
+     * 모든 레플리카의 요청자 진행 중 요청 병합
+     *
+     * @param local 이 레플리카의 조회
+     * @throws ShardUnavailableException 응답하지 않는 레플리카가 있는 경우
+     */
+    public List<ApprovalSummaryResponse> gatherRequesterApprovals(Long requesterId,
+                                                                  Supplier<List<ApprovalSummaryResponse>> local) {
+        List<CompletableFuture<List<ApprovalSummaryResponse>>> parts = new ArrayList<>(assignment.replicaCount());
+        for (int replica = 0; replica < assignment.replicaCount(); replica++) {
+            if (replica == assignment.replicaIndex()) {
+                parts.add(CompletableFuture.completedFuture(local.get()));
+            } else {
+                int peer = replica;
+                parts.add(CompletableFuture.supplyAsync(() -> fetchRequesterApprovals(peer, requesterId), executor));
+            }
+        }
+
+        List<ApprovalSummaryResponse> merged = new ArrayList<>();
+        for (CompletableFuture<List<ApprovalSummaryResponse>> future : parts) {
+            merged.addAll(join(future));
+        }
+        merged.sort(Comparator.comparing(item -> InboxCursor.of(item.getCreatedAt(), item.getRequestId())));
+        return merged;
+    }
+
+    /**
+     * 일괄 결정을 담당 레플리카별로 나눠 처리
+     * 레플리카 호출에 실패하면 해당 항목들만 error로 표시한다.
+     *
+     * @param local 이 레플리카 담당 항목 처리 (항목 순서대로 결과 반환)
+     */
+    public List<BatchApprovalResponse.ItemResult> routeBatch(
+            Long approverId, List<BatchApprovalRequest.Item> items,
+            Function<List<BatchApprovalRequest.Item>, List<BatchApprovalResponse.ItemResult>> local) {
+
+        // 담당 레플리카별 (항목, 원래 위치)
+        Map<Integer, List<Integer>> positionsByOwner = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            int owner = assignment.ownerOf(items.get(i).getRequestId());
+            positionsByOwner.computeIfAbsent(owner, key -> new ArrayList<>()).add(i);
+        }
+
+        Map<Integer, CompletableFuture<List<BatchApprovalResponse.ItemResult>>> futures = new HashMap<>();
+        for (Map.Entry<Integer, List<Integer>> entry : positionsByOwner.entrySet()) {
+            int owner = entry.getKey();
+            List<BatchApprovalRequest.Item> part = entry.getValue().stream().map(items::get).toList();
+            if (owner == assignment.replicaIndex()) {
+                futures.put(owner, CompletableFuture.completedFuture(local.apply(part)));
+            } else {
+                futures.put(owner, CompletableFuture.supplyAsync(() -> forwardBatch(owner, approverId, part), executor));
+            }
+        }
+
+        BatchApprovalResponse.ItemResult[] results = new BatchApprovalResponse.ItemResult[items.size()];
+        for (Map.Entry<Integer, List<Integer>> entry : positionsByOwner.entrySet()) {
+            List<Integer> positions = entry.getValue();
+            List<BatchApprovalResponse.ItemResult> partResults = futures.get(entry.getKey()).join();
+            for (int i = 0; i < positions.size(); i++) {
+                results[positions.get(i)] = partResults.get(i);
+            }
+        }
+        return List.of(results);
+    }
+
+    private ApprovalInboxResponse fetchInbox(int replica, Long approverId, String cursor, int size) {
+        String url = UriComponentsBuilder.fromUriString(assignment.peerUrl(replica))
+                .path("/process/{approverId}")
+                .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                .queryParam("size", size)
+                .buildAndExpand(approverId)
+                .toUriString();
+        try {
+            ApprovalInboxResponse page = restTemplate.exchange(url, HttpMethod.GET,
+                    new HttpEntity<>(forwardedHeaders()), ApprovalInboxResponse.class).getBody();
+            if (page == null || page.getItems() == null) {
+                throw new ShardUnavailableException("레플리카 응답이 비어 있습니다: replica=" + replica, null);
+            }
+            return page;
+        } catch (RestClientException e) {
+            throw new ShardUnavailableException("레플리카 대기함 조회 실패: replica=" + replica, e);
+        }
+    }
+
+    private List<ApprovalSummaryResponse> fetchRequesterApprovals(int replica, Long requesterId) {
+        String url = assignment.peerUrl(replica) + "/process/requester/" + requesterId;
+        try {
+            ApprovalSummaryResponse[] items = restTemplate.exchange(url, HttpMethod.GET,
+                    new HttpEntity<>(forwardedHeaders()), ApprovalSummaryResponse[].class).getBody();
+            if (items == null) {
+                throw new ShardUnavailableException("레플리카 응답이 비어 있습니다: replica=" + replica, null);
+            }
+            return List.of(items);
+        } catch (RestClientException e) {
+            throw new ShardUnavailableException("레플리카 요청자 조회 실패: replica=" + replica, e);
+        }
+    }
+
+    private List<BatchApprovalResponse.ItemResult> forwardBatch(int replica, Long approverId,
+                                                                List<BatchApprovalRequest.Item> part) {
+        String url = assignment.peerUrl(replica) + "/process/" + approverId + "/batch";
+        try {
+            BatchApprovalResponse response = restTemplate.exchange(url, HttpMethod.POST,
+                    new HttpEntity<>(new BatchApprovalRequest(part), forwardedHeaders()),
+                    BatchApprovalResponse.class).getBody();
+            if (response != null && response.getResults() != null && response.getResults().size() == part.size()) {
+                return response.getResults();
+            }
+            log.error("레플리카 일괄 결정 응답 불일치: replica={}, 요청={}", replica, part.size());
+        } catch (RestClientException e) {
+            log.error("레플리카 일괄 결정 전달 실패: replica={}, count={}", replica, part.size(), e);
+        }
+
+        // 결과를 알 수 없는 항목은 error로 표시 (재시도 시 이미 반영된 항목은 conflict로 돌아옴)
+        return part.stream()
+                .map(item -> BatchApprovalResponse.ItemResult.builder()
+                        .requestId(item.getRequestId())
+                        .status("error")
+                        .message("담당 레플리카 호출에 실패했습니다: replica=" + replica)
+                        .build())
+                .toList();
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static HttpHeaders forwardedHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(FORWARDED_HEADER, "true");
+        return headers;
+    }
+}
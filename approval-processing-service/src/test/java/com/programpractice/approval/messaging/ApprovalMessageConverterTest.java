@@ -0,0 +1,158 @@
+package com.programpractice.approval.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import com.programpractice.approval.messaging.ApprovalMessageConverter.WireFormat;
+
+/**
+ * 메시지 변환기 테스트
+ * - Protobuf 왕복 (null 필드, LocalDateTime 나노초 보존)
+ * - 발행 형식과 관계없이 content-type으로 수신 형식 판단
+ * - 압축 기준 이상 본문 gzip, 재변환 시 원본 속성 보존
+ * - 메시지 크기 비교 (JSON 대비 Protobuf)
+ */
+class ApprovalMessageConverterTest {
+
+    private static final LocalDateTime REQUESTED_AT = LocalDateTime.of(2025, 1, 1, 9, 0, 0, 123_456_789);
+
+    private final ApprovalMessageConverter json = new ApprovalMessageConverter(WireFormat.JSON, 0);
+    private final ApprovalMessageConverter protobuf = new ApprovalMessageConverter(WireFormat.PROTOBUF, 0);
+
+    @Test
+    void roundTripsRequestMessageThroughProtobuf() {
+        ApprovalRequestMessage original = requestMessage("짧은 본문");
+        original.setRequesterName(null);
+
+        Message message = protobuf.toMessage(original, new MessageProperties());
+        assertThat(message.getMessageProperties().getContentType())
+                .isEqualTo(ApprovalMessageConverter.CONTENT_TYPE_PROTOBUF);
+        assertThat((String) message.getMessageProperties().getHeader(ApprovalMessageConverter.SCHEMA_HEADER))
+                .isEqualTo("approval.messaging.v1.ApprovalRequestMessage");
+
+        ApprovalRequestMessage decoded = protobuf.read(message, ApprovalRequestMessage.class);
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(original);
+        assertThat(decoded.getRequesterName()).isNull();
+        assertThat(decoded.getRequestedAt()).isEqualTo(REQUESTED_AT);
+        assertThat(decoded.getSteps().get(1).getProcessedAt()).isNull();
+    }
+
+    @Test
+    void roundTripsResponseMessageThroughProtobuf() {
+        ApprovalResponseMessage original = responseMessage();
+
+        Message message = protobuf.toMessage(original, new MessageProperties());
+        ApprovalResponseMessage decoded = protobuf.read(message, ApprovalResponseMessage.class);
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(original);
+        assertThat(decoded.getErrorMessage()).isNull();
+        assertThat(decoded.isSuccess()).isTrue();
+    }
+
+    @Test
+    void readsEitherFormatRegardlessOfPublishFormat() {
+        ApprovalRequestMessage original = requestMessage("본문");
+
+        Message fromJsonPublisher = json.toMessage(original, new MessageProperties());
+        Message fromProtobufPublisher = protobuf.toMessage(original, new MessageProperties());
+
+        assertThat(protobuf.read(fromJsonPublisher, ApprovalRequestMessage.class))
+                .usingRecursiveComparison().isEqualTo(original);
+        assertThat(json.read(fromProtobufPublisher, ApprovalRequestMessage.class))
+                .usingRecursiveComparison().isEqualTo(original);
+    }
+
+    @Test
+    void compressesLargeBodiesAndKeepsOriginalPropertiesForRedelivery() {
+        ApprovalMessageConverter compressing = new ApprovalMessageConverter(WireFormat.JSON, 2048);
+        ApprovalRequestMessage large = requestMessage("결재 본문 반복 ".repeat(500));
+        ApprovalRequestMessage small = requestMessage("짧은 본문");
+
+        Message compressed = compressing.toMessage(large, new MessageProperties());
+        Message uncompressed = compressing.toMessage(small, new MessageProperties());
+        int plainSize = json.toMessage(large, new MessageProperties()).getBody().length;
+
+        assertThat(compressed.getMessageProperties().getContentEncoding()).isEqualTo("gzip:UTF-8");
+        assertThat(compressed.getBody().length).isLessThan(plainSize / 4);
+        assertThat(uncompressed.getMessageProperties().getContentEncoding()).isEqualTo("UTF-8");
+
+        // 리스너 재시도처럼 같은 Message를 두 번 변환, 파라미터 타입 추론 경로 사용
+        compressed.getMessageProperties().setInferredArgumentType(ApprovalRequestMessage.class);
+        Object first = compressing.fromMessage(compressed);
+        Object second = compressing.fromMessage(compressed);
+
+        assertThat(first).usingRecursiveComparison().isEqualTo(large);
+        assertThat(second).usingRecursiveComparison().isEqualTo(large);
+        assertThat(compressed.getMessageProperties().getContentEncoding()).isEqualTo("gzip:UTF-8");
+    }
+
+    @Test
+    void protobufIsSmallerThanJson() {
+        ApprovalRequestMessage request = requestMessage("2025년 1월 부산 출장 교통비 및 숙박비 정산 요청드립니다.");
+        ApprovalResponseMessage response = responseMessage();
+
+        int jsonRequest = json.toMessage(request, new MessageProperties()).getBody().length;
+        int protobufRequest = protobuf.toMessage(request, new MessageProperties()).getBody().length;
+        int jsonResponse = json.toMessage(response, new MessageProperties()).getBody().length;
+        int protobufResponse = protobuf.toMessage(response, new MessageProperties()).getBody().length;
+
+        assertThat(protobufRequest).as("request: json=%dB, protobuf=%dB", jsonRequest, protobufRequest)
+                .isLessThan(jsonRequest * 2 / 3);
+        assertThat(protobufResponse).as("response: json=%dB, protobuf=%dB", jsonResponse, protobufResponse)
+                .isLessThan(jsonResponse / 2);
+    }
+
+    @Test
+    void rejectsUnknownSchema() {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(ApprovalMessageConverter.CONTENT_TYPE_PROTOBUF);
+        properties.setHeader(ApprovalMessageConverter.SCHEMA_HEADER, "approval.messaging.v9.Unknown");
+
+        assertThatThrownBy(() -> protobuf.fromMessage(new Message(new byte[] {1, 2, 3}, properties)))
+                .isInstanceOf(MessageConversionException.class);
+    }
+
+    private static ApprovalRequestMessage requestMessage(String content) {
+        return ApprovalRequestMessage.builder()
+                .id("6750f0c2a1b2c3d4e5f60718")
+                .requestId(123_456)
+                .requesterId(42L)
+                .requesterName("홍길동")
+                .title("출장비 정산 요청")
+                .content(content)
+                .requestedAt(REQUESTED_AT)
+                .steps(List.of(
+                        ApprovalRequestMessage.ApprovalStepDto.builder()
+                                .step(1).approverId(1_001L).status("approved").comment("확인")
+                                .processedAt(REQUESTED_AT.plusMinutes(5)).build(),
+                        ApprovalRequestMessage.ApprovalStepDto.builder()
+                                .step(2).approverId(1_002L).status("pending").build()))
+                .build();
+    }
+
+    private static ApprovalResponseMessage responseMessage() {
+        return ApprovalResponseMessage.builder()
+                .id("6750f0c2a1b2c3d4e5f60718")
+                .requestId(123_456)
+                .step(2)
+                .approverId(1_002L)
+                .status("approved")
+                .finalStatus("pending")
+                .comment("확인했습니다.")
+                .updatedAt(REQUESTED_AT.plusHours(1))
+                .processedAt(REQUESTED_AT.plusHours(1))
+                .success(true)
+                .numericRequestId(123_456)
+                .requesterId(42)
+                .title("출장비 정산 요청")
+                .build();
+    }
+}
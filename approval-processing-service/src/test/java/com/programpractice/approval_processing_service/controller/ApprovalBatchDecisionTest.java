@@ -0,0 +1,259 @@
+package com.programpractice.approval_processing_service.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.programpractice.approval.messaging.ConfirmedMessagePublisher;
+import com.programpractice.approval_processing_service.dto.BatchApprovalRequest;
+import com.programpractice.approval_processing_service.dto.ProcessApprovalRequest;
+import com.programpractice.approval_processing_service.model.ApprovalRequest;
+import com.programpractice.approval_processing_service.model.ApprovalRequestFixtures;
+import com.programpractice.approval_processing_service.model.ApprovalStatus;
+import com.programpractice.approval_processing_service.repository.InMemoryApprovalRepository;
+import com.programpractice.approval_processing_service.service.ApprovalProcessingService;
+import com.programpractice.approval_processing_service.service.ApprovalResponsePublisher;
+import com.programpractice.approval_processing_service.service.EmployeeValidationService;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+/**
+ * 일괄 결정 API 테스트
+ * - 같은 요청 집합을 단건 API / 일괄 API로 처리했을 때 결과와 발행 건수가 같고,
+ *   일괄 API는 배치당 채널을 한 번만 잡는다
+ * - 항목별 결과 (부분 실패), 빈/초과 배치 거부
+ * - 결과 메시지가 confirm되지 않으면 received 대신 단건 503 / 항목별 error
+ *
+ * 브로커 대신 발행 후 1ms 뒤 confirm을 채우는 스케줄러를 사용한다.
+ * 처리량 비교는 src/jmh의 ApprovalBatchDecisionBenchmark에서 측정한다.
+ */
+class ApprovalBatchDecisionTest {
+
+    private static final int ITEM_COUNT = 3_000;
+    private static final Long APPROVER_ID = 1L;
+    private static final long CONFIRM_LATENCY_MS = 1;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final ScheduledExecutorService broker = Executors.newScheduledThreadPool(2);
+    private final AtomicInteger published = new AtomicInteger();
+    private final AtomicInteger channelCheckouts = new AtomicInteger();
+    private volatile boolean brokerAcks = true;
+
+    private Logger appLogger;
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        appLogger = (Logger) LoggerFactory.getLogger("com.programpractice");
+        previousLevel = appLogger.getLevel();
+        appLogger.setLevel(Level.WARN);
+    }
+
+    @AfterEach
+    void tearDown() {
+        appLogger.setLevel(previousLevel);
+        broker.shutdownNow();
+    }
+
+    @Test
+    void batchEndpointPublishesEachBatchOnOneChannel() throws Exception {
+        Fixture single = newFixture();
+        for (int requestId = 1; requestId <= ITEM_COUNT; requestId++) {
+            single.mockMvc.perform(post("/process/{approverId}/{requestId}", APPROVER_ID, requestId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsBytes(new ProcessApprovalRequest("approved", "ok"))))
+                    .andExpect(status().isOk());
+        }
+        single.awaitConfirms();
+        channelCheckouts.set(0);
+
+        Fixture batch = newFixture();
+        for (int from = 1; from <= ITEM_COUNT; from += BatchApprovalRequest.MAX_ITEMS) {
+            List<BatchApprovalRequest.Item> items = new ArrayList<>(BatchApprovalRequest.MAX_ITEMS);
+            for (int requestId = from; requestId < from + BatchApprovalRequest.MAX_ITEMS; requestId++) {
+                items.add(new BatchApprovalRequest.Item(requestId, "approved", "ok"));
+            }
+            batch.mockMvc.perform(post("/process/{approverId}/batch", APPROVER_ID)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsBytes(new BatchApprovalRequest(items))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.received").value(BatchApprovalRequest.MAX_ITEMS));
+        }
+        batch.awaitConfirms();
+
+        assertThat(single.finalizedCount()).isEqualTo(ITEM_COUNT);
+        assertThat(batch.finalizedCount()).isEqualTo(ITEM_COUNT);
+        assertThat(published.get()).isEqualTo(ITEM_COUNT * 2);
+        assertThat(channelCheckouts.get()).isEqualTo(ITEM_COUNT / BatchApprovalRequest.MAX_ITEMS);
+    }
+
+    @Test
+    void reportsPerItemResultsWithPartialFailure() throws Exception {
+        Fixture fixture = newFixture();
+        // 1: 승인, 2: 반려, 1(중복): 오류, 3: 이미 처리됨(충돌), 999: 없음(오류), 4: 잘못된 상태값(오류)
+        fixture.repository.findByRequestId(3).ifPresent(request -> {
+            ApprovalRequest decided = request.copy();
+            decided.getSteps().get(0).approve("earlier");
+            decided.updateFinalStatus(ApprovalStatus.APPROVED);
+            fixture.repository.compareAndSave(decided, request.getVersion());
+        });
+        List<BatchApprovalRequest.Item> items = List.of(
+                new BatchApprovalRequest.Item(1, "approved", "ok"),
+                new BatchApprovalRequest.Item(2, "rejected", "no"),
+                new BatchApprovalRequest.Item(1, "approved", "again"),
+                new BatchApprovalRequest.Item(3, "approved", "late"),
+                new BatchApprovalRequest.Item(999_999, "approved", null),
+                new BatchApprovalRequest.Item(4, "maybe", null));
+
+        fixture.mockMvc.perform(post("/process/{approverId}/batch", APPROVER_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(new BatchApprovalRequest(items))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(6))
+                .andExpect(jsonPath("$.received").value(2))
+                .andExpect(jsonPath("$.conflicts").value(1))
+                .andExpect(jsonPath("$.errors").value(3))
+                .andExpect(jsonPath("$.results[0].finalStatus").value("approved"))
+                .andExpect(jsonPath("$.results[1].finalStatus").value("rejected"))
+                .andExpect(jsonPath("$.results[2].status").value("error"))
+                .andExpect(jsonPath("$.results[3].status").value("conflict"))
+                .andExpect(jsonPath("$.results[4].status").value("error"))
+                .andExpect(jsonPath("$.results[5].status").value("error"));
+        fixture.awaitConfirms();
+
+        assertThat(published.get()).isEqualTo(2);
+        assertThat(fixture.repository.findByRequestId(4).orElseThrow().getFinalStatus())
+                .isEqualTo(ApprovalStatus.PENDING);
+    }
+
+    @Test
+    void rejectsEmptyAndOversizedBatches() throws Exception {
+        Fixture fixture = newFixture();
+        List<BatchApprovalRequest.Item> tooMany = new ArrayList<>();
+        for (int requestId = 1; requestId <= BatchApprovalRequest.MAX_ITEMS + 1; requestId++) {
+            tooMany.add(new BatchApprovalRequest.Item(requestId, "approved", null));
+        }
+
+        fixture.mockMvc.perform(post("/process/{approverId}/batch", APPROVER_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(new BatchApprovalRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+        fixture.mockMvc.perform(post("/process/{approverId}/batch", APPROVER_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(new BatchApprovalRequest(tooMany))))
+                .andExpect(status().isBadRequest());
+        assertThat(published.get()).isZero();
+    }
+
+    @Test
+    void reportsUnconfirmedResultMessagesAsErrors() throws Exception {
+        Fixture fixture = newFixture();
+        brokerAcks = false;
+
+        fixture.mockMvc.perform(post("/process/{approverId}/{requestId}", APPROVER_ID, 1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(new ProcessApprovalRequest("approved", "ok"))))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status").value("error"));
+
+        List<BatchApprovalRequest.Item> items = List.of(
+                new BatchApprovalRequest.Item(2, "approved", "ok"),
+                new BatchApprovalRequest.Item(1, "approved", "again"),
+                new BatchApprovalRequest.Item(3, "rejected", "no"));
+        fixture.mockMvc.perform(post("/process/{approverId}/batch", APPROVER_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(new BatchApprovalRequest(items))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(0))
+                .andExpect(jsonPath("$.conflicts").value(1))
+                .andExpect(jsonPath("$.errors").value(2))
+                .andExpect(jsonPath("$.results[0].status").value("error"))
+                .andExpect(jsonPath("$.results[1].status").value("conflict"))
+                .andExpect(jsonPath("$.results[2].status").value("error"));
+
+        // 결정 자체는 반영된 상태 (nack 후 max-attempts회 재발행)
+        assertThat(fixture.finalizedCount()).isEqualTo(3);
+        assertThat(published.get()).isEqualTo(3 * 3);
+    }
+
+    private Fixture newFixture() {
+        InMemoryApprovalRepository repository = new InMemoryApprovalRepository();
+        for (int requestId = 1; requestId <= ITEM_COUNT; requestId++) {
+            repository.save(ApprovalRequestFixtures.newRequest(requestId, APPROVER_ID));
+        }
+
+        RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+        doAnswer(invocation -> {
+            published.incrementAndGet();
+            CorrelationData correlationData = invocation.getArgument(3);
+            boolean ack = brokerAcks;
+            broker.schedule(() -> correlationData.getFuture().complete(
+                            new CorrelationData.Confirm(ack, ack ? null : "nack")),
+                    CONFIRM_LATENCY_MS, TimeUnit.MILLISECONDS);
+            return null;
+        }).when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(), any(CorrelationData.class));
+        doAnswer(invocation -> {
+            channelCheckouts.incrementAndGet();
+            RabbitOperations.OperationsCallback<?> callback = invocation.getArgument(0);
+            return callback.doInRabbit(rabbitTemplate);
+        }).when(rabbitTemplate).invoke(any());
+
+        ConfirmedMessagePublisher confirmedPublisher = new ConfirmedMessagePublisher(rabbitTemplate);
+        ReflectionTestUtils.setField(confirmedPublisher, "windowSize", 256);
+        ReflectionTestUtils.setField(confirmedPublisher, "acquireTimeoutMs", 5_000L);
+        ReflectionTestUtils.setField(confirmedPublisher, "confirmTimeoutMs", 10_000L);
+        ReflectionTestUtils.setField(confirmedPublisher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(confirmedPublisher, "retryBackoffMs", 10L);
+        confirmedPublisher.start();
+
+        ApprovalProcessingService processingService = new ApprovalProcessingService(
+                repository, mock(EmployeeValidationService.class), Optional.empty(), Optional.empty());
+        ApprovalController controller = new ApprovalController(
+                processingService, new ApprovalResponsePublisher(confirmedPublisher), Optional.empty());
+        ReflectionTestUtils.setField(controller, "publishTimeoutMs", 10_000L);
+        return new Fixture(repository, confirmedPublisher, MockMvcBuilders.standaloneSetup(controller).build());
+    }
+
+    private record Fixture(InMemoryApprovalRepository repository, ConfirmedMessagePublisher publisher,
+                           MockMvc mockMvc) {
+
+        void awaitConfirms() throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 30_000;
+            while (publisher.outstandingCount() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+            assertThat(publisher.outstandingCount()).isZero();
+        }
+
+        long finalizedCount() {
+            return repository.finalizedTracker().count();
+        }
+    }
+}
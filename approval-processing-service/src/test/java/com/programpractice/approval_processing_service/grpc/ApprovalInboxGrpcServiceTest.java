@@ -0,0 +1,265 @@
+package com.programpractice.approval_processing_service.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.programpractice.approval.inbox.v1.ApprovalInboxGrpc;
+import com.programpractice.approval.inbox.v1.InboxEvent;
+import com.programpractice.approval.inbox.v1.InboxSnapshot;
+import com.programpractice.approval.inbox.v1.WatchInboxRequest;
+import com.programpractice.approval.messaging.ApprovalRequestMessage;
+import com.programpractice.approval_processing_service.dto.ProcessApprovalRequest;
+import com.programpractice.approval_processing_service.model.ApprovalRequest;
+import com.programpractice.approval_processing_service.model.ApprovalRequestFixtures;
+import com.programpractice.approval_processing_service.repository.InMemoryApprovalRepository;
+import com.programpractice.approval_processing_service.service.ApprovalInboxFeed;
+import com.programpractice.approval_processing_service.service.ApprovalProcessingService;
+import com.programpractice.approval_processing_service.service.EmployeeValidationService;
+import com.programpractice.approval_processing_service.sharding.ShardRouter;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 대기함 구독(WatchInbox) 테스트 (in-process 서버)
+ * - 스냅샷 페이지 후 승인 요청 저장/승인 처리에 따른 추가/제거 이벤트
+ * - 클라이언트가 받지 않는 동안 버퍼가 넘치면 이벤트를 버리고 스냅샷 재전송
+ * - 전송은 변경 스레드가 아닌 drain 스레드에서
+ * - 샤드 모드에서는 FAILED_PRECONDITION
+ */
+class ApprovalInboxGrpcServiceTest {
+
+    private static final long APPROVER_ID = 1L;
+    private static final long NEXT_APPROVER_ID = 2L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private InMemoryApprovalRepository repository;
+    private ApprovalProcessingService processingService;
+    private ApprovalInboxFeed inboxFeed;
+    private ApprovalInboxGrpcService grpcService;
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        repository = new InMemoryApprovalRepository();
+        inboxFeed = new ApprovalInboxFeed();
+        processingService = new ApprovalProcessingService(
+                repository, mock(EmployeeValidationService.class), Optional.empty(), Optional.of(inboxFeed));
+        grpcService = new ApprovalInboxGrpcService(processingService, inboxFeed, meterRegistry, Optional.empty());
+        startServer();
+    }
+
+    private void startServer() throws Exception {
+        ReflectionTestUtils.setField(grpcService, "maxBufferedEvents", 5);
+        ReflectionTestUtils.setField(grpcService, "drainThreads", 1);
+        grpcService.start();
+
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).directExecutor().addService(grpcService).build().start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+        grpcService.stop();
+    }
+
+    @Test
+    void sendsSnapshotPagesThenIncrementalEvents() throws Exception {
+        int backlog = ApprovalInboxGrpcService.SNAPSHOT_PAGE_SIZE + 50;
+        for (int requestId = 1; requestId <= backlog; requestId++) {
+            repository.save(newRequest(requestId));
+        }
+        Watcher watcher = watch(APPROVER_ID, Integer.MAX_VALUE);
+
+        InboxSnapshot first = watcher.next().getSnapshot();
+        InboxSnapshot second = watcher.next().getSnapshot();
+        assertThat(first.getReset()).isTrue();
+        assertThat(first.getComplete()).isFalse();
+        assertThat(first.getPendingCount()).isEqualTo(backlog);
+        assertThat(first.getItemsCount()).isEqualTo(ApprovalInboxGrpcService.SNAPSHOT_PAGE_SIZE);
+        assertThat(second.getReset()).isFalse();
+        assertThat(second.getComplete()).isTrue();
+        assertThat(second.getItemsCount()).isEqualTo(50);
+
+        // 신규 요청 저장 → 추가
+        processingService.processApprovalRequest(newMessage(10_000));
+        InboxEvent added = watcher.next();
+        assertThat(added.getAdded().getRequestId()).isEqualTo(10_000);
+        assertThat(added.getAdded().getCurrentStep()).isEqualTo(1);
+
+        // 1단계 승인 → 1번 승인자 대기함에서 제거, 2번 승인자 대기함에 추가
+        Watcher nextApprover = watch(NEXT_APPROVER_ID, Integer.MAX_VALUE);
+        assertThat(nextApprover.next().getSnapshot().getItemsCount()).isZero();
+        processingService.processApproval(APPROVER_ID, 10_000, new ProcessApprovalRequest("approved", "확인"));
+
+        assertThat(watcher.next().getRemoved().getRequestId()).isEqualTo(10_000);
+        InboxEvent moved = nextApprover.next();
+        assertThat(moved.getAdded().getRequestId()).isEqualTo(10_000);
+        assertThat(moved.getAdded().getCurrentStep()).isEqualTo(2);
+
+        // 최종 승인 → 2번 승인자 대기함에서 제거
+        processingService.processApproval(NEXT_APPROVER_ID, 10_000, new ProcessApprovalRequest("approved", null));
+        assertThat(nextApprover.next().getRemoved().getRequestId()).isEqualTo(10_000);
+        assertThat(watcher.poll()).isNull();
+
+        watcher.cancel();
+        nextApprover.cancel();
+        assertThat(inboxFeed.subscriberCount()).isZero();
+    }
+
+    @Test
+    void resendsSnapshotWhenSlowClientOverflowsBuffer() throws Exception {
+        repository.save(newRequest(1));
+        Watcher watcher = watch(APPROVER_ID, 1);
+        assertThat(watcher.next().getSnapshot().getItemsCount()).isEqualTo(1);
+
+        // 클라이언트가 더 받지 않는 동안 버퍼(5건)를 넘기는 변경
+        for (int requestId = 2; requestId <= 11; requestId++) {
+            processingService.processApprovalRequest(newMessage(requestId));
+        }
+        assertThat(watcher.poll()).isNull();
+
+        watcher.request(100);
+        InboxSnapshot resync = watcher.next().getSnapshot();
+        assertThat(resync.getReset()).isTrue();
+        assertThat(resync.getComplete()).isTrue();
+        assertThat(resync.getItemsList()).extracting(item -> item.getRequestId())
+                .containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11);
+        // 재전송 이후 변경분 (7번 요청에서 버퍼를 비웠으므로 8~11)
+        for (int requestId = 8; requestId <= 11; requestId++) {
+            assertThat(watcher.next().getAdded().getRequestId()).isEqualTo(requestId);
+        }
+        assertThat(watcher.poll()).isNull();
+        assertThat(meterRegistry.counter("approval.inbox.watch.resyncs").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void deliversEventsOffTheMutatingThread() throws Exception {
+        Watcher watcher = watch(APPROVER_ID, Integer.MAX_VALUE);
+        assertThat(watcher.next().getSnapshot().getComplete()).isTrue();
+
+        processingService.processApprovalRequest(newMessage(1));
+        assertThat(watcher.next().getAdded().getRequestId()).isEqualTo(1);
+        assertThat(watcher.deliveryThreads).doesNotContain(Thread.currentThread())
+                .allSatisfy(thread -> assertThat(thread.getName()).startsWith("inbox-watch-drain-"));
+    }
+
+    @Test
+    void rejectsWatchInShardedMode() throws Exception {
+        tearDown();
+        grpcService = new ApprovalInboxGrpcService(
+                processingService, inboxFeed, meterRegistry, Optional.of(mock(ShardRouter.class)));
+        startServer();
+
+        Watcher watcher = watch(APPROVER_ID, Integer.MAX_VALUE);
+        Throwable error = watcher.error.get(5, TimeUnit.SECONDS);
+        assertThat(error).isInstanceOf(StatusRuntimeException.class);
+        assertThat(Status.fromThrowable(error).getCode()).isEqualTo(Status.Code.FAILED_PRECONDITION);
+        assertThat(inboxFeed.subscriberCount()).isZero();
+    }
+
+    private Watcher watch(long approverId, int initialRequests) {
+        Watcher watcher = new Watcher(initialRequests);
+        ApprovalInboxGrpc.newStub(channel)
+                .watchInbox(WatchInboxRequest.newBuilder().setApproverId(approverId).build(), watcher);
+        return watcher;
+    }
+
+    private ApprovalRequest newRequest(int requestId) {
+        return ApprovalRequestFixtures.withSteps(ApprovalRequestFixtures.builder(requestId).requesterId(100L).build(),
+                APPROVER_ID, NEXT_APPROVER_ID);
+    }
+
+    private ApprovalRequestMessage newMessage(int requestId) {
+        return ApprovalRequestMessage.builder()
+                .id("mongo-" + requestId)
+                .requestId(requestId)
+                .requesterId(100L)
+                .title("title-" + requestId)
+                .requestedAt(ApprovalRequestFixtures.BASE_TIME.plusSeconds(requestId))
+                .steps(List.of(
+                        ApprovalRequestMessage.ApprovalStepDto.builder().step(1).approverId(APPROVER_ID).build(),
+                        ApprovalRequestMessage.ApprovalStepDto.builder().step(2).approverId(NEXT_APPROVER_ID).build()))
+                .build();
+    }
+
+    /**
+     * 수동 흐름 제어 구독자: 처음에 initialRequests개만 요청하고 이후 request(n)으로 더 받는다
+     */
+    private static final class Watcher implements ClientResponseObserver<WatchInboxRequest, InboxEvent> {
+
+        private final int initialRequests;
+        private final BlockingQueue<InboxEvent> received = new LinkedBlockingQueue<>();
+        private final Set<Thread> deliveryThreads = ConcurrentHashMap.newKeySet();
+        private final CompletableFuture<Throwable> error = new CompletableFuture<>();
+        private ClientCallStreamObserver<WatchInboxRequest> call;
+
+        private Watcher(int initialRequests) {
+            this.initialRequests = initialRequests;
+        }
+
+        @Override
+        public void beforeStart(ClientCallStreamObserver<WatchInboxRequest> requestStream) {
+            this.call = requestStream;
+            requestStream.disableAutoRequestWithInitial(initialRequests);
+        }
+
+        @Override
+        public void onNext(InboxEvent event) {
+            deliveryThreads.add(Thread.currentThread());
+            received.add(event);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error.complete(t);
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+
+        InboxEvent next() throws InterruptedException {
+            InboxEvent event = received.poll(5, TimeUnit.SECONDS);
+            assertThat(event).as("이벤트 수신 대기 시간 초과").isNotNull();
+            return event;
+        }
+
+        InboxEvent poll() throws InterruptedException {
+            return received.poll(100, TimeUnit.MILLISECONDS);
+        }
+
+        void request(int count) {
+            call.request(count);
+        }
+
+        void cancel() {
+            call.cancel("테스트 종료", null);
+        }
+    }
+}
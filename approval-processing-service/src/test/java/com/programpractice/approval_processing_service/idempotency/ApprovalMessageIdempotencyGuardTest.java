@@ -0,0 +1,102 @@
+package com.programpractice.approval_processing_service.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.programpractice.approval_processing_service.idempotency.ApprovalMessageIdempotencyGuard.Decision;
+import com.programpractice.approval_processing_service.model.ApprovalRequestFixtures;
+import com.programpractice.approval_processing_service.repository.InMemoryApprovalRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 메시지 멱등성 판정 테스트 (재전달, 다음 단계 알림, 윈도우 밖 재전송, 재기동 후 판정, 오탐률)
+ */
+class ApprovalMessageIdempotencyGuardTest {
+
+    private static final int WINDOW_SIZE = 1024;
+    private static final int NEXT_STEP_CAPACITY = 10_000;
+    private static final double NEXT_STEP_FPP = 0.001;
+
+    @Test
+    void rejectsRedeliveriesAndReplays() {
+        ApprovalMessageIdempotencyGuard guard = newGuard(new InMemoryApprovalRepository());
+
+        assertThat(guard.tryAccept(1, 1)).isEqualTo(Decision.ACCEPTED);
+        assertThat(guard.tryAccept(1, 1)).isEqualTo(Decision.DUPLICATE);
+
+        // 다음 단계 알림은 신규 요청과 별개의 키
+        assertThat(guard.tryAccept(1, 2)).isEqualTo(Decision.ACCEPTED);
+        assertThat(guard.tryAccept(1, 2)).isEqualTo(Decision.DUPLICATE);
+        assertThat(guard.tryAccept(1, 3)).isEqualTo(Decision.ACCEPTED);
+
+        // 처리 실패로 기록을 취소하면 재전달 시 다시 처리
+        assertThat(guard.tryAccept(2, 1)).isEqualTo(Decision.ACCEPTED);
+        guard.release(2, 1);
+        assertThat(guard.tryAccept(2, 1)).isEqualTo(Decision.ACCEPTED);
+
+        // 순서가 뒤바뀐 도착은 윈도우 안이면 정상 처리
+        assertThat(guard.tryAccept(500, 1)).isEqualTo(Decision.ACCEPTED);
+        assertThat(guard.tryAccept(400, 1)).isEqualTo(Decision.ACCEPTED);
+        assertThat(guard.tryAccept(400, 1)).isEqualTo(Decision.DUPLICATE);
+
+        // 최대값이 윈도우 크기 이상 전진하면 이전 값은 판정 불가 (리스너가 저장소로 확인)
+        assertThat(guard.tryAccept(500 + WINDOW_SIZE, 1)).isEqualTo(Decision.ACCEPTED);
+        assertThat(guard.tryAccept(500, 1)).isEqualTo(Decision.EXPIRED);
+        assertThat(guard.tryAccept(501, 1)).isEqualTo(Decision.ACCEPTED);
+        assertThat(guard.highWatermark()).isEqualTo(500 + WINDOW_SIZE);
+    }
+
+    @Test
+    void seedsFromRecoveredRepositoryOnStartup() {
+        InMemoryApprovalRepository repository = new InMemoryApprovalRepository();
+        for (int requestId = 1; requestId <= 10; requestId++) {
+            repository.save(ApprovalRequestFixtures.newRequest(requestId, 1L));
+        }
+        // 보존 정책으로 제거되어도 판정은 유지
+        repository.delete(repository.findByRequestId(3).orElseThrow());
+
+        ApprovalMessageIdempotencyGuard guard = newGuard(repository);
+
+        assertThat(guard.highWatermark()).isEqualTo(10);
+        assertThat(guard.tryAccept(5, 1)).isEqualTo(Decision.DUPLICATE);
+        assertThat(guard.tryAccept(11, 1)).isEqualTo(Decision.ACCEPTED);
+    }
+
+    @Test
+    void keepsMemoryAndFalsePositiveRateWithinConfiguredBounds() {
+        ApprovalMessageIdempotencyGuard guard = newGuard(new InMemoryApprovalRepository());
+        long memoryBefore = guard.memoryBytes();
+
+        int falsePositives = 0;
+        for (int requestId = 1; requestId <= NEXT_STEP_CAPACITY; requestId++) {
+            if (guard.tryAccept(requestId, 2) != Decision.ACCEPTED) {
+                falsePositives++;
+            }
+        }
+
+        // 비트맵 WINDOW_SIZE비트 + 2세대 Bloom 필터 (세대당 m = -n ln(p) / (ln 2)^2 비트, long 단위 올림)
+        long bloomWords = (long) Math.ceil(
+                -NEXT_STEP_CAPACITY * Math.log(NEXT_STEP_FPP) / (Math.log(2) * Math.log(2)) / Long.SIZE);
+        long expectedMemory = WINDOW_SIZE / Byte.SIZE + 2 * bloomWords * Long.BYTES;
+        assertThat(guard.memoryBytes()).isEqualTo(memoryBefore).isLessThanOrEqualTo(expectedMemory);
+
+        // 첫 세대를 capacity까지 채운 상태의 오탐률은 설정값 이하, 관측값은 설정값의 2배까지 허용
+        assertThat(guard.expectedFalsePositiveRate()).isLessThanOrEqualTo(NEXT_STEP_FPP);
+        assertThat((double) falsePositives / NEXT_STEP_CAPACITY).isLessThanOrEqualTo(NEXT_STEP_FPP * 2);
+    }
+
+    private ApprovalMessageIdempotencyGuard newGuard(InMemoryApprovalRepository repository) {
+        ApprovalMessageIdempotencyGuard guard = new ApprovalMessageIdempotencyGuard(
+                repository, Optional.empty(), Optional.empty(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(guard, "windowSize", WINDOW_SIZE);
+        ReflectionTestUtils.setField(guard, "nextStepCapacity", NEXT_STEP_CAPACITY);
+        ReflectionTestUtils.setField(guard, "nextStepFalsePositiveProbability", NEXT_STEP_FPP);
+        guard.start();
+        return guard;
+    }
+}
@@ -0,0 +1,136 @@
+package com.programpractice.approval_processing_service.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.programpractice.approval.messaging.ApprovalMessageConverter;
+import com.programpractice.approval.messaging.ApprovalRequestMessage;
+import com.programpractice.approval_processing_service.idempotency.ApprovalMessageIdempotencyGuard;
+import com.programpractice.approval_processing_service.repository.InMemoryApprovalRepository;
+import com.programpractice.approval_processing_service.service.ApprovalProcessingService;
+import com.programpractice.approval_processing_service.service.EmployeeValidationService;
+import com.rabbitmq.client.Channel;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 배치 크기별 ack/nack 검증 (배치 크기 1 / 32 / 256)
+ *
+ * 브로커 대신 메모리 큐에서 batch-size개씩 꺼내 리스너에 전달하고, Channel의 ack/nack을 기록한다.
+ * 중복 메시지(같은 requestId 2회)와 존재하지 않는 요청자가 섞여 있다.
+ * 배치 크기별 처리량은 ApprovalRequestBatchListenerBenchmark(jmh)에서 측정한다.
+ */
+class ApprovalRequestBatchListenerAckTest {
+
+    private static final int MESSAGE_COUNT = 2048;
+    private static final long MISSING_REQUESTER_ID = 999_999L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 32, 256})
+    void storesNewRequestsAndRequeuesMissingRequesters(int batchSize) throws Exception {
+        InMemoryApprovalRepository repository = new InMemoryApprovalRepository();
+        EmployeeValidationService validationService = mock(EmployeeValidationService.class);
+        when(validationService.findMissingEmployees(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.contains(MISSING_REQUESTER_ID) ? List.of(MISSING_REQUESTER_ID) : List.of();
+        });
+        ApprovalProcessingService processingService =
+                new ApprovalProcessingService(repository, validationService, Optional.empty(), Optional.empty());
+        ApprovalMessageIdempotencyGuard idempotencyGuard = new ApprovalMessageIdempotencyGuard(
+                repository, Optional.empty(), Optional.empty(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(idempotencyGuard, "windowSize", 1 << 16);
+        ReflectionTestUtils.setField(idempotencyGuard, "nextStepCapacity", 10_000);
+        ReflectionTestUtils.setField(idempotencyGuard, "nextStepFalsePositiveProbability", 0.001);
+        idempotencyGuard.start();
+        ApprovalRequestBatchListener listener =
+                new ApprovalRequestBatchListener(processingService,
+                        new ApprovalMessageConverter(ApprovalMessageConverter.WireFormat.JSON, 0), idempotencyGuard);
+
+        // 브로커 대신 사용하는 메모리 큐 + ack/nack 기록
+        Deque<Message> queue = new ArrayDeque<>();
+        long deliveryTag = 0;
+        int expectedStored = 0;
+        int expectedNacked = 0;
+        for (int requestId = 1; requestId <= MESSAGE_COUNT; requestId++) {
+            boolean invalidRequester = requestId % 100 == 0;
+            queue.add(toMessage(newMessage(requestId, invalidRequester), ++deliveryTag));
+            if (invalidRequester) {
+                expectedNacked++;
+            } else {
+                expectedStored++;
+            }
+            if (requestId % 10 == 0 && !invalidRequester) {
+                queue.add(toMessage(newMessage(requestId, false), ++deliveryTag));  // 중복 수신
+            }
+        }
+        int delivered = queue.size();
+
+        Channel channel = mock(Channel.class);
+        AtomicLong ackedUpTo = new AtomicLong();
+        List<Long> nacked = new ArrayList<>();
+        doAnswer(invocation -> {
+            ackedUpTo.accumulateAndGet(invocation.getArgument(0), Math::max);
+            return null;
+        }).when(channel).basicAck(anyLong(), eq(true));
+        doAnswer(invocation -> {
+            nacked.add(invocation.getArgument(0));
+            return null;
+        }).when(channel).basicNack(anyLong(), eq(false), eq(true));
+
+        while (!queue.isEmpty()) {
+            List<Message> batch = new ArrayList<>(batchSize);
+            while (batch.size() < batchSize && !queue.isEmpty()) {
+                batch.add(queue.poll());
+            }
+            listener.handleApprovalRequests(batch, channel);
+        }
+
+        assertThat(repository.count()).isEqualTo(expectedStored);
+        assertThat(nacked).hasSize(expectedNacked);
+        assertThat(ackedUpTo.get()).isEqualTo(delivered);  // 마지막 메시지는 정상 건
+    }
+
+    private ApprovalRequestMessage newMessage(int requestId, boolean invalidRequester) {
+        return ApprovalRequestMessage.builder()
+                .id("mongo-" + requestId)
+                .requestId(requestId)
+                .requesterId(invalidRequester ? MISSING_REQUESTER_ID : 1000L + requestId % 50)
+                .title("title-" + requestId)
+                .content("content")
+                .requestedAt(LocalDateTime.now())
+                .steps(List.of(
+                        ApprovalRequestMessage.ApprovalStepDto.builder().step(1).approverId(1L).build(),
+                        ApprovalRequestMessage.ApprovalStepDto.builder().step(2).approverId(2L).build()))
+                .build();
+    }
+
+    private Message toMessage(ApprovalRequestMessage payload, long deliveryTag) throws Exception {
+        MessageProperties properties = new MessageProperties();
+        properties.setDeliveryTag(deliveryTag);
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        return new Message(objectMapper.writeValueAsBytes(payload), properties);
+    }
+}
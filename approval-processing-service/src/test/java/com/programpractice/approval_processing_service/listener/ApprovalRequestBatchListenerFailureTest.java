@@ -0,0 +1,130 @@
+package com.programpractice.approval_processing_service.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.programpractice.approval.messaging.ApprovalMessageConverter;
+import com.programpractice.approval.messaging.ApprovalRequestMessage;
+import com.programpractice.approval_processing_service.idempotency.ApprovalMessageIdempotencyGuard;
+import com.programpractice.approval_processing_service.repository.InMemoryApprovalRepository;
+import com.programpractice.approval_processing_service.service.ApprovalProcessingService;
+import com.programpractice.approval_processing_service.service.EmployeeValidationService;
+import com.rabbitmq.client.Channel;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 배치 리스너 실패 처리 테스트
+ * - Employee Service 장애(배치 전체 실패)는 백오프 재시도 후 재전달, 재전달된 메시지여도 폐기하지 않음
+ * - 존재하지 않는 요청자(건별 실패)는 재전달된 메시지면 폐기
+ */
+class ApprovalRequestBatchListenerFailureTest {
+
+    private static final long MISSING_REQUESTER_ID = 999_999L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private InMemoryApprovalRepository repository;
+    private EmployeeValidationService validationService;
+    private ApprovalRequestBatchListener listener;
+    private Channel channel;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryApprovalRepository();
+        validationService = mock(EmployeeValidationService.class);
+        ApprovalProcessingService processingService =
+                new ApprovalProcessingService(repository, validationService, Optional.empty(), Optional.empty());
+        ApprovalMessageIdempotencyGuard idempotencyGuard = new ApprovalMessageIdempotencyGuard(
+                repository, Optional.empty(), Optional.empty(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(idempotencyGuard, "windowSize", 1 << 16);
+        ReflectionTestUtils.setField(idempotencyGuard, "nextStepCapacity", 10_000);
+        ReflectionTestUtils.setField(idempotencyGuard, "nextStepFalsePositiveProbability", 0.001);
+        idempotencyGuard.start();
+
+        listener = new ApprovalRequestBatchListener(processingService,
+                new ApprovalMessageConverter(ApprovalMessageConverter.WireFormat.JSON, 0), idempotencyGuard);
+        ReflectionTestUtils.setField(listener, "maxAttempts", 3);
+        ReflectionTestUtils.setField(listener, "initialIntervalMs", 1L);
+        ReflectionTestUtils.setField(listener, "multiplier", 2.0);
+        ReflectionTestUtils.setField(listener, "maxIntervalMs", 10L);
+        channel = mock(Channel.class);
+    }
+
+    @Test
+    void employeeServiceOutageIsRetriedAndRequeuedEvenWhenRedelivered() throws Exception {
+        when(validationService.findMissingEmployees(anyCollection()))
+                .thenThrow(new RuntimeException("Employee Service 연결 실패"));
+
+        listener.handleApprovalRequests(List.of(toMessage(1, 1L, true), toMessage(2, 2L, true)), channel);
+
+        verify(validationService, times(3)).findMissingEmployees(anyCollection());
+        verify(channel).basicNack(1L, false, true);
+        verify(channel).basicNack(2L, false, true);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+        assertThat(repository.count()).isZero();
+    }
+
+    @Test
+    void recoversWithinBackoffWithoutRequeue() throws Exception {
+        when(validationService.findMissingEmployees(anyCollection()))
+                .thenThrow(new RuntimeException("Employee Service 연결 실패"))
+                .thenReturn(List.of());
+
+        listener.handleApprovalRequests(List.of(toMessage(1, 1L, false), toMessage(2, 2L, false)), channel);
+
+        verify(validationService, times(2)).findMissingEmployees(anyCollection());
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+        verify(channel).basicAck(2L, true);
+        assertThat(repository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void discardsRedeliveredMessageWithMissingRequester() throws Exception {
+        when(validationService.findMissingEmployees(anyCollection())).thenReturn(List.of(MISSING_REQUESTER_ID));
+
+        listener.handleApprovalRequests(List.of(
+                toMessage(1, MISSING_REQUESTER_ID, false),
+                toMessage(2, MISSING_REQUESTER_ID, true),
+                toMessage(3, 3L, false)), channel);
+
+        verify(validationService, times(1)).findMissingEmployees(anyCollection());
+        verify(channel).basicNack(1L, false, true);
+        verify(channel).basicNack(2L, false, false);
+        verify(channel).basicAck(3L, true);
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    private Message toMessage(int requestId, long requesterId, boolean redelivered) throws Exception {
+        ApprovalRequestMessage payload = ApprovalRequestMessage.builder()
+                .id("mongo-" + requestId)
+                .requestId(requestId)
+                .requesterId(requesterId)
+                .title("title-" + requestId)
+                .requestedAt(LocalDateTime.now())
+                .steps(List.of(ApprovalRequestMessage.ApprovalStepDto.builder().step(1).approverId(1L).build()))
+                .build();
+        MessageProperties properties = new MessageProperties();
+        properties.setDeliveryTag(requestId);
+        properties.setRedelivered(redelivered);
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        return new Message(objectMapper.writeValueAsBytes(payload), properties);
+    }
+}
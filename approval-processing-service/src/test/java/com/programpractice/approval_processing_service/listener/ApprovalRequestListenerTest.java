@@ -0,0 +1,113 @@
+package com.programpractice.approval_processing_service.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.programpractice.approval.messaging.ApprovalMessageConverter;
+import com.programpractice.approval.messaging.ApprovalRequestMessage;
+import com.programpractice.approval_processing_service.idempotency.ApprovalMessageIdempotencyGuard.Decision;
+import com.programpractice.approval_processing_service.idempotency.ApprovalMessageIdempotencyGuard;
+import com.programpractice.approval_processing_service.repository.InMemoryApprovalRepository;
+import com.programpractice.approval_processing_service.service.ApprovalProcessingService;
+import com.programpractice.approval_processing_service.service.EmployeeValidationService;
+import com.rabbitmq.client.Channel;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 판정 윈도우 밖(EXPIRED) 승인 요청 처리 테스트 (건별/배치 리스너)
+ * 최대값이 윈도우 크기 이상 전진한 뒤 도착한 requestId는 저장소에 없으면 신규로 저장하고, 있으면 무시한다.
+ */
+class ApprovalRequestListenerTest {
+
+    private static final int WINDOW_SIZE = 1024;
+    private static final int LATE_REQUEST_ID = 10;
+    private static final int HIGH_REQUEST_ID = LATE_REQUEST_ID + WINDOW_SIZE;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private InMemoryApprovalRepository repository;
+    private ApprovalProcessingService processingService;
+    private ApprovalMessageIdempotencyGuard idempotencyGuard;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryApprovalRepository();
+        EmployeeValidationService validationService = mock(EmployeeValidationService.class);
+        when(validationService.findMissingEmployees(anyCollection())).thenReturn(List.of());
+        processingService =
+                new ApprovalProcessingService(repository, validationService, Optional.empty(), Optional.empty());
+        idempotencyGuard = new ApprovalMessageIdempotencyGuard(
+                repository, Optional.empty(), Optional.empty(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(idempotencyGuard, "windowSize", WINDOW_SIZE);
+        ReflectionTestUtils.setField(idempotencyGuard, "nextStepCapacity", 10_000);
+        ReflectionTestUtils.setField(idempotencyGuard, "nextStepFalsePositiveProbability", 0.001);
+        idempotencyGuard.start();
+    }
+
+    @Test
+    void singleListenerStoresNewRequestBelowWindowAndSkipsExistingOne() {
+        ApprovalRequestListener listener = new ApprovalRequestListener(processingService, idempotencyGuard);
+
+        listener.handleApprovalRequest(newMessage(LATE_REQUEST_ID - 1));
+        listener.handleApprovalRequest(newMessage(HIGH_REQUEST_ID));
+        assertThat(idempotencyGuard.tryAccept(LATE_REQUEST_ID, 1)).isEqualTo(Decision.EXPIRED);
+
+        // 다른 레플리카가 오래전에 예약한 블록에서 발급된 신규 요청
+        listener.handleApprovalRequest(newMessage(LATE_REQUEST_ID));
+        assertThat(processingService.existsByRequestId(LATE_REQUEST_ID)).isTrue();
+
+        // 이미 저장된 요청의 재전송은 저장소 확인으로 무시
+        listener.handleApprovalRequest(newMessage(LATE_REQUEST_ID - 1));
+        assertThat(repository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void batchListenerStoresNewRequestBelowWindow() throws Exception {
+        ApprovalRequestBatchListener listener = new ApprovalRequestBatchListener(processingService,
+                new ApprovalMessageConverter(ApprovalMessageConverter.WireFormat.JSON, 0), idempotencyGuard);
+        Channel channel = mock(Channel.class);
+
+        listener.handleApprovalRequests(List.of(
+                toMessage(newMessage(LATE_REQUEST_ID - 1), 1),
+                toMessage(newMessage(HIGH_REQUEST_ID), 2)), channel);
+        listener.handleApprovalRequests(List.of(
+                toMessage(newMessage(LATE_REQUEST_ID), 3),
+                toMessage(newMessage(LATE_REQUEST_ID - 1), 4)), channel);
+
+        assertThat(processingService.existsByRequestId(LATE_REQUEST_ID)).isTrue();
+        assertThat(repository.count()).isEqualTo(3);
+        verify(channel).basicAck(4L, true);
+    }
+
+    private ApprovalRequestMessage newMessage(int requestId) {
+        return ApprovalRequestMessage.builder()
+                .id("mongo-" + requestId)
+                .requestId(requestId)
+                .requesterId(100L)
+                .title("title-" + requestId)
+                .requestedAt(LocalDateTime.now())
+                .steps(List.of(ApprovalRequestMessage.ApprovalStepDto.builder().step(1).approverId(1L).build()))
+                .build();
+    }
+
+    private Message toMessage(ApprovalRequestMessage payload, long deliveryTag) throws Exception {
+        MessageProperties properties = new MessageProperties();
+        properties.setDeliveryTag(deliveryTag);
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        return new Message(objectMapper.writeValueAsBytes(payload), properties);
+    }
+}
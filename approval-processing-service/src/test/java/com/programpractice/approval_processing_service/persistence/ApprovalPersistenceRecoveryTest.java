@@ -0,0 +1,86 @@
+package com.programpractice.approval_processing_service.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.programpractice.approval_processing_service.model.ApprovalRequest;
+import com.programpractice.approval_processing_service.model.ApprovalRequestFixtures;
+import com.programpractice.approval_processing_service.model.ApprovalStatus;
+import com.programpractice.approval_processing_service.repository.InMemoryApprovalRepository;
+
+/**
+ * WAL + 스냅샷 복구 테스트
+ * 기록 처리량과 복구 시간은 ApprovalPersistenceBenchmark(jmh)에서 측정한다.
+ */
+class ApprovalPersistenceRecoveryTest {
+
+    private static final int COUNT = 5_000;
+    // 나노초까지 기록/복구되는지 확인
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 9, 30, 15, 123_456_789);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoversSnapshotAndLogTailAfterCrash() throws Exception {
+        InMemoryApprovalRepository repository = new InMemoryApprovalRepository();
+        ApprovalPersistenceManager manager = startManager(repository);
+
+        for (int requestId = 1; requestId <= COUNT; requestId++) {
+            repository.save(newRequest(requestId));
+        }
+
+        // 스냅샷 이후의 변경은 WAL 꼬리에만 존재
+        manager.takeSnapshot();
+        ApprovalRequest advanced = repository.findByRequestId(1).orElseThrow().copy();
+        advanced.getCurrentStep().approve("ok");
+        advanced.moveToNextStep();
+        assertThat(repository.compareAndSave(advanced, advanced.getVersion())).isTrue();
+        repository.delete(repository.findByRequestId(2).orElseThrow());
+
+        // 비정상 종료 가정: stop() 없이 새 저장소로 복구
+        InMemoryApprovalRepository recovered = new InMemoryApprovalRepository();
+        ApprovalPersistenceManager recoveredManager = startManager(recovered);
+
+        assertThat(recovered.count()).isEqualTo(COUNT - 1);
+        assertThat(recovered.existsByRequestId(2)).isFalse();
+
+        ApprovalRequest first = recovered.findByRequestId(1).orElseThrow();
+        assertThat(first.getVersion()).isEqualTo(1L);
+        assertThat(first.getCurrentStepOrder()).isEqualTo(2);
+        assertThat(first.getSteps().get(0).getStatus()).isEqualTo(ApprovalStatus.APPROVED);
+        assertThat(first.getSteps().get(0).getComment()).isEqualTo("ok");
+        assertThat(recovered.findPendingApprovalsByApproverId(200L)).hasSize(1);
+
+        ApprovalRequest last = recovered.findByRequestId(COUNT).orElseThrow();
+        assertThat(last.getContent()).isEqualTo("content-" + COUNT);
+        assertThat(last.getCreatedAt()).isEqualTo(CREATED_AT);
+
+        // 정상 종료 후에는 스냅샷만으로 복구
+        recoveredManager.stop();
+        InMemoryApprovalRepository reopened = new InMemoryApprovalRepository();
+        startManager(reopened).stop();
+        assertThat(reopened.count()).isEqualTo(COUNT - 1);
+    }
+
+    private ApprovalPersistenceManager startManager(InMemoryApprovalRepository repository) throws Exception {
+        ApprovalPersistenceManager manager = new ApprovalPersistenceManager(repository);
+        ReflectionTestUtils.setField(manager, "directory", directory.toString());
+        ReflectionTestUtils.setField(manager, "segmentSizeMb", 8);
+        ReflectionTestUtils.setField(manager, "flushIntervalMs", 1000L);
+        ReflectionTestUtils.setField(manager, "snapshotIntervalSeconds", 3600L);
+        manager.start();
+        return manager;
+    }
+
+    private ApprovalRequest newRequest(int requestId) {
+        return ApprovalRequestFixtures.withSteps(
+                ApprovalRequestFixtures.builder(requestId).createdAt(CREATED_AT).build(), 100L, 200L, 300L);
+    }
+}
@@ -0,0 +1,166 @@
+package com.programpractice.approval_processing_service.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.programpractice.approval_processing_service.client.ApprovalRequestServiceClient;
+import com.programpractice.approval_processing_service.dto.ApprovalStepDto;
+import com.programpractice.approval_processing_service.dto.InProgressApprovalPage;
+import com.programpractice.approval_processing_service.dto.InProgressApprovalRange;
+import com.programpractice.approval_processing_service.model.ApprovalRequest;
+import com.programpractice.approval_processing_service.model.ApprovalStatus;
+import com.programpractice.approval_processing_service.repository.InMemoryApprovalRepository;
+
+/**
+ * 진행 중 결재 요청 재적재 테스트
+ * Approval Request Service는 requestId 1..COUNT 중 7의 배수를 제외한 건이 진행 중인 것으로 흉내 낸다.
+ */
+class ApprovalStateRehydratorTest {
+
+    private static final int COUNT = 1_000;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private final ApprovalRequestServiceClient client = mock(ApprovalRequestServiceClient.class);
+    private InMemoryApprovalRepository repository;
+    private List<InProgressApprovalPage.Item> inProgress;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryApprovalRepository();
+        inProgress = new ArrayList<>();
+        for (int requestId = 1; requestId <= COUNT; requestId++) {
+            if (requestId % 7 != 0) {
+                inProgress.add(item(requestId, requestId % 5 == 0 ? 2 : 1));
+            }
+        }
+        when(client.getInProgressRange()).thenReturn(new InProgressApprovalRange(1, COUNT, inProgress.size()));
+        when(client.getInProgressPage(anyInt(), anyInt(), anyInt(), any(), any()))
+                .thenAnswer(invocation -> page(invocation.getArgument(0), invocation.getArgument(1),
+                        invocation.getArgument(2)));
+    }
+
+    @Test
+    void loadsAllInProgressRequestsWithTheirCurrentStep() {
+        ApprovalRequest local = ApprovalStateRehydrator.toApprovalRequest(item(3, 1));
+        local.setTitle("local");
+        repository.save(local);
+
+        ApprovalStateRehydrator rehydrator = newRehydrator(true);
+        rehydrator.start();
+
+        assertThat(rehydrator.state()).isEqualTo(ApprovalStateRehydrator.State.COMPLETED);
+        assertThat(repository.count()).isEqualTo(inProgress.size());
+        assertThat(repository.findByRequestId(3).orElseThrow().getTitle()).isEqualTo("local");
+
+        ApprovalRequest advanced = repository.findByRequestId(10).orElseThrow();
+        assertThat(advanced.getCurrentStepOrder()).isEqualTo(2);
+        assertThat(advanced.getSteps().get(0).getStatus()).isEqualTo(ApprovalStatus.APPROVED);
+        assertThat(advanced.getCurrentStep().getApproverId()).isEqualTo(200L);
+        assertThat(repository.findPendingApprovalsByApproverId(200L))
+                .extracting(ApprovalRequest::getRequestId)
+                .allMatch(requestId -> requestId % 5 == 0);
+
+        assertThat(rehydrator.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(rehydrator.health().getDetails())
+                .containsEntry("loaded", (long) inProgress.size() - 1)
+                .containsEntry("skipped", 1L)
+                .containsEntry("progress", "100.0%");
+    }
+
+    @Test
+    void failsStartupWhenRequestServiceIsUnavailable() {
+        when(client.getInProgressPage(anyInt(), anyInt(), anyInt(), any(), any()))
+                .thenThrow(new ResourceAccessException("connection refused"));
+
+        ApprovalStateRehydrator rehydrator = newRehydrator(true);
+
+        assertThatThrownBy(rehydrator::start).isInstanceOf(IllegalStateException.class);
+        assertThat(rehydrator.state()).isEqualTo(ApprovalStateRehydrator.State.FAILED);
+    }
+
+    @Test
+    void continuesWithPartialStateWhenFailOnErrorIsDisabled() {
+        when(client.getInProgressPage(anyInt(), anyInt(), anyInt(), any(), any()))
+                .thenAnswer(invocation -> {
+                    int after = invocation.getArgument(0);
+                    if (after >= COUNT / 2) {
+                        throw new ResourceAccessException("connection refused");
+                    }
+                    return page(after, invocation.getArgument(1), invocation.getArgument(2));
+                });
+
+        ApprovalStateRehydrator rehydrator = newRehydrator(false);
+        rehydrator.start();
+
+        assertThat(rehydrator.state()).isEqualTo(ApprovalStateRehydrator.State.FAILED);
+        assertThat(repository.count()).isPositive().isLessThan(inProgress.size());
+        assertThat(rehydrator.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(rehydrator.health().getDetails()).containsKey("error");
+    }
+
+    @Test
+    void rejectsItemsWhoseCurrentStepIsNotPending() {
+        InProgressApprovalPage.Item item = item(1, 1);
+        item.getSteps().get(0).setStatus("approved");
+
+        assertThatThrownBy(() -> ApprovalStateRehydrator.toApprovalRequest(item))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ApprovalStateRehydrator newRehydrator(boolean failOnError) {
+        ApprovalStateRehydrator rehydrator = new ApprovalStateRehydrator(client, repository, Optional.empty());
+        ReflectionTestUtils.setField(rehydrator, "parallelism", 4);
+        ReflectionTestUtils.setField(rehydrator, "pageSize", 50);
+        ReflectionTestUtils.setField(rehydrator, "maxAttempts", 2);
+        ReflectionTestUtils.setField(rehydrator, "retryBackoffMs", 1L);
+        ReflectionTestUtils.setField(rehydrator, "progressIntervalMs", 100L);
+        ReflectionTestUtils.setField(rehydrator, "failOnError", failOnError);
+        return rehydrator;
+    }
+
+    // (after, upTo] 구간에서 최대 size건 (내부 API와 같은 의미)
+    private InProgressApprovalPage page(int after, int upTo, int size) {
+        List<InProgressApprovalPage.Item> items = inProgress.stream()
+                .filter(item -> item.getRequestId() > after && item.getRequestId() <= upTo)
+                .limit(size)
+                .toList();
+        Integer next = items.isEmpty() ? after : items.get(items.size() - 1).getRequestId();
+        return new InProgressApprovalPage(items, next, items.size() < size);
+    }
+
+    private InProgressApprovalPage.Item item(int requestId, int currentStep) {
+        List<ApprovalStepDto> steps = new ArrayList<>();
+        for (int step = 1; step <= 3; step++) {
+            steps.add(ApprovalStepDto.builder()
+                    .step(step)
+                    .approverId(step * 100L)
+                    .status(step < currentStep ? "approved" : "pending")
+                    .build());
+        }
+        return InProgressApprovalPage.Item.builder()
+                .id("mongo-" + requestId)
+                .requestId(requestId)
+                .requesterId(1L)
+                .title("title-" + requestId)
+                .content("content-" + requestId)
+                .currentStepOrder(currentStep)
+                .steps(steps)
+                .createdAt(BASE_TIME.plusSeconds(requestId))
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.programpractice.approval_processing_service.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import com.programpractice.approval_processing_service.model.ApprovalRequest;
+import com.programpractice.approval_processing_service.model.ApprovalRequestFixtures;
+import com.programpractice.approval_processing_service.model.ApprovalStatus;
+
+/**
+ * 저장소 구현별 힙 사용량 비교 (JOL GraphLayout)
+ * compact 저장소는 같은 요청을 map 저장소 힙의 60% 미만으로 보관해야 한다.
+ */
+class ApprovalRepositoryFootprintTest {
+
+    private static final int COUNT = 100_000;
+    private static final int STEP_COUNT = 3;
+
+    @Test
+    void compactRepositoryUsesLessHeapThanMapRepository() {
+        InMemoryApprovalRepository mapRepository = new InMemoryApprovalRepository();
+        CompactApprovalRepository compactRepository = new CompactApprovalRepository();
+        for (int requestId = 1; requestId <= COUNT; requestId++) {
+            mapRepository.restore(newRequest(requestId));
+            compactRepository.restore(newRequest(requestId));
+        }
+
+        GraphLayout mapLayout = GraphLayout.parseInstance(mapRepository);
+        GraphLayout compactLayout = GraphLayout.parseInstance(compactRepository);
+        assertThat(compactLayout.totalSize())
+                .as("compact=%,d bytes, map=%,d bytes", compactLayout.totalSize(), mapLayout.totalSize())
+                .isLessThan(mapLayout.totalSize() * 6 / 10);
+    }
+
+    @Test
+    void compactRepositoryRoundTripsRequests() {
+        CompactApprovalRepository repository = new CompactApprovalRepository();
+        ApprovalRequest original = newRequest(7);
+        original.getSteps().get(0).approve("ok");
+        original.moveToNextStep();
+        repository.save(original);
+
+        ApprovalRequest restored = repository.findByRequestId(7).orElseThrow();
+        assertThat(restored.getRequesterId()).isEqualTo(original.getRequesterId());
+        assertThat(restored.getContent()).isEqualTo(original.getContent());
+        assertThat(restored.getCurrentStepOrder()).isEqualTo(2);
+        assertThat(restored.getSteps()).hasSize(STEP_COUNT);
+        assertThat(restored.getSteps().get(0).getStatus()).isEqualTo(ApprovalStatus.APPROVED);
+        assertThat(restored.getSteps().get(0).getComment()).isEqualTo("ok");
+        assertThat(restored.getSteps().get(1).getApproverId()).isEqualTo(200L);
+        assertThat(restored.getCreatedAt()).isEqualTo(original.getCreatedAt());
+        assertThat(repository.findPendingApprovalsByApproverId(200L)).hasSize(1);
+        assertThat(repository.findPendingApprovalsByApproverId(100L)).isEmpty();
+
+        assertThat(repository.compareAndSave(restored, 0L)).isTrue();
+        assertThat(repository.compareAndSave(restored, 0L)).isFalse();
+    }
+
+    private ApprovalRequest newRequest(int requestId) {
+        return ApprovalRequestFixtures.newRequest(requestId, STEP_COUNT, step -> step * 100L);
+    }
+}
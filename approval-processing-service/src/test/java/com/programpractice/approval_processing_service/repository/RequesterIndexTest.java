@@ -0,0 +1,113 @@
+package com.programpractice.approval_processing_service.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.programpractice.approval_processing_service.model.ApprovalRequest;
+import com.programpractice.approval_processing_service.model.ApprovalRequestFixtures;
+import com.programpractice.approval_processing_service.model.ApprovalStatus;
+
+/**
+ * 요청자 인덱스 테스트
+ * 같은 요청자의 요청이 여러 건이어도 모두 조회되고, 삭제 시 해당 건만 빠져야 한다.
+ */
+class RequesterIndexTest {
+
+    static Stream<Arguments> repositories() {
+        return Stream.of(
+                Arguments.of("map", (Supplier<ApprovalRepository>) InMemoryApprovalRepository::new),
+                Arguments.of("compact", (Supplier<ApprovalRepository>) CompactApprovalRepository::new));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositories")
+    void keepsEveryRequestOfTheSameRequester(String name, Supplier<ApprovalRepository> factory) {
+        ApprovalRepository repository = factory.get();
+        repository.save(newRequest(1, 10L));
+        repository.save(newRequest(2, 10L));
+        repository.insertAll(List.of(newRequest(3, 10L), newRequest(4, 20L)));
+
+        assertThat(repository.findByRequesterId(10L)).extracting(ApprovalRequest::getRequestId)
+                .containsExactly(1, 2, 3);
+        assertThat(repository.findById(10L)).map(ApprovalRequest::getRequestId).hasValue(3);
+
+        // 최신 건이 아닌 요청을 삭제해도 해당 건만 빠짐
+        repository.delete(repository.findByRequestId(2).orElseThrow());
+        assertThat(repository.findByRequesterId(10L)).extracting(ApprovalRequest::getRequestId)
+                .containsExactly(1, 3);
+
+        // 단계 진행(compareAndSave) 후에도 인덱스 유지
+        ApprovalRequest updated = repository.findByRequestId(1).orElseThrow().copy();
+        updated.getCurrentStep().approve("ok");
+        updated.updateFinalStatus(ApprovalStatus.APPROVED);
+        assertThat(repository.compareAndSave(updated, updated.getVersion())).isTrue();
+        assertThat(repository.findByRequesterId(10L)).hasSize(2);
+
+        repository.delete(repository.findByRequestId(1).orElseThrow());
+        repository.delete(repository.findByRequestId(3).orElseThrow());
+        assertThat(repository.findByRequesterId(10L)).isEmpty();
+        assertThat(repository.findById(10L)).isEmpty();
+        assertThat(repository.findByRequesterId(20L)).hasSize(1);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositories")
+    void staysConsistentUnderConcurrentSavesAndDeletes(String name, Supplier<ApprovalRepository> factory)
+            throws Exception {
+        ApprovalRepository repository = factory.get();
+        int threads = 8;
+        int perThread = 2_000;
+        long requesters = 16;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t * perThread;
+                futures.add(executor.submit(() -> {
+                    for (int i = 1; i <= perThread; i++) {
+                        int requestId = offset + i;
+                        repository.save(newRequest(requestId, requestId % requesters));
+                        // 홀수 건은 저장 직후 삭제
+                        if (requestId % 2 == 1) {
+                            repository.delete(repository.findByRequestId(requestId).orElseThrow());
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long total = 0;
+        for (long requesterId = 0; requesterId < requesters; requesterId++) {
+            List<ApprovalRequest> requests = repository.findByRequesterId(requesterId);
+            for (ApprovalRequest request : requests) {
+                assertThat(request.getRequestId() % 2).isZero();
+                assertThat(request.getRequesterId()).isEqualTo(requesterId);
+            }
+            total += requests.size();
+        }
+        assertThat(total).isEqualTo(repository.count()).isEqualTo(threads * perThread / 2);
+    }
+
+    private ApprovalRequest newRequest(int requestId, long requesterId) {
+        return ApprovalRequestFixtures.withSteps(
+                ApprovalRequestFixtures.builder(requestId).requesterId(requesterId).build(), 100L);
+    }
+}
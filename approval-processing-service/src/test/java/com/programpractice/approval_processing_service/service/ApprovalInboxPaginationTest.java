@@ -0,0 +1,167 @@
+package com.programpractice.approval_processing_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.programpractice.approval_processing_service.dto.ApprovalInboxResponse;
+import com.programpractice.approval_processing_service.dto.ApprovalSummaryResponse;
+import com.programpractice.approval_processing_service.dto.ProcessApprovalRequest;
+import com.programpractice.approval_processing_service.model.ApprovalRequest;
+import com.programpractice.approval_processing_service.model.ApprovalRequestFixtures;
+import com.programpractice.approval_processing_service.repository.ApprovalRepository;
+import com.programpractice.approval_processing_service.repository.CompactApprovalRepository;
+import com.programpractice.approval_processing_service.repository.InMemoryApprovalRepository;
+
+/**
+ * 승인 대기함 커서 페이지 테스트
+ * 대기 건수가 늘어도 페이지 항목 수와 응답 크기(직렬화 바이트)가 일정해야 한다.
+ * (조회 지연은 src/jmh의 ApprovalInboxBenchmark에서 측정)
+ */
+class ApprovalInboxPaginationTest {
+
+    private static final Long APPROVER_ID = 1L;
+    private static final Long NEXT_APPROVER_ID = 2L;
+    private static final int PAGE_SIZE = 50;
+    private static final int PAGES = 20;
+    private static final int SMALL_BACKLOG = 1_000;
+    private static final int LARGE_BACKLOG = 50_000;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    static Stream<Arguments> repositories() {
+        return Stream.of(
+                Arguments.of("map", (Supplier<ApprovalRepository>) InMemoryApprovalRepository::new),
+                Arguments.of("compact", (Supplier<ApprovalRepository>) CompactApprovalRepository::new));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositories")
+    void pagesThroughBacklogInCreationOrderWithoutGapsOrDuplicates(String name, Supplier<ApprovalRepository> factory) {
+        ApprovalRepository repository = factory.get();
+        ApprovalProcessingService service = newService(repository);
+        // 생성 시각이 requestId와 반대 순서가 되도록 적재
+        int count = 1_234;
+        for (int requestId = 1; requestId <= count; requestId++) {
+            repository.save(newRequest(requestId, BASE_TIME.plusSeconds(count - requestId)));
+        }
+
+        List<Integer> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            ApprovalInboxResponse page = service.getApprovalInbox(APPROVER_ID, cursor, PAGE_SIZE);
+            assertThat(page.getPendingCount()).isEqualTo(count);
+            assertThat(page.getItems()).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+            page.getItems().forEach(item -> seen.add(item.getRequestId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(count);
+        assertThat(seen.get(0)).isEqualTo(count);
+        assertThat(seen.get(count - 1)).isEqualTo(1);
+        assertThat(new LinkedHashSet<>(seen)).hasSize(count);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositories")
+    void cursorStaysStableWhileItemsAreApproved(String name, Supplier<ApprovalRepository> factory) {
+        ApprovalRepository repository = factory.get();
+        ApprovalProcessingService service = newService(repository);
+        int count = 500;
+        for (int requestId = 1; requestId <= count; requestId++) {
+            repository.save(newRequest(requestId, BASE_TIME.plusSeconds(requestId)));
+        }
+
+        ApprovalInboxResponse first = service.getApprovalInbox(APPROVER_ID, null, PAGE_SIZE);
+        // 첫 페이지 항목을 모두 승인해 대기함에서 빠지게 한 뒤 다음 페이지 조회
+        for (ApprovalSummaryResponse item : first.getItems()) {
+            service.processApproval(APPROVER_ID, item.getRequestId(),
+                    new ProcessApprovalRequest("approved", "ok"));
+        }
+        ApprovalInboxResponse second = service.getApprovalInbox(APPROVER_ID, first.getNextCursor(), PAGE_SIZE);
+
+        assertThat(second.getItems().get(0).getRequestId()).isEqualTo(PAGE_SIZE + 1);
+        assertThat(second.getPendingCount()).isEqualTo(count - PAGE_SIZE);
+        assertThat(repository.countPendingApprovalsByApproverId(NEXT_APPROVER_ID)).isEqualTo(PAGE_SIZE);
+        assertThat(service.getApprovalDetail(NEXT_APPROVER_ID, 1).getSteps()).hasSize(2);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositories")
+    void pageSizeAndBytesStayFlatAsBacklogGrows(String name, Supplier<ApprovalRepository> factory)
+            throws Exception {
+        List<Integer> small = pageBytes(factory.get(), SMALL_BACKLOG);
+        List<Integer> large = pageBytes(factory.get(), LARGE_BACKLOG);
+
+        // 같은 항목의 페이지이므로 응답 크기는 pendingCount 자릿수 차이 외에는 같아야 함
+        assertThat(large).hasSameSizeAs(small);
+        for (int page = 0; page < small.size(); page++) {
+            assertThat(large.get(page)).isBetween(small.get(page), small.get(page) + 8);
+        }
+        // 요약 응답에는 본문(content, 2,000자)이 없음
+        assertThat(large.get(0)).isLessThan(PAGE_SIZE * 2_000);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositories")
+    void rejectsMalformedCursorAndPageSize(String name, Supplier<ApprovalRepository> factory) {
+        ApprovalProcessingService service = newService(factory.get());
+
+        assertThatThrownBy(() -> service.getApprovalInbox(APPROVER_ID, "not-a-cursor", PAGE_SIZE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getApprovalInbox(APPROVER_ID, null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getApprovalInbox(
+                APPROVER_ID, null, ApprovalProcessingService.MAX_INBOX_PAGE_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getApprovalDetail(3L, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 대기함 앞쪽 PAGES개 페이지의 직렬화 크기 (페이지마다 PAGE_SIZE건이어야 함)
+    private List<Integer> pageBytes(ApprovalRepository repository, int backlog) throws Exception {
+        ApprovalProcessingService service = newService(repository);
+        for (int requestId = 1; requestId <= backlog; requestId++) {
+            repository.save(newRequest(requestId, BASE_TIME.plusSeconds(requestId)));
+        }
+
+        List<Integer> bytes = new ArrayList<>();
+        String cursor = null;
+        for (int i = 0; i < PAGES; i++) {
+            ApprovalInboxResponse page = service.getApprovalInbox(APPROVER_ID, cursor, PAGE_SIZE);
+            assertThat(page.getItems()).hasSize(PAGE_SIZE);
+            assertThat(page.getPendingCount()).isEqualTo(backlog);
+            bytes.add(objectMapper.writeValueAsBytes(page).length);
+            cursor = page.getNextCursor();
+        }
+        return bytes;
+    }
+
+    private ApprovalProcessingService newService(ApprovalRepository repository) {
+        return new ApprovalProcessingService(
+                repository, mock(EmployeeValidationService.class), Optional.empty(), Optional.empty());
+    }
+
+    // 페이지 크기 비교를 위해 본문을 2KB로 채운 2단계 요청
+    private ApprovalRequest newRequest(int requestId, LocalDateTime createdAt) {
+        return ApprovalRequestFixtures.withSteps(ApprovalRequestFixtures.builder(requestId)
+                .title("title")
+                .content("x".repeat(2_000))
+                .createdAt(createdAt)
+                .build(), APPROVER_ID, NEXT_APPROVER_ID);
+    }
+}
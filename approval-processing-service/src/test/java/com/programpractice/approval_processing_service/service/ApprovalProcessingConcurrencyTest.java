@@ -0,0 +1,113 @@
+package com.programpractice.approval_processing_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.programpractice.approval_processing_service.dto.ProcessApprovalRequest;
+import com.programpractice.approval_processing_service.exception.ApprovalConflictException;
+import com.programpractice.approval_processing_service.model.ApprovalRequest;
+import com.programpractice.approval_processing_service.model.ApprovalRequestFixtures;
+import com.programpractice.approval_processing_service.model.ApprovalStatus;
+import com.programpractice.approval_processing_service.repository.InMemoryApprovalRepository;
+
+/**
+ * processApproval 동시성 스트레스 테스트
+ * 여러 스레드가 같은 요청을 동시에 승인해도 단계 수만큼만 반영되어야 한다 (lost update 없음).
+ */
+class ApprovalProcessingConcurrencyTest {
+
+    private static final int REQUEST_COUNT = 50;
+    private static final int STEP_COUNT = 20;
+    private static final int THREAD_COUNT = 32;
+    private static final Long APPROVER_ID = 1L;
+
+    private InMemoryApprovalRepository repository;
+    private ApprovalProcessingService processingService;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryApprovalRepository();
+        processingService = new ApprovalProcessingService(
+                repository, mock(EmployeeValidationService.class), Optional.empty(), Optional.empty());
+
+        for (int requestId = 1; requestId <= REQUEST_COUNT; requestId++) {
+            repository.save(ApprovalRequestFixtures.newRequest(requestId, STEP_COUNT, step -> APPROVER_ID));
+        }
+    }
+
+    @Test
+    void concurrentApprovalsNeverLoseUpdates() throws Exception {
+        AtomicIntegerArray successes = new AtomicIntegerArray(REQUEST_COUNT + 1);
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Throwable> unexpected = Collections.synchronizedList(new ArrayList<>());
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        ProcessApprovalRequest approve = new ProcessApprovalRequest("approved", "ok");
+
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int requestId = 1; requestId <= REQUEST_COUNT; requestId++) {
+                    while (!isFinalized(requestId)) {
+                        try {
+                            processingService.processApproval(APPROVER_ID, requestId, approve);
+                            successes.incrementAndGet(requestId);
+                        } catch (ApprovalConflictException e) {
+                            conflicts.incrementAndGet();
+                        } catch (Throwable e) {
+                            unexpected.add(e);
+                            return null;
+                        }
+                    }
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(unexpected).isEmpty();
+        for (int requestId = 1; requestId <= REQUEST_COUNT; requestId++) {
+            ApprovalRequest result = repository.findByRequestId(requestId).orElseThrow();
+
+            assertThat(successes.get(requestId)).isEqualTo(STEP_COUNT);
+            assertThat(result.getVersion()).isEqualTo((long) STEP_COUNT);
+            assertThat(result.getFinalStatus()).isEqualTo(ApprovalStatus.APPROVED);
+            assertThat(result.getSteps()).allMatch(step -> step.getStatus() == ApprovalStatus.APPROVED);
+        }
+        assertThat(repository.findPendingApprovalsByApproverId(APPROVER_ID)).isEmpty();
+    }
+
+    @Test
+    void decisionOnFinalizedRequestIsConflict() {
+        ProcessApprovalRequest reject = new ProcessApprovalRequest("rejected", "no");
+        processingService.processApproval(APPROVER_ID, 1, reject);
+
+        assertThrows(ApprovalConflictException.class,
+                () -> processingService.processApproval(APPROVER_ID, 1, reject));
+    }
+
+    private boolean isFinalized(int requestId) {
+        return repository.findByRequestId(requestId)
+                .map(request -> request.getFinalStatus() != ApprovalStatus.PENDING)
+                .orElse(true);
+    }
+}
@@ -0,0 +1,84 @@
+package com.programpractice.approval_processing_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.programpractice.approval_processing_service.model.ApprovalRequest;
+import com.programpractice.approval_processing_service.model.ApprovalRequestFixtures;
+import com.programpractice.approval_processing_service.model.ApprovalStatus;
+import com.programpractice.approval_processing_service.persistence.ApprovalArchive;
+import com.programpractice.approval_processing_service.repository.ApprovalRepository;
+import com.programpractice.approval_processing_service.repository.CompactApprovalRepository;
+import com.programpractice.approval_processing_service.repository.InMemoryApprovalRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 보존 정책 테스트
+ * TTL이 지났거나 건수 상한을 넘은 최종 처리 건만 제거되고, 제거된 건은 보관 파일에서 조회되어야 한다.
+ */
+class ApprovalRetentionSweeperTest {
+
+    @TempDir
+    Path directory;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"map", "compact"})
+    void evictsExpiredAndOverflowingFinalizedRequests(String type) throws Exception {
+        ApprovalRepository repository = "compact".equals(type)
+                ? new CompactApprovalRepository()
+                : new InMemoryApprovalRepository();
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1~10: 2시간 전 최종 처리, 11~40: 방금 최종 처리, 41~50: 대기 중
+        for (int requestId = 1; requestId <= 50; requestId++) {
+            ApprovalRequest request = ApprovalRequestFixtures.newRequest(requestId, 1L);
+            if (requestId <= 40) {
+                request.getCurrentStep().approve("ok");
+                request.updateFinalStatus(ApprovalStatus.APPROVED);
+                request.setUpdatedAt(requestId <= 10 ? now.minusHours(2) : now);
+            }
+            repository.save(request);
+        }
+        assertThat(repository.finalizedTracker().count()).isEqualTo(40);
+
+        try (ApprovalArchive archive = new ApprovalArchive(directory.resolve("archive.bin"))) {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            ApprovalRetentionSweeper sweeper = new ApprovalRetentionSweeper(repository, Optional.of(archive), registry);
+            ReflectionTestUtils.setField(sweeper, "ttl", Duration.ofHours(1));
+            ReflectionTestUtils.setField(sweeper, "maxFinalizedEntries", 25L);
+            ReflectionTestUtils.setField(sweeper, "batchSize", 4);
+            ReflectionTestUtils.setField(sweeper, "maxBatchesPerSweep", 100);
+
+            // TTL 초과 10건 + 상한 초과 5건(11~15)
+            assertThat(sweeper.sweep()).isEqualTo(15);
+            assertThat(repository.count()).isEqualTo(35);
+            assertThat(repository.finalizedTracker().count()).isEqualTo(25);
+            assertThat(repository.existsByRequestId(15)).isFalse();
+            assertThat(repository.existsByRequestId(16)).isTrue();
+            assertThat(repository.findPendingApprovalsByApproverId(1L)).hasSize(10);
+
+            assertThat(sweeper.sweep()).isZero();
+            assertThat(archive.size()).isEqualTo(15);
+            assertThat(archive.find(3)).get()
+                    .extracting(ApprovalRequest::getFinalStatus)
+                    .isEqualTo(ApprovalStatus.APPROVED);
+        }
+
+        // 재기동 시 보관 파일 인덱스 재구성
+        try (ApprovalArchive reopened = new ApprovalArchive(directory.resolve("archive.bin"))) {
+            assertThat(reopened.size()).isEqualTo(15);
+            assertThat(reopened.find(15)).isPresent();
+            assertThat(reopened.find(16)).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.programpractice.approval_processing_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.programpractice.approval_processing_service.client.EmployeeServiceClient;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 직원 존재 여부 캐시 테스트 (TTL, 단건/일괄 동시 조회 공유, 장애·지연 시 이전 결과 사용, 크기 제한 정리)
+ */
+class EmployeeExistenceCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EmployeeServiceClient client;
+    private EmployeeExistenceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(EmployeeServiceClient.class);
+        cache = new EmployeeExistenceCache(client, meterRegistry);
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxSize", 100);
+        ReflectionTestUtils.setField(cache, "positiveTtlSeconds", 600L);
+        ReflectionTestUtils.setField(cache, "negativeTtlSeconds", 0L);
+        ReflectionTestUtils.setField(cache, "serveStale", true);
+        ReflectionTestUtils.setField(cache, "staleMaxAgeSeconds", 3600L);
+        ReflectionTestUtils.setField(cache, "staleTimeoutMs", 100L);
+        ReflectionTestUtils.setField(cache, "loaderThreads", 4);
+        cache.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.stop();
+    }
+
+    @Test
+    void cachesPositiveResultsAndReloadsExpiredNegativeResults() {
+        when(client.existsEmployeeByExistsApi(1L)).thenReturn(true);
+        when(client.existsEmployeeByExistsApi(2L)).thenReturn(false);
+
+        assertThat(cache.exists(1L)).isTrue();
+        assertThat(cache.exists(1L)).isTrue();
+        assertThat(cache.exists(2L)).isFalse();
+        assertThat(cache.exists(2L)).isFalse();
+
+        verify(client, times(1)).existsEmployeeByExistsApi(1L);
+        verify(client, times(2)).existsEmployeeByExistsApi(2L);
+    }
+
+    @Test
+    void concurrentMissesShareOneCall() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(client.existsEmployeeByExistsApi(anyLong())).thenAnswer(invocation -> {
+            release.await();
+            return true;
+        });
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(callers.submit(() -> cache.exists(7L)));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+        callers.shutdown();
+        verify(client, times(1)).existsEmployeeByExistsApi(7L);
+    }
+
+    @Test
+    void bulkAndSingleLookupsShareInFlightCalls() throws Exception {
+        CountDownLatch called = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(client.findMissingEmployees(anyCollection())).thenAnswer(invocation -> {
+            called.countDown();
+            release.await();
+            return List.of(9L);
+        });
+
+        ExecutorService callers = Executors.newFixedThreadPool(3);
+        Future<List<Long>> bulk = callers.submit(() -> cache.findMissing(List.of(8L, 9L)));
+        assertThat(called.await(5, TimeUnit.SECONDS)).isTrue();
+        // 진행 중인 8, 9는 공유하고 10만 새로 조회
+        Future<Boolean> single = callers.submit(() -> cache.exists(9L));
+        Future<List<Long>> overlapping = callers.submit(() -> cache.findMissing(List.of(8L, 10L)));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(bulk.get(5, TimeUnit.SECONDS)).containsExactly(9L);
+        assertThat(single.get(5, TimeUnit.SECONDS)).isFalse();
+        assertThat(overlapping.get(5, TimeUnit.SECONDS)).isEmpty();
+        callers.shutdown();
+        verify(client, times(1)).findMissingEmployees(List.of(8L, 9L));
+        verify(client, times(1)).findMissingEmployees(List.of(10L));
+        verify(client, never()).existsEmployeeByExistsApi(anyLong());
+    }
+
+    @Test
+    void bulkLookupServesStaleResultWithinTimeout() {
+        CountDownLatch release = new CountDownLatch(1);
+        when(client.findMissingEmployees(anyCollection()))
+                .thenReturn(List.of(5L))
+                .thenAnswer(invocation -> {
+                    release.await();
+                    return List.of();
+                });
+
+        try {
+            assertThat(cache.findMissing(List.of(5L))).containsExactly(5L);
+            // negative-ttl 0 → 만료, 재조회가 stale-timeout-ms(100ms) 안에 끝나지 않으면 이전 결과 사용
+            assertThat(cache.findMissing(List.of(5L))).containsExactly(5L);
+            assertThat(meterRegistry.counter("employee.cache.stale").count()).isEqualTo(1.0);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void servesStaleResultWhenEmployeeServiceFails() {
+        when(client.existsEmployeeByExistsApi(3L))
+                .thenReturn(false)
+                .thenThrow(new RuntimeException("Employee Service 연결 실패"));
+
+        assertThat(cache.exists(3L)).isFalse();
+        // negative-ttl 0 → 만료, 재조회 실패 시 이전 결과 사용
+        assertThat(cache.exists(3L)).isFalse();
+
+        ReflectionTestUtils.setField(cache, "serveStale", false);
+        assertThrows(RuntimeException.class, () -> cache.exists(3L));
+    }
+
+    @Test
+    void evictsDownToLowWatermarkSoLoadsDoNotScanEveryTime() {
+        when(client.findMissingEmployees(anyCollection())).thenReturn(List.of());
+
+        load(1, 100);
+        assertThat(evictions()).isZero();
+
+        // max-size(100) 초과 → 90개까지 한 번에 정리
+        load(101, 101);
+        assertThat(cacheSize()).isEqualTo(90);
+        assertThat(evictions()).isEqualTo(11.0);
+
+        // 다시 max-size에 도달할 때까지는 정리하지 않음
+        load(102, 111);
+        assertThat(cacheSize()).isEqualTo(100);
+        assertThat(evictions()).isEqualTo(11.0);
+
+        load(112, 112);
+        assertThat(cacheSize()).isEqualTo(90);
+        assertThat(evictions()).isEqualTo(22.0);
+    }
+
+    private void load(long fromId, long toId) {
+        for (long employeeId = fromId; employeeId <= toId; employeeId++) {
+            assertThat(cache.findMissing(List.of(employeeId))).isEmpty();
+        }
+    }
+
+    private int cacheSize() {
+        return ((Map<?, ?>) ReflectionTestUtils.getField(cache, "entries")).size();
+    }
+
+    private double evictions() {
+        return meterRegistry.counter("employee.cache.evictions").count();
+    }
+}
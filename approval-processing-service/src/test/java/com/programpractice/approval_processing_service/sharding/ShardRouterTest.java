@@ -0,0 +1,194 @@
+package com.programpractice.approval_processing_service.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.programpractice.approval.messaging.ApprovalShards;
+import com.programpractice.approval_processing_service.dto.ApprovalInboxResponse;
+import com.programpractice.approval_processing_service.dto.ApprovalSummaryResponse;
+import com.programpractice.approval_processing_service.dto.BatchApprovalRequest;
+import com.programpractice.approval_processing_service.dto.BatchApprovalResponse;
+import com.programpractice.approval_processing_service.repository.InboxCursor;
+
+/**
+ * 샤드 라우팅 테스트
+ * - requestId -> 샤드 분포 및 샤드 수 변경 시 이동량
+ * - 레플리카 간 대기함 병합 / 일괄 결정 분할 (상대 레플리카는 MockRestServiceServer)
+ */
+class ShardRouterTest {
+
+    private static final Long APPROVER_ID = 7L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private ShardRouter router;
+
+    @AfterEach
+    void tearDown() {
+        if (router != null) {
+            router.shutdown();
+        }
+    }
+
+    @Test
+    void spreadsRequestsEvenlyAndMovesFewWhenShardsAreAdded() {
+        int shardCount = 16;
+        int requests = 160_000;
+        int[] counts = new int[shardCount];
+        int moved = 0;
+        for (int requestId = 1; requestId <= requests; requestId++) {
+            int shard = ApprovalShards.shardOf(requestId, shardCount);
+            counts[shard]++;
+            if (ApprovalShards.shardOf(requestId, shardCount + 1) != shard) {
+                moved++;
+            }
+        }
+
+        int expected = requests / shardCount;
+        for (int count : counts) {
+            assertThat(count).isBetween(expected * 95 / 100, expected * 105 / 100);
+        }
+        // 17번째 샤드로 옮겨지는 몫(약 1/17)만 이동
+        assertThat((double) moved / requests).isBetween(0.05, 0.07);
+    }
+
+    @Test
+    void assignsContiguousShardRangesToReplicas() {
+        ShardAssignment first = newAssignment(16, 3, 0);
+        ShardAssignment last = newAssignment(16, 3, 2);
+
+        assertThat(first.ownedShards()).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(last.ownedShards()).containsExactly(11, 12, 13, 14, 15);
+        assertThat(first.ownedQueueNames()).startsWith("approval.request.shard.0");
+        assertThat(first.peerUrl(2)).isEqualTo("http://peer-2");
+    }
+
+    @Test
+    void mergesInboxPagesFromAllReplicasInCursorOrder() throws Exception {
+        ShardAssignment assignment = newAssignment(16, 2, 0);
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        router = new ShardRouter(assignment, restTemplate);
+
+        ApprovalInboxResponse remote = ApprovalInboxResponse.builder()
+                .items(List.of(summary(2, 2), summary(4, 4)))
+                .nextCursor(InboxCursor.of(BASE_TIME.plusMinutes(4), 4).encode())
+                .pendingCount(5L)
+                .build();
+        server.expect(requestTo("http://peer-1/process/7?size=2"))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header(ShardRouter.FORWARDED_HEADER, "true"))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(remote), MediaType.APPLICATION_JSON));
+
+        ApprovalInboxResponse merged = router.gatherInbox(APPROVER_ID, null, 2,
+                () -> ApprovalInboxResponse.builder()
+                        .items(List.of(summary(1, 1), summary(3, 3)))
+                        .pendingCount(2L)
+                        .build());
+
+        assertThat(merged.getItems()).extracting(ApprovalSummaryResponse::getRequestId).containsExactly(1, 2);
+        assertThat(merged.getPendingCount()).isEqualTo(7L);
+        assertThat(InboxCursor.decode(merged.getNextCursor()))
+                .isEqualTo(InboxCursor.of(BASE_TIME.plusMinutes(2), 2));
+        server.verify();
+    }
+
+    @Test
+    void splitsBatchByOwnerAndKeepsRequestOrder() throws Exception {
+        ShardAssignment assignment = newAssignment(16, 2, 0);
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        router = new ShardRouter(assignment, restTemplate);
+
+        List<BatchApprovalRequest.Item> items = new ArrayList<>();
+        for (int requestId = 1; items.size() < 10; requestId++) {
+            items.add(new BatchApprovalRequest.Item(requestId, "approved", null));
+        }
+        List<BatchApprovalRequest.Item> remoteItems = items.stream()
+                .filter(item -> !assignment.isLocal(item.getRequestId()))
+                .collect(Collectors.toList());
+        assertThat(remoteItems).isNotEmpty().hasSizeLessThan(items.size());
+
+        BatchApprovalResponse remoteResponse = BatchApprovalResponse.builder()
+                .results(remoteItems.stream()
+                        .map(item -> result(item.getRequestId(), "conflict"))
+                        .collect(Collectors.toList()))
+                .build();
+        server.expect(requestTo("http://peer-1/process/7/batch"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(header(ShardRouter.FORWARDED_HEADER, "true"))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(remoteResponse), MediaType.APPLICATION_JSON));
+
+        List<BatchApprovalResponse.ItemResult> results = router.routeBatch(APPROVER_ID, items,
+                local -> local.stream().map(item -> result(item.getRequestId(), "received")).toList());
+
+        assertThat(results).extracting(BatchApprovalResponse.ItemResult::getRequestId)
+                .containsExactlyElementsOf(items.stream().map(BatchApprovalRequest.Item::getRequestId).toList());
+        for (BatchApprovalResponse.ItemResult result : results) {
+            assertThat(result.getStatus())
+                    .isEqualTo(assignment.isLocal(result.getRequestId()) ? "received" : "conflict");
+        }
+        server.verify();
+    }
+
+    @Test
+    void marksItemsOfUnreachableReplicaAsErrors() {
+        ShardAssignment assignment = newAssignment(16, 2, 0);
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        router = new ShardRouter(assignment, restTemplate);
+        server.expect(requestTo("http://peer-1/process/7/batch")).andRespond(withServerError());
+
+        List<BatchApprovalRequest.Item> items = new ArrayList<>();
+        for (int requestId = 1; items.size() < 10; requestId++) {
+            items.add(new BatchApprovalRequest.Item(requestId, "approved", null));
+        }
+        List<BatchApprovalResponse.ItemResult> results = router.routeBatch(APPROVER_ID, items,
+                local -> local.stream().map(item -> result(item.getRequestId(), "received")).toList());
+
+        for (BatchApprovalResponse.ItemResult result : results) {
+            assertThat(result.getStatus())
+                    .isEqualTo(assignment.isLocal(result.getRequestId()) ? "received" : "error");
+        }
+    }
+
+    private ShardAssignment newAssignment(int shardCount, int replicaCount, int replicaIndex) {
+        ShardAssignment assignment = new ShardAssignment();
+        ReflectionTestUtils.setField(assignment, "shardCount", shardCount);
+        ReflectionTestUtils.setField(assignment, "replicaCount", replicaCount);
+        ReflectionTestUtils.setField(assignment, "replicaIndex", replicaIndex);
+        ReflectionTestUtils.setField(assignment, "peerUrlTemplate", "http://peer-{index}");
+        assignment.init();
+        return assignment;
+    }
+
+    private ApprovalSummaryResponse summary(int requestId, int minutes) {
+        return ApprovalSummaryResponse.builder()
+                .requestId(requestId)
+                .title("title-" + requestId)
+                .createdAt(BASE_TIME.plusMinutes(minutes))
+                .build();
+    }
+
+    private BatchApprovalResponse.ItemResult result(int requestId, String status) {
+        return BatchApprovalResponse.ItemResult.builder().requestId(requestId).status(status).build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.programpractice.approval_processing_service.model;
+
+import java.time.LocalDateTime;
+import java.util.function.IntToLongFunction;
+
+/**
+ * 테스트/벤치마크용 승인 요청 생성
+ *
+ * 기본값: id "mongo-{requestId}", 요청자 1000 + requestId % 100, 제목 "title-{requestId}",
+ * 본문 "content-{requestId}", 생성 시각 BASE_TIME + requestId초.
+ * 다른 값이 필요하면 builder(requestId)로 덮어쓴 뒤 withSteps로 결재선을 붙인다.
+ */
+public final class ApprovalRequestFixtures {
+
+    public static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private ApprovalRequestFixtures() {
+    }
+
+    public static ApprovalRequest.ApprovalRequestBuilder builder(int requestId) {
+        return ApprovalRequest.builder()
+                .id("mongo-" + requestId)
+                .requestId(requestId)
+                .requesterId(1000L + requestId % 100)
+                .title("title-" + requestId)
+                .content("content-" + requestId)
+                .createdAt(BASE_TIME.plusSeconds(requestId));
+    }
+
+    // 단계마다 approverIds 순서대로 결재자를 둔 PENDING 요청
+    public static ApprovalRequest newRequest(int requestId, long... approverIds) {
+        return withSteps(builder(requestId).build(), approverIds);
+    }
+
+    // stepCount 단계, 단계 번호(1부터)별 결재자
+    public static ApprovalRequest newRequest(int requestId, int stepCount, IntToLongFunction approverOfStep) {
+        return withSteps(builder(requestId).build(), approvers(stepCount, approverOfStep));
+    }
+
+    public static ApprovalRequest withSteps(ApprovalRequest request, long... approverIds) {
+        for (int i = 0; i < approverIds.length; i++) {
+            request.addStep(ApprovalStep.builder()
+                    .step(i + 1)
+                    .approverId(approverIds[i])
+                    .build());
+        }
+        return request;
+    }
+
+    public static long[] approvers(int stepCount, IntToLongFunction approverOfStep) {
+        long[] approverIds = new long[stepCount];
+        for (int step = 1; step <= stepCount; step++) {
+            approverIds[step - 1] = approverOfStep.applyAsLong(step);
+        }
+        return approverIds;
+    }
+}
@@ -0,0 +1,102 @@
+package com.programpractice.approval_request_service.client;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 10단계 결재선 검증 지연: 직원별 개별 조회(N+1회) vs 일괄 조회(POST /employees/exists 1회)
+ * Employee Service 대신 요청마다 serverDelayMs만큼 지연하는 로컬 HTTP 서버를 사용한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@State(Scope.Benchmark)
+public class EmployeeValidationBenchmark {
+
+    private static final int STEP_COUNT = 10;
+
+    @Param({"5", "20"})
+    private long serverDelayMs;
+
+    private HttpServer server;
+    private EmployeeServiceClient client;
+    private List<Integer> employeeIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/employees", this::handle);
+        server.start();
+
+        client = new EmployeeServiceClient(new RestTemplate(), Optional.empty());
+        ReflectionTestUtils.setField(client, "employeeServiceUrl",
+                "http://127.0.0.1:" + server.getAddress().getPort());
+
+        employeeIds = new ArrayList<>();
+        for (int id = 1; id <= STEP_COUNT + 1; id++) {   // 요청자 + 결재자 10명
+            employeeIds.add(id);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public void perEmployee(Blackhole blackhole) {
+        for (Integer employeeId : employeeIds) {
+            blackhole.consume(client.existsEmployee(employeeId));
+        }
+    }
+
+    @Benchmark
+    public List<Integer> bulk() {
+        return client.findMissingEmployees(employeeIds);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            Thread.sleep(serverDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        exchange.getRequestBody().readAllBytes();
+
+        String body = "POST".equals(exchange.getRequestMethod())
+                ? "{\"missingIds\":[]}"
+                : "{\"id\":1,\"name\":\"직원\"}";
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.programpractice.approval_request_service.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.programpractice.approval.messaging.ConfirmedMessagePublisher;
+
+/**
+ * Publisher confirm 처리량: 메시지마다 confirm을 기다리는 발행(blocking) vs 창(window-size) 안에서 파이프라이닝
+ * 브로커 대신 confirmLatencyMicros 후 CorrelationData에 ack를 채우는 스케줄러를 사용한다.
+ * window-size 1은 confirm을 하나씩 기다리는 것과 같다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@State(Scope.Benchmark)
+public class ConfirmedPublishBenchmark {
+
+    private static final int MESSAGES = 500;
+
+    @Param({"1", "256"})
+    private int windowSize;
+
+    @Param({"500", "2000"})
+    private long confirmLatencyMicros;
+
+    private ScheduledExecutorService broker;
+    private ConfirmedMessagePublisher publisher;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        broker = Executors.newScheduledThreadPool(2);
+        RabbitTemplate rabbitTemplate = new RabbitTemplate() {
+            @Override
+            public void convertAndSend(String exchange, String routingKey, Object object,
+                                       CorrelationData correlationData) {
+                broker.schedule(() -> correlationData.getFuture().complete(new CorrelationData.Confirm(true, null)),
+                        confirmLatencyMicros, TimeUnit.MICROSECONDS);
+            }
+        };
+        publisher = new ConfirmedMessagePublisher(rabbitTemplate);
+        ReflectionTestUtils.setField(publisher, "windowSize", windowSize);
+        ReflectionTestUtils.setField(publisher, "acquireTimeoutMs", 10_000L);
+        ReflectionTestUtils.setField(publisher, "confirmTimeoutMs", 10_000L);
+        ReflectionTestUtils.setField(publisher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(publisher, "retryBackoffMs", 1L);
+        publisher.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        publisher.shutdown();
+        broker.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void publishAndAwaitConfirms() {
+        List<CompletableFuture<Void>> results = new ArrayList<>(MESSAGES);
+        for (int i = 0; i < MESSAGES; i++) {
+            results.add(publisher.publish("exchange", "key", "message-" + i));
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+    }
+}
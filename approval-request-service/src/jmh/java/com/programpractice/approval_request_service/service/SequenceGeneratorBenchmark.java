@@ -0,0 +1,112 @@
+package com.programpractice.approval_request_service.service;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+/**
+ * requestId 발급 처리량: 번호마다 findAndModify (block-size 1) vs hi/lo 블록 할당 (block-size 1000)
+ * 레플리카 REPLICAS개(각자 SequenceGeneratorService 인스턴스)가 같은 sequences 문서에서 번호를 받고,
+ * 벤치마크 스레드는 레플리카에 고르게 나뉜다.
+ * MongoDB 대신 mongo-java-server를 쓰고, 문서 갱신마다 왕복 지연(roundTripMicros)을 더한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Threads(32)
+@State(Scope.Benchmark)
+public class SequenceGeneratorBenchmark {
+
+    private static final String SEQ = "approval_request_id";
+    private static final int REPLICAS = 8;
+
+    @Param({"1", "1000"})
+    private int blockSize;
+
+    @Param({"1000"})
+    private long roundTripMicros;
+
+    private MongoServer server;
+    private MongoClient client;
+    private final List<SequenceGeneratorService> replicas = new ArrayList<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    @State(Scope.Thread)
+    public static class Replica {
+
+        private SequenceGeneratorService service;
+
+        @Setup(Level.Trial)
+        public void assign(SequenceGeneratorBenchmark benchmark) {
+            int index = benchmark.nextReplica.getAndIncrement() % REPLICAS;
+            service = benchmark.replicas.get(index);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = server.bind();
+        client = MongoClients.create("mongodb://" + address.getHostString() + ":" + address.getPort());
+        for (int i = 0; i < REPLICAS; i++) {
+            SequenceGeneratorService replica = new SequenceGeneratorService(template());
+            ReflectionTestUtils.setField(replica, "blockSize", blockSize);
+            ReflectionTestUtils.setField(replica, "prefetchThreshold", blockSize > 1 ? 200 : 0);
+            replica.start();
+            replicas.add(replica);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        replicas.forEach(SequenceGeneratorService::stop);
+        client.close();
+        server.shutdownNow();
+    }
+
+    @Benchmark
+    public int generateSequence(Replica replica) {
+        return replica.service.generateSequence(SEQ);
+    }
+
+    // 문서 갱신 왕복마다 지연을 더한다
+    private MongoTemplate template() {
+        return new MongoTemplate(client, "erp_mongodb") {
+            @Override
+            public <T> T findAndModify(Query query, UpdateDefinition update, FindAndModifyOptions options,
+                                       Class<T> entityClass) {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+                return super.findAndModify(query, update, options, entityClass);
+            }
+        };
+    }
+}
@@ -1,5 +1,14 @@
 package com.programpractice.approval_request_service.client;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import com.programpractice.approval_request_service.dto.EmployeeExistsRequest;
+import com.programpractice.approval_request_service.dto.EmployeeExistsResponse;
+import com.programpractice.employee.directory.EmployeeDirectoryGrpcClient;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,19 +18,30 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
-// Employee Service REST API 클라이언트
+// Employee Service 클라이언트
+// employee.client.transport=grpc 이면 gRPC EmployeeDirectory, 아니면 REST API 사용
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class EmployeeServiceClient {
 
     private final RestTemplate restTemplate;
+    private final Optional<EmployeeDirectoryGrpcClient> grpcClient;
 
     @Value("${employee.service.url}")
     private String employeeServiceUrl;
 
     // 직원 존재 여부 확인
     public boolean existsEmployee(Integer employeeId) {
+        if (grpcClient.isPresent()) {
+            try {
+                return grpcClient.get().exists(employeeId);
+            } catch (Exception e) {
+                log.error("Employee Service gRPC 호출 실패: employeeId={}", employeeId, e);
+                throw new RuntimeException("직원 정보 확인 실패: " + e.getMessage());
+            }
+        }
+
         // API 명세에 맞춰 URL 설정
         String url = employeeServiceUrl + "/employees/" + employeeId;
 
@@ -44,4 +64,45 @@ public class EmployeeServiceClient {
             throw new RuntimeException("직원 정보 확인 실패: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    // 직원 일괄 존재 여부 확인 (결재선 길이와 무관하게 1회 호출)
+    // 존재하지 않는 직원 ID 목록 반환 (모두 존재하면 빈 목록)
+    public List<Integer> findMissingEmployees(Collection<Integer> employeeIds) {
+        if (grpcClient.isPresent()) {
+            try {
+                List<Long> ids = employeeIds.stream()
+                        .map(Integer::longValue)
+                        .distinct()
+                        .collect(Collectors.toList());
+                return grpcClient.get().findMissing(ids).stream()
+                        .map(Long::intValue)
+                        .collect(Collectors.toList());
+            } catch (Exception e) {
+                log.error("Employee Service gRPC 일괄 호출 실패: employeeIds={}", employeeIds, e);
+                throw new RuntimeException("직원 정보 확인 실패: " + e.getMessage());
+            }
+        }
+
+        String url = employeeServiceUrl + "/employees/exists";
+        EmployeeExistsRequest request = new EmployeeExistsRequest(employeeIds.stream()
+                .map(Integer::longValue)
+                .distinct()
+                .collect(Collectors.toList()));
+
+        try {
+            log.info("Employee Service 일괄 호출: {}, count={}", url, request.getIds().size());
+
+            EmployeeExistsResponse response = restTemplate.postForObject(url, request, EmployeeExistsResponse.class);
+            if (response == null || response.getMissingIds() == null) {
+                throw new IllegalStateException("빈 응답");
+            }
+            return response.getMissingIds().stream()
+                    .map(Long::intValue)
+                    .collect(Collectors.toList());
+
+        } catch (Exception e) {
+            log.error("Employee Service 일괄 호출 실패: employeeIds={}", employeeIds, e);
+            throw new RuntimeException("직원 정보 확인 실패: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.programpractice.approval_request_service.config;
+
+import java.util.List;
+
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.stereotype.Component;
+
+import com.programpractice.approval_request_service.document.ApprovalRequest;
+import com.programpractice.approval_request_service.document.OutboxMessage;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * approval_requests / approval_outbox 인덱스 생성 (시작 시 1회)
+ *
+ * 인덱스 정의는 ApprovalRequest, OutboxMessage의 @Indexed / @CompoundIndex가 기준이다.
+ * spring.data.mongodb.auto-index-creation은 끈 채로 두고, 여기서 같은 정의를 명시적으로 만든다.
+ * createIndexes는 이름과 키/옵션이 같은 인덱스가 이미 있으면 아무것도 하지 않으므로 레플리카마다 실행해도 된다.
+ * 같은 이름인데 정의가 다르면(또는 unique 인덱스를 만들 수 없는 중복 데이터가 있으면) 시작을 멈춘다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MongoIndexInitializer {
+
+    static final List<Class<?>> INDEXED_DOCUMENTS = List.of(ApprovalRequest.class, OutboxMessage.class);
+
+    private final MongoOperations mongoOperations;
+
+    @PostConstruct
+    public void ensureIndexes() {
+        MongoPersistentEntityIndexResolver resolver =
+                new MongoPersistentEntityIndexResolver(mongoOperations.getConverter().getMappingContext());
+
+        for (Class<?> documentType : INDEXED_DOCUMENTS) {
+            IndexOperations indexOps = mongoOperations.indexOps(documentType);
+            for (IndexDefinition index : resolver.resolveIndexFor(documentType)) {
+                String name = indexOps.ensureIndex(index);
+                log.debug("인덱스 확인: collection={}, name={}, keys={}",
+                        mongoOperations.getCollectionName(documentType), name, index.getIndexKeys());
+            }
+            log.info("인덱스 확인 완료: collection={}, indexes={}",
+                    mongoOperations.getCollectionName(documentType),
+                    indexOps.getIndexInfo().stream().map(IndexInfo::getName).toList());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.programpractice.approval_request_service.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+
+/**
+ * MongoDB 트랜잭션 (messaging.outbox.transactional=true)
+ * 결재 요청 문서와 outbox 기록을 한 트랜잭션으로 묶는다. 레플리카 셋(단일 노드 포함)이 필요하다.
+ * 트랜잭션 매니저가 하나 있으면 Spring Boot가 TransactionTemplate도 등록한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "messaging.outbox.transactional", havingValue = "true")
+public class MongoTransactionConfig {
+
+    @Bean
+    public MongoTransactionManager transactionManager(MongoDatabaseFactory databaseFactory) {
+        return new MongoTransactionManager(databaseFactory);
+    }
+}
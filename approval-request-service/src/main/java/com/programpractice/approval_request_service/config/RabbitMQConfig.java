@@ -1,18 +1,29 @@
 package com.programpractice.approval_request_service.config;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitAdmin;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.programpractice.approval.messaging.ApprovalMessageConverter;
+import com.programpractice.approval.messaging.ApprovalShards;
+
 import lombok.extern.slf4j.Slf4j;
 
 @Configuration
@@ -109,12 +120,38 @@ public class RabbitMQConfig {
     }
     
     /**
-     * JSON 메시지 변환기
+     * 샤드 모드: 샤드별 승인 요청 큐와 direct exchange 바인딩
+     * approval-processing-service와 같은 인자(durable, single-active-consumer)로 선언해야 한다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "messaging.sharding.enabled", havingValue = "true")
+    public Declarables shardedRequestQueues(@Value("${messaging.sharding.shard-count:16}") int shardCount) {
+        DirectExchange exchange = new DirectExchange(ApprovalShards.SHARDED_EXCHANGE, true, false);
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.add(exchange);
+        for (int shard = 0; shard < shardCount; shard++) {
+            Queue queue = QueueBuilder.durable(ApprovalShards.queueName(shard))
+                    .singleActiveConsumer()
+                    .build();
+            declarables.add(queue);
+            declarables.add(BindingBuilder.bind(queue).to(exchange).with(ApprovalShards.routingKey(shard)));
+        }
+        log.info("샤드 큐 생성: exchange={}, shards={}", ApprovalShards.SHARDED_EXCHANGE, shardCount);
+        return new Declarables(declarables);
+    }
+    
+    /**
+     * 메시지 변환기
+     * 발행은 messaging.wire-format(json/protobuf) 형식, 수신은 content-type을 보고 두 형식 모두 처리
      */
     @Bean
-    public MessageConverter jsonMessageConverter() {
-        Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
-        log.info("Jackson2JsonMessageConverter 생성 완료");
+    public MessageConverter messageConverter(
+            @Value("${messaging.wire-format:json}") String wireFormat,
+            @Value("${messaging.compression-threshold-bytes:0}") int compressionThresholdBytes) {
+        ApprovalMessageConverter converter = new ApprovalMessageConverter(
+                ApprovalMessageConverter.WireFormat.from(wireFormat), compressionThresholdBytes);
+        log.info("ApprovalMessageConverter 생성 완료: wireFormat={}, compressionThreshold={}bytes",
+                converter.getWireFormat(), compressionThresholdBytes);
         return converter;
     }
     
@@ -122,14 +159,16 @@ public class RabbitMQConfig {
      * RabbitTemplate 설정
      */
     @Bean
-    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter messageConverter) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
-        template.setMessageConverter(jsonMessageConverter());
+        template.setMessageConverter(messageConverter);
+        // 라우팅 실패 시 return 받기 (CorrelationData.getReturned로 재발행 판단)
+        template.setMandatory(true);
         
-        // 메시지 발행 확인 콜백 설정
+        // 메시지 발행 확인 콜백 설정 (결과 처리는 ConfirmedMessagePublisher가 CorrelationData별로 수행)
         template.setConfirmCallback((correlationData, ack, cause) -> {
             if (ack) {
-                log.info("메시지 발행 성공: {}", correlationData);
+                log.debug("메시지 발행 성공: {}", correlationData);
             } else {
                 log.error("메시지 발행 실패: {}, cause: {}", correlationData, cause);
             }
@@ -3,16 +3,26 @@ package com.programpractice.approval_request_service.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import com.programpractice.approval_request_service.dto.ApprovalCreateRequest;
 import com.programpractice.approval_request_service.dto.ApprovalCreateResponse;
+import com.programpractice.approval_request_service.dto.ApprovalListResponse;
 import com.programpractice.approval_request_service.dto.ApprovalResponse;
+import com.programpractice.approval_request_service.dto.ApprovalSummaryResponse;
+import com.programpractice.approval_request_service.repository.ApprovalListFilter;
 import com.programpractice.approval_request_service.service.ApprovalRequestService;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/approvals")
@@ -21,6 +31,7 @@ import java.util.List;
 public class ApprovalRequestController {
     
     private final ApprovalRequestService approvalRequestService;
+    private final ObjectMapper objectMapper;
     
     /**
      * POST /approvals
@@ -36,14 +47,57 @@ public class ApprovalRequestController {
     }
     
     /**
-     * GET /approvals
-     * 결재 요청 목록 조회
+     * GET /approvals?finalStatus=&requesterId=&approverId=&createdFrom=&createdTo=&cursor=&size=50
+     * 결재 요청 목록 조회 (keyset 페이지, 최신순, 본문 제외)
+     * createdFrom/createdTo는 ISO-8601 (예: 2025-01-01T00:00:00), [createdFrom, createdTo) 구간
      */
     @GetMapping
-    public ResponseEntity<List<ApprovalResponse>> getAllApprovals() {
-        log.info("GET /approvals 호출");
-        List<ApprovalResponse> approvals = approvalRequestService.getAllApprovalRequests();
-        return ResponseEntity.ok(approvals);
+    public ResponseEntity<ApprovalListResponse> getApprovals(
+            @RequestParam(required = false) String finalStatus,
+            @RequestParam(required = false) Integer requesterId,
+            @RequestParam(required = false) Integer approverId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        log.info("GET /approvals 호출: cursor={}, size={}", cursor, size);
+        ApprovalListFilter filter = new ApprovalListFilter(finalStatus, requesterId, approverId, createdFrom, createdTo);
+        return ResponseEntity.ok(approvalRequestService.getApprovalRequests(filter, cursor, size));
+    }
+    
+    /**
+     * GET /approvals/stream (application/x-ndjson)
+     * 조건에 맞는 결재 요청 전체를 한 줄에 하나씩 JSON으로 내보낸다 (필터는 GET /approvals와 같음)
+     * MongoDB 커서에서 읽는 대로 응답에 쓰므로 전체 목록을 메모리에 올리지 않는다.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamApprovals(
+            @RequestParam(required = false) String finalStatus,
+            @RequestParam(required = false) Integer requesterId,
+            @RequestParam(required = false) Integer approverId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+        log.info("GET /approvals/stream 호출");
+        ApprovalListFilter filter = new ApprovalListFilter(finalStatus, requesterId, approverId, createdFrom, createdTo);
+        // 조건 오류는 응답을 쓰기 전에 400으로 돌려주도록 스트림을 여기서 연다
+        Stream<ApprovalSummaryResponse> items = approvalRequestService.streamApprovalRequests(filter);
+        
+        StreamingResponseBody body = output -> {
+            long count = 0;
+            try (items) {
+                Iterator<ApprovalSummaryResponse> iterator = items.iterator();
+                while (iterator.hasNext()) {
+                    // writeValue(OutputStream)는 스트림을 닫으므로 바이트로 직렬화해 직접 쓴다
+                    output.write(objectMapper.writeValueAsBytes(iterator.next()));
+                    output.write('\n');
+                    count++;
+                }
+            }
+            log.info("GET /approvals/stream 완료: count={}", count);
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
     
     /**
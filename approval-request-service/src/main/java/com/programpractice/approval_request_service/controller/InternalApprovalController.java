@@ -0,0 +1,51 @@
+package com.programpractice.approval_request_service.controller;
+
+import java.util.Set;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.programpractice.approval_request_service.dto.InProgressApprovalPage;
+import com.programpractice.approval_request_service.dto.InProgressApprovalRange;
+import com.programpractice.approval_request_service.service.ApprovalRequestService;
+
+/**
+ * 서비스 간 내부 API
+ * Processing Service가 재시작 후 진행 중 결재 요청을 다시 적재할 때 사용
+ */
+@RestController
+@RequestMapping("/internal/approvals")
+@RequiredArgsConstructor
+@Slf4j
+public class InternalApprovalController {
+    
+    private final ApprovalRequestService approvalRequestService;
+    
+    /**
+     * GET /internal/approvals/in-progress/range
+     * 진행 중 결재 요청의 requestId 최소/최대와 건수 (병렬 적재 구간 분할용)
+     */
+    @GetMapping("/in-progress/range")
+    public ResponseEntity<InProgressApprovalRange> getInProgressRange() {
+        return ResponseEntity.ok(approvalRequestService.getInProgressRange());
+    }
+    
+    /**
+     * GET /internal/approvals/in-progress?after=0&upTo=&size=500&shardCount=&shards=
+     * 진행 중 결재 요청을 requestId 순으로 (after, upTo] 구간에서 최대 size건 조회
+     */
+    @GetMapping("/in-progress")
+    public ResponseEntity<InProgressApprovalPage> getInProgressPage(
+            @RequestParam(defaultValue = "0") int after,
+            @RequestParam(required = false) Integer upTo,
+            @RequestParam(defaultValue = "500") int size,
+            @RequestParam(required = false) Integer shardCount,
+            @RequestParam(required = false) Set<Integer> shards) {
+        
+        log.debug("GET /internal/approvals/in-progress 호출: after={}, upTo={}, size={}", after, upTo, size);
+        return ResponseEntity.ok(
+                approvalRequestService.getInProgressPage(after, upTo, size, shardCount, shards));
+    }
+}
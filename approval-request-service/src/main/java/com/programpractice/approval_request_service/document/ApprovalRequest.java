@@ -5,6 +5,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.AllArgsConstructor;
@@ -12,7 +14,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+// 인덱스는 MongoIndexInitializer가 시작 시 생성 (목록 조회는 (createdAt, requestId) 내림차순이라 뒤에 붙임)
 @Document(collection = "approval_requests")
+@CompoundIndex(name = "finalStatus_createdAt", def = "{'finalStatus': 1, 'createdAt': -1, 'requestId': -1}")
+@CompoundIndex(name = "requesterId_createdAt", def = "{'requesterId': 1, 'createdAt': -1, 'requestId': -1}")
+@CompoundIndex(name = "steps.approverId_createdAt", def = "{'steps.approverId': 1, 'createdAt': -1, 'requestId': -1}")
+@CompoundIndex(name = "createdAt_requestId", def = "{'createdAt': -1, 'requestId': -1}")
+@CompoundIndex(name = "finalStatus_requestId", def = "{'finalStatus': 1, 'requestId': 1}")
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,6 +30,7 @@ public class ApprovalRequest {
     @Id
     private String id;  // MongoDB _id
     
+    @Indexed(name = "requestId", unique = true)
     private Integer requestId;  // 자동 증가 ID
     private Integer requesterId;
     private String title;
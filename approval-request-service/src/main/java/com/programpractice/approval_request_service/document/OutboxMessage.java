@@ -0,0 +1,47 @@
+package com.programpractice.approval_request_service.document;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import com.programpractice.approval.messaging.ApprovalRequestMessage;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 발행 대기 승인 요청 메시지 (transactional outbox)
+ * 결재 요청 문서 변경과 같은 트랜잭션으로 기록하고, ApprovalOutboxRelay가 읽어 RabbitMQ로 발행한다.
+ * 발행 확인(confirm)된 건은 sent로 표시하고 sentAt 기준 7일 후 TTL 인덱스로 삭제된다.
+ */
+@Document(collection = "approval_outbox")
+@CompoundIndex(name = "status_nextAttemptAt", def = "{'status': 1, 'nextAttemptAt': 1}")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxMessage {
+    
+    public static final String PENDING = "pending";
+    public static final String SENT = "sent";
+    
+    @Id
+    private String id;
+    
+    private Integer requestId;
+    private ApprovalRequestMessage payload;
+    
+    private String status;               // pending, sent
+    private int attempts;                // 발행 실패 횟수
+    private LocalDateTime createdAt;
+    private LocalDateTime nextAttemptAt; // 이 시각 이후 발행 대상 (선점 중이면 선점 만료 시각)
+    private String claimToken;           // 선점한 릴레이 배치
+    
+    @Indexed(name = "sentAt_ttl", expireAfter = "7d")
+    private LocalDateTime sentAt;
+}
@@ -0,0 +1,19 @@
+package com.programpractice.approval_request_service.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 결재 요청 목록 페이지 (createdAt, requestId 내림차순)
+ * nextCursor를 다음 요청의 cursor 파라미터로 넘기면 이어서 조회한다 (마지막 페이지면 null).
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class ApprovalListResponse {
+    private List<ApprovalSummaryResponse> items;
+    private String nextCursor;
+}
@@ -0,0 +1,43 @@
+package com.programpractice.approval_request_service.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.programpractice.approval_request_service.document.ApprovalRequest;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 결재 요청 목록 항목 (본문 content 제외, 상세는 GET /approvals/{requestId})
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class ApprovalSummaryResponse {
+    
+    private Integer requestId;
+    private Integer requesterId;
+    private String title;
+    private Integer currentStepOrder;
+    private List<StepResponse> steps;
+    private String finalStatus;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    
+    public static ApprovalSummaryResponse from(ApprovalRequest request) {
+        return ApprovalSummaryResponse.builder()
+                .requestId(request.getRequestId())
+                .requesterId(request.getRequesterId())
+                .title(request.getTitle())
+                .currentStepOrder(request.getCurrentStepOrder())
+                .steps(request.getSteps().stream()
+                        .map(StepResponse::from)
+                        .collect(Collectors.toList()))
+                .finalStatus(request.getFinalStatus())
+                .createdAt(request.getCreatedAt())
+                .updatedAt(request.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.programpractice.approval_request_service.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Employee Service 일괄 존재 여부 확인 응답 DTO (존재하지 않는 ID 목록)
+@Getter
+@NoArgsConstructor
+public class EmployeeExistsResponse {
+    private List<Long> missingIds;
+}
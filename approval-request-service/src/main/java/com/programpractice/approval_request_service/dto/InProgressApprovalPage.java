@@ -0,0 +1,61 @@
+package com.programpractice.approval_request_service.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.programpractice.approval_request_service.document.ApprovalRequest;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 진행 중 결재 요청 페이지 (Processing Service 재적재용, requestId 오름차순)
+ * 다음 페이지는 after=nextAfterRequestId로 조회하고, last면 구간 끝까지 읽은 것
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class InProgressApprovalPage {
+    
+    private List<Item> items;
+    private Integer nextAfterRequestId;  // 이번 페이지에서 읽은 마지막 requestId (샤드 필터로 빠진 건 포함)
+    private boolean last;
+    
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+        private String id;                  // MongoDB ObjectId
+        private Integer requestId;
+        private Long requesterId;
+        private String title;
+        private String content;
+        private Integer currentStepOrder;
+        private List<ApprovalStepDto> steps;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+        
+        public static Item from(ApprovalRequest request) {
+            return Item.builder()
+                    .id(request.getId())
+                    .requestId(request.getRequestId())
+                    .requesterId(request.getRequesterId().longValue())
+                    .title(request.getTitle())
+                    .content(request.getContent())
+                    .currentStepOrder(request.getCurrentStepOrder())
+                    .steps(request.getSteps().stream()
+                            .map(step -> ApprovalStepDto.builder()
+                                    .step(step.getStep())
+                                    .approverId(step.getApproverId().longValue())
+                                    .status(step.getStatus())
+                                    .processedAt(step.getUpdatedAt())
+                                    .build())
+                            .collect(Collectors.toList()))
+                    .createdAt(request.getCreatedAt())
+                    .updatedAt(request.getUpdatedAt())
+                    .build();
+        }
+    }
+}
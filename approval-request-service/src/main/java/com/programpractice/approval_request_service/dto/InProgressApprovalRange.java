@@ -0,0 +1,18 @@
+package com.programpractice.approval_request_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 진행 중 결재 요청의 requestId 구간 (Processing Service 재적재용)
+ * 진행 중인 건이 없으면 minRequestId/maxRequestId는 null
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class InProgressApprovalRange {
+    private Integer minRequestId;
+    private Integer maxRequestId;
+    private long count;
+}
@@ -24,6 +24,16 @@ public class GlobalExceptionHandler {
                 .body(error);
     }
     
+    @org.springframework.web.bind.annotation.ExceptionHandler(IllegalArgumentException.class)
+    public org.springframework.http.ResponseEntity<ErrorResponse> handleIllegalArgument(
+            IllegalArgumentException e) {
+        log.error("잘못된 요청 파라미터: {}", e.getMessage());
+        ErrorResponse error = new ErrorResponse("BAD_REQUEST", e.getMessage());
+        return org.springframework.http.ResponseEntity
+                .status(org.springframework.http.HttpStatus.BAD_REQUEST)
+                .body(error);
+    }
+    
     @org.springframework.web.bind.annotation.ExceptionHandler(
             org.springframework.web.bind.MethodArgumentNotValidException.class)
     public org.springframework.http.ResponseEntity<ErrorResponse> handleValidation(
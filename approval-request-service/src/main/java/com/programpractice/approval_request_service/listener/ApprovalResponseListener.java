@@ -3,8 +3,8 @@ package com.programpractice.approval_request_service.listener;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
+import com.programpractice.approval.messaging.ApprovalResponseMessage;
 import com.programpractice.approval_request_service.config.RabbitMQConfig;
-import com.programpractice.approval_request_service.dto.ApprovalResponseMessage;
 import com.programpractice.approval_request_service.service.ResponseHandleService;
 
 import lombok.RequiredArgsConstructor;
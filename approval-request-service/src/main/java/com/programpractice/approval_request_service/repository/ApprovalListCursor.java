@@ -0,0 +1,49 @@
+package com.programpractice.approval_request_service.repository;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import com.programpractice.approval_request_service.document.ApprovalRequest;
+
+/**
+ * 결재 요청 목록 페이지 커서 (keyset)
+ * 목록은 (createdAt, requestId) 내림차순이며, 커서는 이전 페이지 마지막 건의 정렬 키다.
+ * 외부에는 12바이트(createdAt epoch-millis, requestId)를 URL-safe Base64로 인코딩한 문자열로 노출한다.
+ * MongoDB Date는 밀리초 단위이므로 저장된 문서에서 만든 커서는 손실 없이 되돌아간다.
+ */
+public record ApprovalListCursor(LocalDateTime createdAt, int requestId) {
+
+    private static final int ENCODED_BYTES = Long.BYTES + Integer.BYTES;
+
+    public static ApprovalListCursor of(ApprovalRequest request) {
+        return new ApprovalListCursor(request.getCreatedAt(), request.getRequestId());
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES);
+        buffer.putLong(createdAt.toInstant(ZoneOffset.UTC).toEpochMilli()).putInt(requestId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static ApprovalListCursor decode(String encoded) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(encoded);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + encoded);
+        }
+        if (bytes.length != ENCODED_BYTES) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + encoded);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long millis = buffer.getLong();
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000),
+                (int) Math.floorMod(millis, 1000) * 1_000_000, ZoneOffset.UTC);
+        return new ApprovalListCursor(createdAt, buffer.getInt());
+    }
+}
@@ -0,0 +1,18 @@
+package com.programpractice.approval_request_service.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결재 요청 목록 조회 조건 (null인 항목은 조건 없음)
+ *
+ * @param approverId  결재 단계 중 하나라도 이 결재자인 건
+ * @param createdFrom 생성 시각 하한 (포함)
+ * @param createdTo   생성 시각 상한 (제외)
+ */
+public record ApprovalListFilter(String finalStatus, Integer requesterId, Integer approverId,
+                                 LocalDateTime createdFrom, LocalDateTime createdTo) {
+
+    public static ApprovalListFilter none() {
+        return new ApprovalListFilter(null, null, null, null, null);
+    }
+}
@@ -0,0 +1,25 @@
+package com.programpractice.approval_request_service.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.programpractice.approval_request_service.document.ApprovalRequest;
+
+/**
+ * 결재 요청 목록 조회 (ApprovalRequestRepository 커스텀 구현 조각)
+ * (createdAt, requestId) 내림차순이며, 목록에는 본문(content)을 읽지 않는다.
+ */
+public interface ApprovalListRepository {
+
+    /**
+     * after 다음(더 오래된) 건부터 최대 limit건
+     *
+     * @param after null이면 처음부터
+     */
+    List<ApprovalRequest> findListPage(ApprovalListFilter filter, ApprovalListCursor after, int limit);
+
+    /**
+     * 조건에 맞는 전체 건을 MongoDB 커서로 읽는 스트림 (사용 후 반드시 close)
+     */
+    Stream<ApprovalRequest> streamList(ApprovalListFilter filter);
+}
@@ -0,0 +1,76 @@
+package com.programpractice.approval_request_service.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.programpractice.approval_request_service.document.ApprovalRequest;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ApprovalListRepository 구현 (Spring Data가 이름 규칙으로 ApprovalRequestRepository에 붙인다)
+ * 다음 페이지는 skip 없이 정렬 키 비교(keyset)로 찾으므로 페이지가 뒤로 가도 비용이 같다.
+ */
+@RequiredArgsConstructor
+public class ApprovalListRepositoryImpl implements ApprovalListRepository {
+
+    // 스트림 조회 시 MongoDB 커서가 한 번에 가져오는 문서 수
+    static final int STREAM_BATCH_SIZE = 500;
+
+    private static final Sort LIST_ORDER = Sort.by(Sort.Direction.DESC, "createdAt", "requestId");
+
+    private final MongoOperations mongoOperations;
+
+    @Override
+    public List<ApprovalRequest> findListPage(ApprovalListFilter filter, ApprovalListCursor after, int limit) {
+        return mongoOperations.find(listQuery(filter, after).limit(limit), ApprovalRequest.class);
+    }
+
+    @Override
+    public Stream<ApprovalRequest> streamList(ApprovalListFilter filter) {
+        return mongoOperations.stream(listQuery(filter, null).cursorBatchSize(STREAM_BATCH_SIZE),
+                ApprovalRequest.class);
+    }
+
+    static Query listQuery(ApprovalListFilter filter, ApprovalListCursor after) {
+        List<Criteria> conditions = new ArrayList<>();
+        if (filter.finalStatus() != null) {
+            conditions.add(where("finalStatus").is(filter.finalStatus()));
+        }
+        if (filter.requesterId() != null) {
+            conditions.add(where("requesterId").is(filter.requesterId()));
+        }
+        if (filter.approverId() != null) {
+            conditions.add(where("steps.approverId").is(filter.approverId()));
+        }
+        if (filter.createdFrom() != null || filter.createdTo() != null) {
+            Criteria created = where("createdAt");
+            if (filter.createdFrom() != null) {
+                created.gte(filter.createdFrom());
+            }
+            if (filter.createdTo() != null) {
+                created.lt(filter.createdTo());
+            }
+            conditions.add(created);
+        }
+        if (after != null) {
+            // (createdAt, requestId) < (after.createdAt, after.requestId)
+            conditions.add(new Criteria().orOperator(
+                    where("createdAt").lt(after.createdAt()),
+                    where("createdAt").is(after.createdAt()).and("requestId").lt(after.requestId())));
+        }
+
+        Query query = new Query(conditions.isEmpty() ? new Criteria() : new Criteria().andOperator(conditions));
+        query.with(LIST_ORDER);
+        query.fields().exclude("content");
+        return query;
+    }
+}
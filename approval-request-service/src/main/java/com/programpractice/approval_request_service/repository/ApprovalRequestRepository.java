@@ -1,17 +1,33 @@
 package com.programpractice.approval_request_service.repository;
 
 import com.programpractice.approval_request_service.document.ApprovalRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ApprovalRequestRepository extends MongoRepository<ApprovalRequest, String> {
+public interface ApprovalRequestRepository extends MongoRepository<ApprovalRequest, String>,
+        ApprovalListRepository, ApprovalStepRepository {
     
     // requestId로 조회
     Optional<ApprovalRequest> findByRequestId(Integer requestId);
     
     // requestId 존재 여부 확인
     boolean existsByRequestId(Integer requestId);
+    
+    // 최종 상태별 requestId 최소/최대 건과 건수 (재적재 구간 계산용)
+    Optional<ApprovalRequest> findFirstByFinalStatusOrderByRequestIdAsc(String finalStatus);
+    
+    Optional<ApprovalRequest> findFirstByFinalStatusOrderByRequestIdDesc(String finalStatus);
+    
+    long countByFinalStatus(String finalStatus);
+    
+    // 최종 상태가 finalStatus이고 requestId가 (after, upTo] 구간인 건 (정렬/개수는 pageable로 지정)
+    @Query("{ 'finalStatus': ?0, 'requestId': { $gt: ?1, $lte: ?2 } }")
+    List<ApprovalRequest> findByFinalStatusInRequestIdRange(String finalStatus, Integer after, Integer upTo,
+                                                            Pageable pageable);
 }
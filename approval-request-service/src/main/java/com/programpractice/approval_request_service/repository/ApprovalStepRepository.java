@@ -0,0 +1,30 @@
+package com.programpractice.approval_request_service.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import com.programpractice.approval_request_service.document.ApprovalRequest;
+
+/**
+ * 결재 단계 처리 결과 반영 (ApprovalRequestRepository 커스텀 구현 조각)
+ *
+ * 문서를 읽어 고친 뒤 통째로 저장하지 않고, 조건부 findAndModify 한 번으로 바뀐 필드만 갱신한다.
+ * 조건은 "진행 중이고 currentStepOrder가 처리한 단계와 같음"이므로, 같은 단계에 대한 응답이 경합하거나
+ * 중복/지연 수신되면 먼저 반영된 하나만 적용되고 나머지는 빈 결과를 받는다.
+ */
+public interface ApprovalStepRepository {
+
+    /**
+     * step 승인 후 다음 단계로 이동 (다음 단계가 있을 때만)
+     *
+     * @return 갱신된 문서 (다음 단계 발행용, 본문 포함). 조건이 맞지 않으면 empty
+     */
+    Optional<ApprovalRequest> moveToNextStep(int requestId, int step, LocalDateTime processedAt);
+
+    /**
+     * step 처리로 결재 종료: status가 approved면 마지막 단계일 때만, rejected면 어느 단계든
+     *
+     * @return 갱신된 문서 (알림용, 본문 제외). 조건이 맞지 않으면 empty
+     */
+    Optional<ApprovalRequest> finishAtStep(int requestId, int step, String status, LocalDateTime processedAt);
+}
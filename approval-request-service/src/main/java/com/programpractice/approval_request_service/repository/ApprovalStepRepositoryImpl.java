@@ -0,0 +1,71 @@
+package com.programpractice.approval_request_service.repository;
+
+import static org.springframework.data.mongodb.core.FindAndModifyOptions.options;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.programpractice.approval_request_service.document.ApprovalRequest;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ApprovalStepRepository 구현 (Spring Data가 이름 규칙으로 ApprovalRequestRepository에 붙인다)
+ *
+ * 단계 상태는 filtered positional(steps.$[current], arrayFilters current.step = 처리 단계)로 갱신한다.
+ * 다음 단계 존재 여부는 배열 인덱스로 확인하는데(steps.{step} = step+1번째 단계, 단계는 1부터 연속),
+ * 같은 배열에 조건이 둘이면 steps.$가 가리키는 요소가 모호하므로 $ 대신 arrayFilters를 쓴다.
+ */
+@RequiredArgsConstructor
+public class ApprovalStepRepositoryImpl implements ApprovalStepRepository {
+
+    private static final String IN_PROGRESS = "in_progress";
+    private static final String APPROVED = "approved";
+
+    private final MongoOperations mongoOperations;
+
+    @Override
+    public Optional<ApprovalRequest> moveToNextStep(int requestId, int step, LocalDateTime processedAt) {
+        Query query = currentStepQuery(requestId, step)
+                .addCriteria(where("steps." + step).exists(true));
+        Update update = stepUpdate(step, APPROVED, processedAt)
+                .set("currentStepOrder", step + 1);
+
+        return Optional.ofNullable(mongoOperations.findAndModify(
+                query, update, options().returnNew(true), ApprovalRequest.class));
+    }
+
+    @Override
+    public Optional<ApprovalRequest> finishAtStep(int requestId, int step, String status, LocalDateTime processedAt) {
+        Query query = currentStepQuery(requestId, step);
+        if (APPROVED.equals(status)) {
+            query.addCriteria(where("steps." + step).exists(false));
+        }
+        query.fields().exclude("content");
+        Update update = stepUpdate(step, status, processedAt)
+                .set("finalStatus", status);
+
+        return Optional.ofNullable(mongoOperations.findAndModify(
+                query, update, options().returnNew(true), ApprovalRequest.class));
+    }
+
+    private static Query currentStepQuery(int requestId, int step) {
+        return query(where("requestId").is(requestId)
+                .and("finalStatus").is(IN_PROGRESS)
+                .and("currentStepOrder").is(step));
+    }
+
+    private static Update stepUpdate(int step, String status, LocalDateTime processedAt) {
+        return new Update()
+                .set("steps.$[current].status", status)
+                .set("steps.$[current].updatedAt", processedAt)
+                .set("updatedAt", processedAt)
+                .filterArray(where("current.step").is(step));
+    }
+}
@@ -0,0 +1,104 @@
+package com.programpractice.approval_request_service.service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mongodb.MongoException;
+import com.programpractice.approval.messaging.ApprovalRequestMessage;
+import com.programpractice.approval_request_service.document.OutboxMessage;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 승인 요청 메시지 outbox 기록
+ *
+ * 결재 요청 문서 변경과 발행할 메시지를 inTransaction 안에서 함께 기록하면, 둘 다 반영되거나 둘 다 반영되지 않는다.
+ * 실제 발행은 ApprovalOutboxRelay가 하므로 브로커 장애 중에도 요청 저장은 성공하고, 메시지는 복구 후 발행된다.
+ * 트랜잭션은 messaging.outbox.transactional=true(MongoTransactionManager)일 때만 쓰며,
+ * 아니면 순서대로 기록한다 (문서 저장 직후 장애가 나면 메시지가 기록되지 않을 수 있음).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApprovalOutbox {
+
+    // 쓰기 충돌 등 일시적 트랜잭션 오류(TransientTransactionError) 재시도 횟수
+    private static final int MAX_TRANSACTION_ATTEMPTS = 3;
+
+    private final MongoOperations mongoOperations;
+    private final Optional<TransactionTemplate> transactionTemplate;
+    private final ApprovalOutboxRelay relay;
+
+    @PostConstruct
+    public void logMode() {
+        if (transactionTemplate.isPresent()) {
+            log.info("승인 메시지 outbox: 문서 변경과 같은 트랜잭션으로 기록");
+        } else {
+            log.warn("승인 메시지 outbox: 트랜잭션 없이 기록 (messaging.outbox.transactional=false)");
+        }
+    }
+
+    /**
+     * 문서 변경 + enqueue를 한 트랜잭션으로 실행 (일시적 오류면 처음부터 다시 실행)
+     */
+    public <T> T inTransaction(Supplier<T> work) {
+        if (transactionTemplate.isEmpty()) {
+            return work.get();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.get().execute(status -> work.get());
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_TRANSACTION_ATTEMPTS || !isTransient(e)) {
+                    throw e;
+                }
+                log.warn("트랜잭션 재시도: attempt={}/{}, reason={}", attempt, MAX_TRANSACTION_ATTEMPTS, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 발행할 메시지 기록 (inTransaction 안에서 호출하면 커밋 후 릴레이를 깨운다)
+     */
+    public void enqueue(ApprovalRequestMessage message) {
+        LocalDateTime now = LocalDateTime.now();
+        mongoOperations.insert(OutboxMessage.builder()
+                .requestId(message.getRequestId())
+                .payload(message)
+                .status(OutboxMessage.PENDING)
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build());
+        log.debug("outbox 기록: requestId={}", message.getRequestId());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    relay.wakeUp();
+                }
+            });
+        } else {
+            relay.wakeUp();
+        }
+    }
+
+    private static boolean isTransient(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoException mongoException
+                    && mongoException.hasErrorLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
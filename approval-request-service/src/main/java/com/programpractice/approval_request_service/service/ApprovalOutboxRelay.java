@@ -0,0 +1,220 @@
+package com.programpractice.approval_request_service.service;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.programpractice.approval_request_service.document.OutboxMessage;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox 릴레이: approval_outbox의 대기 메시지를 배치로 발행
+ *
+ * 1. 선점: 발행 시각이 된 pending 건을 최대 batch-size개 골라 claimToken과 선점 만료 시각(claim-timeout-ms)을 기록한다.
+ *    조건부 updateMulti라 레플리카 여러 개가 동시에 돌아도 한 건은 한 릴레이만 가져가고,
+ *    릴레이가 발행 도중 죽으면 선점이 만료된 뒤 다른 릴레이가 다시 가져간다.
+ * 2. 발행: 배치 전체를 ConfirmedMessagePublisher로 한꺼번에 보내고 confirm을 기다린다.
+ * 3. 정리: confirm된 건은 updateMulti 한 번으로 sent 처리, 실패한 건은 bulk 한 번으로 지수 백오프 후 재시도 예약.
+ * 브로커 장애 중에는 메시지가 pending으로 남아 있다가 복구 후 발행된다 (최소 한 번 전달, 수신 측은 멱등 처리).
+ * 새 메시지가 기록되면(wakeUp) 바로, 아니면 poll-interval-ms마다 확인한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApprovalOutboxRelay {
+
+    private final MongoOperations mongoOperations;
+    private final ApprovalMessagePublisher messagePublisher;
+
+    @Value("${messaging.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${messaging.outbox.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    @Value("${messaging.outbox.claim-timeout-ms:60000}")
+    private long claimTimeoutMs;
+
+    @Value("${messaging.outbox.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    @Value("${messaging.outbox.max-retry-backoff-ms:60000}")
+    private long maxRetryBackoffMs;
+
+    private final Semaphore wakeUps = new Semaphore(0);
+    private ExecutorService worker;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        worker.submit(this::run);
+        log.info("outbox 릴레이 시작: batchSize={}, pollIntervalMs={}, claimTimeoutMs={}",
+                batchSize, pollIntervalMs, claimTimeoutMs);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.shutdownNow();
+        worker.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    // 새 메시지 기록 알림 (대기 중인 릴레이를 바로 깨움)
+    public void wakeUp() {
+        if (wakeUps.availablePermits() == 0) {
+            wakeUps.release();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                // 배치가 가득 찼으면 남은 건이 더 있을 수 있으므로 바로 다음 배치
+                if (relayBatch() < batchSize) {
+                    wakeUps.tryAcquire(pollIntervalMs, TimeUnit.MILLISECONDS);
+                    wakeUps.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("outbox 릴레이 오류 (다음 주기에 재시도): {}", e.getMessage(), e);
+                try {
+                    Thread.sleep(pollIntervalMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 배치 하나 선점 → 발행 → 정리
+     *
+     * @return 선점한 건수
+     */
+    int relayBatch() {
+        String token = UUID.randomUUID().toString();
+        List<OutboxMessage> batch = claim(token);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<Boolean>> results = new ArrayList<>(batch.size());
+        for (OutboxMessage entry : batch) {
+            results.add(publish(entry));
+        }
+
+        List<String> sent = new ArrayList<>();
+        List<OutboxMessage> failed = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (results.get(i).join()) {
+                sent.add(batch.get(i).getId());
+            } else {
+                failed.add(batch.get(i));
+            }
+        }
+        markSent(sent);
+        reschedule(failed);
+
+        if (failed.isEmpty()) {
+            log.debug("outbox 발행: sent={}", sent.size());
+        } else {
+            log.warn("outbox 발행 일부 실패 (재시도 예약): sent={}, failed={}", sent.size(), failed.size());
+        }
+        return batch.size();
+    }
+
+    private List<OutboxMessage> claim(String token) {
+        LocalDateTime now = LocalDateTime.now();
+        Query due = query(where("status").is(OutboxMessage.PENDING).and("nextAttemptAt").lte(now))
+                .with(Sort.by("nextAttemptAt"))
+                .limit(batchSize);
+        due.fields().include("_id");
+        List<String> ids = mongoOperations.find(due, OutboxMessage.class).stream()
+                .map(OutboxMessage::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // 그 사이 다른 릴레이가 가져간 건은 nextAttemptAt이 미래로 바뀌어 조건에서 빠진다
+        mongoOperations.updateMulti(
+                query(where("_id").in(ids).and("status").is(OutboxMessage.PENDING).and("nextAttemptAt").lte(now)),
+                new Update().set("claimToken", token).set("nextAttemptAt", now.plus(Duration.ofMillis(claimTimeoutMs))),
+                OutboxMessage.class);
+        return mongoOperations.find(
+                query(where("_id").in(ids).and("claimToken").is(token)).with(Sort.by("createdAt")),
+                OutboxMessage.class);
+    }
+
+    private CompletableFuture<Boolean> publish(OutboxMessage entry) {
+        try {
+            return messagePublisher.publishApprovalRequest(entry.getPayload())
+                    .handle((ignored, error) -> error == null);
+        } catch (RuntimeException e) {
+            log.warn("outbox 발행 실패: requestId={}, reason={}", entry.getRequestId(), e.getMessage());
+            return CompletableFuture.completedFuture(false);
+        }
+    }
+
+    private void markSent(List<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        mongoOperations.updateMulti(query(where("_id").in(ids)),
+                new Update().set("status", OutboxMessage.SENT).set("sentAt", LocalDateTime.now()).unset("claimToken"),
+                OutboxMessage.class);
+    }
+
+    private void reschedule(List<OutboxMessage> failed) {
+        if (failed.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulk = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, OutboxMessage.class);
+        for (OutboxMessage entry : failed) {
+            int attempts = entry.getAttempts() + 1;
+            bulk.updateOne(query(where("_id").is(entry.getId())),
+                    new Update().set("attempts", attempts)
+                            .set("nextAttemptAt", now.plus(Duration.ofMillis(backoffMs(attempts))))
+                            .unset("claimToken"));
+        }
+        bulk.execute();
+    }
+
+    // retry-backoff-ms × 2^(attempts-1), 최대 max-retry-backoff-ms
+    private long backoffMs(int attempts) {
+        long backoff = retryBackoffMs << Math.min(attempts - 1, 20);
+        return Math.min(backoff, maxRetryBackoffMs);
+    }
+}
@@ -1,20 +1,32 @@
 package com.programpractice.approval_request_service.service;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.programpractice.approval.messaging.ApprovalRequestMessage;
+import com.programpractice.approval.messaging.ApprovalShards;
 import com.programpractice.approval_request_service.client.EmployeeServiceClient;
 import com.programpractice.approval_request_service.document.ApprovalRequest;
 import com.programpractice.approval_request_service.dto.ApprovalCreateRequest;
 import com.programpractice.approval_request_service.dto.ApprovalCreateResponse;
-import com.programpractice.approval_request_service.dto.ApprovalRequestMessage;
+import com.programpractice.approval_request_service.dto.ApprovalListResponse;
 import com.programpractice.approval_request_service.dto.ApprovalResponse;
+import com.programpractice.approval_request_service.dto.ApprovalSummaryResponse;
+import com.programpractice.approval_request_service.dto.InProgressApprovalPage;
+import com.programpractice.approval_request_service.dto.InProgressApprovalRange;
 import com.programpractice.approval_request_service.dto.StepRequest;
 import com.programpractice.approval_request_service.exception.ApprovalRequestNotFoundException;
 import com.programpractice.approval_request_service.exception.InvalidApprovalStepsException;
+import com.programpractice.approval_request_service.repository.ApprovalListCursor;
+import com.programpractice.approval_request_service.repository.ApprovalListFilter;
 import com.programpractice.approval_request_service.repository.ApprovalRequestRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -28,9 +40,16 @@ public class ApprovalRequestService {
     private final ApprovalRequestRepository approvalRequestRepository;
     private final SequenceGeneratorService sequenceGeneratorService;
     private final EmployeeServiceClient employeeServiceClient;
-    private final ApprovalMessagePublisher messagePublisher;  // 추가
+    private final ApprovalOutbox approvalOutbox;
     
     private static final String APPROVAL_REQUEST_SEQ = "approval_request_id";
+    private static final String IN_PROGRESS = "in_progress";
+    
+    // 재적재 페이지 최대 크기
+    public static final int MAX_IN_PROGRESS_PAGE_SIZE = 1000;
+    
+    // 목록 페이지 최대 크기
+    public static final int MAX_LIST_PAGE_SIZE = 500;
     
     /**
      * 결재 요청 생성
@@ -39,13 +58,8 @@ public class ApprovalRequestService {
         log.info("결재 요청 생성: requesterId={}, title={}", 
                 request.getRequesterId(), request.getTitle());
         
-        // 1. 요청자 존재 여부 확인
-        validateEmployee(request.getRequesterId(), "요청자");
-        
-        // 2. 결재자들 존재 여부 확인
-        for (StepRequest step : request.getSteps()) {
-            validateEmployee(step.getApproverId(), "결재자");
-        }
+        // 1~2. 요청자 + 결재자 존재 여부 확인 (Employee Service 1회 호출)
+        validateEmployees(request.getRequesterId(), request.getSteps());
         
         // 3. 단계 검증
         validateSteps(request.getSteps());
@@ -74,60 +88,84 @@ public class ApprovalRequestService {
                 .updatedAt(LocalDateTime.now())
                 .build();
         
-        ApprovalRequest saved = approvalRequestRepository.save(approvalRequest);
+        // 7. 문서 저장과 Processing Service로 보낼 메시지(outbox)를 한 트랜잭션으로 기록 (발행은 릴레이가 담당)
+        ApprovalRequest saved = approvalOutbox.inTransaction(() -> {
+            ApprovalRequest inserted = approvalRequestRepository.save(approvalRequest);
+            approvalOutbox.enqueue(toRequestMessage(inserted));
+            return inserted;
+        });
         
         log.info("결재 요청 생성 완료: requestId={}, mongoId={}", requestId, saved.getId());
         
-        // 7. RabbitMQ로 Processing Service에 메시지 발행
-        publishApprovalRequestMessage(saved);
-        
         return new ApprovalCreateResponse(requestId);
     }
     
     /**
-     * RabbitMQ로 승인 요청 메시지 발행
+     * Processing Service로 보낼 승인 요청 메시지 (전체 단계)
      */
-    private void publishApprovalRequestMessage(ApprovalRequest approvalRequest) {
-        try {
-            log.info("=== 승인 요청 메시지 발행 시작 ===");
-
-            List<ApprovalRequestMessage.ApprovalStepDto> stepDtos = approvalRequest.getSteps().stream()
-                    .map(step -> ApprovalRequestMessage.ApprovalStepDto.builder()
-                            .step(step.getStep())
-                            .approverId(step.getApproverId().longValue())
-                            .build())
-                    .collect(Collectors.toList());
+    private ApprovalRequestMessage toRequestMessage(ApprovalRequest approvalRequest) {
+        List<ApprovalRequestMessage.ApprovalStepDto> stepDtos = approvalRequest.getSteps().stream()
+                .map(step -> ApprovalRequestMessage.ApprovalStepDto.builder()
+                        .step(step.getStep())
+                        .approverId(step.getApproverId().longValue())
+                        .build())
+                .collect(Collectors.toList());
 
-            ApprovalRequestMessage message = ApprovalRequestMessage.builder()
-                    .id(approvalRequest.getId())
-                    .requestId(approvalRequest.getRequestId())
-                    .requesterId(approvalRequest.getRequesterId().longValue())
-                    .requesterName("Requester_" + approvalRequest.getRequesterId())
-                    .title(approvalRequest.getTitle())
-                    .content(approvalRequest.getContent())
-                    .requestedAt(approvalRequest.getCreatedAt())
-                    .steps(stepDtos)
-                    .build();
-            
-            messagePublisher.publishApprovalRequest(message);
-            log.info("승인 요청 메시지 발행 완료: requestId={}", approvalRequest.getRequestId());
-            
-        } catch (Exception e) {
-            log.error("승인 요청 메시지 발행 실패: requestId={}", approvalRequest.getRequestId(), e);
-        }
+        return ApprovalRequestMessage.builder()
+                .id(approvalRequest.getId())
+                .requestId(approvalRequest.getRequestId())
+                .requesterId(approvalRequest.getRequesterId().longValue())
+                .requesterName("Requester_" + approvalRequest.getRequesterId())
+                .title(approvalRequest.getTitle())
+                .content(approvalRequest.getContent())
+                .requestedAt(approvalRequest.getCreatedAt())
+                .steps(stepDtos)
+                .build();
     }
     
     /**
-     * 결재 요청 목록 조회
+     * 결재 요청 목록 페이지 조회 ((createdAt, requestId) 내림차순, 본문 제외)
+     * 
+     * @param cursor 이전 페이지의 nextCursor (null이면 처음부터)
      */
-    public List<ApprovalResponse> getAllApprovalRequests() {
-        log.info("결재 요청 목록 조회");
+    public ApprovalListResponse getApprovalRequests(ApprovalListFilter filter, String cursor, int size) {
+        if (size < 1 || size > MAX_LIST_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1 ~ " + MAX_LIST_PAGE_SIZE + " 사이여야 합니다: " + size);
+        }
+        validateListFilter(filter);
+        ApprovalListCursor after = cursor != null ? ApprovalListCursor.decode(cursor) : null;
         
-        List<ApprovalRequest> requests = approvalRequestRepository.findAll();
+        // 한 건 더 읽어 다음 페이지 여부 판단
+        List<ApprovalRequest> fetched = approvalRequestRepository.findListPage(filter, after, size + 1);
+        boolean hasNext = fetched.size() > size;
+        List<ApprovalRequest> page = hasNext ? fetched.subList(0, size) : fetched;
         
-        return requests.stream()
-                .map(ApprovalResponse::from)
+        List<ApprovalSummaryResponse> items = page.stream()
+                .map(ApprovalSummaryResponse::from)
                 .collect(Collectors.toList());
+        String nextCursor = hasNext ? ApprovalListCursor.of(page.get(page.size() - 1)).encode() : null;
+        
+        log.info("결재 요청 목록 조회: filter={}, count={}, hasNext={}", filter, items.size(), hasNext);
+        return new ApprovalListResponse(items, nextCursor);
+    }
+    
+    /**
+     * 결재 요청 목록 전체를 MongoDB 커서로 순회하는 스트림 (NDJSON 내보내기용, 본문 제외)
+     * 조건 검증과 쿼리 실행은 호출 시점에 하고, 문서는 소비하는 만큼 배치 단위로 읽는다.
+     * 호출한 쪽이 다 쓴 뒤 close 해야 커서가 정리된다.
+     */
+    public Stream<ApprovalSummaryResponse> streamApprovalRequests(ApprovalListFilter filter) {
+        validateListFilter(filter);
+        log.info("결재 요청 목록 스트림 조회: filter={}", filter);
+        return approvalRequestRepository.streamList(filter).map(ApprovalSummaryResponse::from);
+    }
+    
+    private void validateListFilter(ApprovalListFilter filter) {
+        if (filter.createdFrom() != null && filter.createdTo() != null
+                && !filter.createdFrom().isBefore(filter.createdTo())) {
+            throw new IllegalArgumentException("createdFrom은 createdTo보다 앞서야 합니다: "
+                    + filter.createdFrom() + " ~ " + filter.createdTo());
+        }
     }
     
     /**
@@ -144,13 +182,73 @@ public class ApprovalRequestService {
     }
     
     /**
-     * 직원 존재 여부 검증
+     * 진행 중 결재 요청의 requestId 구간 (Processing Service 재적재용)
      */
-    private void validateEmployee(Integer employeeId, String role) {
-        if (!employeeServiceClient.existsEmployee(employeeId)) {
-            throw new InvalidApprovalStepsException(
-                    role + "가 존재하지 않습니다: employeeId=" + employeeId);
+    public InProgressApprovalRange getInProgressRange() {
+        Integer min = approvalRequestRepository.findFirstByFinalStatusOrderByRequestIdAsc(IN_PROGRESS)
+                .map(ApprovalRequest::getRequestId)
+                .orElse(null);
+        Integer max = approvalRequestRepository.findFirstByFinalStatusOrderByRequestIdDesc(IN_PROGRESS)
+                .map(ApprovalRequest::getRequestId)
+                .orElse(null);
+        long count = approvalRequestRepository.countByFinalStatus(IN_PROGRESS);
+        
+        log.info("진행 중 결재 요청 구간 조회: min={}, max={}, count={}", min, max, count);
+        return new InProgressApprovalRange(min, max, count);
+    }
+    
+    /**
+     * 진행 중 결재 요청 페이지 조회 (requestId 오름차순, (after, upTo] 구간)
+     * shardCount와 shards를 주면 해당 샤드에 속한 건만 돌려준다 (샤드 모드 레플리카별 재적재).
+     * 
+     * @param upTo null이면 구간 끝 제한 없음
+     */
+    public InProgressApprovalPage getInProgressPage(int after, Integer upTo, int size,
+                                                    Integer shardCount, Set<Integer> shards) {
+        if (size < 1 || size > MAX_IN_PROGRESS_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                    "size는 1 ~ " + MAX_IN_PROGRESS_PAGE_SIZE + " 사이여야 합니다: " + size);
+        }
+        boolean filterShards = shards != null && !shards.isEmpty();
+        if (filterShards && (shardCount == null || shardCount < 1)) {
+            throw new IllegalArgumentException("shards를 지정하면 shardCount도 지정해야 합니다");
+        }
+        
+        List<ApprovalRequest> scanned = approvalRequestRepository.findByFinalStatusInRequestIdRange(
+                IN_PROGRESS, after, upTo != null ? upTo : Integer.MAX_VALUE,
+                PageRequest.of(0, size, Sort.by(Sort.Direction.ASC, "requestId")));
+        
+        List<InProgressApprovalPage.Item> items = scanned.stream()
+                .filter(request -> !filterShards
+                        || shards.contains(ApprovalShards.shardOf(request.getRequestId(), shardCount)))
+                .map(InProgressApprovalPage.Item::from)
+                .collect(Collectors.toList());
+        
+        Integer nextAfter = scanned.isEmpty() ? after : scanned.get(scanned.size() - 1).getRequestId();
+        log.debug("진행 중 결재 요청 페이지 조회: after={}, upTo={}, scanned={}, returned={}",
+                after, upTo, scanned.size(), items.size());
+        return new InProgressApprovalPage(items, nextAfter, scanned.size() < size);
+    }
+    
+    /**
+     * 직원 존재 여부 검증 (요청자 + 결재자 일괄)
+     */
+    private void validateEmployees(Integer requesterId, List<StepRequest> steps) {
+        Set<Integer> employeeIds = new LinkedHashSet<>();
+        employeeIds.add(requesterId);
+        for (StepRequest step : steps) {
+            employeeIds.add(step.getApproverId());
+        }
+        
+        List<Integer> missingIds = employeeServiceClient.findMissingEmployees(employeeIds);
+        if (missingIds.isEmpty()) {
+            return;
         }
+        
+        String role = missingIds.contains(requesterId) ? "요청자" : "결재자";
+        Integer employeeId = missingIds.contains(requesterId) ? requesterId : missingIds.get(0);
+        throw new InvalidApprovalStepsException(
+                role + "가 존재하지 않습니다: employeeId=" + employeeId);
     }
     
     /**
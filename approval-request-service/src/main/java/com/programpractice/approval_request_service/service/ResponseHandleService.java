@@ -1,12 +1,14 @@
 package com.programpractice.approval_request_service.service;
 
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Optional;
+
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import com.programpractice.approval.messaging.ApprovalResponseMessage;
 import com.programpractice.approval_request_service.client.NotificationServiceClient;
 import com.programpractice.approval_request_service.document.ApprovalRequest;
-import com.programpractice.approval_request_service.document.Step;
-import com.programpractice.approval_request_service.dto.ApprovalResponseMessage;
 import com.programpractice.approval_request_service.repository.ApprovalRequestRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -18,13 +20,17 @@ import lombok.extern.slf4j.Slf4j;
 public class ResponseHandleService {
 
     private final ApprovalRequestRepository repository;
-    private final ApprovalMessagePublisher messagePublisher;
+    private final ApprovalOutbox approvalOutbox;
     private final NotificationServiceClient notificationClient;
 
+    private static final String APPROVED = "approved";
+    private static final String REJECTED = "rejected";
+
     /**
      * 응답 메시지 처리 메인 로직
+     * 문서 전체를 저장하지 않고 처리한 단계만 조건부로 갱신한다 (ApprovalStepRepository).
+     * 이미 다음 단계로 넘어갔거나 종료된 건에 대한 응답(중복/지연/경합)은 반영하지 않는다.
      */
-    @Transactional
     public void handleResponse(ApprovalResponseMessage message) {
         // 1. 실패 응답 체크
         if (!message.isSuccess()) {
@@ -32,56 +38,73 @@ public class ResponseHandleService {
             return;
         }
 
-        // 2. DB 조회
-        ApprovalRequest request = repository.findByRequestId(message.getRequestId())
-                .orElseThrow(() -> new IllegalArgumentException("요청 찾기 실패: " + message.getRequestId()));
-
-        // 3. 현재 단계 정보(상태, 코멘트, 시간) 업데이트 [핵심 수정 부분]
-        Step currentStep = request.getCurrentStep();
-        if (currentStep != null) {
-            // 상태 업데이트
-            currentStep.updateStatus(message.getStatus()); 
-            
-            log.info("단계 업데이트 완료: step={}, status={}, comment={}", 
-                    currentStep.getStep(), message.getStatus(), message.getComment());
-        }
+        // 2. 처리된 단계 (구버전 메시지처럼 단계가 없으면 현재 단계로 간주)
+        int requestId = message.getRequestId();
+        int step = message.getStep() != null ? message.getStep() : currentStepOf(requestId);
+        String status = message.getStatus() != null ? message.getStatus().toLowerCase(Locale.ROOT) : null;
+        LocalDateTime processedAt = LocalDateTime.now();
 
-        // 4. 승인/반려 분기 처리
-        if ("approved".equalsIgnoreCase(message.getStatus())) {
-            processApproval(request);
-        } else if ("rejected".equalsIgnoreCase(message.getStatus())) {
-            processRejection(request, message.getApproverId());
+        // 3. 승인/반려 분기 처리
+        if (APPROVED.equals(status)) {
+            if (processApproval(requestId, step, processedAt)) {
+                return;
+            }
+        } else if (REJECTED.equals(status)) {
+            if (processRejection(requestId, step, message.getApproverId(), processedAt)) {
+                return;
+            }
+        } else {
+            log.warn("알 수 없는 단계 상태 무시: requestId={}, step={}, status={}", requestId, step, message.getStatus());
+            return;
         }
 
-        // 5. 변경사항 저장 (이 시점에 MongoDB에 반영됨)
-        repository.save(request);
-        log.info("승인 요청 저장 완료: requestId={}, finalStatus={}", request.getRequestId(), request.getFinalStatus());
+        // 4. 조건 불일치: 없는 요청이거나 이미 반영된 단계
+        if (!repository.existsByRequestId(requestId)) {
+            throw new IllegalArgumentException("요청 찾기 실패: " + requestId);
+        }
+        log.warn("현재 단계가 아닌 응답 무시 (중복/지연 수신): requestId={}, step={}, status={}", requestId, step, status);
     }
 
-    // 승인 처리 내부 로직
-    private void processApproval(ApprovalRequest request) {
-        if (request.isLastStep()) {
-            // 최종 승인
-            request.updateFinalStatus("approved");
-            log.info("최종 승인 확정");
-            sendNotification(request, "approved", null);
-        } else {
-            // 다음 단계 이동
-            request.moveToNextStep();
-            log.info("다음 단계로 이동 (Current Step: {})", request.getCurrentStepOrder());
-            
-            // 다음 단계 진행을 위한 메시지 발행 (Publisher에게 위임)
-            messagePublisher.publishNextStep(request); 
+    // 승인 처리 내부 로직 (반영했으면 true)
+    private boolean processApproval(int requestId, int step, LocalDateTime processedAt) {
+        // 다음 단계 이동 (다음 단계가 있을 때만 갱신됨) + 다음 단계 메시지를 같은 트랜잭션으로 outbox에 기록
+        Optional<ApprovalRequest> moved = approvalOutbox.inTransaction(() -> {
+            Optional<ApprovalRequest> updated = repository.moveToNextStep(requestId, step, processedAt);
+            updated.ifPresent(request -> approvalOutbox.enqueue(ApprovalMessagePublisher.nextStepMessage(request)));
+            return updated;
+        });
+        if (moved.isPresent()) {
+            log.info("다음 단계로 이동 (Current Step: {}): requestId={}", moved.get().getCurrentStepOrder(), requestId);
+            return true;
+        }
+
+        // 최종 승인 (마지막 단계일 때만 갱신됨)
+        Optional<ApprovalRequest> approved = repository.finishAtStep(requestId, step, APPROVED, processedAt);
+        if (approved.isPresent()) {
+            log.info("최종 승인 확정: requestId={}", requestId);
+            sendNotification(approved.get(), APPROVED, null);
+            return true;
         }
+        return false;
     }
 
-    // 반려 처리 내부 로직
-    private void processRejection(ApprovalRequest request, Long rejectorId) {
-        request.updateFinalStatus("rejected");
-        log.info("승인 반려 확정");
+    // 반려 처리 내부 로직 (반영했으면 true)
+    private boolean processRejection(int requestId, int step, Long rejectorId, LocalDateTime processedAt) {
+        Optional<ApprovalRequest> rejected = repository.finishAtStep(requestId, step, REJECTED, processedAt);
+        if (rejected.isEmpty()) {
+            return false;
+        }
+        log.info("승인 반려 확정: requestId={}", requestId);
         
         Integer rejectedBy = rejectorId != null ? rejectorId.intValue() : null;
-        sendNotification(request, "rejected", rejectedBy);
+        sendNotification(rejected.get(), REJECTED, rejectedBy);
+        return true;
+    }
+
+    private int currentStepOf(int requestId) {
+        return repository.findByRequestId(requestId)
+                .map(ApprovalRequest::getCurrentStepOrder)
+                .orElseThrow(() -> new IllegalArgumentException("요청 찾기 실패: " + requestId));
     }
 
     // 알림 전송 헬퍼 메서드
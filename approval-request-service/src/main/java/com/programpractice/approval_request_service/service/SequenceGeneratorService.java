@@ -1,31 +1,182 @@
 package com.programpractice.approval_request_service.service;
 
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
 import static org.springframework.data.mongodb.core.FindAndModifyOptions.options;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 import static org.springframework.data.mongodb.core.query.Query.query;
 
-// MongoDB Sequence 자동 증가 서비스
+/**
+ * MongoDB Sequence 자동 증가 서비스 (hi/lo 블록 할당)
+ *
+ * sequences 문서의 seq는 "지금까지 예약된 최대 번호"다. 번호가 필요할 때마다 문서를 갱신하지 않고,
+ * findAndModify 한 번($inc block-size)으로 블록 [seq - blockSize + 1, seq]를 이 JVM에 예약한 뒤
+ * 로컬 AtomicInteger로 나눠 준다. 블록은 원자적으로 예약되므로 레플리카/재시작 간에 번호가 겹치지 않는다.
+ * (재시작 시 쓰지 못한 블록 나머지는 건너뛰므로 번호에 빈 구간이 생기고, 레플리카 간 발급 순서는 섞인다)
+ * 남은 번호가 prefetch-threshold에 도달하면 다음 블록을 백그라운드로 미리 예약한다 (0이면 미리 예약하지 않음).
+ * 블록(선예약 블록 포함)은 예약 후 max-block-age-ms가 지나면 나머지를 버리고 새로 예약한다 (0이면 제한 없음).
+ * 한가한 레플리카가 오래된 블록에서 번호를 내면 다른 레플리카가 발급한 최대 번호보다 한참 뒤처져
+ * 처리 서비스의 requestId 중복 판정 윈도우(approval.idempotency.window-size) 밖으로 밀릴 수 있기 때문이다.
+ * (윈도우 밖이어도 처리 서비스가 저장소로 다시 확인하므로 유실되지는 않지만, 그만큼 조회가 늘어난다)
+ * block-size 1, prefetch-threshold 0이면 번호마다 문서를 갱신하는 기존 동작과 같다.
+ */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class SequenceGeneratorService {
-    
+
     private final MongoOperations mongoOperations;
-    
+
+    @Value("${sequence.block-size:1000}")
+    private int blockSize;
+
+    @Value("${sequence.prefetch-threshold:200}")
+    private int prefetchThreshold;
+
+    @Value("${sequence.max-block-age-ms:60000}")
+    private long maxBlockAgeMs;
+
+    private final Map<String, BlockSequence> sequences = new ConcurrentHashMap<>();
+    private ExecutorService prefetcher;
+    // 다음 블록 선예약을 시작하는 남은 번호 수 (-1이면 선예약 안 함)
+    private int prefetchAtRemaining;
+
+    @PostConstruct
+    public void start() {
+        if (blockSize < 1) {
+            throw new IllegalStateException("sequence.block-size는 1 이상이어야 합니다: " + blockSize);
+        }
+        prefetchAtRemaining = prefetchThreshold > 0 ? Math.min(prefetchThreshold, blockSize - 1) : -1;
+        prefetcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sequence-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("시퀀스 블록 할당: blockSize={}, prefetchThreshold={}, maxBlockAgeMs={}",
+                blockSize, prefetchThreshold, maxBlockAgeMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        prefetcher.shutdownNow();
+    }
+
     // 다음 시퀀스 번호 생성
     public int generateSequence(String seqName) {
+        return sequences.computeIfAbsent(seqName, BlockSequence::new).next();
+    }
+
+    // 블록 예약 (findAndModify 1회): 갱신 후 seq가 블록의 마지막 번호
+    private Block reserveBlock(String seqName) {
         DatabaseSequence counter = mongoOperations.findAndModify(
                 query(where("_id").is(seqName)),
-                new Update().inc("seq", 1),
+                new Update().inc("seq", blockSize),
                 options().returnNew(true).upsert(true),
                 DatabaseSequence.class
         );
-        
-        return counter != null ? counter.getSeq() : 1;
+        int last = counter != null ? counter.getSeq() : blockSize;
+        log.debug("시퀀스 블록 예약: name={}, range=[{}, {}]", seqName, last - blockSize + 1, last);
+        long expiresAt = maxBlockAgeMs > 0
+                ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxBlockAgeMs)
+                : Long.MAX_VALUE;
+        return new Block(last - blockSize + 1, last, expiresAt);
+    }
+
+    /**
+     * 예약된 번호 구간 [first, last]
+     * next는 블록 소진 후에도 계속 증가할 수 있으며, last를 넘은 값은 사용하지 않는다.
+     * expiresAt(System.nanoTime 기준)이 지나면 남은 번호를 쓰지 않는다 (Long.MAX_VALUE면 만료 없음).
+     */
+    private static final class Block {
+        private final AtomicInteger next;
+        private final int last;
+        private final long expiresAt;
+
+        private Block(int first, int last, long expiresAt) {
+            this.next = new AtomicInteger(first);
+            this.last = last;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired() {
+            return expiresAt != Long.MAX_VALUE && System.nanoTime() - expiresAt > 0;
+        }
+    }
+
+    /**
+     * 시퀀스 하나의 현재 블록과 미리 예약 중인 다음 블록
+     * 번호 발급은 잠금 없이 AtomicInteger로 하고, 블록 교체만 잠금 안에서 한다.
+     */
+    private final class BlockSequence {
+        private final String name;
+        private volatile Block current;
+        private CompletableFuture<Block> prefetched;   // this로 보호
+
+        private BlockSequence(String name) {
+            this.name = name;
+        }
+
+        int next() {
+            while (true) {
+                Block block = current;
+                if (block != null && !block.isExpired()) {
+                    int id = block.next.getAndIncrement();
+                    if (id <= block.last) {
+                        // 블록당 정확히 한 번 (남은 번호가 임계값이 되는 시점)
+                        if (block.last - id == prefetchAtRemaining) {
+                            prefetch();
+                        }
+                        return id;
+                    }
+                }
+                advance(block);
+            }
+        }
+
+        private synchronized void prefetch() {
+            if (prefetched == null) {
+                prefetched = CompletableFuture.supplyAsync(() -> reserveBlock(name), prefetcher);
+            }
+        }
+
+        // 다 쓴(또는 만료된) 블록을 다음 블록으로 교체 (다른 스레드가 이미 교체했으면 그대로 반환)
+        private synchronized void advance(Block exhausted) {
+            if (current != exhausted) {
+                return;
+            }
+            Block nextBlock = null;
+            if (prefetched != null) {
+                try {
+                    nextBlock = prefetched.join();
+                } catch (CompletionException e) {
+                    log.warn("시퀀스 블록 선예약 실패, 직접 예약: name={}, reason={}", name, e.getCause().getMessage());
+                } finally {
+                    prefetched = null;
+                }
+            }
+            if (nextBlock != null && nextBlock.isExpired()) {
+                log.debug("만료된 선예약 블록 폐기: name={}, range=[{}, {}]", name, nextBlock.next.get(), nextBlock.last);
+                nextBlock = null;
+            }
+            current = nextBlock != null ? nextBlock : reserveBlock(name);
+        }
     }
 }
 
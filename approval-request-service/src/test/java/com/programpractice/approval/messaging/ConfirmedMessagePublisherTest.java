@@ -0,0 +1,172 @@
+package com.programpractice.approval.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Confirm 기반 발행 테스트
+ * 브로커 대신 발행된 CorrelationData를 큐에 모아 두고, 테스트가 직접 confirm(ack/nack/return)을 채운다.
+ * (blocking 대비 처리량 비교는 src/jmh의 ConfirmedPublishBenchmark)
+ */
+class ConfirmedMessagePublisherTest {
+
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final BlockingQueue<CorrelationData> sent = new LinkedBlockingQueue<>();
+
+    @Test
+    void sendsUpToWindowWithoutWaitingForConfirms() throws Exception {
+        ConfirmedMessagePublisher publisher = newPublisher(8, 10_000);
+
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(publisher.publish("exchange", "key", "message-" + i));
+        }
+        // confirm 전에 창 크기만큼 모두 발행됨
+        List<CorrelationData> inFlight = drainSent(8);
+        assertThat(results).noneMatch(CompletableFuture::isDone);
+        assertThat(publisher.outstandingCount()).isEqualTo(8);
+
+        // confirm은 순서와 관계없이 해당 메시지만 완료
+        ack(inFlight.get(5));
+        ack(inFlight.get(0));
+        assertThat(results.get(5)).isCompletedWithValue(null);
+        assertThat(results.get(0)).isCompletedWithValue(null);
+        assertThat(results.get(1)).isNotDone();
+        assertThat(publisher.outstandingCount()).isEqualTo(6);
+
+        // 확인된 자리만큼 바로 다음 메시지 발행
+        results.add(publisher.publish("exchange", "key", "message-8"));
+        results.add(publisher.publish("exchange", "key", "message-9"));
+        inFlight.addAll(drainSent(2));
+        inFlight.forEach(this::ack);
+
+        assertThat(results).allMatch(result -> result.isDone() && !result.isCompletedExceptionally());
+        assertThat(publisher.outstandingCount()).isZero();
+    }
+
+    @Test
+    void retriesNackedAndReturnedMessages() throws Exception {
+        ConfirmedMessagePublisher publisher = newPublisher(16, 10_000);
+
+        CompletableFuture<Void> result = publisher.publish("exchange", "key", "message");
+        nack(nextSent());
+
+        CorrelationData second = nextSent();
+        second.setReturned(new ReturnedMessage(
+                new Message(new byte[0], new MessageProperties()), 312, "NO_ROUTE", "exchange", "key"));
+        ack(second);
+        assertThat(result).isNotDone();
+
+        ack(nextSent());
+        result.get(5, TimeUnit.SECONDS);
+        assertThat(sent).isEmpty();
+        assertThat(publisher.outstandingCount()).isZero();
+    }
+
+    @Test
+    void failsAfterMaxAttempts() throws Exception {
+        ConfirmedMessagePublisher publisher = newPublisher(16, 10_000);
+
+        CompletableFuture<Void> result = publisher.publish("exchange", "key", "message");
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            nack(nextSent());
+        }
+
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(MessagePublishException.class);
+        assertThat(sent).isEmpty();
+    }
+
+    @Test
+    void blocksWhenWindowIsFullUntilConfirmArrives() throws Exception {
+        ConfirmedMessagePublisher publisher = newPublisher(4, 60_000);
+        ReflectionTestUtils.setField(publisher, "acquireTimeoutMs", 10_000L);
+        for (int i = 0; i < 4; i++) {
+            publisher.publish("exchange", "key", "message-" + i);
+        }
+        List<CorrelationData> inFlight = drainSent(4);
+
+        // 창이 가득 찬 상태의 발행은 호출 스레드에서 대기
+        CompletableFuture<CompletableFuture<Void>> blocked =
+                CompletableFuture.supplyAsync(() -> publisher.publish("exchange", "key", "message-4"));
+        ack(inFlight.get(0));
+
+        CompletableFuture<Void> result = blocked.get(5, TimeUnit.SECONDS);
+        ack(nextSent());
+        result.get(5, TimeUnit.SECONDS);
+        assertThat(publisher.outstandingCount()).isEqualTo(3);
+    }
+
+    @Test
+    void failsWhenWindowStaysFull() {
+        ConfirmedMessagePublisher publisher = newPublisher(4, 60_000);
+        for (int i = 0; i < 4; i++) {
+            publisher.publish("exchange", "key", "message-" + i);
+        }
+
+        CompletableFuture<Void> rejected = publisher.publish("exchange", "key", "message-4");
+
+        assertThatThrownBy(rejected::get).hasCauseInstanceOf(MessagePublishException.class);
+        assertThat(sent).hasSize(4);
+        assertThat(publisher.outstandingCount()).isEqualTo(4);
+    }
+
+    private ConfirmedMessagePublisher newPublisher(int windowSize, long confirmTimeoutMs) {
+        doAnswer(invocation -> {
+            sent.add(invocation.getArgument(3));
+            return null;
+        }).when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(), any(CorrelationData.class));
+
+        ConfirmedMessagePublisher publisher = new ConfirmedMessagePublisher(rabbitTemplate);
+        ReflectionTestUtils.setField(publisher, "windowSize", windowSize);
+        ReflectionTestUtils.setField(publisher, "acquireTimeoutMs", 100L);
+        ReflectionTestUtils.setField(publisher, "confirmTimeoutMs", confirmTimeoutMs);
+        ReflectionTestUtils.setField(publisher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(publisher, "retryBackoffMs", 1L);
+        publisher.start();
+        return publisher;
+    }
+
+    // 재발행은 retry 스케줄러 스레드에서 일어나므로 도착을 기다림
+    private CorrelationData nextSent() throws InterruptedException {
+        CorrelationData correlationData = sent.poll(5, TimeUnit.SECONDS);
+        assertThat(correlationData).as("발행 대기 시간 초과").isNotNull();
+        return correlationData;
+    }
+
+    private List<CorrelationData> drainSent(int expected) {
+        List<CorrelationData> drained = new ArrayList<>();
+        sent.drainTo(drained);
+        assertThat(drained).hasSize(expected);
+        return drained;
+    }
+
+    private void ack(CorrelationData correlationData) {
+        correlationData.getFuture().complete(new CorrelationData.Confirm(true, null));
+    }
+
+    private void nack(CorrelationData correlationData) {
+        correlationData.getFuture().complete(new CorrelationData.Confirm(false, "nack"));
+    }
+}
@@ -0,0 +1,101 @@
+package com.programpractice.approval_request_service.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.programpractice.approval_request_service.dto.EmployeeExistsRequest;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 결재선 일괄 검증 테스트: 요청자 + 결재자 10명을 POST /employees/exists 1회로 확인
+ * Employee Service 대신 1~11번 직원만 있는 로컬 HTTP 서버를 사용한다.
+ * (개별 조회 대비 지연 비교는 src/jmh의 EmployeeValidationBenchmark)
+ */
+class EmployeeServiceClientBulkTest {
+
+    private static final int STEP_COUNT = 10;
+    private static final long MISSING_ID = 99L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<String> received = new CopyOnWriteArrayList<>();
+    private final List<List<Long>> requestedIds = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+    private EmployeeServiceClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/employees", this::handle);
+        server.start();
+
+        client = new EmployeeServiceClient(new RestTemplate(), Optional.empty());
+        ReflectionTestUtils.setField(client, "employeeServiceUrl",
+                "http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void validatesWholeChainWithOneExistsCall() {
+        List<Integer> employeeIds = new ArrayList<>();
+        for (int id = 1; id <= STEP_COUNT + 1; id++) {   // 요청자 + 결재자 10명
+            employeeIds.add(id);
+        }
+        employeeIds.add(3);                              // 같은 결재자가 두 단계에 있는 경우
+        employeeIds.add((int) MISSING_ID);
+
+        assertThat(client.findMissingEmployees(employeeIds)).containsExactly((int) MISSING_ID);
+
+        assertThat(received).containsExactly("POST /employees/exists");
+        assertThat(requestedIds).singleElement().satisfies(ids -> assertThat(ids)
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, MISSING_ID));
+    }
+
+    @Test
+    void singleLookupsStillCallPerEmployee() {
+        for (int id = 1; id <= STEP_COUNT + 1; id++) {
+            assertThat(client.existsEmployee(id)).isTrue();
+        }
+        assertThat(received).hasSize(STEP_COUNT + 1).allMatch(call -> call.startsWith("GET /employees/"));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        received.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath());
+        byte[] requestBody = exchange.getRequestBody().readAllBytes();
+
+        byte[] body;
+        if ("POST".equals(exchange.getRequestMethod())) {
+            List<Long> ids = objectMapper.readValue(requestBody, EmployeeExistsRequest.class).getIds();
+            requestedIds.add(ids);
+            List<Long> missing = ids.stream().filter(id -> id > STEP_COUNT + 1).toList();
+            body = objectMapper.writeValueAsBytes(Map.of("missingIds", missing));
+        } else {
+            body = "{\"id\":1,\"name\":\"직원\"}".getBytes(StandardCharsets.UTF_8);
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
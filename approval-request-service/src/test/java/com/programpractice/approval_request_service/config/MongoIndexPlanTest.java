@@ -0,0 +1,208 @@
+package com.programpractice.approval_request_service.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.programpractice.approval_request_service.document.ApprovalRequest;
+import com.programpractice.approval_request_service.document.Step;
+import com.programpractice.approval_request_service.repository.ApprovalListCursor;
+import com.programpractice.approval_request_service.repository.ApprovalListFilter;
+import com.programpractice.approval_request_service.repository.ApprovalListRepositoryImpl;
+import com.programpractice.approval_request_service.repository.ApprovalRequestRepository;
+import com.programpractice.approval_request_service.repository.ApprovalStepRepositoryImpl;
+
+/**
+ * approval_requests 인덱스 실행 계획 테스트 (Testcontainers MongoDB, Docker 없으면 건너뜀)
+ * - MongoIndexInitializer를 두 번 실행해도 같은 인덱스 집합
+ * - 저장소 조회/단계 갱신이 실제로 보낸 find, findAndModify 명령을 그대로 explain해서 COLLSCAN이 있으면 실패
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MongoIndexPlanTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:8.0");
+
+    // 저장소가 보낸 find / findAndModify 명령 (explain 대상)
+    private static final Set<String> EXPLAINED_COMMANDS = Set.of("find", "findAndModify");
+    private static final List<BsonDocument> FIND_COMMANDS = new CopyOnWriteArrayList<>();
+
+    private static MongoClient client;
+    private static MongoTemplate template;
+    private static ApprovalRequestRepository repository;
+
+    @BeforeAll
+    static void setUpDatabase() {
+        CommandListener recorder = new CommandListener() {
+            @Override
+            public void commandStarted(CommandStartedEvent event) {
+                if (EXPLAINED_COMMANDS.contains(event.getCommandName())) {
+                    FIND_COMMANDS.add(event.getCommand().clone());
+                }
+            }
+        };
+        client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(MONGO.getConnectionString()))
+                .addCommandListener(recorder)
+                .build());
+        template = new MongoTemplate(client, "erp_mongodb");
+        repository = new MongoRepositoryFactory(template).getRepository(ApprovalRequestRepository.class,
+                RepositoryFragments.just(new ApprovalListRepositoryImpl(template),
+                        new ApprovalStepRepositoryImpl(template)));
+
+        MongoIndexInitializer initializer = new MongoIndexInitializer(template);
+        initializer.ensureIndexes();
+        initializer.ensureIndexes();
+
+        List<ApprovalRequest> requests = new ArrayList<>();
+        for (int requestId = 1; requestId <= 200; requestId++) {
+            requests.add(ApprovalRequest.builder()
+                    .requestId(requestId)
+                    .requesterId(100 + requestId % 10)
+                    .title("title-" + requestId)
+                    .content("content-" + requestId)
+                    .steps(List.of(
+                            Step.builder().step(1).approverId(requestId % 7).status("pending").build(),
+                            Step.builder().step(2).approverId(50 + requestId % 7).status("pending").build()))
+                    .finalStatus(requestId % 3 == 0 ? "approved" : "in_progress")
+                    .createdAt(BASE_TIME.plusMinutes(requestId))
+                    .updatedAt(BASE_TIME.plusMinutes(requestId))
+                    .build());
+        }
+        template.insertAll(requests);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @BeforeEach
+    void clearRecordedCommands() {
+        FIND_COMMANDS.clear();
+    }
+
+    @Test
+    void initializerCreatesDeclaredIndexSetIdempotently() {
+        List<IndexInfo> indexes = template.indexOps(ApprovalRequest.class).getIndexInfo();
+
+        assertThat(indexes).extracting(IndexInfo::getName).containsExactlyInAnyOrder(
+                "_id_", "requestId", "finalStatus_createdAt", "requesterId_createdAt",
+                "steps.approverId_createdAt", "createdAt_requestId", "finalStatus_requestId");
+        assertThat(indexes).filteredOn(index -> index.getName().equals("requestId"))
+                .singleElement().extracting(IndexInfo::isUnique).isEqualTo(true);
+    }
+
+    @Test
+    void stepUpdatesUseIndexes() {
+        // 1단계 승인 → 2단계 이동, 2단계 최종 승인, 이미 끝난 건에 대한 반려(조건 불일치)
+        LocalDateTime now = LocalDateTime.now();
+        assertThat(repository.moveToNextStep(1, 1, now)).isPresent();
+        assertThat(repository.finishAtStep(1, 2, "approved", now)).isPresent();
+        assertThat(repository.finishAtStep(1, 2, "rejected", now)).isEmpty();
+
+        assertNoCollectionScan(3);
+    }
+
+    @Test
+    void lookupAndRehydrationQueriesUseIndexes() {
+        repository.findByRequestId(42);
+        repository.existsByRequestId(42);
+        repository.findFirstByFinalStatusOrderByRequestIdAsc("in_progress");
+        repository.findFirstByFinalStatusOrderByRequestIdDesc("in_progress");
+        repository.findByFinalStatusInRequestIdRange("in_progress", 10, 150,
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "requestId")));
+
+        assertNoCollectionScan(5);
+    }
+
+    @Test
+    void listQueriesUseIndexes() {
+        ApprovalListCursor after = new ApprovalListCursor(BASE_TIME.plusMinutes(120), 120);
+        List<ApprovalListFilter> filters = List.of(
+                ApprovalListFilter.none(),
+                new ApprovalListFilter("in_progress", null, null, null, null),
+                new ApprovalListFilter(null, 103, null, null, null),
+                new ApprovalListFilter(null, null, 53, null, null),
+                new ApprovalListFilter(null, null, null, BASE_TIME.plusMinutes(30), BASE_TIME.plusMinutes(90)),
+                new ApprovalListFilter("approved", null, 2, BASE_TIME, null));
+        for (ApprovalListFilter filter : filters) {
+            repository.findListPage(filter, null, 21);
+            repository.findListPage(filter, after, 21);
+        }
+
+        assertNoCollectionScan(filters.size() * 2);
+    }
+
+    private void assertNoCollectionScan(int expectedCommands) {
+        assertThat(FIND_COMMANDS).hasSizeGreaterThanOrEqualTo(expectedCommands);
+        for (BsonDocument command : FIND_COMMANDS) {
+            Document explain = template.getDb().runCommand(new Document("explain", explainable(command))
+                    .append("verbosity", "queryPlanner"));
+            Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+
+            // 8.0부터 단건 동등 조회는 EXPRESS_IXSCAN
+            assertThat(stages(winningPlan))
+                    .as("실행 계획: %s → %s", command.toJson(), winningPlan.toJson())
+                    .doesNotContain("COLLSCAN")
+                    .anyMatch(stage -> stage.endsWith("IXSCAN"));
+        }
+    }
+
+    // 드라이버가 붙인 세션/클러스터 필드($db, lsid, $clusterTime 등)를 뺀 명령
+    private static BsonDocument explainable(BsonDocument command) {
+        BsonDocument explainable = new BsonDocument();
+        command.forEach((key, value) -> {
+            if (!key.startsWith("$") && !key.equals("lsid") && !key.equals("txnNumber")) {
+                explainable.put(key, value);
+            }
+        });
+        return explainable;
+    }
+
+    // 계획 트리의 모든 stage 이름 (버전에 따라 inputStage/inputStages/queryPlan 아래에 중첩)
+    private static Set<String> stages(Object node) {
+        Set<String> stages = new HashSet<>();
+        if (node instanceof Document document) {
+            Object stage = document.get("stage");
+            if (stage instanceof String name) {
+                stages.add(name);
+            }
+            document.values().forEach(value -> stages.addAll(stages(value)));
+        } else if (node instanceof List<?> list) {
+            list.forEach(value -> stages.addAll(stages(value)));
+        }
+        return stages;
+    }
+}
@@ -0,0 +1,176 @@
+package com.programpractice.approval_request_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.programpractice.approval.messaging.ApprovalRequestMessage;
+import com.programpractice.approval_request_service.document.OutboxMessage;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+/**
+ * outbox 릴레이 테스트 (mongo-java-server, 발행은 mock)
+ * - 대기 메시지를 배치로 발행하고 sent 처리
+ * - 브로커 장애 중에는 pending으로 남고 백오프 후 복구되면 발행
+ * - 릴레이 여러 개가 동시에 돌아도 한 건은 한 번만 발행
+ */
+class ApprovalOutboxRelayTest {
+
+    private static final int MESSAGES = 50;
+
+    private MongoServer server;
+    private MongoClient client;
+    private MongoTemplate template;
+    private ApprovalMessagePublisher messagePublisher;
+    private ApprovalOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        server = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = server.bind();
+        client = MongoClients.create("mongodb://" + address.getHostString() + ":" + address.getPort());
+        template = new MongoTemplate(client, "erp_mongodb");
+
+        messagePublisher = mock(ApprovalMessagePublisher.class);
+        when(messagePublisher.publishApprovalRequest(any()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(null));
+        outbox = new ApprovalOutbox(template, Optional.empty(), mock(ApprovalOutboxRelay.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.shutdownNow();
+    }
+
+    @Test
+    void relaysPendingMessagesInBatchesAndMarksThemSent() {
+        enqueue(MESSAGES);
+        ApprovalOutboxRelay relay = newRelay(20);
+
+        assertThat(relay.relayBatch()).isEqualTo(20);
+        assertThat(relay.relayBatch()).isEqualTo(20);
+        assertThat(relay.relayBatch()).isEqualTo(10);
+        assertThat(relay.relayBatch()).isZero();
+
+        verify(messagePublisher, times(MESSAGES)).publishApprovalRequest(any());
+        assertThat(template.findAll(OutboxMessage.class)).allSatisfy(entry -> {
+            assertThat(entry.getStatus()).isEqualTo(OutboxMessage.SENT);
+            assertThat(entry.getSentAt()).isNotNull();
+            assertThat(entry.getClaimToken()).isNull();
+        });
+    }
+
+    @Test
+    void keepsMessagesPendingWhileBrokerIsDownAndRelaysAfterRecovery() {
+        enqueue(3);
+        ApprovalOutboxRelay relay = newRelay(20);
+        when(messagePublisher.publishApprovalRequest(any()))
+                .thenAnswer(invocation -> CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        LocalDateTime before = LocalDateTime.now();
+        assertThat(relay.relayBatch()).isEqualTo(3);
+        assertThat(template.findAll(OutboxMessage.class)).allSatisfy(entry -> {
+            assertThat(entry.getStatus()).isEqualTo(OutboxMessage.PENDING);
+            assertThat(entry.getAttempts()).isEqualTo(1);
+            assertThat(entry.getNextAttemptAt()).isAfter(before);
+            assertThat(entry.getClaimToken()).isNull();
+        });
+        // 백오프 중에는 다시 가져가지 않음
+        assertThat(relay.relayBatch()).isZero();
+
+        // 복구 후 백오프 시각이 지난 상태
+        template.updateMulti(new Query(), new Update().set("nextAttemptAt", before), OutboxMessage.class);
+        when(messagePublisher.publishApprovalRequest(any()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(null));
+
+        assertThat(relay.relayBatch()).isEqualTo(3);
+        assertThat(template.findAll(OutboxMessage.class))
+                .extracting(OutboxMessage::getStatus)
+                .containsOnly(OutboxMessage.SENT);
+    }
+
+    @Test
+    void concurrentRelaysPublishEachMessageOnce() throws Exception {
+        enqueue(MESSAGES * 4);
+        List<ApprovalOutboxRelay> relays = List.of(newRelay(20), newRelay(20), newRelay(20), newRelay(20));
+
+        ExecutorService executor = Executors.newFixedThreadPool(relays.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        try {
+            for (ApprovalOutboxRelay relay : relays) {
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    while (relay.relayBatch() > 0) {
+                        // 남은 건이 없을 때까지
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<Integer> published = mockingDetails(messagePublisher).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("publishApprovalRequest"))
+                .map(invocation -> invocation.<ApprovalRequestMessage>getArgument(0).getRequestId())
+                .toList();
+        assertThat(published).hasSize(MESSAGES * 4);
+        assertThat(new HashSet<>(published)).hasSize(MESSAGES * 4);
+        assertThat(template.findAll(OutboxMessage.class))
+                .extracting(OutboxMessage::getStatus)
+                .containsOnly(OutboxMessage.SENT);
+    }
+
+    private void enqueue(int count) {
+        for (int requestId = 1; requestId <= count; requestId++) {
+            outbox.enqueue(ApprovalRequestMessage.builder()
+                    .requestId(requestId)
+                    .requesterId(100L)
+                    .title("title-" + requestId)
+                    .build());
+        }
+    }
+
+    private ApprovalOutboxRelay newRelay(int batchSize) {
+        ApprovalOutboxRelay relay = new ApprovalOutboxRelay(template, messagePublisher);
+        ReflectionTestUtils.setField(relay, "batchSize", batchSize);
+        ReflectionTestUtils.setField(relay, "claimTimeoutMs", 60_000L);
+        ReflectionTestUtils.setField(relay, "retryBackoffMs", 1_000L);
+        ReflectionTestUtils.setField(relay, "maxRetryBackoffMs", 60_000L);
+        return relay;
+    }
+}
@@ -0,0 +1,191 @@
+package com.programpractice.approval_request_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.programpractice.approval_request_service.client.EmployeeServiceClient;
+import com.programpractice.approval_request_service.document.ApprovalRequest;
+import com.programpractice.approval_request_service.document.Step;
+import com.programpractice.approval_request_service.dto.ApprovalListResponse;
+import com.programpractice.approval_request_service.dto.ApprovalSummaryResponse;
+import com.programpractice.approval_request_service.repository.ApprovalListFilter;
+import com.programpractice.approval_request_service.repository.ApprovalListRepositoryImpl;
+import com.programpractice.approval_request_service.repository.ApprovalRequestRepository;
+import com.programpractice.approval_request_service.repository.ApprovalStepRepositoryImpl;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+/**
+ * 결재 요청 목록 조회 테스트 (mongo-java-server)
+ * - keyset 페이지를 끝까지 넘기면 (createdAt, requestId) 내림차순으로 빠짐/중복 없이 전체 건
+ * - 상태/요청자/결재자/생성 구간 필터, 본문(content) 제외
+ * - 스트림 조회는 같은 순서로 전체 건
+ */
+class ApprovalRequestListTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 9, 0);
+    private static final int TOTAL = 47;
+
+    private MongoServer server;
+    private MongoClient client;
+    private MongoTemplate template;
+    private ApprovalRequestRepository repository;
+    private ApprovalRequestService service;
+
+    @BeforeEach
+    void setUp() {
+        server = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = server.bind();
+        client = MongoClients.create("mongodb://" + address.getHostString() + ":" + address.getPort());
+        template = new MongoTemplate(client, "erp_mongodb");
+
+        repository = new MongoRepositoryFactory(template).getRepository(
+                ApprovalRequestRepository.class,
+                RepositoryFragments.just(new ApprovalListRepositoryImpl(template),
+                        new ApprovalStepRepositoryImpl(template)));
+        service = new ApprovalRequestService(repository, mock(SequenceGeneratorService.class),
+                mock(EmployeeServiceClient.class), mock(ApprovalOutbox.class));
+
+        // 3건씩 같은 생성 시각 (requestId로 순서 결정)
+        for (int requestId = 1; requestId <= TOTAL; requestId++) {
+            template.insert(newRequest(requestId));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.shutdownNow();
+    }
+
+    @Test
+    void pagesThroughAllRequestsNewestFirstWithoutContent() {
+        List<Integer> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ApprovalListResponse page = service.getApprovalRequests(ApprovalListFilter.none(), cursor, 10);
+            page.getItems().forEach(item -> seen.add(item.getRequestId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(5);
+        assertThat(seen).containsExactlyElementsOf(expectedOrder(IntStream.rangeClosed(1, TOTAL).boxed()));
+        // 목록 조회는 본문을 읽지 않는다
+        assertThat(template.getCollection("approval_requests").find().first()).containsKey("content");
+        assertThat(repository.findListPage(ApprovalListFilter.none(), null, 1).get(0).getContent()).isNull();
+    }
+
+    @Test
+    void appliesFilters() {
+        ApprovalListFilter approved = new ApprovalListFilter("approved", null, null, null, null);
+        assertThat(requestIds(service.getApprovalRequests(approved, null, 100)))
+                .containsExactlyElementsOf(expectedOrder(IntStream.rangeClosed(1, TOTAL).boxed()
+                        .filter(id -> id % 4 == 0)));
+
+        ApprovalListFilter byRequester = new ApprovalListFilter(null, 102, null, null, null);
+        assertThat(requestIds(service.getApprovalRequests(byRequester, null, 100)))
+                .containsExactlyElementsOf(expectedOrder(IntStream.rangeClosed(1, TOTAL).boxed()
+                        .filter(id -> id % 5 == 2)));
+
+        // 2단계 결재자로만 들어간 건도 포함
+        ApprovalListFilter byApprover = new ApprovalListFilter(null, null, 7, null, null);
+        assertThat(requestIds(service.getApprovalRequests(byApprover, null, 100)))
+                .containsExactlyElementsOf(expectedOrder(IntStream.rangeClosed(1, TOTAL).boxed()
+                        .filter(id -> id % 3 == 0)));
+
+        // [requestId 10의 생성 시각, requestId 19의 생성 시각) → 10 ~ 18
+        ApprovalListFilter created = new ApprovalListFilter(null, null, null, createdAt(10), createdAt(19));
+        assertThat(requestIds(service.getApprovalRequests(created, null, 4)))
+                .containsExactly(18, 17, 16, 15);
+        assertThat(collect(created, 4)).containsExactlyElementsOf(
+                expectedOrder(IntStream.rangeClosed(10, 18).boxed()));
+    }
+
+    @Test
+    void streamsAllMatchingRequestsInListOrder() {
+        List<ApprovalSummaryResponse> streamed;
+        try (Stream<ApprovalSummaryResponse> items = service.streamApprovalRequests(ApprovalListFilter.none())) {
+            streamed = items.collect(Collectors.toList());
+        }
+
+        assertThat(streamed).extracting(ApprovalSummaryResponse::getRequestId)
+                .containsExactlyElementsOf(expectedOrder(IntStream.rangeClosed(1, TOTAL).boxed()));
+        assertThat(streamed.get(0).getSteps()).hasSize(2);
+    }
+
+    @Test
+    void rejectsInvalidParameters() {
+        assertThatThrownBy(() -> service.getApprovalRequests(ApprovalListFilter.none(), null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getApprovalRequests(ApprovalListFilter.none(), "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        ApprovalListFilter reversed = new ApprovalListFilter(null, null, null, createdAt(5), createdAt(5));
+        assertThatThrownBy(() -> service.streamApprovalRequests(reversed))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<Integer> collect(ApprovalListFilter filter, int size) {
+        List<Integer> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            ApprovalListResponse page = service.getApprovalRequests(filter, cursor, size);
+            ids.addAll(requestIds(page));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private static List<Integer> requestIds(ApprovalListResponse page) {
+        return page.getItems().stream().map(ApprovalSummaryResponse::getRequestId).collect(Collectors.toList());
+    }
+
+    // (createdAt, requestId) 내림차순
+    private static List<Integer> expectedOrder(Stream<Integer> requestIds) {
+        return requestIds
+                .sorted((a, b) -> {
+                    int byTime = createdAt(b).compareTo(createdAt(a));
+                    return byTime != 0 ? byTime : Integer.compare(b, a);
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static LocalDateTime createdAt(int requestId) {
+        return BASE_TIME.plusMinutes((requestId - 1) / 3);
+    }
+
+    private static ApprovalRequest newRequest(int requestId) {
+        return ApprovalRequest.builder()
+                .requestId(requestId)
+                .requesterId(100 + requestId % 5)
+                .title("title-" + requestId)
+                .content("content-" + requestId)
+                .steps(List.of(
+                        Step.builder().step(1).approverId(1).status("pending").build(),
+                        Step.builder().step(2).approverId(requestId % 3 == 0 ? 7 : 8).status("pending").build()))
+                .finalStatus(requestId % 4 == 0 ? "approved" : "in_progress")
+                .createdAt(createdAt(requestId))
+                .updatedAt(createdAt(requestId))
+                .build();
+    }
+}
@@ -0,0 +1,226 @@
+package com.programpractice.approval_request_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.programpractice.approval.messaging.ApprovalResponseMessage;
+import com.programpractice.approval_request_service.client.NotificationServiceClient;
+import com.programpractice.approval_request_service.document.ApprovalRequest;
+import com.programpractice.approval_request_service.document.OutboxMessage;
+import com.programpractice.approval_request_service.document.Step;
+import com.programpractice.approval_request_service.repository.ApprovalListRepositoryImpl;
+import com.programpractice.approval_request_service.repository.ApprovalRequestRepository;
+import com.programpractice.approval_request_service.repository.ApprovalStepRepositoryImpl;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+/**
+ * 승인 응답 반영 테스트 (mongo-java-server)
+ * - 단계 승인/최종 승인/반려가 해당 필드만 갱신하고 본문(content)은 그대로 둔다
+ * - 다음 단계 메시지는 발행하지 않고 outbox에 기록한다
+ * - 같은 단계에 대한 중복/경합 응답은 하나만 반영된다
+ */
+class ResponseHandleServiceTest {
+
+    private static final int REQUEST_ID = 7;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private MongoServer server;
+    private MongoClient client;
+    private MongoTemplate template;
+    private NotificationServiceClient notificationClient;
+    private ResponseHandleService service;
+
+    @BeforeEach
+    void setUp() {
+        server = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = server.bind();
+        client = MongoClients.create("mongodb://" + address.getHostString() + ":" + address.getPort());
+        template = new MongoTemplate(client, "erp_mongodb");
+
+        ApprovalRequestRepository repository = new MongoRepositoryFactory(template).getRepository(
+                ApprovalRequestRepository.class,
+                RepositoryFragments.just(new ApprovalListRepositoryImpl(template),
+                        new ApprovalStepRepositoryImpl(template)));
+        ApprovalOutbox outbox = new ApprovalOutbox(template, Optional.empty(), mock(ApprovalOutboxRelay.class));
+        notificationClient = mock(NotificationServiceClient.class);
+        service = new ResponseHandleService(repository, outbox, notificationClient);
+
+        template.insert(ApprovalRequest.builder()
+                .requestId(REQUEST_ID)
+                .requesterId(100)
+                .title("출장 신청")
+                .content("본문")
+                .steps(List.of(
+                        Step.builder().step(1).approverId(1).status("pending").build(),
+                        Step.builder().step(2).approverId(2).status("pending").build()))
+                .finalStatus("in_progress")
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.shutdownNow();
+    }
+
+    @Test
+    void approvesStepByStepWithoutRewritingContent() {
+        service.handleResponse(response(1, "approved", 1L));
+
+        ApprovalRequest moved = load();
+        assertThat(moved.getCurrentStepOrder()).isEqualTo(2);
+        assertThat(moved.getFinalStatus()).isEqualTo("in_progress");
+        assertThat(moved.getSteps()).extracting(Step::getStatus).containsExactly("approved", "pending");
+        assertThat(moved.getSteps().get(0).getUpdatedAt()).isNotNull();
+        // 2단계 결재자에게 보낼 메시지가 outbox에 기록됨
+        assertThat(outbox()).singleElement().satisfies(entry -> {
+            assertThat(entry.getStatus()).isEqualTo(OutboxMessage.PENDING);
+            assertThat(entry.getPayload().getContent()).isEqualTo("본문");
+            assertThat(entry.getPayload().getSteps()).singleElement().satisfies(next -> {
+                assertThat(next.getStep()).isEqualTo(2);
+                assertThat(next.getApproverId()).isEqualTo(2L);
+            });
+        });
+
+        service.handleResponse(response(2, "APPROVED", 2L));
+
+        ApprovalRequest approved = load();
+        assertThat(approved.getFinalStatus()).isEqualTo("approved");
+        assertThat(approved.getCurrentStepOrder()).isEqualTo(2);
+        assertThat(approved.getSteps()).extracting(Step::getStatus).containsExactly("approved", "approved");
+        assertThat(approved.getContent()).isEqualTo("본문");
+        assertThat(approved.getCreatedAt()).isEqualTo(CREATED_AT);
+        verify(notificationClient).sendApprovalNotification(REQUEST_ID, 100, "출장 신청", "approved", null);
+    }
+
+    @Test
+    void rejectsAtCurrentStep() {
+        service.handleResponse(response(1, "rejected", 1L));
+
+        ApprovalRequest rejected = load();
+        assertThat(rejected.getFinalStatus()).isEqualTo("rejected");
+        assertThat(rejected.getSteps()).extracting(Step::getStatus).containsExactly("rejected", "pending");
+        verify(notificationClient).sendApprovalNotification(REQUEST_ID, 100, "출장 신청", "rejected", 1);
+        assertThat(outbox()).isEmpty();
+    }
+
+    @Test
+    void ignoresDuplicateAndStaleResponses() {
+        service.handleResponse(response(1, "approved", 1L));
+        // 재전달된 1단계 승인, 이미 지난 1단계에 대한 반려
+        service.handleResponse(response(1, "approved", 1L));
+        service.handleResponse(response(1, "rejected", 1L));
+
+        ApprovalRequest current = load();
+        assertThat(current.getCurrentStepOrder()).isEqualTo(2);
+        assertThat(current.getFinalStatus()).isEqualTo("in_progress");
+        assertThat(outbox()).hasSize(1);
+        verify(notificationClient, never()).sendApprovalNotification(anyInt(), anyInt(), anyString(), anyString(), any());
+    }
+
+    @Test
+    void appliesExactlyOneOfRacingResponsesForSameStep() throws Exception {
+        int consumers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(consumers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < consumers; i++) {
+                String status = i % 2 == 0 ? "approved" : "rejected";
+                results.add(executor.submit(() -> {
+                    start.await();
+                    service.handleResponse(response(1, status, 1L));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ApprovalRequest current = load();
+        int published = outbox().size();
+        int notified = mockingDetails(notificationClient).getInvocations().size();
+        assertThat(published + notified).as("반영된 응답 수").isEqualTo(1);
+        if (published == 1) {
+            assertThat(current.getCurrentStepOrder()).isEqualTo(2);
+            assertThat(current.getSteps()).extracting(Step::getStatus).containsExactly("approved", "pending");
+        } else {
+            verify(notificationClient).sendApprovalNotification(eq(REQUEST_ID), eq(100), eq("출장 신청"),
+                    eq("rejected"), eq(1));
+            assertThat(current.getFinalStatus()).isEqualTo("rejected");
+            assertThat(current.getSteps()).extracting(Step::getStatus).containsExactly("rejected", "pending");
+        }
+    }
+
+    @Test
+    void fallsBackToCurrentStepWhenMessageHasNoStep() {
+        service.handleResponse(response(null, "approved", 1L));
+
+        assertThat(load().getCurrentStepOrder()).isEqualTo(2);
+        assertThat(outbox()).hasSize(1);
+    }
+
+    @Test
+    void failsForUnknownRequest() {
+        ApprovalResponseMessage message = response(1, "approved", 1L);
+        message.setRequestId(999);
+
+        assertThatThrownBy(() -> service.handleResponse(message))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ApprovalRequest load() {
+        return template.findOne(query(where("requestId").is(REQUEST_ID)), ApprovalRequest.class);
+    }
+
+    private List<OutboxMessage> outbox() {
+        return template.findAll(OutboxMessage.class);
+    }
+
+    private static ApprovalResponseMessage response(Integer step, String status, Long approverId) {
+        return ApprovalResponseMessage.builder()
+                .requestId(REQUEST_ID)
+                .step(step)
+                .approverId(approverId)
+                .status(status)
+                .success(true)
+                .build();
+    }
+}
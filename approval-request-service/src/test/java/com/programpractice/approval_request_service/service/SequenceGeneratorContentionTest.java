@@ -0,0 +1,209 @@
+package com.programpractice.approval_request_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+/**
+ * requestId hi/lo 블록 할당 테스트: 번호마다 findAndModify (block-size 1) vs 블록 할당 (block-size 1000)
+ * 레플리카 8개(각자 SequenceGeneratorService 인스턴스)가 같은 sequences 문서에서 동시에 번호를 받아도 중복이 없고,
+ * 블록 할당은 문서 왕복이 블록 수만큼만 생긴다. (발급 속도 비교는 src/jmh의 SequenceGeneratorBenchmark)
+ * MongoDB 대신 mongo-java-server를 쓰고, 문서 갱신마다 왕복 지연(ROUND_TRIP_MICROS)을 더한다.
+ * 한가한 레플리카는 max-block-age-ms가 지난 블록을 버려, 처리 서비스 중복 판정 윈도우 밖으로 뒤처지지 않는다.
+ */
+class SequenceGeneratorContentionTest {
+
+    private static final String SEQ = "approval_request_id";
+    private static final int REPLICAS = 8;
+    private static final int THREADS_PER_REPLICA = 4;
+    private static final int IDS_PER_THREAD = 250;
+    private static final long ROUND_TRIP_MICROS = 1_000;
+
+    private MongoServer server;
+    private MongoClient client;
+    private final AtomicInteger roundTrips = new AtomicInteger();
+    private final List<SequenceGeneratorService> replicas = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        server = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = server.bind();
+        client = MongoClients.create("mongodb://" + address.getHostString() + ":" + address.getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        replicas.forEach(SequenceGeneratorService::stop);
+        client.close();
+        server.shutdownNow();
+    }
+
+    @Test
+    void concurrentReplicasIssueUniqueIdsWithOneRoundTripPerBlock() throws Exception {
+        int total = REPLICAS * THREADS_PER_REPLICA * IDS_PER_THREAD;
+
+        Run perId = run("per-id", 1, 0);
+        Run block = run("block", 1_000, 200);
+
+        assertThat(perId.ids).hasSize(total);
+        assertThat(block.ids).hasSize(total);
+        assertThat(perId.roundTrips).isEqualTo(total);
+        // 레플리카마다 사용한 블록 + 선예약 1개 이하
+        assertThat(block.roundTrips).isLessThanOrEqualTo(total / 1_000 + REPLICAS * 2);
+    }
+
+    @Test
+    void continuesAfterExistingCounterAndRestartWithoutReusingIds() {
+        // 블록 할당 이전 방식으로 41번까지 발급된 상태
+        template().upsert(query(where("_id").is(SEQ)), new Update().set("seq", 41), DatabaseSequence.class);
+
+        SequenceGeneratorService first = newReplica(100, 20);
+        assertThat(first.generateSequence(SEQ)).isEqualTo(42);
+        assertThat(first.generateSequence(SEQ)).isEqualTo(43);
+
+        // 재시작: 예약했던 블록 [42, 141]의 나머지는 건너뛴다
+        first.stop();
+        SequenceGeneratorService restarted = newReplica(100, 20);
+        assertThat(restarted.generateSequence(SEQ)).isEqualTo(142);
+
+        // 다른 레플리카는 그다음 블록
+        SequenceGeneratorService other = newReplica(100, 20);
+        assertThat(other.generateSequence(SEQ)).isEqualTo(242);
+    }
+
+    @Test
+    void prefetchesNextBlockBeforeCurrentRunsOut() throws Exception {
+        SequenceGeneratorService replica = newReplica(100, 20);
+        for (int i = 1; i <= 80; i++) {
+            assertThat(replica.generateSequence(SEQ)).isEqualTo(i);
+        }
+        // 남은 번호가 20개가 된 시점에 다음 블록 선예약
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (roundTrips.get() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(roundTrips).hasValue(2);
+
+        for (int i = 81; i <= 200; i++) {
+            assertThat(replica.generateSequence(SEQ)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void idleReplicaAbandonsStaleBlocksInsteadOfFallingBehind() throws Exception {
+        SequenceGeneratorService idle = newReplica(100, 20);
+        ReflectionTestUtils.setField(idle, "maxBlockAgeMs", 50L);
+        for (int i = 1; i <= 80; i++) {
+            assertThat(idle.generateSequence(SEQ)).isEqualTo(i);
+        }
+        // 선예약 블록 [101, 200]까지 잡아 둔 상태
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (roundTrips.get() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(roundTrips).hasValue(2);
+
+        // 그동안 다른 레플리카가 1000건 발급 [201, 1200]
+        SequenceGeneratorService busy = newReplica(100, 0);
+        for (int i = 0; i < 1_000; i++) {
+            busy.generateSequence(SEQ);
+        }
+
+        // 현재 블록 나머지(81~100)와 선예약 블록 모두 만료 → 최대 번호 바로 뒤 블록에서 발급
+        Thread.sleep(100);
+        assertThat(idle.generateSequence(SEQ)).isEqualTo(1_201);
+        assertThat(idle.generateSequence(SEQ)).isEqualTo(1_202);
+    }
+
+    private Run run(String seqName, int blockSize, int prefetchThreshold) throws Exception {
+        replicas.forEach(SequenceGeneratorService::stop);
+        replicas.clear();
+        for (int i = 0; i < REPLICAS; i++) {
+            newReplica(blockSize, prefetchThreshold);
+        }
+        roundTrips.set(0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(REPLICAS * THREADS_PER_REPLICA);
+        ConcurrentLinkedQueue<Integer> issued = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        try {
+            for (SequenceGeneratorService replica : replicas) {
+                for (int t = 0; t < THREADS_PER_REPLICA; t++) {
+                    workers.add(executor.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < IDS_PER_THREAD; i++) {
+                            issued.add(replica.generateSequence(seqName));
+                        }
+                        return null;
+                    }));
+                }
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+
+            Set<Integer> ids = new HashSet<>(issued);
+            assertThat(ids).as("중복 번호 없음").hasSize(issued.size());
+            return new Run(ids, roundTrips.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private SequenceGeneratorService newReplica(int blockSize, int prefetchThreshold) {
+        SequenceGeneratorService replica = new SequenceGeneratorService(template());
+        ReflectionTestUtils.setField(replica, "blockSize", blockSize);
+        ReflectionTestUtils.setField(replica, "prefetchThreshold", prefetchThreshold);
+        replica.start();
+        replicas.add(replica);
+        return replica;
+    }
+
+    // 문서 갱신 왕복마다 지연을 더하고 횟수를 센다
+    private MongoTemplate template() {
+        return new MongoTemplate(client, "erp_mongodb") {
+            @Override
+            public <T> T findAndModify(Query query, UpdateDefinition update, FindAndModifyOptions options,
+                                       Class<T> entityClass) {
+                roundTrips.incrementAndGet();
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(ROUND_TRIP_MICROS));
+                return super.findAndModify(query, update, options, entityClass);
+            }
+        };
+    }
+
+    private record Run(Set<Integer> ids, int roundTrips) {
+    }
+}
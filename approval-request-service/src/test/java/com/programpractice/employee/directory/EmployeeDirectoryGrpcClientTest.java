@@ -0,0 +1,135 @@
+package com.programpractice.employee.directory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.programpractice.employee.directory.v1.EmployeeDirectoryGrpc;
+import com.programpractice.employee.directory.v1.ExistsManyRequest;
+import com.programpractice.employee.directory.v1.ExistsManyResponse;
+import com.programpractice.employee.directory.v1.ExistsRequest;
+import com.programpractice.employee.directory.v1.ExistsResponse;
+
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * gRPC 직원 조회 클라이언트 테스트 (in-process 서버)
+ * - 여러 스레드의 일괄 조회가 각각 독립된 ExistsMany 호출로 나감 (스트림 하나에 묶이지 않음)
+ * - INVALID_ARGUMENT는 IllegalArgumentException, 그 밖의 실패는 IllegalStateException
+ * - 실패한 호출이 이후 호출에 영향을 주지 않음
+ * 가짜 서버는 ID 100 이상을 없는 직원으로 본다.
+ */
+class EmployeeDirectoryGrpcClientTest {
+
+    private static final long INVALID_ID = -1L;       // INVALID_ARGUMENT
+    private static final long UNAVAILABLE_ID = -2L;   // UNAVAILABLE
+
+    private final AtomicInteger existsManyCalls = new AtomicInteger();
+    private Server server;
+    private EmployeeDirectoryGrpcClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(new FakeEmployeeDirectory())
+                .build()
+                .start();
+        client = new EmployeeDirectoryGrpcClient(InProcessChannelBuilder.forName(name).build(), 2_000);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        client.shutdown();
+        server.shutdownNow();
+    }
+
+    @Test
+    void checksSingleEmployeeWithUnaryCall() {
+        assertThat(client.exists(1)).isTrue();
+        assertThat(client.exists(100)).isFalse();
+        assertThat(existsManyCalls).hasValue(0);
+    }
+
+    @Test
+    void sendsEachConcurrentLookupAsItsOwnCall() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<Long>>> results = new ArrayList<>();
+            for (long i = 0; i < 100; i++) {   // base(0~99)는 있는 직원, 100 + base는 없는 직원
+                long base = i;
+                results.add(executor.submit(() -> client.findMissing(List.of(base, 100 + base, 1L))));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertThat(results.get(i).get()).containsExactly(100L + i);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(existsManyCalls).hasValue(100);
+    }
+
+    @Test
+    void invalidRequestFailsWithIllegalArgument() {
+        assertThatThrownBy(() -> client.findMissing(List.of(INVALID_ID)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잘못된 직원 ID");
+
+        assertThat(client.findMissing(List.of(1L, 200L))).containsExactly(200L);
+    }
+
+    @Test
+    void callFailureDoesNotAffectLaterCalls() {
+        assertThat(client.findMissing(List.of(300L))).containsExactly(300L);
+
+        assertThatThrownBy(() -> client.findMissing(List.of(UNAVAILABLE_ID)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("UNAVAILABLE");
+
+        assertThat(client.findMissing(List.of(2L, 400L))).containsExactly(400L);
+        assertThat(existsManyCalls).hasValue(3);
+    }
+
+    private final class FakeEmployeeDirectory extends EmployeeDirectoryGrpc.EmployeeDirectoryImplBase {
+
+        @Override
+        public void exists(ExistsRequest request, StreamObserver<ExistsResponse> responseObserver) {
+            responseObserver.onNext(ExistsResponse.newBuilder().setExists(request.getEmployeeId() < 100).build());
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public void existsMany(ExistsManyRequest request, StreamObserver<ExistsManyResponse> responseObserver) {
+            existsManyCalls.incrementAndGet();
+            if (request.getEmployeeIdsList().contains(INVALID_ID)) {
+                responseObserver.onError(Status.INVALID_ARGUMENT.withDescription("잘못된 직원 ID").asRuntimeException());
+                return;
+            }
+            if (request.getEmployeeIdsList().contains(UNAVAILABLE_ID)) {
+                responseObserver.onError(Status.UNAVAILABLE.withDescription("연결 끊김").asRuntimeException());
+                return;
+            }
+            ExistsManyResponse.Builder response = ExistsManyResponse.newBuilder();
+            request.getEmployeeIdsList().stream()
+                    .filter(id -> id >= 100)
+                    .forEach(response::addMissingIds);
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        }
+    }
+}
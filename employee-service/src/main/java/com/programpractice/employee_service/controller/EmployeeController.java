@@ -6,6 +6,8 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.programpractice.employee_service.dto.EmployeeCreateRequest;
 import com.programpractice.employee_service.dto.EmployeeCreateResponse;
+import com.programpractice.employee_service.dto.EmployeeExistsRequest;
+import com.programpractice.employee_service.dto.EmployeeExistsResponse;
 import com.programpractice.employee_service.dto.EmployeeResponse;
 import com.programpractice.employee_service.dto.EmployeeUpdateRequest;
 import com.programpractice.employee_service.service.EmployeeService;
@@ -98,4 +100,17 @@ public class EmployeeController {
         boolean exists = employeeService.existsById(id);
         return ResponseEntity.ok(exists);
     }
+    
+    /*
+     * POST /employees/exists
+     * 직원 일괄 존재 여부 확인 (결재선 전체를 한 번에 검증)
+     * 응답: 존재하지 않는 ID 목록 (모두 존재하면 빈 목록)
+     */
+    @PostMapping("/exists")
+    public ResponseEntity<EmployeeExistsResponse> existsEmployees(
+            @Valid @RequestBody EmployeeExistsRequest request) {
+        log.info("POST /employees/exists 호출: count={}", request.getIds().size());
+        List<Long> missingIds = employeeService.findMissingIds(request.getIds());
+        return ResponseEntity.ok(new EmployeeExistsResponse(missingIds));
+    }
 }
@@ -0,0 +1,22 @@
+package com.programpractice.employee_service.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 직원 일괄 존재 여부 확인 요청 DTO
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeExistsRequest {
+
+    @NotEmpty(message = "직원 ID 목록은 필수입니다")
+    @Size(max = 1000, message = "한 번에 1000명까지 확인할 수 있습니다")
+    private List<Long> ids;
+}
@@ -0,0 +1,15 @@
+package com.programpractice.employee_service.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 직원 일괄 존재 여부 확인 응답 DTO (존재하지 않는 ID 목록, 요청 순서 유지)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeExistsResponse {
+    private List<Long> missingIds;
+}
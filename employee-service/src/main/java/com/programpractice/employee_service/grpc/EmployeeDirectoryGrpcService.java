@@ -0,0 +1,149 @@
+package com.programpractice.employee_service.grpc;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.programpractice.employee.directory.v1.EmployeeDirectoryGrpc;
+import com.programpractice.employee.directory.v1.ExistsManyRequest;
+import com.programpractice.employee.directory.v1.ExistsManyResponse;
+import com.programpractice.employee.directory.v1.ExistsRequest;
+import com.programpractice.employee.directory.v1.ExistsResponse;
+import com.programpractice.employee.directory.v1.LookupRequest;
+import com.programpractice.employee.directory.v1.LookupResponse;
+import com.programpractice.employee_service.service.EmployeeService;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * gRPC 직원 조회 서비스 (proto/employee/directory/v1)
+ *
+ * REST의 GET /employees/{id}/exists, POST /employees/exists와 같은 조회를 영구 HTTP/2 채널로 제공한다.
+ * Lookup 스트림은 요청을 받은 순서대로 처리하며, 요청 하나의 오류로 스트림을 끊지 않는다.
+ * 흐름 제어: Lookup은 요청을 자동으로 읽지 않고 하나씩 request(1)하며, 응답을 보낼 수 없으면(isReady false)
+ * 그 응답 하나만 들고 onReady까지 다음 요청을 읽지 않는다. 느린 클라이언트 때문에 응답이 쌓이지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeDirectoryGrpcService extends EmployeeDirectoryGrpc.EmployeeDirectoryImplBase {
+
+    // POST /employees/exists 와 같은 상한
+    static final int MAX_IDS_PER_REQUEST = 1000;
+
+    private final EmployeeService employeeService;
+
+    @Override
+    public void exists(ExistsRequest request, StreamObserver<ExistsResponse> responseObserver) {
+        boolean exists = employeeService.existsById(request.getEmployeeId());
+        responseObserver.onNext(ExistsResponse.newBuilder().setExists(exists).build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void existsMany(ExistsManyRequest request, StreamObserver<ExistsManyResponse> responseObserver) {
+        String invalid = validate(request.getEmployeeIdsList());
+        if (invalid != null) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(invalid).asRuntimeException());
+            return;
+        }
+        List<Long> missingIds = employeeService.findMissingIds(request.getEmployeeIdsList());
+        responseObserver.onNext(ExistsManyResponse.newBuilder().addAllMissingIds(missingIds).build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public StreamObserver<LookupRequest> lookup(StreamObserver<LookupResponse> responseObserver) {
+        ServerCallStreamObserver<LookupResponse> call = (ServerCallStreamObserver<LookupResponse>) responseObserver;
+        LookupStream stream = new LookupStream(call);
+        call.disableAutoRequest();
+        call.setOnReadyHandler(stream::flush);
+        call.request(1);
+        return stream;
+    }
+
+    private LookupResponse lookup(LookupRequest request) {
+        LookupResponse.Builder response = LookupResponse.newBuilder()
+                .setCorrelationId(request.getCorrelationId());
+        String invalid = validate(request.getEmployeeIdsList());
+        if (invalid != null) {
+            return response.setError(invalid).build();
+        }
+        try {
+            return response.addAllMissingIds(employeeService.findMissingIds(request.getEmployeeIdsList())).build();
+        } catch (RuntimeException e) {
+            log.error("직원 조회 스트림 처리 실패: correlationId={}", request.getCorrelationId(), e);
+            return response.setError("직원 조회 실패: " + e.getMessage()).build();
+        }
+    }
+
+    /**
+     * Lookup 스트림 하나
+     * gRPC가 한 호출의 콜백(onNext/onCompleted/onReady)을 직렬화하므로 별도 잠금은 두지 않는다.
+     */
+    private final class LookupStream implements StreamObserver<LookupRequest> {
+
+        private final ServerCallStreamObserver<LookupResponse> call;
+        // 아직 보내지 못한 응답 (최대 1개, 있는 동안 다음 요청을 읽지 않음)
+        private LookupResponse pending;
+        private boolean halfClosed;
+        private boolean completed;
+
+        private LookupStream(ServerCallStreamObserver<LookupResponse> call) {
+            this.call = call;
+        }
+
+        @Override
+        public void onNext(LookupRequest request) {
+            pending = lookup(request);
+            flush();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            log.debug("직원 조회 스트림 종료 (클라이언트 오류/취소): {}", t.getMessage());
+            pending = null;
+        }
+
+        @Override
+        public void onCompleted() {
+            halfClosed = true;
+            flush();
+        }
+
+        // 보낼 수 있으면 대기 중인 응답을 보내고 다음 요청을 읽는다
+        void flush() {
+            if (completed || call.isCancelled()) {
+                return;
+            }
+            if (pending != null) {
+                if (!call.isReady()) {
+                    return;
+                }
+                call.onNext(pending);
+                pending = null;
+                if (!halfClosed) {
+                    call.request(1);
+                }
+            }
+            if (halfClosed) {
+                completed = true;
+                call.onCompleted();
+            }
+        }
+    }
+
+    private static String validate(List<Long> employeeIds) {
+        if (employeeIds.isEmpty()) {
+            return "직원 ID 목록은 필수입니다";
+        }
+        if (employeeIds.size() > MAX_IDS_PER_REQUEST) {
+            return "한 번에 " + MAX_IDS_PER_REQUEST + "명까지 확인할 수 있습니다";
+        }
+        return null;
+    }
+}
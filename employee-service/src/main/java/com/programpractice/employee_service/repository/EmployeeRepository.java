@@ -1,8 +1,11 @@
 package com.programpractice.employee_service.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.programpractice.employee_service.entity.Employee;
 
@@ -19,4 +22,10 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
      * 직책으로 직원 검색
      */
     List<Employee> findByPosition(String position);
+    
+    /**
+     * 주어진 ID 중 존재하는 ID만 조회 (IN 쿼리 1회, 엔티티 로딩 없음)
+     */
+    @Query("select e.id from Employee e where e.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
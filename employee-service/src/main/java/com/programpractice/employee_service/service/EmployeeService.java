@@ -12,7 +12,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -117,4 +120,22 @@ public class EmployeeService {
     public boolean existsById(Long id) {
         return employeeRepository.existsById(id);
     }
+    
+    /**
+     * 직원 일괄 존재 여부 확인 (다른 서비스에서 호출)
+     * POST /employees/exists
+     * 
+     * @return 존재하지 않는 ID 목록 (요청 순서, 중복 제거)
+     */
+    public List<Long> findMissingIds(List<Long> ids) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        Set<Long> existing = new HashSet<>(employeeRepository.findExistingIds(requested));
+        
+        List<Long> missing = requested.stream()
+                .filter(id -> !existing.contains(id))
+                .collect(Collectors.toList());
+        
+        log.info("직원 일괄 존재 확인: 요청={}, 미존재={}", requested.size(), missing.size());
+        return missing;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,165 @@
+package com.programpractice.employee_service.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.programpractice.employee.directory.v1.EmployeeDirectoryGrpc;
+import com.programpractice.employee.directory.v1.LookupRequest;
+import com.programpractice.employee.directory.v1.LookupResponse;
+import com.programpractice.employee_service.service.EmployeeService;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+
+/**
+ * Lookup 양방향 스트림 테스트 (in-process 서버)
+ * - 요청마다 correlation_id로 응답하고, 잘못된 요청은 error로 답한 뒤 스트림을 유지
+ * - 클라이언트가 응답을 받지 않는 동안에는 다음 요청을 읽지 않음 (보내지 못한 응답은 하나까지만)
+ */
+class EmployeeDirectoryGrpcServiceTest {
+
+    private EmployeeService employeeService;
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        employeeService = mock(EmployeeService.class);
+        // ID 100 이상은 없는 직원
+        when(employeeService.findMissingIds(anyList())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0)
+                .stream().filter(id -> id >= 100).toList());
+
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(new EmployeeDirectoryGrpcService(employeeService))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void answersEachRequestAndKeepsStreamOpenOnInvalidRequest() throws Exception {
+        Lookup lookup = new Lookup(Integer.MAX_VALUE);
+        ClientCallStreamObserver<LookupRequest> requests = lookup.start(channel);
+
+        requests.onNext(request(1, 1L, 100L));
+        requests.onNext(request(2));
+        requests.onNext(request(3, 200L, 2L));
+        requests.onCompleted();
+
+        LookupResponse first = lookup.next();
+        LookupResponse invalid = lookup.next();
+        LookupResponse third = lookup.next();
+        assertThat(first.getCorrelationId()).isEqualTo(1);
+        assertThat(first.getMissingIdsList()).containsExactly(100L);
+        assertThat(invalid.getCorrelationId()).isEqualTo(2);
+        assertThat(invalid.getError()).isNotEmpty();
+        assertThat(third.getCorrelationId()).isEqualTo(3);
+        assertThat(third.getMissingIdsList()).containsExactly(200L);
+        assertThat(lookup.completed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void readsNextRequestOnlyWhenClientCanReceive() throws Exception {
+        Lookup lookup = new Lookup(1);
+        ClientCallStreamObserver<LookupRequest> requests = lookup.start(channel);
+
+        for (int i = 1; i <= 5; i++) {
+            requests.onNext(request(i, (long) i));
+        }
+        // 1번 응답은 전송, 2번 응답은 보내지 못해 들고 있으며 3번 이후는 읽지 않음
+        assertThat(lookup.next().getCorrelationId()).isEqualTo(1);
+        verify(employeeService, times(2)).findMissingIds(anyList());
+        assertThat(lookup.received.poll(100, TimeUnit.MILLISECONDS)).isNull();
+
+        lookup.request(10);
+        for (int i = 2; i <= 5; i++) {
+            assertThat(lookup.next().getCorrelationId()).isEqualTo(i);
+        }
+        verify(employeeService, times(5)).findMissingIds(anyList());
+        requests.onCompleted();
+        assertThat(lookup.completed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static LookupRequest request(long correlationId, Long... employeeIds) {
+        return LookupRequest.newBuilder()
+                .setCorrelationId(correlationId)
+                .addAllEmployeeIds(List.of(employeeIds))
+                .build();
+    }
+
+    /**
+     * 수동 흐름 제어 클라이언트: 처음에 initialRequests개만 받고 이후 request(n)으로 더 받는다
+     */
+    private static final class Lookup implements ClientResponseObserver<LookupRequest, LookupResponse> {
+
+        private final int initialRequests;
+        private final BlockingQueue<LookupResponse> received = new LinkedBlockingQueue<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private ClientCallStreamObserver<LookupRequest> call;
+
+        private Lookup(int initialRequests) {
+            this.initialRequests = initialRequests;
+        }
+
+        ClientCallStreamObserver<LookupRequest> start(ManagedChannel channel) {
+            EmployeeDirectoryGrpc.newStub(channel).lookup(this);
+            return call;
+        }
+
+        @Override
+        public void beforeStart(ClientCallStreamObserver<LookupRequest> requestStream) {
+            this.call = requestStream;
+            requestStream.disableAutoRequestWithInitial(initialRequests);
+        }
+
+        @Override
+        public void onNext(LookupResponse response) {
+            received.add(response);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onCompleted() {
+            completed.countDown();
+        }
+
+        LookupResponse next() throws InterruptedException {
+            LookupResponse response = received.poll(5, TimeUnit.SECONDS);
+            assertThat(response).as("응답 수신 대기 시간 초과").isNotNull();
+            return response;
+        }
+
+        void request(int count) {
+            call.request(count);
+        }
+    }
+}
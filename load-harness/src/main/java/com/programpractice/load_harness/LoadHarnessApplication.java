@@ -0,0 +1,100 @@
+package com.programpractice.load_harness;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Path;
+
+import com.programpractice.load_harness.infra.EmbeddedAmqpBroker;
+import com.programpractice.load_harness.infra.InMemoryMongoServer;
+import com.programpractice.load_harness.infra.ServiceCluster;
+import com.programpractice.load_harness.report.LoadReport;
+import com.programpractice.load_harness.workload.ApprovalLoadDriver;
+import com.programpractice.load_harness.workload.LoadProfile;
+import com.programpractice.load_harness.workload.StageMetrics;
+import com.programpractice.notification_service.service.WebSocketSessionManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결재 파이프라인 end-to-end 부하 테스트
+ *
+ * 1. 내장 AMQP 브로커(Qpid Broker-J), Mongo 호환 메모리 서버 시작
+ * 2. 네 서비스를 한 JVM 안에서 각각의 Spring 컨텍스트로 시작 (구간 측정 프로브 포함)
+ * 3. 직원 등록 → 워밍업 → load.rates 순서로 단계 실행 (포화 시 중단 가능)
+ * 4. 콘솔 요약 출력 및 JSON 리포트 저장
+ *
+ * 실행: ./gradlew run --args="--load.rates=50,100,200 --workload.reject-ratio=0.2"
+ */
+@Slf4j
+public class LoadHarnessApplication {
+
+    private static final String RABBIT_USERNAME = "admin";
+    private static final String RABBIT_PASSWORD = "admin123";
+
+    public static void main(String[] args) {
+        int exitCode;
+        try {
+            run(LoadProfile.load(args));
+            exitCode = 0;
+        } catch (Exception e) {
+            log.error("부하 테스트 실패", e);
+            exitCode = 1;
+        }
+        // 서비스 컨텍스트가 남긴 비데몬 스레드가 있어도 종료
+        System.exit(exitCode);
+    }
+
+    private static void run(LoadProfile profile) throws Exception {
+        try (EmbeddedAmqpBroker broker = new EmbeddedAmqpBroker(freePort(), RABBIT_USERNAME, RABBIT_PASSWORD);
+             InMemoryMongoServer mongo = new InMemoryMongoServer();
+             ApprovalLoadDriver driver = new ApprovalLoadDriver(profile);
+             ServiceCluster cluster = new ServiceCluster()) {
+
+            broker.start();
+            mongo.start();
+            cluster.start(profile, broker, mongo, driver);
+
+            driver.prepare(cluster.url(ServiceCluster.EMPLOYEE), cluster.url(ServiceCluster.REQUEST),
+                    cluster.url(ServiceCluster.PROCESSING));
+            if (profile.isConnectRequesters()) {
+                connectRequesters(cluster, driver.requesterIds());
+            }
+
+            if (!profile.getWarmup().isZero()) {
+                driver.runStage("warmup", profile.getRates()[0], profile.getWarmup());
+            }
+
+            LoadReport report = new LoadReport(profile);
+            for (int rate : profile.getRates()) {
+                StageMetrics stage = driver.runStage("rate-" + rate, rate, profile.getStageDuration());
+                report.add(stage);
+                if (profile.isStopOnSaturation() && report.isSaturated(stage)) {
+                    log.info("포화 감지: {}/s 에서 중단", rate);
+                    break;
+                }
+            }
+
+            report.print(System.out);
+            Path file = report.write();
+            log.info("리포트 저장: {}", file.toAbsolutePath());
+        }
+    }
+
+    /**
+     * 요청자를 WebSocket 접속 상태로 등록
+     * (미접속 사용자는 NotificationService가 전송을 건너뛰므로 알림 구간이 측정되지 않음)
+     */
+    private static void connectRequesters(ServiceCluster cluster, int[] requesterIds) {
+        WebSocketSessionManager sessionManager = cluster.context(ServiceCluster.NOTIFICATION)
+                .getBean(WebSocketSessionManager.class);
+        for (int requesterId : requesterIds) {
+            sessionManager.addSession(String.valueOf(requesterId), "load-harness-" + requesterId);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.programpractice.load_harness.infra;
+
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.qpid.server.SystemLauncher;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로세스 내 AMQP 0-9-1 브로커 (RabbitMQ 대체)
+ *
+ * Qpid Broker-J를 메모리 저장소로 띄운다. 서비스들은 spring-amqp(RabbitMQ 클라이언트)로 그대로 접속하며,
+ * topic/direct exchange, publisher confirm, mandatory return을 지원한다.
+ * 메시지는 메모리에만 있으므로 하네스 종료 시 모두 사라진다.
+ */
+@Slf4j
+public class EmbeddedAmqpBroker implements AutoCloseable {
+
+    private static final String INITIAL_CONFIG = "qpid-initial-config.json";
+
+    @Getter
+    private final int port;
+    @Getter
+    private final String username;
+    @Getter
+    private final String password;
+
+    private final SystemLauncher launcher = new SystemLauncher();
+
+    public EmbeddedAmqpBroker(int port, String username, String password) {
+        this.port = port;
+        this.username = username;
+        this.password = password;
+    }
+
+    public void start() throws Exception {
+        URL initialConfig = EmbeddedAmqpBroker.class.getClassLoader().getResource(INITIAL_CONFIG);
+        if (initialConfig == null) {
+            throw new IllegalStateException(INITIAL_CONFIG + " 를 찾을 수 없습니다");
+        }
+
+        Map<String, Object> context = new HashMap<>();
+        context.put("qpid.amqp_port", port);
+        context.put("qpid.user", username);
+        context.put("qpid.password", password);
+
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("type", "Memory");
+        attributes.put("initialConfigurationLocation", initialConfig.toExternalForm());
+        attributes.put("startupLoggedToSystemOut", false);
+        attributes.put("context", context);
+
+        launcher.startup(attributes);
+        log.info("내장 AMQP 브로커 시작: port={}", port);
+    }
+
+    @Override
+    public void close() {
+        launcher.shutdown();
+        log.info("내장 AMQP 브로커 종료");
+    }
+}
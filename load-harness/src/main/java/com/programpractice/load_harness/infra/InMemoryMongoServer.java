@@ -0,0 +1,39 @@
+package com.programpractice.load_harness.infra;
+
+import java.net.InetSocketAddress;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로세스 내 Mongo 호환 서버 (MongoDB 대체)
+ *
+ * mongo-java-server의 메모리 백엔드를 루프백 빈 포트에 띄운다. Approval Request Service는
+ * MongoDB 드라이버로 그대로 접속하며 CRUD, findAndModify(시퀀스), 인덱스를 사용할 수 있다.
+ * 인증은 없으므로 접속 URI에 계정을 넣지 않는다.
+ */
+@Slf4j
+public class InMemoryMongoServer implements AutoCloseable {
+
+    private final MongoServer server = new MongoServer(new MemoryBackend());
+    private InetSocketAddress address;
+
+    public void start() {
+        address = server.bind();
+        log.info("Mongo 호환 메모리 서버 시작: {}", address);
+    }
+
+    public String connectionString(String database) {
+        if (address == null) {
+            throw new IllegalStateException("서버가 시작되지 않았습니다");
+        }
+        return "mongodb://" + address.getHostString() + ":" + address.getPort() + "/" + database;
+    }
+
+    @Override
+    public void close() {
+        server.shutdownNow();
+        log.info("Mongo 호환 메모리 서버 종료");
+    }
+}
@@ -0,0 +1,158 @@
+package com.programpractice.load_harness.infra;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.programpractice.approval_processing_service.ApprovalProcessingServiceApplication;
+import com.programpractice.approval_request_service.ApprovalRequestServiceApplication;
+import com.programpractice.employee_service.EmployeeServiceApplication;
+import com.programpractice.load_harness.probe.PipelineListener;
+import com.programpractice.load_harness.probe.PipelineProbes;
+import com.programpractice.load_harness.workload.LoadProfile;
+import com.programpractice.notification_service.NotificationServiceApplication;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 4개 서비스를 한 JVM에서 각각의 Spring 컨텍스트로 실행
+ *
+ * 서비스 jar가 같은 클래스패스에 있으므로 각 서비스의 application.yaml 대신 harness/*.yaml만 읽도록
+ * spring.config.location을 지정하고, 다른 서비스용 자동 설정(JPA/Mongo/Rabbit)은 yaml에서 제외한다.
+ * 포트는 모두 빈 포트(server.port=0)로 띄우고 의존 순서대로 시작해 앞 서비스의 URL을 넘긴다.
+ * (employee → notification → request → processing)
+ * employee의 gRPC 포트는 미리 빈 포트를 골라 지정하고 request/processing에 target으로 넘긴다.
+ * (전송 방식 비교: --service.request.employee.client.transport=grpc)
+ */
+@Slf4j
+public class ServiceCluster implements AutoCloseable {
+
+    public static final String EMPLOYEE = "employee";
+    public static final String REQUEST = "request";
+    public static final String PROCESSING = "processing";
+    public static final String NOTIFICATION = "notification";
+
+    private static final Set<String> SERVICES = Set.of(EMPLOYEE, REQUEST, PROCESSING, NOTIFICATION);
+
+    // 시작 순서 유지
+    private final Map<String, ConfigurableApplicationContext> contexts = new LinkedHashMap<>();
+
+    public void start(LoadProfile profile, EmbeddedAmqpBroker broker, InMemoryMongoServer mongo,
+                      PipelineListener listener) {
+        for (String service : profile.getServiceOverrides().keySet()) {
+            if (!SERVICES.contains(service)) {
+                throw new IllegalArgumentException("알 수 없는 서비스: " + service + " (사용 가능: " + SERVICES + ")");
+            }
+        }
+        String rabbitPort = String.valueOf(broker.getPort());
+
+        int employeeGrpcPort = freePort();
+        Map<String, String> employee = new LinkedHashMap<>();
+        employee.put("spring.grpc.server.port", String.valueOf(employeeGrpcPort));
+        start(EMPLOYEE, EmployeeServiceApplication.class, "employee-service.yaml", employee,
+                profile.serviceOverrides(EMPLOYEE), null);
+
+        Map<String, String> notification = new LinkedHashMap<>();
+        notification.put("spring.rabbitmq.port", rabbitPort);
+        start(NOTIFICATION, NotificationServiceApplication.class, "notification-service.yaml", notification,
+                profile.serviceOverrides(NOTIFICATION), PipelineProbes.notificationService(listener));
+
+        Map<String, String> request = new LinkedHashMap<>();
+        request.put("spring.rabbitmq.port", rabbitPort);
+        request.put("spring.data.mongodb.uri", mongo.connectionString("erp_mongodb"));
+        request.put("employee.service.url", url(EMPLOYEE));
+        request.put("employee.grpc.target", "127.0.0.1:" + employeeGrpcPort);
+        request.put("notification.service.url", url(NOTIFICATION));
+        start(REQUEST, ApprovalRequestServiceApplication.class, "approval-request-service.yaml", request,
+                profile.serviceOverrides(REQUEST), PipelineProbes.approvalRequestService(listener));
+
+        Map<String, String> processing = new LinkedHashMap<>();
+        processing.put("spring.rabbitmq.port", rabbitPort);
+        processing.put("employee.service.url", url(EMPLOYEE));
+        processing.put("employee.grpc.target", "127.0.0.1:" + employeeGrpcPort);
+        processing.put("approval-request.service.url", url(REQUEST));
+        start(PROCESSING, ApprovalProcessingServiceApplication.class, "approval-processing-service.yaml", processing,
+                profile.serviceOverrides(PROCESSING), PipelineProbes.approvalProcessingService(listener));
+    }
+
+    public String url(String service) {
+        return "http://127.0.0.1:" + port(service);
+    }
+
+    public int port(String service) {
+        return ((WebServerApplicationContext) context(service)).getWebServer().getPort();
+    }
+
+    public ConfigurableApplicationContext context(String service) {
+        ConfigurableApplicationContext context = contexts.get(service);
+        if (context == null) {
+            throw new IllegalStateException("서비스가 시작되지 않았습니다: " + service);
+        }
+        return context;
+    }
+
+    /**
+     * 시작 역순으로 종료 (processing의 리스너가 먼저 멈춘 뒤 request, notification, employee)
+     */
+    @Override
+    public void close() {
+        List<ConfigurableApplicationContext> started = new ArrayList<>(contexts.values());
+        Collections.reverse(started);
+        for (ConfigurableApplicationContext context : started) {
+            try {
+                context.close();
+            } catch (RuntimeException e) {
+                log.warn("서비스 종료 실패: {}", context.getId(), e);
+            }
+        }
+        contexts.clear();
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException("빈 포트를 찾지 못했습니다", e);
+        }
+    }
+
+    private void start(String service, Class<?> application, String config, Map<String, String> properties,
+                       Map<String, String> overrides, BeanPostProcessor probe) {
+        List<String> args = new ArrayList<>();
+        args.add("--spring.config.location=classpath:/harness/" + config);
+        args.add("--server.port=0");
+        args.add("--spring.main.register-shutdown-hook=false");
+        // 같은 키를 인자로 두 번 넘기면 값이 쉼표로 합쳐지므로 한 맵에서 덮어쓴 뒤 넘긴다
+        Map<String, String> merged = new LinkedHashMap<>();
+        // 같은 클래스패스에 Netty gRPC 서버가 있으므로 기본 포트(9090) 충돌 방지 (employee는 지정 포트)
+        merged.put("spring.grpc.server.port", "0");
+        merged.putAll(properties);
+        merged.putAll(overrides);
+        merged.forEach((key, value) -> args.add("--" + key + "=" + value));
+
+        long startedAt = System.nanoTime();
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(application)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false);
+        if (probe != null) {
+            builder.initializers(context -> context.getBeanFactory().addBeanPostProcessor(probe));
+        }
+        ConfigurableApplicationContext context = builder.run(args.toArray(String[]::new));
+        contexts.put(service, context);
+
+        log.info("서비스 시작: {} port={}, elapsed={}ms", service, port(service),
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+}
@@ -0,0 +1,97 @@
+package com.programpractice.load_harness.probe;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서비스 빈 메서드 계측 (BeanPostProcessor)
+ *
+ * 등록한 타입의 빈을 클래스 프록시로 감싸 지정한 메서드의 시작/종료 시각(System.nanoTime)을 Hook에 전달한다.
+ * 모든 서비스가 한 JVM에서 실행되므로 서비스 간 구간 지연을 같은 시계로 잴 수 있다.
+ * 같은 빈 내부 호출(this.method)은 프록시를 거치지 않으므로 다른 빈에서 호출되는 public 메서드만 계측한다.
+ *
+ * 컨텍스트 초기화 전에 addBeanPostProcessor로 등록하므로 @RabbitListener 등 다른 후처리기보다 먼저 적용되고,
+ * 리스너 컨테이너도 프록시를 통해 메서드를 호출한다.
+ */
+@Slf4j
+public final class MethodProbe implements BeanPostProcessor {
+
+    /**
+     * 계측 메서드 완료 콜백 (예외로 끝나면 failure가 채워짐)
+     */
+    @FunctionalInterface
+    public interface Hook {
+        void completed(Object[] args, long startedAt, long finishedAt, Throwable failure);
+    }
+
+    private record Registration(Class<?> type, String method, Hook hook) {
+    }
+
+    private final List<Registration> registrations = new ArrayList<>();
+
+    public MethodProbe on(Class<?> type, String method, Hook hook) {
+        registrations.add(new Registration(type, method, hook));
+        return this;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+        Map<String, Hook> hooks = new HashMap<>();
+        for (Registration registration : registrations) {
+            if (registration.type().isAssignableFrom(targetClass)) {
+                hooks.put(registration.method(), registration.hook());
+            }
+        }
+        if (hooks.isEmpty()) {
+            return bean;
+        }
+
+        MethodInterceptor interceptor = invocation -> {
+            Hook hook = hooks.get(invocation.getMethod().getName());
+            if (hook == null) {
+                return invocation.proceed();
+            }
+            long startedAt = System.nanoTime();
+            Throwable failure = null;
+            try {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                failure = e;
+                throw e;
+            } finally {
+                notify(hook, invocation.getArguments(), startedAt, System.nanoTime(), failure);
+            }
+        };
+
+        // 이미 프록시인 빈(@Transactional 등)은 기존 프록시에 advice만 추가
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvice(0, interceptor);
+            return bean;
+        }
+        ProxyFactory factory = new ProxyFactory(bean);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(interceptor);
+        log.debug("계측 프록시 적용: bean={}, methods={}", beanName, hooks.keySet());
+        return factory.getProxy(targetClass.getClassLoader());
+    }
+
+    // 계측 실패가 서비스 처리에 영향을 주지 않도록 예외를 삼킨다
+    private static void notify(Hook hook, Object[] args, long startedAt, long finishedAt, Throwable failure) {
+        try {
+            hook.completed(args, startedAt, finishedAt, failure);
+        } catch (RuntimeException e) {
+            log.warn("계측 콜백 실패", e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.programpractice.load_harness.probe;
+
+/**
+ * 결재 흐름 구간 이벤트 (시각은 모두 System.nanoTime)
+ * 서비스 스레드(리스너 컨테이너, Tomcat)에서 호출되므로 구현은 빠르고 스레드 안전해야 한다.
+ */
+public interface PipelineListener {
+
+    // Approval Request Service -> 승인 요청 큐 발행 시작 (신규 요청 또는 다음 단계)
+    void requestPublished(int requestId, int step, long at);
+
+    // Approval Processing Service ApprovalRequestListener 처리 완료 (결재자가 조회/결정 가능한 시점)
+    void requestDelivered(int requestId, int step, long at);
+
+    // Approval Processing Service -> 승인 응답 큐 발행 시작
+    void responsePublished(int requestId, long at);
+
+    // Approval Request Service ResponseHandleService.handleResponse 처리
+    void responseHandled(int requestId, int step, long startedAt, long finishedAt);
+
+    // Notification Service 알림 전송 (POST /api/notifications/send -> NotificationService.sendToEmployee)
+    void notified(int requestId, long startedAt, long finishedAt);
+}
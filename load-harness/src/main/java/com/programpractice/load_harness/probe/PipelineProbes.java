@@ -0,0 +1,71 @@
+package com.programpractice.load_harness.probe;
+
+import com.programpractice.approval.messaging.ApprovalRequestMessage;
+import com.programpractice.approval.messaging.ApprovalResponseMessage;
+import com.programpractice.approval_processing_service.idempotency.ApprovalMessageIdempotencyGuard;
+import com.programpractice.approval_processing_service.listener.ApprovalRequestListener;
+import com.programpractice.approval_processing_service.service.ApprovalResponsePublisher;
+import com.programpractice.approval_request_service.service.ApprovalMessagePublisher;
+import com.programpractice.approval_request_service.service.ResponseHandleService;
+import com.programpractice.notification_service.dto.NotificationMessage;
+import com.programpractice.notification_service.service.NotificationService;
+
+/**
+ * 서비스별 계측 지점
+ *
+ * create → process → respond → notify 흐름의 각 구간 경계를 PipelineListener 이벤트로 바꾼다.
+ * 예외로 끝난 호출은 이벤트를 만들지 않는다 (해당 흐름은 미완료로 집계됨).
+ */
+public final class PipelineProbes {
+
+    private PipelineProbes() {
+    }
+
+    public static MethodProbe approvalRequestService(PipelineListener listener) {
+        return new MethodProbe()
+                .on(ApprovalMessagePublisher.class, "publishApprovalRequest", (args, startedAt, finishedAt, failure) -> {
+                    ApprovalRequestMessage message = (ApprovalRequestMessage) args[0];
+                    if (failure == null && message.getRequestId() != null) {
+                        int step = message.getSteps() == null || message.getSteps().isEmpty()
+                                ? 1 : message.getSteps().get(0).getStep();
+                        listener.requestPublished(message.getRequestId(), step, startedAt);
+                    }
+                })
+                .on(ResponseHandleService.class, "handleResponse", (args, startedAt, finishedAt, failure) -> {
+                    ApprovalResponseMessage message = (ApprovalResponseMessage) args[0];
+                    if (failure == null && message.isSuccess() && message.getRequestId() != null) {
+                        int step = message.getStep() != null ? message.getStep() : 0;
+                        listener.responseHandled(message.getRequestId(), step, startedAt, finishedAt);
+                    }
+                });
+    }
+
+    public static MethodProbe approvalProcessingService(PipelineListener listener) {
+        return new MethodProbe()
+                .on(ApprovalRequestListener.class, "handleApprovalRequest", (args, startedAt, finishedAt, failure) -> {
+                    ApprovalRequestMessage message = (ApprovalRequestMessage) args[0];
+                    if (failure == null && message.getRequestId() != null) {
+                        listener.requestDelivered(message.getRequestId(),
+                                ApprovalMessageIdempotencyGuard.stepOf(message), finishedAt);
+                    }
+                })
+                .on(ApprovalResponsePublisher.class, "publishApprovalResult", (args, startedAt, finishedAt, failure) -> {
+                    com.programpractice.approval_processing_service.model.ApprovalRequest request =
+                            (com.programpractice.approval_processing_service.model.ApprovalRequest) args[0];
+                    if (failure == null) {
+                        listener.responsePublished(request.getRequestId(), startedAt);
+                    }
+                });
+    }
+
+    // 최종 결과는 Request Service가 POST /api/notifications/send로 전달하고, 컨트롤러가 sendToEmployee를 호출한다
+    public static MethodProbe notificationService(PipelineListener listener) {
+        return new MethodProbe()
+                .on(NotificationService.class, "sendToEmployee", (args, startedAt, finishedAt, failure) -> {
+                    NotificationMessage message = (NotificationMessage) args[1];
+                    if (failure == null && message.getRequestId() != null) {
+                        listener.notified(message.getRequestId(), startedAt, finishedAt);
+                    }
+                });
+    }
+}
@@ -0,0 +1,195 @@
+package com.programpractice.load_harness.report;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.programpractice.load_harness.workload.Hop;
+import com.programpractice.load_harness.workload.LoadProfile;
+import com.programpractice.load_harness.workload.StageMetrics;
+
+/**
+ * 부하 단계 결과 요약
+ *
+ * 포화 판정: 달성 처리량 < 목표 속도 × saturation.throughput-ratio
+ *           또는 미완료/오류 비율 > saturation.max-incomplete-ratio
+ * 포화점은 포화로 판정된 첫 단계, 직전 단계가 마지막 안정 구간이다.
+ */
+public class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final LoadProfile profile;
+    private final List<StageMetrics> stages = new ArrayList<>();
+
+    public LoadReport(LoadProfile profile) {
+        this.profile = profile;
+    }
+
+    public void add(StageMetrics stage) {
+        stages.add(stage);
+    }
+
+    public boolean isSaturated(StageMetrics stage) {
+        return stage.throughput() < stage.getTargetRate() * profile.getSaturationThroughputRatio()
+                || stage.failureRatio() > profile.getSaturationMaxIncompleteRatio();
+    }
+
+    public void print(PrintStream out) {
+        out.println();
+        out.println("=== 결재 파이프라인 부하 테스트 결과 ===");
+        for (StageMetrics stage : stages) {
+            out.println();
+            out.printf(Locale.ROOT, "[%s] target=%d/s achieved=%.1f/s scheduled=%d completed=%d "
+                            + "(approved=%d, rejected=%d) errors=%d (create=%d, decision=%d) incomplete=%d%s%n",
+                    stage.getName(), stage.getTargetRate(), stage.throughput(), stage.getScheduled(),
+                    stage.getCompleted(), stage.getApproved(), stage.getRejected(),
+                    stage.getCreateErrors() + stage.getDecisionErrors(), stage.getCreateErrors(),
+                    stage.getDecisionErrors(), stage.getIncomplete(), isSaturated(stage) ? "  << SATURATED" : "");
+            out.printf(Locale.ROOT, "  %-18s %9s %9s %9s %9s %9s %9s%n",
+                    "hop (ms)", "count", "p50", "p90", "p99", "p99.9", "max");
+            for (Hop hop : Hop.values()) {
+                Histogram histogram = stage.histogram(hop);
+                if (histogram.getTotalCount() == 0) {
+                    continue;
+                }
+                out.printf(Locale.ROOT, "  %-18s %9d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                        hop.getKey(), histogram.getTotalCount(),
+                        millis(histogram.getValueAtPercentile(50)),
+                        millis(histogram.getValueAtPercentile(90)),
+                        millis(histogram.getValueAtPercentile(99)),
+                        millis(histogram.getValueAtPercentile(99.9)),
+                        millis(histogram.getMaxValue()));
+            }
+        }
+
+        out.println();
+        StageMetrics saturation = saturationPoint();
+        if (saturation == null) {
+            out.println("포화점: 측정 범위 안에서 포화되지 않음");
+        } else {
+            StageMetrics stable = lastStableBefore(saturation);
+            out.printf(Locale.ROOT, "포화점: %d/s (마지막 안정 구간: %s)%n", saturation.getTargetRate(),
+                    stable == null ? "없음" : stable.getTargetRate() + "/s");
+        }
+    }
+
+    /**
+     * JSON 리포트 저장
+     *
+     * @return 저장된 파일 경로
+     */
+    public Path write() throws IOException {
+        Path directory = profile.getReportDirectory();
+        Files.createDirectories(directory);
+        Path file = directory.resolve("load-report-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        objectMapper.writeValue(file.toFile(), toMap());
+        return file;
+    }
+
+    private Map<String, Object> toMap() {
+        Map<String, Object> workload = new LinkedHashMap<>();
+        workload.put("requesters", profile.getRequesters());
+        workload.put("approvers", profile.getApprovers());
+        workload.put("minChainLength", profile.getMinChainLength());
+        workload.put("maxChainLength", profile.getMaxChainLength());
+        workload.put("approverSkew", profile.getApproverSkew());
+        workload.put("rejectRatio", profile.getRejectRatio());
+        workload.put("thinkTimeMs", profile.getThinkTimeMs());
+        workload.put("stageDurationSeconds", profile.getStageDuration().toSeconds());
+        workload.put("serviceOverrides", profile.getServiceOverrides());
+
+        List<Map<String, Object>> stageList = new ArrayList<>();
+        for (StageMetrics stage : stages) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", stage.getName());
+            entry.put("targetRate", stage.getTargetRate());
+            entry.put("throughput", stage.throughput());
+            entry.put("scheduled", stage.getScheduled());
+            entry.put("completed", stage.getCompleted());
+            entry.put("approved", stage.getApproved());
+            entry.put("rejected", stage.getRejected());
+            entry.put("createErrors", stage.getCreateErrors());
+            entry.put("decisionErrors", stage.getDecisionErrors());
+            entry.put("incomplete", stage.getIncomplete());
+            entry.put("failureRatio", stage.failureRatio());
+            entry.put("saturated", isSaturated(stage));
+
+            Map<String, Object> hops = new LinkedHashMap<>();
+            for (Hop hop : Hop.values()) {
+                Histogram histogram = stage.histogram(hop);
+                Map<String, Object> latency = new LinkedHashMap<>();
+                latency.put("count", histogram.getTotalCount());
+                if (histogram.getTotalCount() > 0) {
+                    for (double percentile : PERCENTILES) {
+                        latency.put("p" + formatPercentile(percentile) + "Ms",
+                                millis(histogram.getValueAtPercentile(percentile)));
+                    }
+                    latency.put("maxMs", millis(histogram.getMaxValue()));
+                    latency.put("meanMs", histogram.getMean() / 1_000);
+                }
+                hops.put(hop.getKey(), latency);
+            }
+            entry.put("hops", hops);
+            stageList.add(entry);
+        }
+
+        StageMetrics saturation = saturationPoint();
+        StageMetrics stable = saturation == null ? null : lastStableBefore(saturation);
+
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("generatedAt", LocalDateTime.now().toString());
+        root.put("workload", workload);
+        root.put("stages", stageList);
+        root.put("saturationRate", saturation == null ? null : saturation.getTargetRate());
+        root.put("lastStableRate", stable == null ? null : stable.getTargetRate());
+        return root;
+    }
+
+    private StageMetrics saturationPoint() {
+        for (StageMetrics stage : stages) {
+            if (isSaturated(stage)) {
+                return stage;
+            }
+        }
+        return null;
+    }
+
+    private StageMetrics lastStableBefore(StageMetrics saturation) {
+        StageMetrics stable = null;
+        for (StageMetrics stage : stages) {
+            if (stage == saturation) {
+                break;
+            }
+            stable = stage;
+        }
+        return stable;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+
+    // 99.9 → "999", 50 → "50"
+    private static String formatPercentile(double percentile) {
+        String text = percentile == Math.rint(percentile)
+                ? String.valueOf((long) percentile)
+                : String.valueOf(percentile);
+        return text.replace(".", "");
+    }
+}
@@ -0,0 +1,188 @@
+package com.programpractice.load_harness.workload;
+
+/**
+ * 결재 요청 하나의 진행 기록 (구간 경계 시각, System.nanoTime)
+ *
+ * 이벤트는 드라이버 스레드와 서비스 스레드(리스너, Tomcat)에서 순서 없이 들어온다.
+ * 예) 1단계 승인 요청이 POST /approvals 응답보다 먼저 처리 서비스에 도착할 수 있으므로
+ *     결재 POST는 "계획 등록"과 "해당 단계 수신"이 모두 있을 때 한 번만 내보낸다.
+ * 구간 지연은 흐름이 끝날 때(또는 미완료로 정리될 때) 한꺼번에 StageMetrics에 기록한다.
+ * 배열은 단계 번호(1부터)로 인덱싱하며 0은 "아직 없음"을 뜻한다.
+ */
+final class ApprovalFlow {
+
+    /**
+     * 요청 계획: 요청자, 단계별 결재자, 반려 단계(0이면 모두 승인)
+     */
+    record Plan(int requesterId, int[] approverIds, int rejectStep) {
+
+        int steps() {
+            return approverIds.length;
+        }
+
+        int approverOf(int step) {
+            return approverIds[step - 1];
+        }
+
+        boolean rejects(int step) {
+            return rejectStep == step;
+        }
+
+        // 반려 단계가 있으면 그 단계에서 종료
+        int finalStep() {
+            return rejectStep > 0 ? rejectStep : steps();
+        }
+    }
+
+    private final int requestId;
+
+    private final long[] requestPublishedAt;
+    private final long[] requestDeliveredAt;
+    private final long[] decisionSentAt;
+    private final long[] decisionRespondedAt;
+    private final long[] responsePublishedAt;
+    private final long[] responseHandleStartedAt;
+    private final long[] responseHandleFinishedAt;
+    private final boolean[] dispatched;
+
+    private Plan plan;
+    private StageMetrics stage;
+    private long intendedAt;
+    private long createSentAt;
+    private long createRespondedAt;
+    private long notifyStartedAt;
+    private long notifyFinishedAt;
+
+    // 결재 POST를 보낸 마지막 단계 (처리 서비스의 응답 발행 이벤트에는 단계 정보가 없음)
+    private int decidingStep;
+    private boolean closed;
+
+    ApprovalFlow(int requestId, int maxSteps) {
+        this.requestId = requestId;
+        int slots = maxSteps + 1;
+        requestPublishedAt = new long[slots];
+        requestDeliveredAt = new long[slots];
+        decisionSentAt = new long[slots];
+        decisionRespondedAt = new long[slots];
+        responsePublishedAt = new long[slots];
+        responseHandleStartedAt = new long[slots];
+        responseHandleFinishedAt = new long[slots];
+        dispatched = new boolean[slots];
+    }
+
+    int requestId() {
+        return requestId;
+    }
+
+    synchronized Plan plan() {
+        return plan;
+    }
+
+    synchronized StageMetrics stage() {
+        return stage;
+    }
+
+    /**
+     * POST /approvals 응답 후 계획 등록
+     *
+     * @return 1단계 결재 POST를 지금 보내야 하면 true
+     */
+    synchronized boolean register(Plan plan, StageMetrics stage, long intendedAt, long sentAt, long respondedAt) {
+        this.plan = plan;
+        this.stage = stage;
+        this.intendedAt = intendedAt;
+        this.createSentAt = sentAt;
+        this.createRespondedAt = respondedAt;
+        return tryDispatch(1);
+    }
+
+    synchronized void requestPublished(int step, long at) {
+        if (inRange(step) && requestPublishedAt[step] == 0) {
+            requestPublishedAt[step] = at;
+        }
+    }
+
+    /**
+     * @return 이 단계 결재 POST를 지금 보내야 하면 true (재전달 등 중복 수신은 false)
+     */
+    synchronized boolean requestDelivered(int step, long at) {
+        if (!inRange(step)) {
+            return false;
+        }
+        if (requestDeliveredAt[step] == 0) {
+            requestDeliveredAt[step] = at;
+        }
+        return tryDispatch(step);
+    }
+
+    synchronized void decisionSent(int step, long sentAt) {
+        decisionSentAt[step] = sentAt;
+        decidingStep = step;
+    }
+
+    synchronized void decisionResponded(int step, long respondedAt) {
+        decisionRespondedAt[step] = respondedAt;
+    }
+
+    synchronized void responsePublished(long at) {
+        if (decidingStep > 0 && responsePublishedAt[decidingStep] == 0) {
+            responsePublishedAt[decidingStep] = at;
+        }
+    }
+
+    synchronized void responseHandled(int step, long startedAt, long finishedAt) {
+        if (inRange(step) && responseHandleStartedAt[step] == 0) {
+            responseHandleStartedAt[step] = startedAt;
+            responseHandleFinishedAt[step] = finishedAt;
+        }
+    }
+
+    /**
+     * @return 처음 받은 최종 알림이면 true (흐름 완료)
+     */
+    synchronized boolean notified(long startedAt, long finishedAt) {
+        if (closed || plan == null || notifyFinishedAt != 0) {
+            return false;
+        }
+        notifyStartedAt = startedAt;
+        notifyFinishedAt = finishedAt;
+        return true;
+    }
+
+    /**
+     * 기록된 구간을 StageMetrics에 반영 (한 번만, 미완료 흐름은 있는 구간만)
+     *
+     * @return 이번 호출에서 반영했으면 true
+     */
+    synchronized boolean close() {
+        if (closed || stage == null) {
+            return false;
+        }
+        closed = true;
+
+        stage.record(Hop.CREATE, createSentAt, createRespondedAt);
+        int lastStep = Math.min(plan.finalStep(), requestDeliveredAt.length - 1);
+        for (int step = 1; step <= lastStep; step++) {
+            stage.record(Hop.REQUEST_DELIVERY, requestPublishedAt[step], requestDeliveredAt[step]);
+            stage.record(Hop.APPROVER_WAIT, requestDeliveredAt[step], decisionSentAt[step]);
+            stage.record(Hop.PROCESS, decisionSentAt[step], decisionRespondedAt[step]);
+            stage.record(Hop.RESPONSE_DELIVERY, responsePublishedAt[step], responseHandleStartedAt[step]);
+            stage.record(Hop.RESPONSE_HANDLE, responseHandleStartedAt[step], responseHandleFinishedAt[step]);
+        }
+        stage.record(Hop.NOTIFY, notifyStartedAt, notifyFinishedAt);
+        stage.record(Hop.END_TO_END, intendedAt, notifyFinishedAt);
+        return true;
+    }
+
+    private boolean tryDispatch(int step) {
+        if (plan == null || step > plan.finalStep() || dispatched[step] || requestDeliveredAt[step] == 0) {
+            return false;
+        }
+        dispatched[step] = true;
+        return true;
+    }
+
+    private boolean inRange(int step) {
+        return step >= 1 && step < requestDeliveredAt.length;
+    }
+}
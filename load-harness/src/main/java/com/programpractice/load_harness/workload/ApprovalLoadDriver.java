@@ -0,0 +1,275 @@
+package com.programpractice.load_harness.workload;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.programpractice.approval_processing_service.dto.ProcessApprovalRequest;
+import com.programpractice.approval_request_service.dto.ApprovalCreateRequest;
+import com.programpractice.approval_request_service.dto.StepRequest;
+import com.programpractice.employee_service.dto.EmployeeCreateRequest;
+import com.programpractice.load_harness.probe.PipelineListener;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결재 흐름 부하 생성기
+ *
+ * 생성: 목표 속도에 맞춘 개방형(open-loop) 스케줄로 POST /approvals를 보낸다.
+ *       생성 스레드가 밀려도 예정 시각을 기준으로 end-to-end를 재므로 지연이 과소평가되지 않는다.
+ * 결재: 처리 서비스 리스너가 단계 메시지를 처리한 시점(PipelineListener.requestDelivered)에
+ *       think time 뒤 해당 단계 결재자로 POST /process/{approverId}/{requestId}를 보낸다.
+ * 완료: Notification Service가 최종 알림을 보내면 흐름을 닫고 구간 지연을 기록한다.
+ */
+@Slf4j
+public class ApprovalLoadDriver implements PipelineListener, AutoCloseable {
+
+    private final LoadProfile profile;
+    private final RestTemplate restTemplate;
+    private final ExecutorService createExecutor;
+    private final ScheduledExecutorService decisionExecutor;
+    private final Map<Integer, ApprovalFlow> flows = new ConcurrentHashMap<>();
+
+    private volatile String requestServiceUrl;
+    private volatile String processingServiceUrl;
+    private volatile WorkloadShape shape;
+    private volatile int[] requesterIds = new int[0];
+
+    public ApprovalLoadDriver(LoadProfile profile) {
+        this.profile = profile;
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofSeconds(30));
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.createExecutor = Executors.newFixedThreadPool(profile.getCreateThreads(), threadFactory("load-create"));
+        this.decisionExecutor = Executors.newScheduledThreadPool(profile.getDecisionThreads(),
+                threadFactory("load-decision"));
+    }
+
+    /**
+     * 요청자/결재자 직원 등록 후 워크로드 준비
+     */
+    public void prepare(String employeeServiceUrl, String requestServiceUrl, String processingServiceUrl) {
+        this.requestServiceUrl = requestServiceUrl;
+        this.processingServiceUrl = processingServiceUrl;
+
+        int[] requesterIds = createEmployees(employeeServiceUrl, "requester", profile.getRequesters());
+        int[] approverIds = createEmployees(employeeServiceUrl, "approver", profile.getApprovers());
+        this.shape = new WorkloadShape(profile, requesterIds, approverIds);
+        this.requesterIds = requesterIds;
+        log.info("직원 등록 완료: requesters={}, approvers={}", requesterIds.length, approverIds.length);
+    }
+
+    public int[] requesterIds() {
+        return requesterIds.clone();
+    }
+
+    /**
+     * 한 단계 실행: duration 동안 rate(요청/초)로 생성한 뒤 드레인 시간까지 완료를 기다린다.
+     */
+    public StageMetrics runStage(String name, int rate, Duration duration) {
+        if (shape == null) {
+            throw new IllegalStateException("prepare()가 먼저 호출되어야 합니다");
+        }
+        StageMetrics metrics = new StageMetrics(name, rate, duration);
+        long intervalNanos = 1_000_000_000L / rate;
+        long startedAt = System.nanoTime();
+        long endAt = startedAt + duration.toNanos();
+        metrics.started(startedAt);
+        log.info("단계 시작: {} rate={}/s, duration={}s", name, rate, duration.toSeconds());
+
+        for (long i = 0; ; i++) {
+            long intendedAt = startedAt + i * intervalNanos;
+            if (intendedAt >= endAt) {
+                break;
+            }
+            long waitNanos = intendedAt - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+            metrics.scheduled();
+            createExecutor.execute(() -> create(metrics, intendedAt));
+        }
+
+        drain(metrics);
+        log.info("단계 종료: {} scheduled={}, completed={}, incomplete={}, errors={}",
+                name, metrics.getScheduled(), metrics.getCompleted(), metrics.getIncomplete(),
+                metrics.getCreateErrors() + metrics.getDecisionErrors());
+        return metrics;
+    }
+
+    @Override
+    public void requestPublished(int requestId, int step, long at) {
+        ApprovalFlow flow = step == 1 ? flow(requestId) : flows.get(requestId);
+        if (flow != null) {
+            flow.requestPublished(step, at);
+        }
+    }
+
+    @Override
+    public void requestDelivered(int requestId, int step, long at) {
+        // 1단계 메시지는 POST /approvals 응답보다 먼저 도착할 수 있음
+        ApprovalFlow flow = step == 1 ? flow(requestId) : flows.get(requestId);
+        if (flow != null && flow.requestDelivered(step, at)) {
+            dispatch(flow, step);
+        }
+    }
+
+    @Override
+    public void responsePublished(int requestId, long at) {
+        ApprovalFlow flow = flows.get(requestId);
+        if (flow != null) {
+            flow.responsePublished(at);
+        }
+    }
+
+    @Override
+    public void responseHandled(int requestId, int step, long startedAt, long finishedAt) {
+        ApprovalFlow flow = flows.get(requestId);
+        if (flow != null) {
+            flow.responseHandled(step, startedAt, finishedAt);
+        }
+    }
+
+    @Override
+    public void notified(int requestId, long startedAt, long finishedAt) {
+        ApprovalFlow flow = flows.get(requestId);
+        if (flow != null && flow.notified(startedAt, finishedAt) && flows.remove(requestId, flow) && flow.close()) {
+            flow.stage().completed(flow.plan().rejectStep() > 0, finishedAt);
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        createExecutor.shutdownNow();
+        decisionExecutor.shutdownNow();
+        createExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        decisionExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void create(StageMetrics metrics, long intendedAt) {
+        ApprovalFlow.Plan plan = shape.next(ThreadLocalRandom.current());
+        List<StepRequest> steps = new ArrayList<>(plan.steps());
+        for (int step = 1; step <= plan.steps(); step++) {
+            steps.add(StepRequest.builder().step(step).approverId(plan.approverOf(step)).build());
+        }
+        ApprovalCreateRequest request = ApprovalCreateRequest.builder()
+                .requesterId(plan.requesterId())
+                .title("load-harness")
+                .content("steps=" + plan.steps() + ", rejectStep=" + plan.rejectStep())
+                .steps(steps)
+                .build();
+
+        long sentAt = System.nanoTime();
+        try {
+            JsonNode response = restTemplate.postForObject(requestServiceUrl + "/approvals", request, JsonNode.class);
+            long respondedAt = System.nanoTime();
+            if (response == null || !response.hasNonNull("requestId")) {
+                throw new IllegalStateException("requestId 없는 응답: " + response);
+            }
+            ApprovalFlow flow = flow(response.get("requestId").asInt());
+            if (flow.register(plan, metrics, intendedAt, sentAt, respondedAt)) {
+                dispatch(flow, 1);
+            }
+        } catch (RestClientException | IllegalStateException e) {
+            log.debug("결재 요청 생성 실패", e);
+            metrics.createFailed();
+        }
+    }
+
+    private void dispatch(ApprovalFlow flow, int step) {
+        decisionExecutor.schedule(() -> decide(flow, step), profile.getThinkTimeMs(), TimeUnit.MILLISECONDS);
+    }
+
+    private void decide(ApprovalFlow flow, int step) {
+        ApprovalFlow.Plan plan = flow.plan();
+        ProcessApprovalRequest request = ProcessApprovalRequest.builder()
+                .status(plan.rejects(step) ? "rejected" : "approved")
+                .comment("load-harness")
+                .build();
+        String url = processingServiceUrl + "/process/" + plan.approverOf(step) + "/" + flow.requestId();
+
+        // 응답 발행 이벤트가 POST 응답보다 먼저 올 수 있으므로 전송 전에 단계 기록
+        flow.decisionSent(step, System.nanoTime());
+        try {
+            restTemplate.postForObject(url, request, JsonNode.class);
+            flow.decisionResponded(step, System.nanoTime());
+        } catch (RestClientException e) {
+            log.debug("결재 처리 실패: requestId={}, step={}", flow.requestId(), step, e);
+            if (flows.remove(flow.requestId(), flow) && flow.close()) {
+                flow.stage().decisionFailed();
+            }
+        }
+    }
+
+    /**
+     * 진행 중 흐름이 모두 끝나거나 drain-timeout이 지날 때까지 대기
+     * 시간 안에 끝나지 않은 흐름은 있는 구간만 기록하고 미완료로 집계한다.
+     */
+    private void drain(StageMetrics metrics) {
+        long deadline = System.nanoTime() + profile.getDrainTimeout().toNanos();
+        while (metrics.inFlight() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+
+        for (ApprovalFlow flow : flows.values()) {
+            StageMetrics stage = flow.stage();
+            // 계획이 없는 흐름: 하네스 밖에서 만든 요청이거나 이미 정리된 요청의 재전달
+            if (stage == metrics || stage == null) {
+                if (flows.remove(flow.requestId(), flow) && flow.close()) {
+                    metrics.abandoned();
+                }
+            }
+        }
+        metrics.finish();
+    }
+
+    private ApprovalFlow flow(int requestId) {
+        return flows.computeIfAbsent(requestId, id -> new ApprovalFlow(id, profile.getMaxChainLength()));
+    }
+
+    private int[] createEmployees(String employeeServiceUrl, String role, int count) {
+        int[] ids = new int[count];
+        for (int i = 0; i < count; i++) {
+            EmployeeCreateRequest request = EmployeeCreateRequest.builder()
+                    .name(role + "-" + (i + 1))
+                    .department("load")
+                    .position(role)
+                    .build();
+            JsonNode response = restTemplate.postForObject(employeeServiceUrl + "/employees", request, JsonNode.class);
+            if (response == null || !response.hasNonNull("id")) {
+                throw new IllegalStateException("직원 등록 응답에 id가 없습니다: " + response);
+            }
+            ids[i] = response.get("id").asInt();
+        }
+        return ids;
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package com.programpractice.load_harness.workload;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 측정 구간 (단계가 여러 개인 요청은 단계마다 한 번씩 기록)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Hop {
+
+    CREATE("create", "POST /approvals 왕복"),
+    REQUEST_DELIVERY("request-delivery", "승인 요청 발행 (outbox 릴레이) → ApprovalRequestListener 처리 완료"),
+    APPROVER_WAIT("approver-wait", "결재 대기 (리스너 처리 완료 → 결재 POST 전송, think time 포함)"),
+    PROCESS("process", "POST /process/{approverId}/{requestId} 왕복"),
+    RESPONSE_DELIVERY("response-delivery", "승인 응답 발행 → ResponseHandleService 수신"),
+    RESPONSE_HANDLE("response-handle", "ResponseHandleService.handleResponse (다음 단계 outbox 기록/알림 호출 포함)"),
+    NOTIFY("notify", "POST /api/notifications/send → NotificationService.sendToEmployee"),
+    END_TO_END("end-to-end", "생성 예정 시각 → 최종 알림 전송 완료");
+
+    private final String key;
+    private final String description;
+}
@@ -0,0 +1,193 @@
+package com.programpractice.load_harness.workload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 부하 실행 설정 (loadtest.properties)
+ *
+ * 우선순위: 명령행 --키=값 > -D 시스템 프로퍼티 > --config 파일 > 기본 loadtest.properties
+ * service.<서비스>.<프로퍼티> 항목은 해당 서비스 컨텍스트의 Spring 프로퍼티로 그대로 전달한다.
+ */
+@Getter
+@Builder
+public class LoadProfile {
+
+    private static final String DEFAULTS = "loadtest.properties";
+    private static final String SERVICE_PREFIX = "service.";
+
+    // 부하 단계
+    private final int[] rates;
+    private final Duration stageDuration;
+    private final Duration warmup;
+    private final Duration drainTimeout;
+    private final double saturationThroughputRatio;
+    private final double saturationMaxIncompleteRatio;
+    private final boolean stopOnSaturation;
+    private final Path reportDirectory;
+
+    // 워크로드 형태
+    private final int requesters;
+    private final int approvers;
+    private final int minChainLength;
+    private final int maxChainLength;
+    private final double approverSkew;
+    private final double rejectRatio;
+    private final long thinkTimeMs;
+    private final boolean connectRequesters;
+
+    // 드라이버
+    private final int createThreads;
+    private final int decisionThreads;
+
+    // 서비스별 Spring 프로퍼티 덮어쓰기 (employee, request, processing, notification)
+    private final Map<String, Map<String, String>> serviceOverrides;
+
+    public static LoadProfile load(String[] args) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream defaults = LoadProfile.class.getClassLoader().getResourceAsStream(DEFAULTS)) {
+            if (defaults == null) {
+                throw new IllegalStateException(DEFAULTS + " 를 찾을 수 없습니다");
+            }
+            properties.load(new InputStreamReader(defaults, StandardCharsets.UTF_8));
+        }
+
+        Map<String, String> arguments = parseArguments(args);
+        String config = arguments.getOrDefault("config", System.getProperty("config"));
+        if (config != null) {
+            try (Reader reader = Files.newBufferedReader(Paths.get(config), StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+        }
+        for (String name : properties.stringPropertyNames()) {
+            String override = System.getProperty(name);
+            if (override != null) {
+                properties.setProperty(name, override);
+            }
+        }
+        arguments.forEach(properties::setProperty);
+
+        return from(properties);
+    }
+
+    static LoadProfile from(Properties properties) {
+        LoadProfile profile = LoadProfile.builder()
+                .rates(Arrays.stream(required(properties, "load.rates").split(","))
+                        .map(String::trim)
+                        .filter(rate -> !rate.isEmpty())
+                        .mapToInt(Integer::parseInt)
+                        .toArray())
+                .stageDuration(Duration.ofSeconds(longValue(properties, "load.stage-duration-seconds")))
+                .warmup(Duration.ofSeconds(longValue(properties, "load.warmup-seconds")))
+                .drainTimeout(Duration.ofSeconds(longValue(properties, "load.drain-timeout-seconds")))
+                .saturationThroughputRatio(doubleValue(properties, "load.saturation.throughput-ratio"))
+                .saturationMaxIncompleteRatio(doubleValue(properties, "load.saturation.max-incomplete-ratio"))
+                .stopOnSaturation(Boolean.parseBoolean(required(properties, "load.stop-on-saturation")))
+                .reportDirectory(Paths.get(required(properties, "load.report-directory")))
+                .requesters(intValue(properties, "workload.requesters"))
+                .approvers(intValue(properties, "workload.approvers"))
+                .minChainLength(intValue(properties, "workload.chain-length.min"))
+                .maxChainLength(intValue(properties, "workload.chain-length.max"))
+                .approverSkew(doubleValue(properties, "workload.approver-skew"))
+                .rejectRatio(doubleValue(properties, "workload.reject-ratio"))
+                .thinkTimeMs(longValue(properties, "workload.think-time-ms"))
+                .connectRequesters(Boolean.parseBoolean(required(properties, "workload.connect-requesters")))
+                .createThreads(intValue(properties, "driver.create-threads"))
+                .decisionThreads(intValue(properties, "driver.decision-threads"))
+                .serviceOverrides(serviceOverrides(properties))
+                .build();
+        profile.validate();
+        return profile;
+    }
+
+    public Map<String, String> serviceOverrides(String service) {
+        return serviceOverrides.getOrDefault(service, Map.of());
+    }
+
+    private void validate() {
+        if (rates.length == 0 || Arrays.stream(rates).anyMatch(rate -> rate < 1)) {
+            throw new IllegalArgumentException("load.rates는 1 이상의 값이 하나 이상 있어야 합니다");
+        }
+        if (requesters < 1 || approvers < 1) {
+            throw new IllegalArgumentException("workload.requesters/approvers는 1 이상이어야 합니다");
+        }
+        if (minChainLength < 1 || maxChainLength < minChainLength) {
+            throw new IllegalArgumentException(
+                    "결재선 길이 범위가 잘못되었습니다: " + minChainLength + " ~ " + maxChainLength);
+        }
+        if (approverSkew < 0) {
+            throw new IllegalArgumentException("workload.approver-skew는 0 이상이어야 합니다: " + approverSkew);
+        }
+        if (rejectRatio < 0 || rejectRatio > 1) {
+            throw new IllegalArgumentException("workload.reject-ratio는 0 ~ 1 사이여야 합니다: " + rejectRatio);
+        }
+        if (createThreads < 1 || decisionThreads < 1) {
+            throw new IllegalArgumentException("driver.*-threads는 1 이상이어야 합니다");
+        }
+    }
+
+    // --키=값 형식만 인식 (나머지는 무시)
+    private static Map<String, String> parseArguments(String[] args) {
+        Map<String, String> arguments = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                continue;
+            }
+            int separator = arg.indexOf('=');
+            arguments.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return arguments;
+    }
+
+    private static Map<String, Map<String, String>> serviceOverrides(Properties properties) {
+        Map<String, Map<String, String>> overrides = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (!name.startsWith(SERVICE_PREFIX)) {
+                continue;
+            }
+            String rest = name.substring(SERVICE_PREFIX.length());
+            int separator = rest.indexOf('.');
+            if (separator < 1) {
+                throw new IllegalArgumentException("서비스 프로퍼티 형식이 잘못되었습니다: " + name);
+            }
+            overrides.computeIfAbsent(rest.substring(0, separator), key -> new LinkedHashMap<>())
+                    .put(rest.substring(separator + 1), properties.getProperty(name));
+        }
+        return overrides;
+    }
+
+    private static String required(Properties properties, String name) {
+        String value = properties.getProperty(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("필수 설정이 없습니다: " + name);
+        }
+        return value.trim();
+    }
+
+    private static int intValue(Properties properties, String name) {
+        return Integer.parseInt(required(properties, name));
+    }
+
+    private static long longValue(Properties properties, String name) {
+        return Long.parseLong(required(properties, name));
+    }
+
+    private static double doubleValue(Properties properties, String name) {
+        return Double.parseDouble(required(properties, name));
+    }
+}
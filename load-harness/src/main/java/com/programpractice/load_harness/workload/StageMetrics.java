@@ -0,0 +1,181 @@
+package com.programpractice.load_harness.workload;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.HdrHistogram.Histogram;
+
+import lombok.Getter;
+
+/**
+ * 부하 단계 하나의 측정값
+ *
+ * 구간 지연은 마이크로초 단위 HdrHistogram(유효숫자 3자리, 최대 10분)에 기록한다.
+ * 흐름은 생성된 단계에 귀속되며, 단계 종료 후 드레인 시간 안에 끝난 흐름까지 포함한다.
+ */
+public final class StageMetrics {
+
+    private static final long MAX_TRACKABLE_MICROS = Duration.ofMinutes(10).toNanos() / 1_000;
+
+    @Getter
+    private final String name;
+    @Getter
+    private final int targetRate;
+    @Getter
+    private final Duration duration;
+
+    private final Map<Hop, Histogram> histograms = new EnumMap<>(Hop.class);
+
+    private final AtomicLong scheduled = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong approved = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong createErrors = new AtomicLong();
+    private final AtomicLong decisionErrors = new AtomicLong();
+    private final AtomicLong incomplete = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicLong lastCompletedAt = new AtomicLong();
+    private volatile long startedAt;
+    // 드레인 종료 후에는 늦게 끝난 흐름을 집계하지 않음 (이미 미완료로 처리됨)
+    private boolean finished;
+
+    StageMetrics(String name, int targetRate, Duration duration) {
+        this.name = name;
+        this.targetRate = targetRate;
+        this.duration = duration;
+        for (Hop hop : Hop.values()) {
+            histograms.put(hop, new Histogram(MAX_TRACKABLE_MICROS, 3));
+        }
+    }
+
+    void started(long at) {
+        startedAt = at;
+    }
+
+    void scheduled() {
+        scheduled.incrementAndGet();
+        inFlight.incrementAndGet();
+    }
+
+    synchronized void completed(boolean rejectedFlow, long at) {
+        if (finished) {
+            return;
+        }
+        completed.incrementAndGet();
+        (rejectedFlow ? rejected : approved).incrementAndGet();
+        lastCompletedAt.accumulateAndGet(at, Math::max);
+        inFlight.decrementAndGet();
+    }
+
+    synchronized void createFailed() {
+        if (finished) {
+            return;
+        }
+        createErrors.incrementAndGet();
+        inFlight.decrementAndGet();
+    }
+
+    synchronized void decisionFailed() {
+        if (finished) {
+            return;
+        }
+        decisionErrors.incrementAndGet();
+        inFlight.decrementAndGet();
+    }
+
+    synchronized void abandoned() {
+        if (finished) {
+            return;
+        }
+        incomplete.incrementAndGet();
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * 드레인 종료: 아직 진행 중인 흐름(생성 응답 대기 포함)을 모두 미완료로 집계
+     */
+    synchronized void finish() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        incomplete.addAndGet(inFlight.getAndSet(0));
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 구간 지연 기록 (경계 시각 중 하나라도 없으면 무시, 시계 순서가 뒤바뀐 경우 0으로 기록)
+     */
+    synchronized void record(Hop hop, long from, long to) {
+        if (finished || from == 0 || to == 0) {
+            return;
+        }
+        long micros = Math.max(0, to - from) / 1_000;
+        histograms.get(hop).recordValue(Math.min(micros, MAX_TRACKABLE_MICROS));
+    }
+
+    public long getScheduled() {
+        return scheduled.get();
+    }
+
+    public long getCompleted() {
+        return completed.get();
+    }
+
+    public long getApproved() {
+        return approved.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    public long getCreateErrors() {
+        return createErrors.get();
+    }
+
+    public long getDecisionErrors() {
+        return decisionErrors.get();
+    }
+
+    public long getIncomplete() {
+        return incomplete.get();
+    }
+
+    /**
+     * 완료 처리량 (요청/초): 완료 건수 / max(단계 길이, 단계 시작 → 마지막 완료)
+     */
+    public double throughput() {
+        long completedFlows = completed.get();
+        if (completedFlows == 0) {
+            return 0;
+        }
+        long elapsed = Math.max(duration.toNanos(), lastCompletedAt.get() - startedAt);
+        return completedFlows * 1e9 / elapsed;
+    }
+
+    /**
+     * 미완료(오류 포함) 비율
+     */
+    public double failureRatio() {
+        long total = scheduled.get();
+        if (total == 0) {
+            return 0;
+        }
+        return (double) (incomplete.get() + createErrors.get() + decisionErrors.get()) / total;
+    }
+
+    /**
+     * 구간 지연 분포 복사본 (마이크로초)
+     */
+    public synchronized Histogram histogram(Hop hop) {
+        return histograms.get(hop).copy();
+    }
+}
@@ -0,0 +1,50 @@
+package com.programpractice.load_harness.workload;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 워크로드 형태에 따라 요청 계획 생성
+ *
+ * - 요청자: 균등 선택
+ * - 결재선 길이: min ~ max 균등 선택
+ * - 결재자: Zipf 편중 (approverIds 앞쪽일수록 자주 선택, 같은 결재자가 한 결재선에 여러 번 나올 수 있음)
+ * - 반려: reject-ratio 확률로 결재선 안의 한 단계를 균등 선택해 반려
+ */
+final class WorkloadShape {
+
+    private final int[] requesterIds;
+    private final int[] approverIds;
+    private final ZipfSampler approverSampler;
+    private final int minChainLength;
+    private final int maxChainLength;
+    private final double rejectRatio;
+
+    WorkloadShape(LoadProfile profile, int[] requesterIds, int[] approverIds) {
+        if (requesterIds.length == 0 || approverIds.length == 0) {
+            throw new IllegalArgumentException("요청자와 결재자가 한 명 이상 있어야 합니다");
+        }
+        this.requesterIds = requesterIds.clone();
+        this.approverIds = approverIds.clone();
+        this.approverSampler = new ZipfSampler(approverIds.length, profile.getApproverSkew());
+        this.minChainLength = profile.getMinChainLength();
+        this.maxChainLength = profile.getMaxChainLength();
+        this.rejectRatio = profile.getRejectRatio();
+    }
+
+    ApprovalFlow.Plan next(RandomGenerator random) {
+        int requesterId = requesterIds[random.nextInt(requesterIds.length)];
+        int steps = minChainLength + random.nextInt(maxChainLength - minChainLength + 1);
+
+        int[] approvers = new int[steps];
+        for (int i = 0; i < steps; i++) {
+            approvers[i] = approverIds[approverSampler.sample(random)];
+        }
+
+        int rejectStep = random.nextDouble() < rejectRatio ? 1 + random.nextInt(steps) : 0;
+        return new ApprovalFlow.Plan(requesterId, approvers, rejectStep);
+    }
+
+    int maxChainLength() {
+        return maxChainLength;
+    }
+}
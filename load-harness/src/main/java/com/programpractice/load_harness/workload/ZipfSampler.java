@@ -0,0 +1,47 @@
+package com.programpractice.load_harness.workload;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Zipf 분포 표본 추출 (0 ~ size-1, 0이 가장 자주 선택됨)
+ *
+ * P(k) ∝ 1 / (k+1)^exponent. exponent 0이면 균등 분포.
+ * 누적 확률표를 한 번 만들고 이진 탐색하므로 추출은 O(log size), 스레드 안전하다.
+ */
+public final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    public ZipfSampler(int size, double exponent) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size는 1 이상이어야 합니다: " + size);
+        }
+        cumulative = new double[size];
+        double sum = 0;
+        for (int k = 0; k < size; k++) {
+            sum += 1.0 / Math.pow(k + 1, exponent);
+            cumulative[k] = sum;
+        }
+        for (int k = 0; k < size; k++) {
+            cumulative[k] /= sum;
+        }
+        cumulative[size - 1] = 1.0;
+    }
+
+    public int sample(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return index >= 0 ? index : -index - 1;
+    }
+
+    public int size() {
+        return cumulative.length;
+    }
+
+    /**
+     * k번째 값이 선택될 확률
+     */
+    public double probability(int k) {
+        return k == 0 ? cumulative[0] : cumulative[k] - cumulative[k - 1];
+    }
+}
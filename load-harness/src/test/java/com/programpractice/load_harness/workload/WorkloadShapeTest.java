@@ -0,0 +1,109 @@
+package com.programpractice.load_harness.workload;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 워크로드 형태 / 흐름 기록 테스트
+ * - 결재자 Zipf 편중, 결재선 길이 범위, 반려 비율
+ * - 1단계 수신이 POST /approvals 응답보다 먼저 와도 결재 POST는 한 번만 발송
+ */
+class WorkloadShapeTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    void zipfSamplerIsUniformAtZeroExponentAndSkewedOtherwise() {
+        ZipfSampler uniform = new ZipfSampler(10, 0);
+        ZipfSampler skewed = new ZipfSampler(10, 1.0);
+        SplittableRandom random = new SplittableRandom(42);
+
+        int[] uniformCounts = new int[10];
+        int[] skewedCounts = new int[10];
+        for (int i = 0; i < SAMPLES; i++) {
+            uniformCounts[uniform.sample(random)]++;
+            skewedCounts[skewed.sample(random)]++;
+        }
+
+        for (int count : uniformCounts) {
+            assertThat(count).isBetween(SAMPLES / 10 * 95 / 100, SAMPLES / 10 * 105 / 100);
+        }
+        // P(0) = 1 / H(10) ≈ 0.341, P(9) ≈ 0.034
+        assertThat(skewed.probability(0)).isBetween(0.34, 0.35);
+        assertThat((double) skewedCounts[0] / SAMPLES).isBetween(0.33, 0.35);
+        assertThat(skewedCounts[0]).isGreaterThan(skewedCounts[1]);
+        assertThat(skewedCounts[1]).isGreaterThan(skewedCounts[9]);
+    }
+
+    @Test
+    void plansStayWithinChainBoundsAndRejectAtConfiguredRatio() {
+        WorkloadShape shape = new WorkloadShape(profile(2, 4, 0.2),
+                IntStream.rangeClosed(1, 50).toArray(), IntStream.rangeClosed(101, 120).toArray());
+        SplittableRandom random = new SplittableRandom(7);
+
+        int[] lengths = new int[5];
+        int rejected = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            ApprovalFlow.Plan plan = shape.next(random);
+            assertThat(plan.steps()).isBetween(2, 4);
+            assertThat(plan.requesterId()).isBetween(1, 50);
+            assertThat(plan.approverIds()).allMatch(id -> id >= 101 && id <= 120);
+            lengths[plan.steps()]++;
+            if (plan.rejectStep() > 0) {
+                assertThat(plan.rejectStep()).isBetween(1, plan.steps());
+                assertThat(plan.finalStep()).isEqualTo(plan.rejectStep());
+                rejected++;
+            } else {
+                assertThat(plan.finalStep()).isEqualTo(plan.steps());
+            }
+        }
+
+        assertThat(lengths[2]).isPositive();
+        assertThat(lengths[3]).isPositive();
+        assertThat(lengths[4]).isPositive();
+        assertThat((double) rejected / SAMPLES).isBetween(0.19, 0.21);
+    }
+
+    @Test
+    void dispatchesEachStepOnceRegardlessOfEventOrder() {
+        ApprovalFlow.Plan plan = new ApprovalFlow.Plan(1, new int[]{101, 102}, 0);
+        StageMetrics stage = new StageMetrics("test", 10, Duration.ofSeconds(1));
+
+        // 1단계 수신이 계획 등록보다 먼저 도착
+        ApprovalFlow flow = new ApprovalFlow(1, 3);
+        assertThat(flow.requestDelivered(1, 10)).isFalse();
+        assertThat(flow.register(plan, stage, 1, 2, 5)).isTrue();
+        // 재전달은 다시 발송하지 않음
+        assertThat(flow.requestDelivered(1, 11)).isFalse();
+
+        // 계획 등록 후 수신
+        ApprovalFlow other = new ApprovalFlow(2, 3);
+        assertThat(other.register(plan, stage, 1, 2, 5)).isFalse();
+        assertThat(other.requestDelivered(1, 10)).isTrue();
+
+        // 계획 밖 단계는 무시
+        assertThat(flow.requestDelivered(3, 20)).isFalse();
+        assertThat(flow.requestDelivered(2, 20)).isTrue();
+
+        assertThat(flow.notified(30, 40)).isTrue();
+        assertThat(flow.notified(31, 41)).isFalse();
+        assertThat(flow.close()).isTrue();
+        assertThat(flow.close()).isFalse();
+    }
+
+    private static LoadProfile profile(int minChainLength, int maxChainLength, double rejectRatio) {
+        return LoadProfile.builder()
+                .minChainLength(minChainLength)
+                .maxChainLength(maxChainLength)
+                .rejectRatio(rejectRatio)
+                .approverSkew(1.0)
+                .serviceOverrides(Map.of())
+                .build();
+    }
+}
@@ -0,0 +1,150 @@
+package com.programpractice.approval.messaging;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.MessagePropertiesBuilder;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.SmartMessageConverter;
+import org.springframework.core.ParameterizedTypeReference;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+
+/**
+ * 결재 메시지 변환기 (JSON / Protobuf)
+ *
+ * 발행: wireFormat이 PROTOBUF이고 결재 메시지 DTO이면 Protobuf(application/x-protobuf),
+ *       그 밖에는 기존과 같은 JSON으로 직렬화한다.
+ *       본문이 compressionThresholdBytes 이상이면 gzip으로 압축하고 content-encoding을 "gzip:<원래 인코딩>"으로 표시한다.
+ *       압축은 JSON 형식에도 적용되고 이전 버전 소비자는 압축 본문을 읽지 못하므로, 소비자를 먼저 배포한 뒤 켠다 (기본값 0: 압축 안 함).
+ * 수신: content-encoding/content-type을 보고 형식을 판단하므로 발행 형식과 관계없이 두 형식을 모두 읽는다.
+ *       (소비자를 먼저 배포한 뒤 발행 형식을 protobuf로 바꾸면 무중단 전환 가능)
+ */
+public class ApprovalMessageConverter implements SmartMessageConverter {
+
+    public static final String CONTENT_TYPE_PROTOBUF = "application/x-protobuf";
+    public static final String SCHEMA_HEADER = "x-approval-schema";
+
+    private static final String GZIP = "gzip";
+
+    public enum WireFormat {
+        JSON, PROTOBUF;
+
+        public static WireFormat from(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final Jackson2JsonMessageConverter jsonConverter = new Jackson2JsonMessageConverter();
+    private final WireFormat wireFormat;
+    private final int compressionThresholdBytes;
+
+    /**
+     * @param compressionThresholdBytes 압축 기준 본문 크기 (0 이하면 압축하지 않음)
+     */
+    public ApprovalMessageConverter(WireFormat wireFormat, int compressionThresholdBytes) {
+        this.wireFormat = wireFormat;
+        this.compressionThresholdBytes = compressionThresholdBytes;
+    }
+
+    public WireFormat getWireFormat() {
+        return wireFormat;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        return toMessage(object, messageProperties, null);
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties, Type genericType) {
+        Message message;
+        if (wireFormat == WireFormat.PROTOBUF && ApprovalProtoMapper.supports(object)) {
+            com.google.protobuf.Message proto = ApprovalProtoMapper.toProtoMessage(object);
+            messageProperties.setContentType(CONTENT_TYPE_PROTOBUF);
+            messageProperties.setHeader(SCHEMA_HEADER, proto.getDescriptorForType().getFullName());
+            message = new Message(proto.toByteArray(), messageProperties);
+        } else {
+            message = jsonConverter.toMessage(object, messageProperties, genericType);
+        }
+        return compress(message);
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        return fromMessage(message, null);
+    }
+
+    @Override
+    public Object fromMessage(Message message, Object conversionHint) {
+        Message plain = decompress(message);
+        MessageProperties properties = plain.getMessageProperties();
+        String contentType = properties.getContentType();
+        if (contentType != null && contentType.startsWith(CONTENT_TYPE_PROTOBUF)) {
+            String schema = properties.getHeader(SCHEMA_HEADER);
+            try {
+                return ApprovalProtoMapper.fromProto(schema, plain.getBody());
+            } catch (InvalidProtocolBufferException | IllegalArgumentException e) {
+                throw new MessageConversionException("Protobuf 메시지 변환 실패: schema=" + schema, e);
+            }
+        }
+        return jsonConverter.fromMessage(plain, conversionHint);
+    }
+
+    /**
+     * 지정한 타입으로 변환 (리스너 메서드 파라미터 추론 없이 Message를 직접 받는 경우)
+     */
+    public <T> T read(Message message, Class<T> type) {
+        Object payload = fromMessage(message, ParameterizedTypeReference.forType(type));
+        if (!type.isInstance(payload)) {
+            throw new MessageConversionException("메시지 타입 불일치: expected=" + type.getSimpleName()
+                    + ", actual=" + (payload == null ? "null" : payload.getClass().getSimpleName()));
+        }
+        return type.cast(payload);
+    }
+
+    private Message compress(Message message) {
+        byte[] body = message.getBody();
+        if (compressionThresholdBytes <= 0 || body.length < compressionThresholdBytes) {
+            return message;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new MessageConversionException("메시지 압축 실패", e);
+        }
+        MessageProperties properties = message.getMessageProperties();
+        String encoding = properties.getContentEncoding();
+        properties.setContentEncoding(encoding == null ? GZIP : GZIP + ":" + encoding);
+        return new Message(out.toByteArray(), properties);
+    }
+
+    // 재시도 시 같은 Message로 다시 변환하므로 원본 속성은 바꾸지 않고 복사본에 원래 인코딩을 되돌린다
+    private Message decompress(Message message) {
+        MessageProperties properties = message.getMessageProperties();
+        String encoding = properties.getContentEncoding();
+        if (encoding == null || !(encoding.equals(GZIP) || encoding.startsWith(GZIP + ":"))) {
+            return message;
+        }
+        byte[] body;
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(message.getBody()))) {
+            body = gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new MessageConversionException("메시지 압축 해제 실패", e);
+        }
+        MessageProperties plainProperties = MessagePropertiesBuilder.fromClonedProperties(properties).build();
+        // JSON 변환 시 리스너 파라미터 타입으로 읽도록 추론 타입 유지 (복제 대상 아님)
+        plainProperties.setInferredArgumentType(properties.getInferredArgumentType());
+        plainProperties.setContentEncoding(encoding.length() > GZIP.length() ? encoding.substring(GZIP.length() + 1) : null);
+        return new Message(body, plainProperties);
+    }
+}
@@ -0,0 +1,213 @@
+package com.programpractice.approval.messaging;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.programpractice.approval.messaging.v1.ApprovalMessagesProto;
+
+/**
+ * 결재 메시지 DTO ↔ Protobuf(approval.messaging.v1) 변환
+ *
+ * null 필드는 optional 필드를 설정하지 않는 것으로 표현하고, 읽을 때 다시 null로 되돌린다.
+ * approval-request-service와 approval-processing-service가 같은 클래스를 사용한다 (../shared).
+ */
+public final class ApprovalProtoMapper {
+
+    public static final String REQUEST_SCHEMA =
+            ApprovalMessagesProto.ApprovalRequestMessage.getDescriptor().getFullName();
+    public static final String RESPONSE_SCHEMA =
+            ApprovalMessagesProto.ApprovalResponseMessage.getDescriptor().getFullName();
+
+    private ApprovalProtoMapper() {
+    }
+
+    public static boolean supports(Object payload) {
+        return payload instanceof ApprovalRequestMessage || payload instanceof ApprovalResponseMessage;
+    }
+
+    public static com.google.protobuf.Message toProtoMessage(Object payload) {
+        if (payload instanceof ApprovalRequestMessage request) {
+            return toProto(request);
+        }
+        if (payload instanceof ApprovalResponseMessage response) {
+            return toProto(response);
+        }
+        throw new IllegalArgumentException("Protobuf 스키마가 없는 메시지: " + payload.getClass().getName());
+    }
+
+    /**
+     * x-approval-schema 헤더 값으로 본문을 해석해 DTO로 변환
+     */
+    public static Object fromProto(String schema, byte[] body) throws InvalidProtocolBufferException {
+        if (REQUEST_SCHEMA.equals(schema)) {
+            return fromProto(ApprovalMessagesProto.ApprovalRequestMessage.parseFrom(body));
+        }
+        if (RESPONSE_SCHEMA.equals(schema)) {
+            return fromProto(ApprovalMessagesProto.ApprovalResponseMessage.parseFrom(body));
+        }
+        throw new IllegalArgumentException("알 수 없는 메시지 스키마: " + schema);
+    }
+
+    public static ApprovalMessagesProto.ApprovalRequestMessage toProto(ApprovalRequestMessage message) {
+        ApprovalMessagesProto.ApprovalRequestMessage.Builder builder =
+                ApprovalMessagesProto.ApprovalRequestMessage.newBuilder();
+        if (message.getId() != null) {
+            builder.setId(message.getId());
+        }
+        if (message.getRequestId() != null) {
+            builder.setRequestId(message.getRequestId());
+        }
+        if (message.getRequesterId() != null) {
+            builder.setRequesterId(message.getRequesterId());
+        }
+        if (message.getRequesterName() != null) {
+            builder.setRequesterName(message.getRequesterName());
+        }
+        if (message.getTitle() != null) {
+            builder.setTitle(message.getTitle());
+        }
+        if (message.getContent() != null) {
+            builder.setContent(message.getContent());
+        }
+        if (message.getSteps() != null) {
+            for (ApprovalRequestMessage.ApprovalStepDto step : message.getSteps()) {
+                builder.addSteps(toProto(step));
+            }
+        }
+        if (message.getRequestedAt() != null) {
+            builder.setRequestedAt(toTimestamp(message.getRequestedAt()));
+        }
+        return builder.build();
+    }
+
+    public static ApprovalRequestMessage fromProto(ApprovalMessagesProto.ApprovalRequestMessage proto) {
+        List<ApprovalRequestMessage.ApprovalStepDto> steps = new ArrayList<>(proto.getStepsCount());
+        for (ApprovalMessagesProto.ApprovalStep step : proto.getStepsList()) {
+            steps.add(fromProto(step));
+        }
+        return ApprovalRequestMessage.builder()
+                .id(proto.hasId() ? proto.getId() : null)
+                .requestId(proto.hasRequestId() ? proto.getRequestId() : null)
+                .requesterId(proto.hasRequesterId() ? proto.getRequesterId() : null)
+                .requesterName(proto.hasRequesterName() ? proto.getRequesterName() : null)
+                .title(proto.hasTitle() ? proto.getTitle() : null)
+                .content(proto.hasContent() ? proto.getContent() : null)
+                .steps(steps)
+                .requestedAt(proto.hasRequestedAt() ? toLocalDateTime(proto.getRequestedAt()) : null)
+                .build();
+    }
+
+    public static ApprovalMessagesProto.ApprovalResponseMessage toProto(ApprovalResponseMessage message) {
+        ApprovalMessagesProto.ApprovalResponseMessage.Builder builder =
+                ApprovalMessagesProto.ApprovalResponseMessage.newBuilder()
+                        .setSuccess(message.isSuccess());
+        if (message.getId() != null) {
+            builder.setId(message.getId());
+        }
+        if (message.getRequestId() != null) {
+            builder.setRequestId(message.getRequestId());
+        }
+        if (message.getStep() != null) {
+            builder.setStep(message.getStep());
+        }
+        if (message.getApproverId() != null) {
+            builder.setApproverId(message.getApproverId());
+        }
+        if (message.getApproverName() != null) {
+            builder.setApproverName(message.getApproverName());
+        }
+        if (message.getStatus() != null) {
+            builder.setStatus(message.getStatus());
+        }
+        if (message.getFinalStatus() != null) {
+            builder.setFinalStatus(message.getFinalStatus());
+        }
+        if (message.getComment() != null) {
+            builder.setComment(message.getComment());
+        }
+        if (message.getUpdatedAt() != null) {
+            builder.setUpdatedAt(toTimestamp(message.getUpdatedAt()));
+        }
+        if (message.getProcessedAt() != null) {
+            builder.setProcessedAt(toTimestamp(message.getProcessedAt()));
+        }
+        if (message.getErrorMessage() != null) {
+            builder.setErrorMessage(message.getErrorMessage());
+        }
+        if (message.getNumericRequestId() != null) {
+            builder.setNumericRequestId(message.getNumericRequestId());
+        }
+        if (message.getRequesterId() != null) {
+            builder.setRequesterId(message.getRequesterId());
+        }
+        if (message.getTitle() != null) {
+            builder.setTitle(message.getTitle());
+        }
+        return builder.build();
+    }
+
+    public static ApprovalResponseMessage fromProto(ApprovalMessagesProto.ApprovalResponseMessage proto) {
+        return ApprovalResponseMessage.builder()
+                .id(proto.hasId() ? proto.getId() : null)
+                .requestId(proto.hasRequestId() ? proto.getRequestId() : null)
+                .step(proto.hasStep() ? proto.getStep() : null)
+                .approverId(proto.hasApproverId() ? proto.getApproverId() : null)
+                .approverName(proto.hasApproverName() ? proto.getApproverName() : null)
+                .status(proto.hasStatus() ? proto.getStatus() : null)
+                .finalStatus(proto.hasFinalStatus() ? proto.getFinalStatus() : null)
+                .comment(proto.hasComment() ? proto.getComment() : null)
+                .updatedAt(proto.hasUpdatedAt() ? toLocalDateTime(proto.getUpdatedAt()) : null)
+                .processedAt(proto.hasProcessedAt() ? toLocalDateTime(proto.getProcessedAt()) : null)
+                .success(proto.getSuccess())
+                .errorMessage(proto.hasErrorMessage() ? proto.getErrorMessage() : null)
+                .numericRequestId(proto.hasNumericRequestId() ? proto.getNumericRequestId() : null)
+                .requesterId(proto.hasRequesterId() ? proto.getRequesterId() : null)
+                .title(proto.hasTitle() ? proto.getTitle() : null)
+                .build();
+    }
+
+    private static ApprovalMessagesProto.ApprovalStep toProto(ApprovalRequestMessage.ApprovalStepDto step) {
+        ApprovalMessagesProto.ApprovalStep.Builder builder = ApprovalMessagesProto.ApprovalStep.newBuilder();
+        if (step.getStep() != null) {
+            builder.setStep(step.getStep());
+        }
+        if (step.getApproverId() != null) {
+            builder.setApproverId(step.getApproverId());
+        }
+        if (step.getStatus() != null) {
+            builder.setStatus(step.getStatus());
+        }
+        if (step.getComment() != null) {
+            builder.setComment(step.getComment());
+        }
+        if (step.getProcessedAt() != null) {
+            builder.setProcessedAt(toTimestamp(step.getProcessedAt()));
+        }
+        return builder.build();
+    }
+
+    private static ApprovalRequestMessage.ApprovalStepDto fromProto(ApprovalMessagesProto.ApprovalStep proto) {
+        return ApprovalRequestMessage.ApprovalStepDto.builder()
+                .step(proto.hasStep() ? proto.getStep() : null)
+                .approverId(proto.hasApproverId() ? proto.getApproverId() : null)
+                .status(proto.hasStatus() ? proto.getStatus() : null)
+                .comment(proto.hasComment() ? proto.getComment() : null)
+                .processedAt(proto.hasProcessedAt() ? toLocalDateTime(proto.getProcessedAt()) : null)
+                .build();
+    }
+
+    // LocalDateTime은 시간대가 없으므로 같은 날짜/시간을 UTC로 보고 epoch 값으로 옮긴다 (왕복 시 값 보존)
+    private static ApprovalMessagesProto.LocalTimestamp toTimestamp(LocalDateTime dateTime) {
+        return ApprovalMessagesProto.LocalTimestamp.newBuilder()
+                .setSeconds(dateTime.toEpochSecond(ZoneOffset.UTC))
+                .setNanos(dateTime.getNano())
+                .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(ApprovalMessagesProto.LocalTimestamp timestamp) {
+        return LocalDateTime.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos(), ZoneOffset.UTC);
+    }
+}
@@ -1,4 +1,4 @@
-package com.programpractice.approval_processing_service.dto;
+package com.programpractice.approval.messaging;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
@@ -11,7 +11,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 /**
- * 승인 요청 메시지 (RabbitMQ Consumer용)
+ * 승인 요청 메시지 (Request Service -> Processing Service)
  */
 @Getter
 @Setter
@@ -1,11 +1,11 @@
-package com.programpractice.approval_processing_service.dto;
+package com.programpractice.approval.messaging;
 
 import lombok.*;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 
 /**
- * 승인 응답 메시지 (RabbitMQ Producer용)
+ * 승인 응답 메시지 (Processing Service -> Request Service)
  */
 @Getter
 @Setter
@@ -0,0 +1,52 @@
+package com.programpractice.approval.messaging;
+
+/**
+ * 승인 요청 샤드 라우팅 규칙 (발행 측 approval-request-service와 수신 측 approval-processing-service가 공유)
+ *
+ * requestId -> 샤드 번호는 Jump Consistent Hash(Lamping & Veach)로 계산한다.
+ * 샤드 수를 늘려도 옮겨지는 요청은 약 1/(새 샤드 수)로 제한된다.
+ * RabbitMQ consistent-hash exchange의 해시 링은 REST 라우터에서 재현할 수 없으므로,
+ * 발행 측에서 샤드를 계산해 direct exchange의 샤드별 라우팅 키로 보낸다.
+ */
+public final class ApprovalShards {
+
+    // 샤드별 큐로 라우팅하는 direct exchange
+    public static final String SHARDED_EXCHANGE = "approval.request.sharded";
+
+    private static final String QUEUE_PREFIX = "approval.request.shard.";
+    private static final String ROUTING_KEY_PREFIX = "shard.";
+
+    private ApprovalShards() {
+    }
+
+    public static int shardOf(int requestId, int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("샤드 수는 1 이상이어야 합니다: " + shardCount);
+        }
+        long key = mix(requestId);
+        long b = -1;
+        long j = 0;
+        while (j < shardCount) {
+            b = j;
+            key = key * 2862933555777941757L + 1;
+            j = (long) ((b + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) b;
+    }
+
+    public static String queueName(int shard) {
+        return QUEUE_PREFIX + shard;
+    }
+
+    public static String routingKey(int shard) {
+        return ROUTING_KEY_PREFIX + shard;
+    }
+
+    // 연속된 requestId가 고르게 퍼지도록 SplitMix64 finalizer 적용
+    private static long mix(int value) {
+        long z = value * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,195 @@
+package com.programpractice.approval.messaging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publisher Confirm 기반 비동기 메시지 발행
+ *
+ * - 메시지마다 CorrelationData를 붙여 발행하고, 브로커 confirm을 기다리지 않고 바로 반환한다.
+ *   호출 측은 메시지별 CompletableFuture로 결과(confirm)를 받는다.
+ * - 확인 대기 중인 메시지는 최대 window-size개까지만 허용한다.
+ *   창이 가득 차면 호출 스레드가 acquire-timeout-ms까지 대기하고(배압), 그래도 자리가 없으면 실패한다.
+ * - nack, 라우팅 실패(return), confirm-timeout-ms 초과는 retry-backoff-ms 간격으로 max-attempts회까지 재발행한다.
+ *   재발행으로 중복이 생길 수 있으므로 수신 측은 멱등하게 처리해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConfirmedMessagePublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+
+    @Value("${messaging.publisher.window-size:256}")
+    private int windowSize;
+
+    @Value("${messaging.publisher.acquire-timeout-ms:5000}")
+    private long acquireTimeoutMs;
+
+    @Value("${messaging.publisher.confirm-timeout-ms:10000}")
+    private long confirmTimeoutMs;
+
+    @Value("${messaging.publisher.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${messaging.publisher.retry-backoff-ms:200}")
+    private long retryBackoffMs;
+
+    private final Map<String, PendingMessage> outstanding = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "publisher-retry");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Semaphore window;
+
+    private static final class PendingMessage {
+        private final String exchange;
+        private final String routingKey;
+        private final Object payload;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private int attempt;
+
+        private PendingMessage(String exchange, String routingKey, Object payload) {
+            this.exchange = exchange;
+            this.routingKey = routingKey;
+            this.payload = payload;
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        window = new Semaphore(windowSize);
+        log.info("Confirm 기반 발행 초기화: windowSize={}, maxAttempts={}", windowSize, maxAttempts);
+    }
+
+    /**
+     * 비동기 발행
+     *
+     * @return 브로커가 confirm(ack)하면 완료, 재시도를 모두 소진하면 MessagePublishException으로 실패
+     */
+    public CompletableFuture<Void> publish(String exchange, String routingKey, Object payload) {
+        PendingMessage message = new PendingMessage(exchange, routingKey, payload);
+
+        try {
+            if (!window.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                message.result.completeExceptionally(new MessagePublishException(
+                        "발행 대기 창이 가득 찼습니다: outstanding=" + outstanding.size()));
+                return message.result;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            message.result.completeExceptionally(new MessagePublishException("발행 대기 중 인터럽트", e));
+            return message.result;
+        }
+
+        send(message);
+        return message.result;
+    }
+
+    /**
+     * 일괄 비동기 발행
+     * 하나의 채널을 잡은 채(RabbitTemplate.invoke) 연속으로 발행하고, confirm은 메시지별로 받는다.
+     * 창(window-size)보다 많은 메시지는 앞선 confirm이 돌아오는 대로 이어서 발행된다.
+     *
+     * @return payloads와 같은 순서의 메시지별 결과
+     */
+    public List<CompletableFuture<Void>> publishAll(String exchange, String routingKey, List<?> payloads) {
+        List<CompletableFuture<Void>> results = new ArrayList<>(payloads.size());
+        if (payloads.isEmpty()) {
+            return results;
+        }
+        rabbitTemplate.invoke(operations -> {
+            for (Object payload : payloads) {
+                results.add(publish(exchange, routingKey, payload));
+            }
+            return null;
+        });
+        return results;
+    }
+
+    // 확인 대기 중인 메시지 수
+    public int outstandingCount() {
+        return outstanding.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 확인 대기 중인 메시지가 정리될 때까지 잠시 대기
+        long deadline = System.currentTimeMillis() + confirmTimeoutMs;
+        while (!outstanding.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        retryScheduler.shutdownNow();
+        if (!outstanding.isEmpty()) {
+            log.warn("종료 시 확인되지 않은 메시지: count={}", outstanding.size());
+        }
+    }
+
+    private void send(PendingMessage message) {
+        message.attempt++;
+        String id = UUID.randomUUID().toString();
+        CorrelationData correlationData = new CorrelationData(id);
+        outstanding.put(id, message);
+
+        try {
+            rabbitTemplate.convertAndSend(message.exchange, message.routingKey, message.payload, correlationData);
+        } catch (Exception e) {
+            outstanding.remove(id);
+            onFailure(message, "발행 실패: " + e.getMessage(), e);
+            return;
+        }
+
+        correlationData.getFuture()
+                .orTimeout(confirmTimeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((confirm, error) -> {
+                    outstanding.remove(id);
+                    ReturnedMessage returned = correlationData.getReturned();
+                    if (error != null) {
+                        onFailure(message, "confirm 수신 실패: " + error, error);
+                    } else if (!confirm.isAck()) {
+                        onFailure(message, "nack: " + confirm.getReason(), null);
+                    } else if (returned != null) {
+                        onFailure(message, "라우팅 실패(return): " + returned.getReplyText(), null);
+                    } else {
+                        window.release();
+                        message.result.complete(null);
+                    }
+                });
+    }
+
+    // 재시도 가능하면 창 자리를 유지한 채 재발행 예약, 아니면 실패 처리
+    private void onFailure(PendingMessage message, String reason, Throwable cause) {
+        if (message.attempt < maxAttempts) {
+            log.warn("메시지 재발행 예약: routingKey={}, attempt={}/{}, reason={}",
+                    message.routingKey, message.attempt, maxAttempts, reason);
+            retryScheduler.schedule(() -> send(message), retryBackoffMs * message.attempt, TimeUnit.MILLISECONDS);
+            return;
+        }
+
+        log.error("메시지 발행 최종 실패: routingKey={}, attempts={}, reason={}",
+                message.routingKey, message.attempt, reason);
+        window.release();
+        message.result.completeExceptionally(new MessagePublishException(
+                "메시지 발행 실패 (" + message.attempt + "회 시도): " + reason, cause));
+    }
+}
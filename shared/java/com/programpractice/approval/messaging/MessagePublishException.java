@@ -0,0 +1,12 @@
+package com.programpractice.approval.messaging;
+
+// 메시지 발행 실패 예외 (재시도 소진, 발행 창 포화)
+public class MessagePublishException extends RuntimeException {
+    public MessagePublishException(String message) {
+        super(message);
+    }
+
+    public MessagePublishException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
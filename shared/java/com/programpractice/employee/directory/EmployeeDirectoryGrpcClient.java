@@ -0,0 +1,99 @@
+package com.programpractice.employee.directory;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.programpractice.employee.directory.v1.EmployeeDirectoryGrpc;
+import com.programpractice.employee.directory.v1.ExistsManyRequest;
+import com.programpractice.employee.directory.v1.ExistsRequest;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Employee Service gRPC 클라이언트 (employee.client.transport=grpc)
+ *
+ * 채널 하나(HTTP/2 연결)를 계속 재사용하고, 조회마다 unary 호출을 한다.
+ * - exists: 단건 Exists
+ * - findMissing: 일괄 ExistsMany
+ * 호출마다 round_robin으로 서버를 고르므로 여러 레플리카에 부하가 분산되고,
+ * 스트림 하나에 요청이 몰리거나 전송 버퍼가 무한히 쌓이지 않는다 (흐름 제어는 호출 단위로 gRPC가 처리).
+ * 양방향 Lookup 스트림은 서버 파드 하나에 고정되므로 결재선 검증 경로에서는 쓰지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.client.transport", havingValue = "grpc")
+@Slf4j
+public class EmployeeDirectoryGrpcClient {
+
+    private final ManagedChannel channel;
+    private final EmployeeDirectoryGrpc.EmployeeDirectoryBlockingStub blockingStub;
+    private final long deadlineMs;
+
+    @Autowired
+    public EmployeeDirectoryGrpcClient(
+            @Value("${employee.grpc.target:localhost:9091}") String target,
+            @Value("${employee.grpc.deadline-ms:2000}") long deadlineMs,
+            @Value("${employee.grpc.keep-alive-seconds:300}") long keepAliveSeconds) {
+        // keep-alive는 서버 허용 최소 간격(grpc-java 기본 5분)보다 짧으면 연결이 끊기므로 주의
+        this(ManagedChannelBuilder.forTarget(target)
+                .usePlaintext()
+                .defaultLoadBalancingPolicy("round_robin")
+                .keepAliveTime(keepAliveSeconds, TimeUnit.SECONDS)
+                .build(), deadlineMs);
+        log.info("Employee Service gRPC 채널 생성: target={}, deadline={}ms", target, deadlineMs);
+    }
+
+    EmployeeDirectoryGrpcClient(ManagedChannel channel, long deadlineMs) {
+        this.channel = channel;
+        this.blockingStub = EmployeeDirectoryGrpc.newBlockingStub(channel);
+        this.deadlineMs = deadlineMs;
+    }
+
+    /**
+     * 직원 존재 여부 (Exists)
+     */
+    public boolean exists(long employeeId) {
+        return blockingStub.withDeadlineAfter(deadlineMs, TimeUnit.MILLISECONDS)
+                .exists(ExistsRequest.newBuilder().setEmployeeId(employeeId).build())
+                .getExists();
+    }
+
+    /**
+     * 존재하지 않는 직원 ID 목록 (ExistsMany, 요청 순서, 중복 제거)
+     *
+     * @throws IllegalArgumentException 빈 목록, 한도 초과 등 서버가 INVALID_ARGUMENT로 거절한 경우
+     * @throws IllegalStateException 시간 초과, 연결 실패 등 그 밖의 호출 실패
+     */
+    public List<Long> findMissing(Collection<Long> employeeIds) {
+        try {
+            return blockingStub.withDeadlineAfter(deadlineMs, TimeUnit.MILLISECONDS)
+                    .existsMany(ExistsManyRequest.newBuilder().addAllEmployeeIds(employeeIds).build())
+                    .getMissingIdsList();
+        } catch (StatusRuntimeException e) {
+            Status status = e.getStatus();
+            if (status.getCode() == Status.Code.INVALID_ARGUMENT) {
+                throw new IllegalArgumentException(status.getDescription(), e);
+            }
+            throw new IllegalStateException("직원 조회 실패: " + status.getCode()
+                    + (status.getDescription() != null ? " " + status.getDescription() : ""), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        channel.shutdown();
+        if (!channel.awaitTermination(5, TimeUnit.SECONDS)) {
+            channel.shutdownNow();
+        }
+    }
+}